@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.wsagent.server;
+
+import org.eclipse.che.inject.StartupProfiler;
+
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Exposes timings of workspace agent startup collected by {@link StartupProfiler}.
+ */
+@Singleton
+@Path("/startup-profile")
+public class StartupProfileService {
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public StartupProfiler.Profile getProfile() {
+        return StartupProfiler.getInstance().getProfile();
+    }
+}
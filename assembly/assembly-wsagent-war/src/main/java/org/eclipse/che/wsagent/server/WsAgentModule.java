@@ -56,6 +56,7 @@ public class WsAgentModule extends AbstractModule {
     @Override
     protected void configure() {
         bind(ApiInfoService.class);
+        bind(StartupProfileService.class);
 
         bind(PreferenceDao.class).to(org.eclipse.che.RemotePreferenceDao.class);
 
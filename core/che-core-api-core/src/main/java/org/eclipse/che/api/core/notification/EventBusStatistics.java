@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+import org.eclipse.che.api.core.util.MBeanRegistrar;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects statistics of events propagated by {@link WSocketEventBusClient} and {@link WSocketEventBusServer}.
+ *
+ * <p>Statistics are exposed as {@code org.eclipse.che:type=EventBus} MBean.
+ */
+@Singleton
+public class EventBusStatistics implements EventBusStatisticsMXBean {
+
+    private static final String MBEAN_NAME = "org.eclipse.che:type=EventBus";
+
+    private final ConcurrentMap<String, LongAdder> sentEvents;
+    private final ConcurrentMap<String, LongAdder> receivedEvents;
+    private final ConcurrentMap<String, LongAdder> droppedEvents;
+    private final LongAdder                        sentFrames;
+    private final LongAdder                        eventsInFrames;
+
+    private volatile long resetAt;
+
+    public EventBusStatistics() {
+        sentEvents = new ConcurrentHashMap<>();
+        receivedEvents = new ConcurrentHashMap<>();
+        droppedEvents = new ConcurrentHashMap<>();
+        sentFrames = new LongAdder();
+        eventsInFrames = new LongAdder();
+        resetAt = System.nanoTime();
+    }
+
+    @Inject
+    void register(MBeanRegistrar registrar) {
+        registrar.register(this, MBEAN_NAME);
+    }
+
+    /** Records sending of the frame which contains the given number of events. */
+    public void frameSent(int events) {
+        sentFrames.increment();
+        eventsInFrames.add(events);
+    }
+
+    public void eventSent(Object event) {
+        increment(sentEvents, event.getClass().getName());
+    }
+
+    public void eventReceived(Object event) {
+        increment(receivedEvents, event.getClass().getName());
+    }
+
+    /** Records dropping of the given number of events which should have been sent to the given connection. */
+    public void eventsDropped(String connection, int events) {
+        droppedEvents.computeIfAbsent(connection, key -> new LongAdder()).add(events);
+    }
+
+    @Override
+    public Map<String, Long> getSentEvents() {
+        return sums(sentEvents);
+    }
+
+    @Override
+    public Map<String, Long> getReceivedEvents() {
+        return sums(receivedEvents);
+    }
+
+    @Override
+    public Map<String, Double> getReceivedEventsPerSecond() {
+        final double seconds = Math.max(1, System.nanoTime() - resetAt) / 1_000_000_000D;
+        final Map<String, Double> result = new TreeMap<>();
+        receivedEvents.forEach((type, counter) -> result.put(type, counter.sum() / seconds));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getDroppedEvents() {
+        return sums(droppedEvents);
+    }
+
+    @Override
+    public long getSentFrames() {
+        return sentFrames.sum();
+    }
+
+    @Override
+    public double getAverageEventsPerFrame() {
+        final long frames = sentFrames.sum();
+        return frames == 0 ? 0 : (double)eventsInFrames.sum() / frames;
+    }
+
+    @Override
+    public void reset() {
+        sentEvents.clear();
+        receivedEvents.clear();
+        droppedEvents.clear();
+        sentFrames.reset();
+        eventsInFrames.reset();
+        resetAt = System.nanoTime();
+    }
+
+    private static void increment(ConcurrentMap<String, LongAdder> counters, String key) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private static Map<String, Long> sums(ConcurrentMap<String, LongAdder> counters) {
+        final Map<String, Long> result = new TreeMap<>();
+        counters.forEach((key, counter) -> result.put(key, counter.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+import java.util.Map;
+
+/**
+ * Management interface of the websocket event bus statistics.
+ *
+ * @see EventBusStatistics
+ */
+public interface EventBusStatisticsMXBean {
+
+    /** Returns the number of events sent to remote event buses grouped by event type. */
+    Map<String, Long> getSentEvents();
+
+    /** Returns the number of events received from remote event buses grouped by event type. */
+    Map<String, Long> getReceivedEvents();
+
+    /** Returns the average number of events received per second since the last reset grouped by event type. */
+    Map<String, Double> getReceivedEventsPerSecond();
+
+    /** Returns the number of events which were not sent because send queue was full or connection was lost, grouped by connection. */
+    Map<String, Long> getDroppedEvents();
+
+    /** Returns the number of websocket frames sent to remote event buses. */
+    long getSentFrames();
+
+    /** Returns the average number of events per sent frame. */
+    double getAverageEventsPerFrame();
+
+    /** Resets all the collected statistics. */
+    void reset();
+}
@@ -25,6 +25,10 @@ import org.everrest.websockets.message.RestOutputMessage;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.MediaType;
@@ -34,13 +38,29 @@ import javax.ws.rs.core.MediaType;
  */
 class Messages {
     static RestInputMessage clientMessage(Object event) throws Exception {
+        return clientMessage("/event-bus", toJson(event));
+    }
+
+    /** Creates single message which contains all the given events as JSON array, see {@link WSocketEventBusServer#events(String)}. */
+    static RestInputMessage clientBatchMessage(List<?> events) throws Exception {
+        final StringBuilder body = new StringBuilder().append('[');
+        for (Object event : events) {
+            if (body.length() > 1) {
+                body.append(',');
+            }
+            body.append(toJson(event));
+        }
+        return clientMessage("/event-bus/batch", body.append(']').toString());
+    }
+
+    private static RestInputMessage clientMessage(String path, String body) {
         RestInputMessage message = new RestInputMessage();
-        message.setBody(toJson(event));
+        message.setBody(body);
         message.setMethod(HttpMethod.POST);
         message.setHeaders(new org.everrest.websockets.message.Pair[]{
                 new org.everrest.websockets.message.Pair("Content-type", MediaType.APPLICATION_JSON)});
         message.setUuid(NameGenerator.generate(null, 8));
-        message.setPath("/event-bus");
+        message.setPath(path);
         return message;
     }
 
@@ -66,6 +86,26 @@ class Messages {
         return null;
     }
 
+    static List<Object> restoreEventsFromClientBatchMessage(String message) throws Exception {
+        if (message == null || message.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final JsonParser parser = new JsonParser();
+        parser.parse(new StringReader(message));
+        final JsonValue node = parser.getJsonObject();
+        if (!node.isArray()) {
+            return Collections.emptyList();
+        }
+        final List<Object> events = new ArrayList<>(node.size());
+        for (Iterator<JsonValue> it = node.getElements(); it.hasNext(); ) {
+            final Object event = fromJson(it.next());
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
     private static String toJson(Object event) throws Exception {
         final String type = event.getClass().getName();
         final JsonValue json = JsonGenerator.createJsonObject(event);
@@ -81,7 +121,10 @@ class Messages {
         }
         final JsonParser parser = new JsonParser();
         parser.parse(new StringReader(json));
-        final JsonValue node = parser.getJsonObject();
+        return fromJson(parser.getJsonObject());
+    }
+
+    private static Object fromJson(JsonValue node) throws Exception {
         final JsonValue typeNode = node.getElement("$type");
         final String type;
         if (typeNode == null || (type = typeNode.getStringValue()) == null) {
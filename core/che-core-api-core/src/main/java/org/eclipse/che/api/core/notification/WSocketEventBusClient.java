@@ -33,11 +33,14 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
@@ -45,10 +48,18 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Receives event over websocket and publish them to the local EventsService.
+ * <p/>
+ * Local events are propagated asynchronously, each connection has its own bounded send queue.
+ * Events which are published within the linger time are sent in one frame,
+ * see {@link WSocketEventBusServer#events(String)}. Events are dropped when send queue is full,
+ * the number of dropped events is available in {@link EventBusStatistics}.
  *
  * @author andrew00x
  */
@@ -57,6 +68,7 @@ public final class WSocketEventBusClient {
     private static final Logger LOG = LoggerFactory.getLogger(WSocketEventBusClient.class);
 
     private static final long WS_CONNECTION_TIMEOUT = 2;
+    private static final int  DEFAULT_QUEUE_SIZE    = 10_000;
 
     private final EventService                         eventService;
     private final Pair<String, String>[]               eventSubscriptions;
@@ -64,20 +76,49 @@ public final class WSocketEventBusClient {
     private final JsonMessageConverter                 messageConverter;
     private final ConcurrentMap<URI, Future<WSClient>> connections;
     private final AtomicBoolean                        start;
+    private final ConcurrentMap<URI, EventSender>      senders;
+    private final EventBusStatistics                   statistics;
+    private final long                                 lingerMs;
+    private final int                                  maxBatchSize;
+    private final int                                  queueSize;
 
     private ExecutorService executor;
 
+    public WSocketEventBusClient(EventService eventService,
+                                 Pair<String, String>[] eventSubscriptions,
+                                 ClientEventPropagationPolicy policy) {
+        this(eventService, eventSubscriptions, policy, 0, 1, DEFAULT_QUEUE_SIZE, new EventBusStatistics());
+    }
+
+    /**
+     * @param lingerMs
+     *         time to wait for more events before sending a frame, non-positive value means
+     *         frame includes only events which are already queued
+     * @param maxBatchSize
+     *         maximum number of events sent in one frame
+     * @param queueSize
+     *         maximum number of events queued for sending to one connection
+     */
     @Inject
     public WSocketEventBusClient(EventService eventService,
                                  @Nullable @Named("notification.client.event_subscriptions") Pair<String, String>[] eventSubscriptions,
-                                 @Nullable ClientEventPropagationPolicy policy) {
+                                 @Nullable ClientEventPropagationPolicy policy,
+                                 @Named("notification.client.batch_linger_ms") long lingerMs,
+                                 @Named("notification.client.batch_max_events") int maxBatchSize,
+                                 @Named("notification.client.send_queue_size") int queueSize,
+                                 EventBusStatistics statistics) {
         this.eventService = eventService;
         this.eventSubscriptions = eventSubscriptions;
         this.policy = policy;
+        this.lingerMs = lingerMs;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.queueSize = queueSize > 0 ? queueSize : DEFAULT_QUEUE_SIZE;
 
         messageConverter = new JsonMessageConverter();
         connections = new ConcurrentHashMap<>();
+        senders = new ConcurrentHashMap<>();
         start = new AtomicBoolean(false);
+        this.statistics = statistics;
     }
 
     @PostConstruct
@@ -122,11 +163,11 @@ public final class WSocketEventBusClient {
     }
 
     protected void propagate(Object event) {
-        connections.values().stream().filter(future -> future.isDone()).forEach(future -> {
+        connections.entrySet().stream().filter(entry -> entry.getValue().isDone()).forEach(entry -> {
             try {
-                final WSClient client = future.get();
+                final WSClient client = entry.getValue().get();
                 if (policy != null && policy.shouldPropagated(client.getServerUri(), event)) {
-                    client.send(messageConverter.toString(Messages.clientMessage(event)));
+                    getSender(entry.getKey()).offer(event);
                 }
             } catch (Exception e) {
                 LOG.error(e.getMessage(), e);
@@ -134,6 +175,19 @@ public final class WSocketEventBusClient {
         });
     }
 
+    private EventSender getSender(URI wsUri) {
+        EventSender sender = senders.get(wsUri);
+        if (sender == null) {
+            final EventSender newSender = new EventSender(wsUri);
+            sender = senders.putIfAbsent(wsUri, newSender);
+            if (sender == null) {
+                sender = newSender;
+                executor.execute(newSender);
+            }
+        }
+        return sender;
+    }
+
     @PreDestroy
     void stop() {
         if (start.compareAndSet(true, false) && executor != null) {
@@ -211,6 +265,7 @@ public final class WSocketEventBusClient {
                             if (channel != null && channels.contains(channel)) {
                                 final Object event = Messages.restoreEventFromBroadcastMessage(message);
                                 if (event != null) {
+                                    statistics.eventReceived(event);
                                     eventService.publish(event);
                                 }
                             }
@@ -235,6 +290,79 @@ public final class WSocketEventBusClient {
         }
     }
 
+    /**
+     * Sends events queued for one connection, events which are queued
+     * while the previous frame is being sent go to the next frame.
+     */
+    private class EventSender implements Runnable {
+        final URI                   wsUri;
+        final BlockingQueue<Object> queue;
+        final AtomicLong            overflows;
+
+        EventSender(URI wsUri) {
+            this.wsUri = wsUri;
+            this.queue = new LinkedBlockingQueue<>(queueSize);
+            this.overflows = new AtomicLong();
+        }
+
+        void offer(Object event) {
+            if (!queue.offer(event)) {
+                statistics.eventsDropped(wsUri.toString(), 1);
+                if (overflows.getAndIncrement() % 1000 == 0) {
+                    LOG.warn("Send queue of connection to {} is full, {} events are dropped so far", wsUri, overflows.get());
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            final List<Object> batch = new ArrayList<>(maxBatchSize);
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    batch.add(queue.take());
+                    if (lingerMs > 0) {
+                        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                        while (batch.size() < maxBatchSize) {
+                            final Object event = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                            if (event == null) {
+                                break;
+                            }
+                            batch.add(event);
+                        }
+                    } else {
+                        queue.drainTo(batch, maxBatchSize - 1);
+                    }
+                    send(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void send(List<Object> batch) {
+            final Future<WSClient> future = connections.get(wsUri);
+            if (future == null || !future.isDone()) {
+                // connection is lost, events will not be delivered anyway
+                statistics.eventsDropped(wsUri.toString(), batch.size());
+                return;
+            }
+            try {
+                final WSClient client = future.get();
+                if (batch.size() == 1) {
+                    client.send(messageConverter.toString(Messages.clientMessage(batch.get(0))));
+                } else {
+                    client.send(messageConverter.toString(Messages.clientBatchMessage(batch)));
+                }
+                statistics.frameSent(batch.size());
+                batch.forEach(statistics::eventSent);
+            } catch (Exception e) {
+                statistics.eventsDropped(wsUri.toString(), batch.size());
+                LOG.error(e.getMessage(), e);
+            }
+        }
+    }
+
     private class ConnectTask implements Runnable {
         final URI                wsUri;
         final Collection<String> channels;
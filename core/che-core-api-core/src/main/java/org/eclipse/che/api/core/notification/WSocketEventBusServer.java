@@ -22,6 +22,7 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.core.MediaType;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -35,11 +36,15 @@ public final class WSocketEventBusServer {
     private final EventService                 eventService;
     private final ServerEventPropagationPolicy policy;
     private final AtomicBoolean                start;
+    private final EventBusStatistics           statistics;
 
     @Inject
-    public WSocketEventBusServer(EventService eventService, @Nullable ServerEventPropagationPolicy policy) {
+    public WSocketEventBusServer(EventService eventService,
+                                 @Nullable ServerEventPropagationPolicy policy,
+                                 EventBusStatistics statistics) {
         this.eventService = eventService;
         this.policy = policy;
+        this.statistics = statistics;
 
         start = new AtomicBoolean(false);
     }
@@ -50,6 +55,7 @@ public final class WSocketEventBusServer {
         try {
             final Object event = Messages.restoreEventFromClientMessage(message);
             if (event != null) {
+                statistics.eventReceived(event);
                 eventService.publish(event);
             }
         } catch (Exception e) {
@@ -57,6 +63,28 @@ public final class WSocketEventBusServer {
         }
     }
 
+    /** Publishes events sent by {@link WSocketEventBusClient} in one frame. */
+    @POST
+    @Path("batch")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public void events(String message) {
+        final List<Object> events;
+        try {
+            events = Messages.restoreEventsFromClientBatchMessage(message);
+        } catch (Exception e) {
+            LOG.error(e.getMessage(), e);
+            return;
+        }
+        for (Object event : events) {
+            try {
+                statistics.eventReceived(event);
+                eventService.publish(event);
+            } catch (Exception e) {
+                LOG.error(e.getMessage(), e);
+            }
+        }
+    }
+
     @PostConstruct
     void start() {
         if (start.compareAndSet(false, true)) {
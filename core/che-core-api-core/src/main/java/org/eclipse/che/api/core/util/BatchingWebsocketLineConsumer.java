@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import org.everrest.websockets.WSConnectionContext;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Line consumer that sends lines to specified websocket channel in frames.
+ * <p/>
+ * Lines are joined with {@code '\n'} into a single message which is sent when it contains
+ * {@code maxFrameLines} lines or when {@code maxFrameDelayMs} milliseconds passed since its first line was written,
+ * so noisy processes produce a few messages per second instead of a message per line.
+ * Line which ends with {@code '\r'} (progress output) is always sent as a separate message,
+ * so clients are still able to overwrite it with the next one.
+ * <p/>
+ * When lines are written faster than {@code maxLinesPerSecond} (detected with {@link RateExceedDetector}),
+ * they are not sent until the rate falls back, then clients get a note about the number of skipped lines.
+ * Use this consumer together with a file consumer to keep the full output.
+ *
+ * @see WebsocketLineConsumer
+ */
+public class BatchingWebsocketLineConsumer implements LineConsumer {
+    private static final Logger LOG = getLogger(BatchingWebsocketLineConsumer.class);
+
+    private final String             channel;
+    private final int                maxFrameLines;
+    private final long               maxFrameDelayMs;
+    private final double             maxLinesPerSecond;
+    private final RateExceedDetector rateDetector;
+    private final StringBuilder      frame;
+
+    private int                frameLines;
+    private long               skippedLines;
+    private ScheduledFuture<?> flushTask;
+    private boolean            isOpen;
+
+    /**
+     * @param channel
+     *         websocket channel to send messages to
+     * @param maxFrameLines
+     *         max number of lines in a single message
+     * @param maxFrameDelayMs
+     *         max time for which line may be delayed before sending
+     * @param maxLinesPerSecond
+     *         max rate of lines which are sent to the channel, non-positive value means no limit
+     */
+    public BatchingWebsocketLineConsumer(String channel, int maxFrameLines, long maxFrameDelayMs, double maxLinesPerSecond) {
+        this.channel = channel;
+        this.maxFrameLines = Math.max(1, maxFrameLines);
+        this.maxFrameDelayMs = maxFrameDelayMs;
+        this.maxLinesPerSecond = maxLinesPerSecond;
+        this.rateDetector = maxLinesPerSecond > 0 ? new RateExceedDetector(maxLinesPerSecond) : null;
+        this.frame = new StringBuilder();
+        this.isOpen = true;
+    }
+
+    @Override
+    public synchronized void writeLine(String line) throws IOException {
+        if (!isOpen) {
+            return;
+        }
+        if (isRateExceeded()) {
+            skippedLines++;
+            return;
+        }
+        appendSkippedLinesNote();
+
+        final String text = line == null ? "" : line;
+        if (text.endsWith("\r")) {
+            flush();
+            send(text);
+        } else {
+            appendToFrame(text);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (isOpen) {
+            appendSkippedLinesNote();
+            flush();
+            isOpen = false;
+        }
+    }
+
+    private boolean isRateExceeded() {
+        return rateDetector != null && rateDetector.updateAndCheckRate() && rateDetector.getRate() > maxLinesPerSecond;
+    }
+
+    private void appendSkippedLinesNote() {
+        if (skippedLines > 0) {
+            appendToFrame(String.format("[OUTPUT] %d lines are not shown because output rate exceeds %.0f lines per second",
+                                        skippedLines,
+                                        maxLinesPerSecond));
+            skippedLines = 0;
+        }
+    }
+
+    private void appendToFrame(String line) {
+        if (frameLines > 0) {
+            frame.append('\n');
+        }
+        frame.append(line);
+        frameLines++;
+        if (frameLines >= maxFrameLines || maxFrameDelayMs <= 0) {
+            flush();
+        } else if (flushTask == null) {
+            flushTask = OutputFlushScheduler.schedule(this::flushScheduled, maxFrameDelayMs);
+        }
+    }
+
+    private synchronized void flushScheduled() {
+        flushTask = null;
+        flush();
+    }
+
+    private void flush() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        if (frameLines > 0) {
+            send(frame.toString());
+            frame.setLength(0);
+            frameLines = 0;
+        }
+    }
+
+    @VisibleForTesting
+    void send(String message) {
+        final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
+        bm.setChannel(channel);
+        bm.setBody(message);
+        try {
+            WSConnectionContext.sendMessage(bm);
+        } catch (Exception e) {
+            LOG.error("A problem occurred while sending websocket message", e);
+        }
+    }
+}
@@ -17,10 +17,15 @@ import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * Consumes logs and writes them into file.
  * <br/>
+ * By default file is flushed after each line, when flush interval is set
+ * file is flushed periodically by {@link OutputFlushScheduler} and on close,
+ * which is much cheaper for processes producing a lot of output.
+ * <br/>
  * This class is not thread safe.
  * Also see multithreaded implementation {@link org.eclipse.che.api.core.util.lineconsumer.ConcurrentFileLineConsumer}
  *
@@ -28,15 +33,25 @@ import java.nio.file.Files;
  * @author Mykola Morhun
  */
 public class FileLineConsumer implements LineConsumer {
-    private final File   file;
-    private final Writer writer;
+    private final File               file;
+    private final Writer             writer;
+    private final ScheduledFuture<?> flushTask;
 
     private boolean isOpen;
 
     public FileLineConsumer(File file) throws IOException {
+        this(file, 0);
+    }
+
+    /**
+     * Creates consumer which flushes file every {@code flushIntervalMs} milliseconds,
+     * non-positive interval means flush after each line.
+     */
+    public FileLineConsumer(File file, long flushIntervalMs) throws IOException {
         this.file = file;
         writer = Files.newBufferedWriter(file.toPath(), Charset.defaultCharset());
         isOpen = true;
+        flushTask = flushIntervalMs > 0 ? OutputFlushScheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs) : null;
     }
 
     public File getFile() {
@@ -51,7 +66,9 @@ public class FileLineConsumer implements LineConsumer {
                     writer.write(line);
                 }
                 writer.write('\n');
-                writer.flush();
+                if (flushTask == null) {
+                    writer.flush();
+                }
             } catch (IOException e) {
                 if ("Stream closed".equals(e.getMessage())) {
                     throw new ConsumerAlreadyClosedException(e.getMessage());
@@ -65,7 +82,19 @@ public class FileLineConsumer implements LineConsumer {
     public void close() throws IOException {
         if (isOpen) {
             isOpen = false;
+            if (flushTask != null) {
+                flushTask.cancel(false);
+            }
             writer.close();
         }
     }
+
+    private void flush() {
+        // writer is synchronized internally, so it is safe to flush it from the scheduler thread
+        try {
+            writer.flush();
+        } catch (IOException ignored) {
+            // writer is closed concurrently, content is flushed on close
+        }
+    }
 }
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Consumes logs and writes them into file in UTF-8 together with the index of line offsets,
+ * so any part of a huge log can be read without reading the file from the start, see {@link IndexedLog}.
+ * <br/>
+ * Index is written into the file with {@link IndexedLog#INDEX_SUFFIX} suffix next to the log file.
+ * It starts with the index interval N followed by byte offsets of lines N, 2N, 3N and so on.
+ * <br/>
+ * When flush interval is set files are flushed periodically by {@link OutputFlushScheduler} and on close,
+ * otherwise after each line.
+ * This implementation is thread safe.
+ */
+public class IndexedFileLineConsumer implements LineConsumer {
+    /** Default number of lines between two index entries. */
+    public static final int DEFAULT_INDEX_INTERVAL = 1000;
+
+    private final File               file;
+    private final OutputStream       log;
+    private final DataOutputStream   index;
+    private final int                indexInterval;
+    private final ScheduledFuture<?> flushTask;
+
+    private long    lines;
+    private long    offset;
+    private boolean isOpen;
+
+    public IndexedFileLineConsumer(File file) throws IOException {
+        this(file, DEFAULT_INDEX_INTERVAL, 0);
+    }
+
+    /**
+     * @param file
+     *         log file
+     * @param indexInterval
+     *         number of lines between two index entries
+     * @param flushIntervalMs
+     *         interval of flushing files, non-positive value means flush after each line
+     */
+    public IndexedFileLineConsumer(File file, int indexInterval, long flushIntervalMs) throws IOException {
+        this(file, indexInterval, flushIntervalMs, false);
+    }
+
+    /**
+     * @param file
+     *         log file
+     * @param indexInterval
+     *         number of lines between two index entries
+     * @param flushIntervalMs
+     *         interval of flushing files, non-positive value means flush after each line
+     * @param append
+     *         whether lines should be appended to the existing log, index of the existing log is rebuilt
+     *         and incomplete last line is discarded in this case
+     */
+    public IndexedFileLineConsumer(File file, int indexInterval, long flushIntervalMs, boolean append) throws IOException {
+        this.file = file;
+        this.indexInterval = Math.max(1, indexInterval);
+        final List<Long> indexedOffsets = new ArrayList<>();
+        final boolean resume = append && file.isFile();
+        if (resume) {
+            scanExistingLog(indexedOffsets);
+        }
+        this.log = new BufferedOutputStream(new FileOutputStream(file, resume));
+        try {
+            this.index = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(IndexedLog.getIndexFile(file))));
+            index.writeLong(this.indexInterval);
+            for (long indexedOffset : indexedOffsets) {
+                index.writeLong(indexedOffset);
+            }
+            index.flush();
+        } catch (IOException e) {
+            log.close();
+            throw e;
+        }
+        isOpen = true;
+        flushTask = flushIntervalMs > 0 ? OutputFlushScheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs) : null;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void writeLine(String line) throws IOException {
+        if (!isOpen) {
+            return;
+        }
+        if (lines > 0 && lines % indexInterval == 0) {
+            index.writeLong(offset);
+        }
+        final byte[] bytes = line == null ? new byte[0] : line.getBytes(UTF_8);
+        log.write(bytes);
+        log.write('\n');
+        offset += bytes.length + 1;
+        lines++;
+        if (flushTask == null) {
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (isOpen) {
+            isOpen = false;
+            if (flushTask != null) {
+                flushTask.cancel(false);
+            }
+            try {
+                log.close();
+            } finally {
+                index.close();
+            }
+        }
+    }
+
+    /** Counts complete lines of the existing log, collects offsets of indexed lines and cuts off incomplete last line. */
+    private void scanExistingLog(List<Long> indexedOffsets) throws IOException {
+        try (RandomAccessFile existing = new RandomAccessFile(file, "rw")) {
+            final byte[] buffer = new byte[8192];
+            long position = 0;
+            int read;
+            while ((read = existing.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                        offset = position + i + 1;
+                        if (lines % indexInterval == 0) {
+                            indexedOffsets.add(offset);
+                        }
+                    }
+                }
+                position += read;
+            }
+            // offset of line which is not written yet is not needed
+            if (!indexedOffsets.isEmpty() && lines % indexInterval == 0) {
+                indexedOffsets.remove(indexedOffsets.size() - 1);
+            }
+            existing.setLength(offset);
+        }
+    }
+
+    private void flush() throws IOException {
+        // log goes first, so index never points beyond the flushed part of the log
+        log.flush();
+        index.flush();
+    }
+
+    private synchronized void flushQuietly() {
+        if (isOpen) {
+            try {
+                flush();
+            } catch (IOException ignored) {
+                // will be reported by the next write
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads parts of the log written by {@link IndexedFileLineConsumer}.
+ * <p/>
+ * Reading of lines from the line X seeks to the nearest indexed line before X and skips
+ * at most index interval lines, so the cost of reading doesn't depend on the size of the log.
+ * Logs without index (e.g. written by previous versions) are read from the start.
+ * Only complete lines are read, so the line which is being written at the moment is returned by the next read.
+ */
+public class IndexedLog {
+    public static final String INDEX_SUFFIX = ".idx";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+
+    public IndexedLog(File file) {
+        this.file = file;
+    }
+
+    /** Returns the index file of the given log file. */
+    public static File getIndexFile(File logFile) {
+        return new File(logFile.getParentFile(), logFile.getName() + INDEX_SUFFIX);
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public boolean exists() {
+        return file.isFile();
+    }
+
+    /**
+     * Reads up to {@code count} lines starting from the line with the given number, the first line has number 0.
+     * Returned chunk is empty if log has less lines.
+     */
+    public Chunk readLines(long fromLine, int count) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), READ)) {
+            final long length = channel.size();
+            final long[] position = findIndexedLine(fromLine, length);
+            final LineScanner scanner = new LineScanner(channel, position[1], length);
+            long line = position[0];
+            while (line < fromLine && scanner.nextLine(false) != null) {
+                line++;
+            }
+            final List<String> lines = line < fromLine ? Collections.emptyList() : scanner.readLines(count);
+            return new Chunk(fromLine, lines, scanner.getOffset());
+        }
+    }
+
+    /** Reads up to {@code count} last lines of the log. */
+    public Chunk tail(int count) throws IOException {
+        return readLines(Math.max(0, countLines() - count), count);
+    }
+
+    /**
+     * Reads up to {@code maxLines} lines which start at the given byte offset,
+     * offset is usually taken from {@link Chunk#getNextOffset()} of the previous read.
+     * Number of the first line is unknown in this case, so {@link Chunk#getFirstLine()} returns -1.
+     */
+    public Chunk follow(long offset, int maxLines) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), READ)) {
+            final long length = channel.size();
+            if (offset >= length) {
+                return new Chunk(-1, Collections.emptyList(), Math.min(offset, length));
+            }
+            final LineScanner scanner = new LineScanner(channel, offset, length);
+            return new Chunk(-1, scanner.readLines(maxLines), scanner.getOffset());
+        }
+    }
+
+    /** Returns the number of complete lines in the log. */
+    public long countLines() throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), READ)) {
+            final long length = channel.size();
+            final long[] position = findIndexedLine(Long.MAX_VALUE, length);
+            final LineScanner scanner = new LineScanner(channel, position[1], length);
+            long lines = position[0];
+            while (scanner.nextLine(false) != null) {
+                lines++;
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Finds the nearest indexed line which is not after the given one.
+     *
+     * @return pair of the line number and its offset, line 0 at offset 0 if there is no suitable index entry
+     */
+    private long[] findIndexedLine(long line, long logLength) throws IOException {
+        final File indexFile = getIndexFile(file);
+        if (!indexFile.isFile()) {
+            return new long[] {0, 0};
+        }
+        try (RandomAccessFile index = new RandomAccessFile(indexFile, "r")) {
+            if (index.length() < 8) {
+                return new long[] {0, 0};
+            }
+            final long interval = index.readLong();
+            if (interval <= 0) {
+                return new long[] {0, 0};
+            }
+            // entry k holds offset of line k * interval, entry 0 is implicit
+            long entry = Math.min(line / interval, (index.length() - 8) / 8);
+            while (entry > 0) {
+                index.seek(8 + (entry - 1) * 8);
+                final long offset = index.readLong();
+                if (offset <= logLength) {
+                    return new long[] {entry * interval, offset};
+                }
+                entry--;
+            }
+            return new long[] {0, 0};
+        }
+    }
+
+    /** Part of the log. */
+    public static final class Chunk {
+        private final long         firstLine;
+        private final List<String> lines;
+        private final long         nextOffset;
+
+        Chunk(long firstLine, List<String> lines, long nextOffset) {
+            this.firstLine = firstLine;
+            this.lines = lines;
+            this.nextOffset = nextOffset;
+        }
+
+        /** Returns number of the first line of the chunk or -1 if it is unknown. */
+        public long getFirstLine() {
+            return firstLine;
+        }
+
+        public List<String> getLines() {
+            return lines;
+        }
+
+        /** Returns byte offset of the line which follows the chunk, it may be used for following the log. */
+        public long getNextOffset() {
+            return nextOffset;
+        }
+    }
+
+    /** Reads complete lines of a part of the log file. */
+    private static class LineScanner {
+        private final InputStream           in;
+        private final ByteArrayOutputStream line;
+
+        private long offset;
+        private long remaining;
+
+        LineScanner(FileChannel channel, long offset, long length) throws IOException {
+            this.in = new BufferedInputStream(Channels.newInputStream(channel.position(offset)), BUFFER_SIZE);
+            this.line = new ByteArrayOutputStream();
+            this.offset = offset;
+            this.remaining = length - offset;
+        }
+
+        long getOffset() {
+            return offset;
+        }
+
+        List<String> readLines(int count) throws IOException {
+            final List<String> lines = new ArrayList<>(Math.min(count, 1024));
+            String next;
+            while (lines.size() < count && (next = nextLine(true)) != null) {
+                lines.add(next);
+            }
+            return lines;
+        }
+
+        /**
+         * Returns the next complete line or {@code null} if there is no more complete lines,
+         * content of line is collected only when it is needed, otherwise empty string is returned.
+         */
+        String nextLine(boolean collect) throws IOException {
+            line.reset();
+            long read = 0;
+            int b;
+            while (read < remaining && (b = in.read()) != -1) {
+                read++;
+                if (b == '\n') {
+                    offset += read;
+                    remaining -= read;
+                    return collect ? new String(line.toByteArray(), UTF_8) : "";
+                }
+                if (collect) {
+                    line.write(b);
+                }
+            }
+            // incomplete line, it will be read next time
+            remaining = 0;
+            return null;
+        }
+    }
+}
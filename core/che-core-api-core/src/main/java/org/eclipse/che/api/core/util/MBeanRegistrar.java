@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registers MBeans of the application in the platform MBean server
+ * and unregisters them when the application is stopped.
+ *
+ * <p>Components which expose statistics are bound as singletons and register themselves
+ * with an injected method, e.g.
+ * <pre>{@code
+ * @Inject
+ * void register(MBeanRegistrar registrar) {
+ *     registrar.register(this, "org.eclipse.che:type=Database");
+ * }
+ * }</pre>
+ * so instances created outside of injector, e.g. in tests, are not registered.
+ */
+@Singleton
+public class MBeanRegistrar {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MBeanRegistrar.class);
+
+    private final MBeanServer     server;
+    private final Set<ObjectName> registered;
+
+    public MBeanRegistrar() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    MBeanRegistrar(MBeanServer server) {
+        this.server = server;
+        this.registered = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Registers the MBean with the given name. MBean which is already registered with the same name,
+     * e.g. by the previously deployed application, is replaced. Registration failures are logged only,
+     * as statistics must never break the application.
+     */
+    public void register(Object mbean, String name) {
+        try {
+            final ObjectName objectName = new ObjectName(name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(mbean, objectName);
+            registered.add(objectName);
+        } catch (JMException x) {
+            LOG.warn("Can't register MBean '{}'. {}", name, x.getMessage());
+        }
+    }
+
+    /** Unregisters all the MBeans registered by this registrar. */
+    @PreDestroy
+    public void unregisterAll() {
+        for (ObjectName name : registered) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException x) {
+                LOG.warn("Can't unregister MBean '{}'. {}", name, x.getMessage());
+            }
+        }
+        registered.clear();
+    }
+}
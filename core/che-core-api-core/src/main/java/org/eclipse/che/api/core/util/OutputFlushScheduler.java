@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Single shared thread which flushes buffered output of line consumers,
+ * so output of any number of processes is flushed without a thread per process.
+ *
+ * @see FileLineConsumer
+ * @see BatchingWebsocketLineConsumer
+ */
+final class OutputFlushScheduler {
+    private static final ScheduledExecutorService SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("OutputFlushScheduler")
+                                                                                 .setUncaughtExceptionHandler(
+                                                                                         LoggingUncaughtExceptionHandler.getInstance())
+                                                                                 .setDaemon(true)
+                                                                                 .build());
+
+    /** Executes flush once after the given delay. */
+    static ScheduledFuture<?> schedule(Runnable flush, long delayMs) {
+        return SCHEDULER.schedule(flush, delayMs, MILLISECONDS);
+    }
+
+    /** Executes flush periodically until returned future is cancelled. */
+    static ScheduledFuture<?> scheduleWithFixedDelay(Runnable flush, long delayMs) {
+        return SCHEDULER.scheduleWithFixedDelay(flush, delayMs, delayMs, MILLISECONDS);
+    }
+
+    private OutputFlushScheduler() {
+    }
+}
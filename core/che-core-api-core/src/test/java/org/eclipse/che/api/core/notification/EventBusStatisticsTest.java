@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+import com.google.common.collect.ImmutableMap;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link EventBusStatistics}.
+ */
+public class EventBusStatisticsTest {
+
+    @Test
+    public void shouldCountEventsByType() {
+        EventBusStatistics statistics = new EventBusStatistics();
+
+        statistics.eventSent("event");
+        statistics.eventSent(1);
+        statistics.eventSent(2);
+        statistics.frameSent(3);
+        statistics.eventReceived("event");
+        statistics.eventsDropped("ws://master/api/ws", 2);
+
+        assertEquals(statistics.getSentEvents(), ImmutableMap.of(String.class.getName(), 1L, Integer.class.getName(), 2L));
+        assertEquals(statistics.getReceivedEvents(), ImmutableMap.of(String.class.getName(), 1L));
+        assertEquals(statistics.getDroppedEvents(), ImmutableMap.of("ws://master/api/ws", 2L));
+        assertEquals(statistics.getSentFrames(), 1);
+        assertEquals(statistics.getAverageEventsPerFrame(), 3D);
+        assertTrue(statistics.getReceivedEventsPerSecond().get(String.class.getName()) > 0);
+    }
+
+    @Test
+    public void shouldResetStatistics() {
+        EventBusStatistics statistics = new EventBusStatistics();
+        statistics.eventReceived("event");
+        statistics.frameSent(1);
+
+        statistics.reset();
+
+        assertTrue(statistics.getReceivedEvents().isEmpty());
+        assertEquals(statistics.getSentFrames(), 0);
+        assertEquals(statistics.getAverageEventsPerFrame(), 0D);
+    }
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link BatchingWebsocketLineConsumer}.
+ */
+public class BatchingWebsocketLineConsumerTest {
+
+    @Test
+    public void shouldSendLinesInFramesOfLimitedSize() throws Exception {
+        TestConsumer consumer = new TestConsumer(2, 60_000, 0);
+
+        consumer.writeLine("line1");
+        consumer.writeLine("line2");
+        consumer.writeLine("line3");
+        consumer.close();
+
+        assertEquals(consumer.messages, asList("line1\nline2", "line3"));
+    }
+
+    @Test
+    public void shouldSendFrameAfterDelay() throws Exception {
+        TestConsumer consumer = new TestConsumer(100, 50, 0);
+
+        consumer.writeLine("line1");
+        consumer.writeLine("line2");
+        Thread.sleep(500);
+
+        assertEquals(consumer.messages, asList("line1\nline2"));
+        consumer.close();
+        assertEquals(consumer.messages.size(), 1);
+    }
+
+    @Test
+    public void shouldSendLineWithCarriageReturnSeparately() throws Exception {
+        TestConsumer consumer = new TestConsumer(100, 60_000, 0);
+
+        consumer.writeLine("line1");
+        consumer.writeLine("progress 50%\r");
+        consumer.writeLine("line2");
+        consumer.close();
+
+        assertEquals(consumer.messages, asList("line1", "progress 50%\r", "line2"));
+    }
+
+    @Test
+    public void shouldSkipLinesWhenRateIsExceededAndNotifyAboutThem() throws Exception {
+        TestConsumer consumer = new TestConsumer(1000, 60_000, 10);
+        for (int i = 0; i < 100; i++) {
+            consumer.writeLine("line");
+        }
+        // rate is calculated for the previous second
+        Thread.sleep(1100);
+
+        consumer.writeLine("sent");
+        consumer.writeLine("skipped1");
+        consumer.writeLine("skipped2");
+        consumer.close();
+
+        String output = String.join("\n", consumer.messages);
+        assertTrue(output.contains("sent"));
+        assertTrue(!output.contains("skipped"));
+        assertTrue(output.endsWith("[OUTPUT] 2 lines are not shown because output rate exceeds 10 lines per second"));
+    }
+
+    @Test
+    public void shouldNotSendLinesAfterClose() throws Exception {
+        TestConsumer consumer = new TestConsumer(100, 60_000, 0);
+
+        consumer.close();
+        consumer.writeLine("line");
+
+        assertTrue(consumer.messages.isEmpty());
+    }
+
+    private static class TestConsumer extends BatchingWebsocketLineConsumer {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+
+        TestConsumer(int maxFrameLines, long maxFrameDelayMs, double maxLinesPerSecond) {
+            super("channel", maxFrameLines, maxFrameDelayMs, maxLinesPerSecond);
+        }
+
+        @Override
+        void send(String message) {
+            messages.add(message);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link IndexedLog} and {@link IndexedFileLineConsumer}.
+ */
+public class IndexedLogTest {
+    private File file;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        file = File.createTempFile("indexed", ".log");
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(IndexedLog.getIndexFile(file).toPath());
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Test
+    public void shouldReadLinesFromTheMiddleOfLog() throws Exception {
+        writeLines(25, 4);
+
+        IndexedLog.Chunk chunk = new IndexedLog(file).readLines(9, 3);
+
+        assertEquals(chunk.getFirstLine(), 9);
+        assertEquals(chunk.getLines(), asList("line 9", "line 10", "line 11"));
+        assertTrue(IndexedLog.getIndexFile(file).length() > 8);
+    }
+
+    @Test
+    public void shouldReadLastLines() throws Exception {
+        writeLines(25, 4);
+
+        IndexedLog.Chunk chunk = new IndexedLog(file).tail(2);
+
+        assertEquals(chunk.getFirstLine(), 23);
+        assertEquals(chunk.getLines(), asList("line 23", "line 24"));
+        assertEquals(new IndexedLog(file).countLines(), 25);
+    }
+
+    @Test
+    public void shouldFollowLogFromOffsetOfPreviousChunk() throws Exception {
+        IndexedFileLineConsumer consumer = new IndexedFileLineConsumer(file, 4, 0);
+        consumer.writeLine("first");
+        IndexedLog log = new IndexedLog(file);
+        IndexedLog.Chunk chunk = log.tail(10);
+        assertEquals(chunk.getLines(), asList("first"));
+
+        consumer.writeLine("second");
+        consumer.writeLine("\u0442\u0440\u0435\u0442\u0456\u0439");
+        consumer.close();
+        chunk = log.follow(chunk.getNextOffset(), 10);
+
+        assertEquals(chunk.getLines(), asList("second", "\u0442\u0440\u0435\u0442\u0456\u0439"));
+        assertEquals(chunk.getNextOffset(), file.length());
+        assertEquals(log.follow(chunk.getNextOffset(), 10).getLines(), emptyList());
+    }
+
+    @Test
+    public void shouldNotReadIncompleteLine() throws Exception {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write("line 0\nline 1\nline".getBytes(UTF_8));
+        }
+
+        IndexedLog.Chunk chunk = new IndexedLog(file).readLines(0, 10);
+
+        assertEquals(chunk.getLines(), asList("line 0", "line 1"));
+        assertEquals(chunk.getNextOffset(), 14);
+    }
+
+    @Test
+    public void shouldReadLogWithoutIndex() throws Exception {
+        writeLines(10, 3);
+        Files.delete(IndexedLog.getIndexFile(file).toPath());
+
+        assertEquals(new IndexedLog(file).readLines(7, 10).getLines(), asList("line 7", "line 8", "line 9"));
+    }
+
+    @Test
+    public void shouldReturnEmptyChunkWhenLogHasLessLines() throws Exception {
+        writeLines(5, 2);
+
+        assertEquals(new IndexedLog(file).readLines(8, 10).getLines(), emptyList());
+    }
+
+    @Test
+    public void shouldAppendLinesToExistingLogAndDiscardIncompleteLine() throws Exception {
+        writeLines(8, 4);
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write("incomplete".getBytes(UTF_8));
+        }
+
+        IndexedFileLineConsumer consumer = new IndexedFileLineConsumer(file, 4, 0, true);
+        consumer.writeLine("line 8");
+        consumer.writeLine("line 9");
+        consumer.close();
+
+        IndexedLog log = new IndexedLog(file);
+        assertEquals(log.countLines(), 10);
+        assertEquals(log.readLines(7, 10).getLines(), asList("line 7", "line 8", "line 9"));
+        assertEquals(IndexedLog.getIndexFile(file).length(), 8 + 2 * 8);
+    }
+
+    private void writeLines(int count, int indexInterval) throws Exception {
+        IndexedFileLineConsumer consumer = new IndexedFileLineConsumer(file, indexInterval, 0);
+        try {
+            for (int i = 0; i < count; i++) {
+                consumer.writeLine("line " + i);
+            }
+        } finally {
+            consumer.close();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests {@link MBeanRegistrar}.
+ */
+public class MBeanRegistrarTest {
+
+    private static final String NAME = "org.eclipse.che:type=Test";
+
+    private MBeanServer    server;
+    private MBeanRegistrar registrar;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        server = MBeanServerFactory.newMBeanServer();
+        registrar = new MBeanRegistrar(server);
+    }
+
+    @Test
+    public void shouldRegisterMBean() throws Exception {
+        registrar.register(new Counter(1), NAME);
+
+        assertEquals(server.getAttribute(new ObjectName(NAME), "Value"), 1);
+    }
+
+    @Test
+    public void shouldReplaceAlreadyRegisteredMBean() throws Exception {
+        registrar.register(new Counter(1), NAME);
+
+        new MBeanRegistrar(server).register(new Counter(2), NAME);
+
+        assertEquals(server.getAttribute(new ObjectName(NAME), "Value"), 2);
+    }
+
+    @Test
+    public void shouldNotFailOnInvalidMBean() throws Exception {
+        registrar.register(new Object(), NAME);
+
+        assertFalse(server.isRegistered(new ObjectName(NAME)));
+    }
+
+    @Test
+    public void shouldUnregisterAllRegisteredMBeans() throws Exception {
+        registrar.register(new Counter(1), NAME);
+        assertTrue(server.isRegistered(new ObjectName(NAME)));
+
+        registrar.unregisterAll();
+
+        assertFalse(server.isRegistered(new ObjectName(NAME)));
+    }
+
+    public interface CounterMXBean {
+        int getValue();
+    }
+
+    public static class Counter implements CounterMXBean {
+        private final int value;
+
+        Counter(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db;
+
+import org.eclipse.che.api.core.util.MBeanRegistrar;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.eclipse.che.core.db.QueryStatistics.toMillis;
+
+/**
+ * Collects database usage statistics: connection pool usage, query latencies and shared cache usage.
+ *
+ * <p>Statistics are collected by {@link InstrumentedDataSource} and
+ * {@link org.eclipse.che.core.db.jpa.eclipselink.StatisticsProfiler}
+ * which are installed by {@link org.eclipse.che.core.db.jpa.eclipselink.StatisticsSessionCustomizer}.
+ * Statistics are exposed as {@code org.eclipse.che:type=Database} MBean.
+ */
+@Singleton
+public class DatabaseStatistics implements DatabaseStatisticsMXBean {
+
+    private static final String MBEAN_NAME = "org.eclipse.che:type=Database";
+
+    private final AtomicInteger                          activeConnections;
+    private final AtomicInteger                          peakActiveConnections;
+    private final LongAdder                              acquiredConnections;
+    private final LongAdder                              connectionWaitNanos;
+    private final AtomicLong                             maxConnectionWaitNanos;
+    private final ConcurrentMap<String, QueryStatistics> queries;
+    private final ConcurrentMap<String, LongAdder>       counters;
+
+    public DatabaseStatistics() {
+        activeConnections = new AtomicInteger();
+        peakActiveConnections = new AtomicInteger();
+        acquiredConnections = new LongAdder();
+        connectionWaitNanos = new LongAdder();
+        maxConnectionWaitNanos = new AtomicLong();
+        queries = new ConcurrentHashMap<>();
+        counters = new ConcurrentHashMap<>();
+    }
+
+    @Inject
+    void register(MBeanRegistrar registrar) {
+        registrar.register(this, MBEAN_NAME);
+    }
+
+    /** Records acquisition of a connection which took given time. */
+    public void connectionAcquired(long waitNanos) {
+        acquiredConnections.increment();
+        connectionWaitNanos.add(waitNanos);
+        maxConnectionWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        peakActiveConnections.accumulateAndGet(activeConnections.incrementAndGet(), Math::max);
+    }
+
+    /** Records release of a previously acquired connection. */
+    public void connectionReleased() {
+        activeConnections.decrementAndGet();
+    }
+
+    /** Records execution of the query with given name which took given time. */
+    public void queryExecuted(String name, long nanos) {
+        queries.computeIfAbsent(name, n -> new QueryStatistics()).executed(nanos);
+    }
+
+    /** Records occurrence of the operation, e.g. {@link SessionProfiler#CacheHits}. */
+    public void occurred(String operation) {
+        counters.computeIfAbsent(operation, op -> new LongAdder()).increment();
+    }
+
+    /** Returns the number of occurrences of the given operation. */
+    public long getCount(String operation) {
+        final LongAdder counter = counters.get(operation);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    @Override
+    public int getPeakActiveConnections() {
+        return peakActiveConnections.get();
+    }
+
+    @Override
+    public long getAcquiredConnections() {
+        return acquiredConnections.sum();
+    }
+
+    @Override
+    public double getAverageConnectionWaitMillis() {
+        final long acquired = acquiredConnections.sum();
+        return acquired == 0 ? 0 : toMillis(connectionWaitNanos.sum()) / acquired;
+    }
+
+    @Override
+    public double getMaxConnectionWaitMillis() {
+        return toMillis(maxConnectionWaitNanos.get());
+    }
+
+    @Override
+    public long getCacheHits() {
+        return getCount(SessionProfiler.CacheHits);
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return getCount(SessionProfiler.CacheMisses);
+    }
+
+    @Override
+    public Map<String, QueryStatistics> getQueries() {
+        return new TreeMap<>(queries);
+    }
+
+    @Override
+    public void reset() {
+        peakActiveConnections.set(activeConnections.get());
+        acquiredConnections.reset();
+        connectionWaitNanos.reset();
+        maxConnectionWaitNanos.set(0);
+        queries.clear();
+        counters.clear();
+    }
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db;
+
+import java.util.Map;
+
+/**
+ * Management interface of the database usage statistics.
+ *
+ * @see DatabaseStatistics
+ */
+public interface DatabaseStatisticsMXBean {
+
+    /** Returns the number of connections which are currently in use. */
+    int getActiveConnections();
+
+    /** Returns the maximum number of connections which were used at the same time. */
+    int getPeakActiveConnections();
+
+    /** Returns the number of connections acquired from the data source. */
+    long getAcquiredConnections();
+
+    /** Returns the average time of waiting for a connection from the pool in milliseconds. */
+    double getAverageConnectionWaitMillis();
+
+    /** Returns the maximum time of waiting for a connection from the pool in milliseconds. */
+    double getMaxConnectionWaitMillis();
+
+    /** Returns the number of objects found in the shared cache. */
+    long getCacheHits();
+
+    /** Returns the number of objects which were not found in the shared cache. */
+    long getCacheMisses();
+
+    /** Returns latency statistics of the executed queries, named queries are reported by their names. */
+    Map<String, QueryStatistics> getQueries();
+
+    /** Resets all the collected statistics except the number of active connections. */
+    void reset();
+}
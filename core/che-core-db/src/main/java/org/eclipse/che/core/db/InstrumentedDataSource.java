@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Data source which records time of waiting for connections
+ * and the number of connections in use to the {@link DatabaseStatistics}.
+ * Pooling itself is done by the wrapped data source.
+ */
+public class InstrumentedDataSource implements DataSource {
+
+    private final DataSource         delegate;
+    private final DatabaseStatistics statistics;
+
+    public InstrumentedDataSource(DataSource delegate, DatabaseStatistics statistics) {
+        this.delegate = requireNonNull(delegate, "Required non-null data source");
+        this.statistics = requireNonNull(statistics, "Required non-null statistics");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        final long start = System.nanoTime();
+        return instrument(delegate.getConnection(), start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        final long start = System.nanoTime();
+        return instrument(delegate.getConnection(username, password), start);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+
+    private Connection instrument(Connection connection, long start) {
+        statistics.connectionAcquired(System.nanoTime() - start);
+        return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                  new Class<?>[] {Connection.class},
+                                                  new ConnectionHandler(connection));
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection    connection;
+        private final AtomicBoolean closed;
+
+        private ConnectionHandler(Connection connection) {
+            this.connection = connection;
+            this.closed = new AtomicBoolean();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                statistics.connectionReleased();
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException x) {
+                throw x.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency statistics of a query.
+ */
+public class QueryStatistics {
+    private final LongAdder  count      = new LongAdder();
+    private final LongAdder  totalNanos = new LongAdder();
+    private final AtomicLong maxNanos   = new AtomicLong();
+
+    /** Returns how many times the query was executed. */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /** Returns the total time of the query executions in milliseconds. */
+    public double getTotalMillis() {
+        return toMillis(totalNanos.sum());
+    }
+
+    /** Returns the average time of the query execution in milliseconds. */
+    public double getAverageMillis() {
+        final long executions = count.sum();
+        return executions == 0 ? 0 : toMillis(totalNanos.sum()) / executions;
+    }
+
+    /** Returns the maximum time of the query execution in milliseconds. */
+    public double getMaxMillis() {
+        return toMillis(maxNanos.get());
+    }
+
+    void executed(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    static double toMillis(long nanos) {
+        return (double)nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db.jpa.eclipselink;
+
+import com.google.common.base.Splitter;
+import com.google.inject.Inject;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.core.db.DatabaseStatistics;
+import org.eclipse.che.core.db.event.CascadeRemovalEvent;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Named;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import javax.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Configures EclipseLink shared (second-level) cache of the persistence unit.
+ *
+ * <p>The configuration is opt-in, when {@code db.jpa.cache.enabled} is not set to {@code true}
+ * the persistence unit is left as is. Otherwise:
+ * <ul>
+ * <li>entities listed in {@code db.jpa.cache.entities} get the configured time to live
+ * and the maximum number of objects strongly held by the cache,
+ * the value has the format {@code <entity name>:<ttl seconds>:<size>[,...]}
+ * e.g. {@code Stack:600:500,Recipe:600:500}</li>
+ * <li>results of the named queries listed in {@code db.jpa.cache.queries} are cached,
+ * they live as long as entities of the query and are invalidated when any of these entities
+ * is changed or a {@link CascadeRemovalEvent} is published.
+ * Queries which are used with paging must not be listed as the results are cached per parameters</li>
+ * <li>cache hits and misses are collected to the {@link DatabaseStatistics}</li>
+ * </ul>
+ *
+ * <p>Entities are configured by {@link SharedCacheSessionCustomizer} before the session of the persistence unit
+ * logs in, as sizes of entity caches are taken when the session creates them. Queries and statistics are configured
+ * once persistence service is started and before any entity is loaded, see {@link org.eclipse.che.core.db.jpa.JpaInitializer}.
+ */
+@Singleton
+public class SharedCacheConfigurator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedCacheConfigurator.class);
+
+    private static final long DEFAULT_TTL_SEC = 300;
+    private static final int  DEFAULT_SIZE    = 100;
+
+    private final Provider<EntityManagerFactory> emfProvider;
+    private final EventService                   eventService;
+    private final DatabaseStatistics             statistics;
+
+    @Inject(optional = true)
+    @Named("db.jpa.cache.enabled")
+    private boolean enabled;
+
+    @Inject(optional = true)
+    @Named("db.jpa.cache.entities")
+    private String entities;
+
+    @Inject(optional = true)
+    @Named("db.jpa.cache.queries")
+    private String queries;
+
+    private ServerSession session;
+
+    // key = entity alias, value = time to live of entity in milliseconds
+    private volatile Map<String, Long> ttls;
+
+    @Inject
+    public SharedCacheConfigurator(Provider<EntityManagerFactory> emfProvider,
+                                   EventService eventService,
+                                   DatabaseStatistics statistics) {
+        this.emfProvider = emfProvider;
+        this.eventService = eventService;
+        this.statistics = statistics;
+    }
+
+    SharedCacheConfigurator(Provider<EntityManagerFactory> emfProvider,
+                            EventService eventService,
+                            DatabaseStatistics statistics,
+                            boolean enabled,
+                            String entities,
+                            String queries) {
+        this(emfProvider, eventService, statistics);
+        this.enabled = enabled;
+        this.entities = entities;
+        this.queries = queries;
+    }
+
+    /**
+     * Applies the cache configuration of entities to the session which is not logged in yet.
+     *
+     * @see SharedCacheSessionCustomizer
+     */
+    public void configureEntities(Session session) {
+        if (!enabled) {
+            return;
+        }
+        final Map<String, Long> ttls = new LinkedHashMap<>();
+        if (!isNullOrEmpty(entities)) {
+            for (String entity : Splitter.on(',').trimResults().omitEmptyStrings().split(entities)) {
+                configureEntity(session, entity, ttls);
+            }
+        }
+        this.ttls = ttls;
+    }
+
+    /** Applies the cache configuration of queries to the started persistence unit. */
+    public void configure() {
+        if (!enabled) {
+            return;
+        }
+        session = emfProvider.get().unwrap(ServerSession.class);
+
+        if (ttls == null) {
+            LOG.warn("Persistence unit is not customized by {}, sizes of entity caches may not be applied",
+                     SharedCacheSessionCustomizer.class.getName());
+            configureEntities(session);
+        }
+        if (!isNullOrEmpty(queries)) {
+            for (String query : Splitter.on(',').trimResults().omitEmptyStrings().split(queries)) {
+                configureQuery(query);
+            }
+            eventService.subscribe(event -> clearQueryResults(), CascadeRemovalEvent.class);
+        }
+
+        // profiler is installed by session customizer if it is configured for the persistence unit
+        if (!(session.getProfiler() instanceof StatisticsProfiler)) {
+            session.setProfiler(new StatisticsProfiler(statistics));
+        }
+    }
+
+    /** Clears results of the cached queries. */
+    public void clearQueryResults() {
+        if (session != null && !isNullOrEmpty(queries)) {
+            for (String query : Splitter.on(',').trimResults().omitEmptyStrings().split(queries)) {
+                session.getIdentityMapAccessor().clearQueryCache(query);
+            }
+        }
+    }
+
+    private void configureEntity(Session session, String entity, Map<String, Long> ttls) {
+        final String[] parts = entity.split(":");
+        final ClassDescriptor descriptor = session.getDescriptorForAlias(parts[0]);
+        if (descriptor == null) {
+            LOG.warn("Can't configure shared cache of unknown entity '{}'", parts[0]);
+            return;
+        }
+        final long ttl;
+        final int size;
+        try {
+            ttl = TimeUnit.SECONDS.toMillis(parts.length > 1 ? Long.parseLong(parts[1]) : DEFAULT_TTL_SEC);
+            size = parts.length > 2 ? Integer.parseInt(parts[2]) : DEFAULT_SIZE;
+        } catch (NumberFormatException x) {
+            LOG.warn("Can't configure shared cache of entity '{}', expected format is <entity>:<ttl seconds>:<size>", entity);
+            return;
+        }
+        descriptor.setCacheInvalidationPolicy(new TimeToLiveCacheInvalidationPolicy(ttl));
+        descriptor.setIdentityMapSize(size);
+        ttls.put(descriptor.getAlias(), ttl);
+        LOG.info("Shared cache of entity '{}' is configured with ttl {}ms and size {}", descriptor.getAlias(), ttl, size);
+    }
+
+    private void configureQuery(String name) {
+        final DatabaseQuery query = session.getQuery(name);
+        if (!(query instanceof ReadQuery)) {
+            LOG.warn("Can't cache results of query '{}', it is not a named read query", name);
+            return;
+        }
+        // query results are cached for the same time as entities of the query
+        final ClassDescriptor descriptor = session.getDescriptor(query.getReferenceClass());
+        final long ttl = ttls.getOrDefault(descriptor == null ? null : descriptor.getAlias(),
+                                           TimeUnit.SECONDS.toMillis(DEFAULT_TTL_SEC));
+        final QueryResultsCachePolicy policy = new QueryResultsCachePolicy(new TimeToLiveCacheInvalidationPolicy(ttl),
+                                                                           DEFAULT_SIZE);
+        policy.setInvalidateOnChange(true);
+        ((ReadQuery)query).setQueryResultsCachePolicy(policy);
+    }
+}
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db.jpa.eclipselink;
+
+import org.eclipse.persistence.sessions.Session;
+
+/**
+ * Applies configuration of {@link SharedCacheConfigurator} to entities of the session
+ * before the session logs in, in addition to what {@link StatisticsSessionCustomizer} does.
+ *
+ * <p>The customizer is instantiated by EclipseLink, so the configurator is handed over
+ * by {@link org.eclipse.che.core.db.jpa.JpaInitializer} before persistence service is started.
+ * Configured in persistence unit with the property
+ * {@code <property name="eclipselink.session.customizer" value="org.eclipse.che.core.db.jpa.eclipselink.SharedCacheSessionCustomizer"/>}.
+ */
+public class SharedCacheSessionCustomizer extends StatisticsSessionCustomizer {
+
+    private static volatile SharedCacheConfigurator configurator;
+
+    /** Sets the configurator which is applied to the session of the persistence unit. */
+    public static void setConfigurator(SharedCacheConfigurator configurator) {
+        SharedCacheSessionCustomizer.configurator = configurator;
+    }
+
+    @Override
+    public void customize(Session session) throws Exception {
+        super.customize(session);
+        final SharedCacheConfigurator configurator = SharedCacheSessionCustomizer.configurator;
+        if (configurator != null) {
+            configurator.configureEntities(session);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db.jpa.eclipselink;
+
+import org.eclipse.che.core.db.DatabaseStatistics;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.Record;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.SessionProfilerAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records latencies of the executed queries and the profiled events
+ * (e.g. cache hits and misses) to the {@link DatabaseStatistics}.
+ *
+ * <p>Named queries are reported by their names e.g. {@code Workspace.getAll},
+ * other queries are reported by query type and entity e.g. {@code ReadObjectQuery:WorkspaceImpl}.
+ * Queries executed while executing another query (e.g. fetching of relationships)
+ * are accounted as a part of the outer query.
+ */
+public class StatisticsProfiler extends SessionProfilerAdapter {
+
+    private static final Logger LOG              = LoggerFactory.getLogger(StatisticsProfiler.class);
+    private static final long   SLOW_QUERY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final DatabaseStatistics statistics;
+
+    public StatisticsProfiler(DatabaseStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Object profileExecutionOfQuery(DatabaseQuery query, Record row, AbstractSession session) {
+        final int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        }
+        depth[0]++;
+        final long start = System.nanoTime();
+        try {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        } finally {
+            depth[0]--;
+            final long nanos = System.nanoTime() - start;
+            final String name = nameOf(query);
+            statistics.queryExecuted(name, nanos);
+            if (nanos > SLOW_QUERY_NANOS) {
+                LOG.warn("Slow query '{}' took {}ms", name, TimeUnit.NANOSECONDS.toMillis(nanos));
+            }
+        }
+    }
+
+    @Override
+    public void occurred(String operationName, AbstractSession session) {
+        statistics.occurred(operationName);
+    }
+
+    @Override
+    public void occurred(String operationName, DatabaseQuery query, AbstractSession session) {
+        statistics.occurred(operationName);
+    }
+
+    @Override
+    public int getProfileWeight() {
+        return SessionProfiler.NORMAL;
+    }
+
+    private static String nameOf(DatabaseQuery query) {
+        if (query.getName() != null && !query.getName().isEmpty()) {
+            return query.getName();
+        }
+        final Class<?> entity = query.getReferenceClass();
+        return entity == null ? query.getClass().getSimpleName()
+                              : query.getClass().getSimpleName() + ':' + entity.getSimpleName();
+    }
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db.jpa.eclipselink;
+
+import org.eclipse.che.core.db.DatabaseStatistics;
+import org.eclipse.che.core.db.InstrumentedDataSource;
+import org.eclipse.persistence.config.SessionCustomizer;
+import org.eclipse.persistence.sessions.JNDIConnector;
+import org.eclipse.persistence.sessions.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.naming.InitialContext;
+import javax.sql.DataSource;
+
+/**
+ * Instruments the data source and installs {@link StatisticsProfiler} to collect {@link DatabaseStatistics}.
+ *
+ * <p>The customizer is instantiated by EclipseLink, so statistics bound in the injector are handed over
+ * by {@link org.eclipse.che.core.db.jpa.JpaInitializer} before persistence service is started.
+ *
+ * <p>Configured in persistence unit with the property
+ * {@code <property name="eclipselink.session.customizer" value="org.eclipse.che.core.db.jpa.eclipselink.StatisticsSessionCustomizer"/>}.
+ */
+public class StatisticsSessionCustomizer implements SessionCustomizer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatisticsSessionCustomizer.class);
+
+    private static volatile DatabaseStatistics statistics;
+
+    /** Sets the statistics which are collected for the session of the persistence unit. */
+    public static void setStatistics(DatabaseStatistics statistics) {
+        StatisticsSessionCustomizer.statistics = statistics;
+    }
+
+    @Override
+    public void customize(Session session) throws Exception {
+        final DatabaseStatistics statistics = StatisticsSessionCustomizer.statistics;
+        if (statistics == null) {
+            LOG.warn("Database statistics are not set, persistence unit is not instrumented");
+            return;
+        }
+        if (session.getLogin().getConnector() instanceof JNDIConnector) {
+            final JNDIConnector connector = (JNDIConnector)session.getLogin().getConnector();
+            DataSource dataSource = connector.getDataSource();
+            if (dataSource == null) {
+                dataSource = (DataSource)new InitialContext().lookup(connector.getName());
+            }
+            if (!(dataSource instanceof InstrumentedDataSource)) {
+                connector.setDataSource(new InstrumentedDataSource(dataSource, statistics));
+            }
+        } else {
+            LOG.warn("Connections of persistence unit can't be instrumented, data source is not used");
+        }
+        session.setProfiler(new StatisticsProfiler(statistics));
+    }
+}
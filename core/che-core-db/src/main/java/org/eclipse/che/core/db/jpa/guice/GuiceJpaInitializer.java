@@ -12,7 +12,11 @@ package org.eclipse.che.core.db.jpa.guice;
 
 import com.google.inject.persist.PersistService;
 
+import org.eclipse.che.core.db.DatabaseStatistics;
 import org.eclipse.che.core.db.jpa.JpaInitializer;
+import org.eclipse.che.core.db.jpa.eclipselink.SharedCacheConfigurator;
+import org.eclipse.che.core.db.jpa.eclipselink.SharedCacheSessionCustomizer;
+import org.eclipse.che.core.db.jpa.eclipselink.StatisticsSessionCustomizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,9 +36,21 @@ public class GuiceJpaInitializer implements JpaInitializer {
     @Inject
     private PersistService persistService;
 
+    @Inject
+    private SharedCacheConfigurator sharedCacheConfigurator;
+
+    @Inject
+    private DatabaseStatistics databaseStatistics;
+
     public void init() {
         try {
+            // session customizer is created by EclipseLink, statistics and entity caches are configured
+            // by it before the session logs in
+            StatisticsSessionCustomizer.setStatistics(databaseStatistics);
+            SharedCacheSessionCustomizer.setConfigurator(sharedCacheConfigurator);
             persistService.start();
+            // query caches must be configured before any entity is loaded
+            sharedCacheConfigurator.configure();
         } catch (Exception x) {
             LOG.error(x.getLocalizedMessage(), x);
         }
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests {@link InstrumentedDataSource}.
+ */
+public class InstrumentedDataSourceTest {
+
+    private DatabaseStatistics     statistics;
+    private InstrumentedDataSource dataSource;
+
+    @BeforeMethod
+    public void setUp() {
+        final JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:instrumented");
+        statistics = new DatabaseStatistics();
+        dataSource = new InstrumentedDataSource(h2, statistics);
+    }
+
+    @Test
+    public void recordsActiveAndPeakConnections() throws Exception {
+        try (Connection ignored = dataSource.getConnection()) {
+            try (Connection ignored2 = dataSource.getConnection()) {
+                assertEquals(statistics.getActiveConnections(), 2);
+            }
+            assertEquals(statistics.getActiveConnections(), 1);
+        }
+
+        assertEquals(statistics.getActiveConnections(), 0);
+        assertEquals(statistics.getPeakActiveConnections(), 2);
+        assertEquals(statistics.getAcquiredConnections(), 2);
+        assertTrue(statistics.getMaxConnectionWaitMillis() >= statistics.getAverageConnectionWaitMillis());
+    }
+
+    @Test
+    public void releasesConnectionOnlyOnce() throws Exception {
+        final Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(statistics.getActiveConnections(), 0);
+    }
+
+    @Test
+    public void unwrapsToDataSource() throws Exception {
+        assertTrue(dataSource.isWrapperFor(JdbcDataSource.class));
+        assertTrue(dataSource.unwrap(JdbcDataSource.class) instanceof JdbcDataSource);
+    }
+
+    @Test
+    public void collectsQueryStatistics() {
+        statistics.queryExecuted("Workspace.getAll", 2_000_000);
+        statistics.queryExecuted("Workspace.getAll", 4_000_000);
+
+        final QueryStatistics query = statistics.getQueries().get("Workspace.getAll");
+        assertEquals(query.getCount(), 2);
+        assertEquals(query.getAverageMillis(), 3D);
+        assertEquals(query.getMaxMillis(), 4D);
+        assertEquals(query.getTotalMillis(), 6D);
+    }
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db.jpa.eclipselink;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.core.db.DatabaseStatistics;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import javax.inject.Provider;
+import javax.persistence.EntityManagerFactory;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+/**
+ * Tests {@link SharedCacheConfigurator}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class SharedCacheConfiguratorTest {
+
+    @Mock
+    private Provider<EntityManagerFactory> emfProvider;
+    @Mock
+    private EntityManagerFactory           emf;
+    @Mock
+    private ServerSession                  session;
+    @Mock
+    private ClassDescriptor                stackDescriptor;
+
+    private EventService eventService;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        eventService = new EventService();
+        when(emfProvider.get()).thenReturn(emf);
+        when(emf.unwrap(ServerSession.class)).thenReturn(session);
+        when(session.getDescriptorForAlias("Stack")).thenReturn(stackDescriptor);
+        when(stackDescriptor.getAlias()).thenReturn("Stack");
+    }
+
+    @Test
+    public void shouldConfigureEntitiesBeforeSessionLogsIn() throws Exception {
+        final SharedCacheConfigurator configurator = newConfigurator(true, "Stack:600:500", null);
+
+        configurator.configureEntities(session);
+
+        verify(stackDescriptor).setIdentityMapSize(500);
+        final ArgumentCaptor<TimeToLiveCacheInvalidationPolicy> policy = ArgumentCaptor.forClass(TimeToLiveCacheInvalidationPolicy.class);
+        verify(stackDescriptor).setCacheInvalidationPolicy(policy.capture());
+        assertEquals(policy.getValue().getTimeToLive(), 600_000L);
+        verifyZeroInteractions(emfProvider);
+    }
+
+    @Test
+    public void shouldUseDefaultsWhenTtlAndSizeAreNotSet() throws Exception {
+        newConfigurator(true, "Stack", null).configureEntities(session);
+
+        verify(stackDescriptor).setIdentityMapSize(100);
+    }
+
+    @Test
+    public void shouldSkipUnknownAndMalformedEntities() throws Exception {
+        newConfigurator(true, "Unknown:10:10,Stack:ten:10", null).configureEntities(session);
+
+        verify(stackDescriptor, never()).setIdentityMapSize(anyInt());
+    }
+
+    @Test
+    public void shouldNotConfigureAnythingWhenDisabled() throws Exception {
+        final SharedCacheConfigurator configurator = newConfigurator(false, "Stack:600:500", "Stack.getAll");
+
+        configurator.configureEntities(session);
+        configurator.configure();
+
+        verifyZeroInteractions(session, emfProvider);
+    }
+
+    @Test
+    public void shouldCacheQueryResultsWithTtlOfQueryEntity() throws Exception {
+        final ReadAllQuery query = new ReadAllQuery(Object.class);
+        when(session.getQuery("Stack.getAll")).thenReturn(query);
+        when(session.getDescriptor(Object.class)).thenReturn(stackDescriptor);
+        final SharedCacheConfigurator configurator = newConfigurator(true, "Stack:600:500", "Stack.getAll");
+        configurator.configureEntities(session);
+
+        configurator.configure();
+
+        final QueryResultsCachePolicy policy = query.getQueryResultsCachePolicy();
+        assertNotNull(policy);
+        assertEquals(((TimeToLiveCacheInvalidationPolicy)policy.getCacheInvalidationPolicy()).getTimeToLive(), 600_000L);
+        // entities are configured only once
+        verify(stackDescriptor).setIdentityMapSize(500);
+    }
+
+    @Test
+    public void shouldConfigureEntitiesOnStartWhenSessionIsNotCustomized() throws Exception {
+        newConfigurator(true, "Stack:600:500", null).configure();
+
+        verify(stackDescriptor).setIdentityMapSize(500);
+    }
+
+    @Test
+    public void shouldNotCacheResultsOfUnknownQuery() throws Exception {
+        newConfigurator(true, null, "Unknown.query").configure();
+
+        verify(session).getQuery("Unknown.query");
+    }
+
+    private SharedCacheConfigurator newConfigurator(boolean enabled, String entities, String queries) {
+        return new SharedCacheConfigurator(emfProvider, eventService, new DatabaseStatistics(), enabled, entities, queries);
+    }
+}
@@ -20,6 +20,8 @@ import com.google.inject.servlet.ServletModule;
 import com.google.inject.util.Modules;
 import com.google.inject.util.Providers;
 
+import org.eclipse.che.inject.lifecycle.DeferredInitModule;
+import org.eclipse.che.inject.lifecycle.DeferredInitializer;
 import org.eclipse.che.inject.lifecycle.DestroyErrorHandler;
 import org.eclipse.che.inject.lifecycle.DestroyModule;
 import org.eclipse.che.inject.lifecycle.Destroyer;
@@ -63,6 +65,8 @@ import static java.util.stream.Collectors.toSet;
  * <li>Binds all environment variables (visible as prefixed with "env.") and system properties (visible as prefixed with "sys.")</li>
  * <li>Thanks to Everrest integration injects all the properly annotated (see Everrest docs) REST Resources. Providers and ExceptionMappers
  * and inject necessary dependencies</li>
+ * <li>Records timings of modules configuration and components initialization in {@link StartupProfiler}</li>
+ * <li>Starts initialization of components marked with &#064DeferredInit once injector is created</li>
  * </ul>
  * <p/>
  * Configuration properties are bound as a {@code &#064Named}. For example:
@@ -112,11 +116,26 @@ public class CheBootstrap extends EverrestGuiceContextListener {
 
     private final List<Module> modules = new ArrayList<>();
 
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        final long start = System.nanoTime();
+        super.contextInitialized(sce);
+        final StartupProfiler profiler = StartupProfiler.getInstance();
+        profiler.record(StartupProfiler.Phase.INJECTOR, Injector.class.getName(), start);
+        profiler.started();
+        final Injector injector = getInjector(sce.getServletContext());
+        if (injector != null) {
+            injector.getInstance(DeferredInitializer.class).start();
+        }
+        LOG.info("Application started in {}ms", profiler.getProfile().getStartupTime());
+    }
+
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
         final ServletContext ctx = sce.getServletContext();
         final Injector injector = getInjector(ctx);
         if (injector != null) {
+            injector.getInstance(DeferredInitializer.class).stop();
             injector.getInstance(Destroyer.class).destroy();
         }
         super.contextDestroyed(sce);
@@ -127,6 +146,7 @@ public class CheBootstrap extends EverrestGuiceContextListener {
         // based on logic that getServletModule() is called BEFORE getModules() in the EverrestGuiceContextListener
         modules.add(new InitModule(PostConstruct.class));
         modules.add(new DestroyModule(PreDestroy.class, DestroyErrorHandler.DUMMY));
+        modules.add(new DeferredInitModule());
         modules.add(new URIConverter());
         modules.add(new URLConverter());
         modules.add(new FileConverter());
@@ -134,7 +154,7 @@ public class CheBootstrap extends EverrestGuiceContextListener {
         modules.add(new StringArrayConverter());
         modules.add(new PairConverter());
         modules.add(new PairArrayConverter());
-        modules.addAll(ModuleScanner.findModules());
+        modules.addAll(ModuleScanner.findModules().stream().map(ProfiledModule::new).collect(toList()));
         Map<String, Set<String>> aliases = readConfigurationAliases();
         Module firstConfigurationPermutation = Modules.override(new WebInfConfiguration(aliases)).with(new ExtConfiguration(aliases));
         Module secondConfigurationPermutation = Modules.override(firstConfigurationPermutation).with(new CheSystemPropertiesConfigurationModule(aliases));
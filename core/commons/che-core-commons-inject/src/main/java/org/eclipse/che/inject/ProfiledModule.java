@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.inject;
+
+import com.google.inject.Binder;
+import com.google.inject.Module;
+
+/**
+ * Installs the given module and records time of its configuration in {@link StartupProfiler}.
+ */
+class ProfiledModule implements Module {
+    private final Module module;
+
+    ProfiledModule(Module module) {
+        this.module = module;
+    }
+
+    @Override
+    public void configure(Binder binder) {
+        final long start = System.nanoTime();
+        binder.install(module);
+        StartupProfiler.getInstance().record(StartupProfiler.Phase.MODULE, module.getClass().getName(), start);
+    }
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.inject;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Collects timings of application startup: configuration of every {@link DynaModule},
+ * invocation of {@code @PostConstruct} methods, creation of injector and initialization
+ * of components marked with {@link org.eclipse.che.inject.lifecycle.DeferredInit}.
+ * <p/>
+ * Profiler is a static singleton since modules are configured before injector exists.
+ *
+ * @see CheBootstrap
+ */
+public final class StartupProfiler {
+    private static final StartupProfiler INSTANCE = new StartupProfiler();
+
+    /** Bounds memory used by profiler when components with {@code @PostConstruct} methods are created at runtime. */
+    private static final int MAX_ENTRIES = 10_000;
+
+    public static StartupProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    public enum Phase {
+        /** Configuration of a module. */
+        MODULE,
+        /** Invocation of a {@code @PostConstruct} method during startup. */
+        INIT,
+        /** Creation of injector including eager singletons. */
+        INJECTOR,
+        /** Initialization of a deferred component after startup. */
+        DEFERRED
+    }
+
+    private final Queue<Entry>  entries;
+    private final AtomicInteger size;
+
+    private volatile boolean started;
+    private volatile long    startupTime;
+
+    StartupProfiler() {
+        this.entries = new ConcurrentLinkedQueue<>();
+        this.size = new AtomicInteger();
+        this.startupTime = -1;
+    }
+
+    /**
+     * Records time spent in the given phase since {@code startNanos}.
+     * {@link Phase#INIT} entries are ignored once startup is completed.
+     *
+     * @param phase
+     *         startup phase
+     * @param name
+     *         name of profiled module or component
+     * @param startNanos
+     *         value of {@link System#nanoTime()} when profiled action was started
+     */
+    public void record(Phase phase, String name, long startNanos) {
+        final long time = NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (phase == Phase.INIT && started) {
+            return;
+        }
+        if (size.incrementAndGet() > MAX_ENTRIES) {
+            size.decrementAndGet();
+            return;
+        }
+        entries.add(new Entry(phase, name, time, Thread.currentThread().getName()));
+    }
+
+    /** Marks startup as completed, current uptime of JVM is reported as startup time. */
+    public void started() {
+        startupTime = ManagementFactory.getRuntimeMXBean().getUptime();
+        started = true;
+    }
+
+    /** Returns snapshot of profiled startup, entries are ordered from the slowest to the fastest one. */
+    public Profile getProfile() {
+        final List<Entry> result = new ArrayList<>(entries);
+        result.sort(Comparator.comparingLong(Entry::getTime).reversed());
+        return new Profile(startupTime, result);
+    }
+
+    public static final class Profile {
+        private final long        startupTime;
+        private final List<Entry> entries;
+
+        private Profile(long startupTime, List<Entry> entries) {
+            this.startupTime = startupTime;
+            this.entries = Collections.unmodifiableList(entries);
+        }
+
+        /** Returns milliseconds elapsed from JVM start to the end of startup or -1 if startup isn't completed yet. */
+        public long getStartupTime() {
+            return startupTime;
+        }
+
+        public List<Entry> getEntries() {
+            return entries;
+        }
+    }
+
+    public static final class Entry {
+        private final Phase  phase;
+        private final String name;
+        private final long   time;
+        private final String thread;
+
+        private Entry(Phase phase, String name, long time, String thread) {
+            this.phase = phase;
+            this.name = name;
+            this.time = time;
+            this.thread = thread;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /** Returns time spent in milliseconds. */
+        public long getTime() {
+            return time;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        @Override
+        public String toString() {
+            return phase + " " + name + ": " + time + "ms [" + thread + ']';
+        }
+    }
+}
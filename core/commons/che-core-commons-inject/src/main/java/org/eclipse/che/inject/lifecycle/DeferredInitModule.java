@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.inject.lifecycle;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.TypeLiteral;
+import com.google.inject.matcher.Matchers;
+import com.google.inject.spi.TypeEncounter;
+import com.google.inject.spi.TypeListener;
+
+/**
+ * Collects components marked with {@link DeferredInit} into {@link DeferredInitializer}.
+ */
+public final class DeferredInitModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        final DeferredInitializer initializer = new DeferredInitializer();
+        bind(DeferredInitializer.class).toInstance(initializer);
+        bindListener(Matchers.any(), new TypeListener() {
+            @Override
+            public <T> void hear(TypeLiteral<T> type, TypeEncounter<T> encounter) {
+                if (type.getRawType().isAnnotationPresent(DeferredInit.class)) {
+                    initializer.add(type.toString(), encounter.getProvider(type.getRawType()));
+                }
+            }
+        });
+    }
+}
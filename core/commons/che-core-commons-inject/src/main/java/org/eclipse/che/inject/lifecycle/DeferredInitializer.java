@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.inject.lifecycle;
+
+import com.google.inject.Provider;
+
+import org.eclipse.che.inject.StartupProfiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates components marked with {@link DeferredInit} in background thread after application startup.
+ * <p/>
+ * Components are created by the injector so the one which is needed
+ * before background initialization reaches it is created on demand by the caller
+ * and isn't created twice as far as it's bound in singleton scope.
+ */
+public final class DeferredInitializer {
+    private static final Logger LOG = LoggerFactory.getLogger(DeferredInitializer.class);
+
+    private final Map<String, Provider<?>> components;
+
+    private ExecutorService executor;
+
+    DeferredInitializer() {
+        this.components = new LinkedHashMap<>();
+    }
+
+    synchronized void add(String name, Provider<?> provider) {
+        if (executor == null) {
+            components.put(name, provider);
+        }
+    }
+
+    /** Starts initialization of the collected components, does nothing if it is already started. */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "DeferredInitializer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Map.Entry<String, Provider<?>> entry : components.entrySet()) {
+            executor.execute(() -> initialize(entry.getKey(), entry.getValue()));
+        }
+        components.clear();
+        executor.shutdown();
+    }
+
+    /** Interrupts initialization of the components which aren't created yet. */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void initialize(String name, Provider<?> provider) {
+        final long start = System.nanoTime();
+        try {
+            provider.get();
+        } catch (RuntimeException e) {
+            LOG.error(String.format("Deferred initialization of %s failed. %s", name, e.getMessage()), e);
+        }
+        StartupProfiler.getInstance().record(StartupProfiler.Phase.DEFERRED, name, start);
+    }
+}
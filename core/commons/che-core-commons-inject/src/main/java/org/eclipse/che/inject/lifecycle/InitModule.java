@@ -17,6 +17,8 @@ import com.google.inject.spi.InjectionListener;
 import com.google.inject.spi.TypeEncounter;
 import com.google.inject.spi.TypeListener;
 
+import org.eclipse.che.inject.StartupProfiler;
+
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -40,6 +42,7 @@ public final class InitModule extends LifecycleModule {
                         final Method[] methods = get(injectee.getClass(), annotationType);
                         if (methods.length > 0) {
                             for (Method method : methods) {
+                                final long start = System.nanoTime();
                                 try {
                                     method.invoke(injectee);
                                 } catch (IllegalArgumentException e) {
@@ -52,6 +55,9 @@ public final class InitModule extends LifecycleModule {
                                     throw new ProvisionException(String.format("Invocation error of method %s on %s", method, injectee),
                                                                  cause);
                                 }
+                                StartupProfiler.getInstance().record(StartupProfiler.Phase.INIT,
+                                                                     injectee.getClass().getName() + '#' + method.getName(),
+                                                                     start);
                             }
                         }
                     }
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.inject;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import org.eclipse.che.inject.lifecycle.DeferredInit;
+import org.eclipse.che.inject.lifecycle.DeferredInitModule;
+import org.eclipse.che.inject.lifecycle.DeferredInitializer;
+import org.eclipse.che.inject.lifecycle.InitModule;
+import org.testng.annotations.Test;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link DeferredInitModule} and {@link DeferredInitializer}.
+ */
+public class DeferredInitTest {
+
+    @Test
+    public void shouldNotCreateDeferredComponentWhenInjectorIsCreated() throws Exception {
+        DeferredComponent.reset();
+
+        Guice.createInjector(new InitModule(PostConstruct.class),
+                             new DeferredInitModule(),
+                             binder -> binder.bind(DeferredComponent.class));
+
+        assertEquals(DeferredComponent.created.get(), 0);
+    }
+
+    @Test
+    public void shouldCreateDeferredComponentInBackgroundWhenInitializerIsStarted() throws Exception {
+        DeferredComponent.reset();
+        Injector injector = Guice.createInjector(new InitModule(PostConstruct.class),
+                                                 new DeferredInitModule(),
+                                                 binder -> binder.bind(DeferredComponent.class));
+
+        injector.getInstance(DeferredInitializer.class).start();
+
+        assertTrue(DeferredComponent.initialized.await(10, TimeUnit.SECONDS));
+        assertEquals(DeferredComponent.created.get(), 1);
+    }
+
+    @Test
+    public void shouldCreateDeferredComponentOnceWhenItIsUsedBeforeInitializerIsStarted() throws Exception {
+        DeferredComponent.reset();
+        Injector injector = Guice.createInjector(new InitModule(PostConstruct.class),
+                                                 new DeferredInitModule(),
+                                                 binder -> binder.bind(DeferredComponent.class));
+
+        DeferredComponent component = injector.getInstance(DeferredComponent.class);
+        injector.getInstance(DeferredInitializer.class).start();
+        injector.getInstance(DeferredInitializer.class).stop();
+
+        assertEquals(component.init, 1);
+        assertEquals(DeferredComponent.created.get(), 1);
+    }
+
+    @Test
+    public void shouldCreateDeferredImplementationInBackgroundWhenEagerComponentInjectsItsProvider() throws Exception {
+        DeferredComponent.reset();
+        Injector injector = Guice.createInjector(new InitModule(PostConstruct.class),
+                                                 new DeferredInitModule(),
+                                                 binder -> {
+                                                     binder.bind(Component.class).to(DeferredComponent.class);
+                                                     binder.bind(EagerComponent.class).asEagerSingleton();
+                                                 });
+        assertEquals(DeferredComponent.created.get(), 0);
+
+        injector.getInstance(DeferredInitializer.class).start();
+
+        assertTrue(DeferredComponent.initialized.await(10, TimeUnit.SECONDS));
+        assertEquals(injector.getInstance(EagerComponent.class).component.get(), injector.getInstance(Component.class));
+        assertEquals(DeferredComponent.created.get(), 1);
+    }
+
+    public interface Component {
+    }
+
+    @Singleton
+    public static class EagerComponent {
+        final Provider<Component> component;
+
+        @Inject
+        public EagerComponent(Provider<Component> component) {
+            this.component = component;
+        }
+    }
+
+    @Singleton
+    @DeferredInit
+    public static class DeferredComponent implements Component {
+        static AtomicInteger  created;
+        static CountDownLatch initialized;
+
+        static void reset() {
+            created = new AtomicInteger();
+            initialized = new CountDownLatch(1);
+        }
+
+        int init;
+
+        public DeferredComponent() {
+            created.incrementAndGet();
+        }
+
+        @PostConstruct
+        public void init() {
+            init++;
+            initialized.countDown();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.inject;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link StartupProfiler}.
+ */
+public class StartupProfilerTest {
+
+    @Test
+    public void shouldReturnEntriesFromTheSlowestOne() throws Exception {
+        StartupProfiler profiler = new StartupProfiler();
+
+        profiler.record(StartupProfiler.Phase.MODULE, "fast", System.nanoTime());
+        profiler.record(StartupProfiler.Phase.MODULE, "slow", System.nanoTime() - MILLISECONDS.toNanos(50));
+        profiler.record(StartupProfiler.Phase.INIT, "medium", System.nanoTime() - MILLISECONDS.toNanos(20));
+
+        List<StartupProfiler.Entry> entries = profiler.getProfile().getEntries();
+        assertEquals(entries.size(), 3);
+        assertEquals(entries.get(0).getName(), "slow");
+        assertTrue(entries.get(0).getTime() >= 50);
+        assertEquals(entries.get(1).getName(), "medium");
+        assertEquals(entries.get(2).getName(), "fast");
+        assertEquals(profiler.getProfile().getStartupTime(), -1);
+    }
+
+    @Test
+    public void shouldIgnoreInitializationOfComponentsAfterStartup() throws Exception {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.record(StartupProfiler.Phase.INIT, "startup", System.nanoTime());
+
+        profiler.started();
+        profiler.record(StartupProfiler.Phase.INIT, "runtime", System.nanoTime());
+        profiler.record(StartupProfiler.Phase.DEFERRED, "deferred", System.nanoTime());
+
+        StartupProfiler.Profile profile = profiler.getProfile();
+        assertEquals(profile.getEntries().size(), 2);
+        assertTrue(profile.getEntries().stream().noneMatch(entry -> entry.getName().equals("runtime")));
+        assertTrue(profile.getStartupTime() >= 0);
+    }
+}
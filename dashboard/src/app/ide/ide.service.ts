@@ -190,6 +190,10 @@ class IdeSvc {
 
       this.listeningChannels.push(agentChannel);
       bus.subscribe(agentChannel, (message: any) => {
+        // output of the agent is sent as text, which may contain several lines, only events are handled here
+        if (angular.isString(message)) {
+          return;
+        }
         if (message.eventType === 'ERROR' && message.workspaceId === data.id) {
           // need to show the error
           this.$mdDialog.show(
@@ -452,11 +452,14 @@ export class CreateProjectController {
         this.createProjectSvc.setCurrentProgressStep(2);
       }
       let agentStep = 2;
-      if (this.getCreationSteps()[agentStep].logs.length > 0) {
-        this.getCreationSteps()[agentStep].logs = this.getCreationSteps()[agentStep].logs + '\n' + message;
-      } else {
-        this.getCreationSteps()[agentStep].logs = message;
-      }
+      // a message may contain several lines of output
+      this.getAgentLogLines(message).forEach((line: string) => {
+        if (this.getCreationSteps()[agentStep].logs.length > 0) {
+          this.getCreationSteps()[agentStep].logs = this.getCreationSteps()[agentStep].logs + '\n' + line;
+        } else {
+          this.getCreationSteps()[agentStep].logs = line;
+        }
+      });
     });
 
     if (statusChannel) {
@@ -555,6 +558,21 @@ export class CreateProjectController {
     }
   }
 
+  /**
+   * Splits output of workspace agent into lines, as several lines of output are sent in one message.
+   *
+   * @param message message of workspace agent output channel
+   * @returns {Array<string>} lines of output
+   */
+  getAgentLogLines(message: any): Array<string> {
+    if (!angular.isString(message)) {
+      return [message];
+    }
+    return message.split('\n').map((line: string) => {
+      return line.replace(/\r$/, '');
+    });
+  }
+
   createProjectInWorkspace(workspaceId: string, projectName: string, projectData: any, bus: any, websocketStream?: any, workspaceBus?: any): void {
     this.updateRecentWorkspace(workspaceId);
 
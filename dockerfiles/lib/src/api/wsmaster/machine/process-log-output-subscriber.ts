@@ -19,12 +19,17 @@ import {Log} from "../../../spi/log/log";
 export class ProcesLogOutputMessageBusSubscriber implements MessageBusSubscriber {
 
     handleMessage(message: string) {
-        if (StringUtils.startsWith(message, '[STDOUT] ')) {
-            console.log(Log.GREEN + message.substr('[STDOUT] '.length) + Log.NC);
-        } else if (StringUtils.startsWith(message, '[STDERR] ')) {
-            console.log(Log.RED + message.substr('[STDERR] '.length) + Log.NC);
+        // a message may contain several lines of output, each one with its own prefix
+        message.split('\n').forEach((line: string) => this.displayLine(line));
+    }
+
+    displayLine(line: string) {
+        if (StringUtils.startsWith(line, '[STDOUT] ')) {
+            console.log(Log.GREEN + line.substr('[STDOUT] '.length) + Log.NC);
+        } else if (StringUtils.startsWith(line, '[STDERR] ')) {
+            console.log(Log.RED + line.substr('[STDERR] '.length) + Log.NC);
         } else {
-            console.log(message);
+            console.log(line);
         }
     }
 }
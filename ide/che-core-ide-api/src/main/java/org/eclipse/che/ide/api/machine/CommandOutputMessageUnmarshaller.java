@@ -29,13 +29,22 @@ public class CommandOutputMessageUnmarshaller implements Unmarshallable<String>
 
     @Override
     public void unmarshal(Message message) {
-        payload = message.getBody();
-
-        if (payload.startsWith("[STDOUT]")) {
-            payload = payload.substring(9);
-        } else if (payload.startsWith("[STDERR]")) {
-            payload = payload.replace("[STDERR]", "[" + machineName + "]");
+        // message may contain several lines of output, see BatchingWebsocketLineConsumer
+        final String[] lines = message.getBody().split("\n", -1);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+            if (line.startsWith("[STDOUT]")) {
+                line = line.substring(9);
+            } else if (line.startsWith("[STDERR]")) {
+                line = line.replace("[STDERR]", "[" + machineName + "]");
+            }
+            if (i > 0) {
+                sb.append('\n');
+            }
+            sb.append(line);
         }
+        payload = sb.toString();
     }
 
     @Override
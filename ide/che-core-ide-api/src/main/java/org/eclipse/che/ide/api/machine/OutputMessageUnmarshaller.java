@@ -23,10 +23,20 @@ public class OutputMessageUnmarshaller implements Unmarshallable<String> {
 
     @Override
     public void unmarshal(Message message) {
-        payload = message.getBody();
-        if (payload.startsWith("[STDOUT]") || payload.startsWith("[STDERR]")) {
-            payload = payload.substring(9);
+        // message may contain several lines of output, see BatchingWebsocketLineConsumer
+        final String[] lines = message.getBody().split("\n", -1);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+            if (line.startsWith("[STDOUT]") || line.startsWith("[STDERR]")) {
+                line = line.substring(9);
+            }
+            if (i > 0) {
+                sb.append('\n');
+            }
+            sb.append(line);
         }
+        payload = sb.toString();
     }
 
     @Override
@@ -456,7 +456,10 @@ public class WorkspaceEventsHandler {
 
         @Override
         protected void onMessageReceived(String wsAgentLog) {
-            eventBus.fireEvent(new EnvironmentOutputEvent(wsAgentLog, wsMachineName));
+            // message may contain several lines of output
+            for (String line : wsAgentLog.split("\n", -1)) {
+                eventBus.fireEvent(new EnvironmentOutputEvent(line, wsMachineName));
+            }
         }
 
         @Override
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.eclipse.che.api.environment.server.model.CheServiceBuildContextImpl;
+import org.eclipse.che.commons.lang.concurrent.CloseableLock;
+import org.eclipse.che.commons.lang.concurrent.StripedLocks;
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.exception.ImageNotFoundException;
+import org.eclipse.che.plugin.docker.client.json.Image;
+import org.eclipse.che.plugin.docker.client.params.RemoveImageParams;
+import org.eclipse.che.plugin.docker.client.params.TagParams;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Cache of images built from Dockerfiles of machines.
+ *
+ * <p>Image built from Dockerfile content is additionally tagged as {@code eclipse-che/build-cache:<hash>},
+ * where hash is computed from the Dockerfile content and build arguments. The next build of the same
+ * Dockerfile only tags the cached image with the machine image name instead of building it.
+ * Builds from a context URL are not cached as their content is not known before the build.
+ * When the build requires base images to be pulled, cached images older than the max age are
+ * built again, so the cache doesn't keep stale base images for longer than that.
+ *
+ * <p>When the total size of cached images exceeds the budget, cache tags of the least recently used
+ * images are removed, so images are deleted by docker as soon as no machine uses them.
+ * The number of builds which run on the docker host at the same time is limited.
+ */
+@Singleton
+public class ImageBuildCache {
+    private static final Logger LOG = getLogger(ImageBuildCache.class);
+
+    static final String CACHE_REPOSITORY = "eclipse-che/build-cache";
+
+    private final DockerConnector   docker;
+    private final long              maxSizeBytes;
+    private final long              maxAgeMillis;
+    private final Semaphore         builds;
+    private final StripedLocks      buildLocks;
+    private final ReentrantLock     gcLock;
+    // key = hash of the build, value = time of the last usage of the cached image
+    private final Map<String, Long> lastUsage;
+    // key = hash of the build, value = time when the cached image was built
+    private final Map<String, Long> buildTime;
+
+    private volatile boolean loaded;
+
+    /**
+     * Creates the cache.
+     *
+     * @param docker
+     *         docker connector
+     * @param maxSizeMb
+     *         the maximum total size of cached images, 0 disables caching
+     * @param maxAgeMin
+     *         the maximum age of cached image which is reused by build that force pulls base images,
+     *         0 means such builds never reuse cached images
+     * @param maxConcurrentBuilds
+     *         the maximum number of concurrent builds, not positive value means unlimited
+     */
+    @Inject
+    public ImageBuildCache(DockerConnector docker,
+                           @Named("che.docker.build_cache.max_size_mb") long maxSizeMb,
+                           @Named("che.docker.build_cache.max_age_min") long maxAgeMin,
+                           @Named("che.docker.max_concurrent_builds") int maxConcurrentBuilds) {
+        this.docker = docker;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.maxAgeMillis = TimeUnit.MINUTES.toMillis(maxAgeMin);
+        this.builds = new Semaphore(maxConcurrentBuilds > 0 ? maxConcurrentBuilds : Integer.MAX_VALUE, true);
+        this.buildLocks = new StripedLocks(64);
+        this.gcLock = new ReentrantLock();
+        this.lastUsage = new ConcurrentHashMap<>();
+        this.buildTime = new ConcurrentHashMap<>();
+    }
+
+    public boolean isEnabled() {
+        return maxSizeBytes > 0;
+    }
+
+    /**
+     * Returns the key of image built from the given build context
+     * or {@code null} if such image can't be cached.
+     */
+    public static String getKey(CheServiceBuildContextImpl build) {
+        if (build == null || build.getDockerfileContent() == null) {
+            return null;
+        }
+        final Hasher hasher = Hashing.sha256().newHasher().putString(build.getDockerfileContent(), UTF_8);
+        if (build.getArgs() != null) {
+            // sort arguments to get the same key regardless of their order
+            for (Map.Entry<String, String> arg : new TreeMap<>(build.getArgs()).entrySet()) {
+                hasher.putChar('\0')
+                      .putString(arg.getKey(), UTF_8)
+                      .putChar('=')
+                      .putString(String.valueOf(arg.getValue()), UTF_8);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Makes image with the given name available.
+     * If image with the same key is cached then it is tagged with the given name,
+     * otherwise the image is built by the given builder and cached.
+     * When the builder force pulls base images, cached image is reused only if it is not older than the max age.
+     *
+     * @param key
+     *         key of the image, see {@link #getKey(CheServiceBuildContextImpl)}, null if image can't be cached
+     * @param imageName
+     *         name of the image the builder produces
+     * @param forcePull
+     *         whether the builder pulls base images even if they exist locally
+     * @param builder
+     *         builds the image named {@code imageName}
+     * @throws IOException
+     *         when build fails or it is interrupted while waiting for other builds
+     */
+    public void build(String key, String imageName, boolean forcePull, ImageBuilder builder) throws IOException {
+        if (key == null || !isEnabled()) {
+            buildLimited(builder);
+            return;
+        }
+
+        // the same image is built once even if it is requested by several workspaces at the same time
+        try (CloseableLock ignored = buildLocks.acquireWriteLock(key)) {
+            loadCachedImages();
+            if (lastUsage.containsKey(key) && (!forcePull || !isExpired(key))) {
+                try {
+                    docker.tag(TagParams.create(CACHE_REPOSITORY + ':' + key, imageName));
+                    lastUsage.put(key, System.currentTimeMillis());
+                    return;
+                } catch (ImageNotFoundException e) {
+                    // image is removed bypassing the cache
+                    lastUsage.remove(key);
+                    buildTime.remove(key);
+                }
+            }
+
+            buildLimited(builder);
+            // replaces the cache tag of the expired image, if any
+            docker.tag(TagParams.create(imageName, CACHE_REPOSITORY).withTag(key).withForce(true));
+            final long now = System.currentTimeMillis();
+            lastUsage.put(key, now);
+            buildTime.put(key, now);
+        }
+        collectGarbage();
+    }
+
+    /**
+     * Removes cache tags of the least recently used images
+     * until the total size of cached images fits the budget.
+     * Does nothing if garbage collection is already in progress.
+     */
+    public void collectGarbage() {
+        if (!gcLock.tryLock()) {
+            return;
+        }
+        try {
+            final Map<String, Long> sizes = new HashMap<>();
+            long totalSize = 0;
+            for (Image image : docker.listImages()) {
+                final String key = findKey(image);
+                if (key != null) {
+                    sizes.put(key, image.getSize());
+                    totalSize += image.getSize();
+                }
+            }
+            if (totalSize <= maxSizeBytes) {
+                return;
+            }
+
+            final List<String> keys = new ArrayList<>(sizes.keySet());
+            keys.sort((key1, key2) -> Long.compare(lastUsage.getOrDefault(key1, 0L), lastUsage.getOrDefault(key2, 0L)));
+            for (String key : keys) {
+                if (totalSize <= maxSizeBytes) {
+                    break;
+                }
+                try (CloseableLock ignored = buildLocks.acquireWriteLock(key)) {
+                    docker.removeImage(RemoveImageParams.create(CACHE_REPOSITORY + ':' + key).withForce(false));
+                    lastUsage.remove(key);
+                    buildTime.remove(key);
+                    totalSize -= sizes.get(key);
+                } catch (IOException e) {
+                    LOG.warn("Can't remove cached image {}. {}", key, e.getLocalizedMessage());
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't collect garbage of image build cache. {}", e.getLocalizedMessage());
+        } finally {
+            gcLock.unlock();
+        }
+    }
+
+    private void buildLimited(ImageBuilder builder) throws IOException {
+        try {
+            builds.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for other image builds");
+        }
+        try {
+            builder.build();
+        } finally {
+            builds.release();
+        }
+    }
+
+    /** Finds images cached before the server start, their usage time is the time of their creation. */
+    private void loadCachedImages() {
+        if (loaded) {
+            return;
+        }
+        try {
+            for (Image image : docker.listImages()) {
+                final String key = findKey(image);
+                if (key != null) {
+                    // docker reports creation time in seconds
+                    lastUsage.putIfAbsent(key, image.getCreated() * 1000);
+                    buildTime.putIfAbsent(key, image.getCreated() * 1000);
+                }
+            }
+            loaded = true;
+        } catch (IOException e) {
+            LOG.warn("Can't find images of build cache. {}", e.getLocalizedMessage());
+        }
+    }
+
+    private boolean isExpired(String key) {
+        return System.currentTimeMillis() - buildTime.getOrDefault(key, 0L) > maxAgeMillis;
+    }
+
+    private static String findKey(Image image) {
+        if (image.getRepoTags() != null) {
+            for (String repoTag : image.getRepoTags()) {
+                if (repoTag.startsWith(CACHE_REPOSITORY + ':')) {
+                    return repoTag.substring(CACHE_REPOSITORY.length() + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Builds image, e.g. by means of {@link DockerConnector#buildImage}. */
+    public interface ImageBuilder {
+        void build() throws IOException;
+    }
+}
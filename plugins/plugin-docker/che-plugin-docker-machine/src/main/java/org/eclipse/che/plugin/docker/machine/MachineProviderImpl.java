@@ -17,6 +17,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.machine.ServerConf;
 import org.eclipse.che.api.core.util.FileCleaner;
@@ -45,6 +46,7 @@ import org.eclipse.che.plugin.docker.client.exception.ContainerNotFoundException
 import org.eclipse.che.plugin.docker.client.exception.ImageNotFoundException;
 import org.eclipse.che.plugin.docker.client.exception.NetworkNotFoundException;
 import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
+import org.eclipse.che.plugin.docker.client.json.ContainerInfo;
 import org.eclipse.che.plugin.docker.client.json.HostConfig;
 import org.eclipse.che.plugin.docker.client.json.PortBinding;
 import org.eclipse.che.plugin.docker.client.json.container.NetworkingConfig;
@@ -128,6 +130,7 @@ public class MachineProviderImpl implements MachineInstanceProvider {
     private final String                                        networkDriver;
     private final Set<String>                                   additionalNetworks;
     private final WindowsPathEscaper                            windowsPathEscaper;
+    private final ImageBuildCache                               buildCache;
 
     @Inject
     public MachineProviderImpl(DockerConnector docker,
@@ -149,7 +152,8 @@ public class MachineProviderImpl implements MachineInstanceProvider {
                                @Named("che.docker.swap") double memorySwapMultiplier,
                                @Named("machine.docker.networks") Set<Set<String>> additionalNetworks,
                                @Nullable @Named("che.docker.network_driver") String networkDriver,
-                               WindowsPathEscaper windowsPathEscaper)
+                               WindowsPathEscaper windowsPathEscaper,
+                               ImageBuildCache buildCache)
             throws IOException {
         this.docker = docker;
         this.dockerCredentials = dockerCredentials;
@@ -169,6 +173,7 @@ public class MachineProviderImpl implements MachineInstanceProvider {
         this.memorySwapMultiplier = memorySwapMultiplier == -1 ? -1 : memorySwapMultiplier + 1;
         this.networkDriver = networkDriver;
         this.windowsPathEscaper = windowsPathEscaper;
+        this.buildCache = buildCache;
         this.pidsLimit = pidsLimit;
 
         allMachinesSystemVolumes = removeEmptyAndNullValues(allMachinesSystemVolumes);
@@ -285,6 +290,7 @@ public class MachineProviderImpl implements MachineInstanceProvider {
             readContainerLogsInSeparateThread(container,
                                               workspaceId,
                                               service.getId(),
+                                              0,
                                               machineLogger);
 
             DockerNode node = dockerMachineFactory.createNode(workspaceId, container);
@@ -328,6 +334,54 @@ public class MachineProviderImpl implements MachineInstanceProvider {
         }
     }
 
+    /**
+     * Re-creates instance of the running container which id is stored
+     * in the {@code id} runtime property of the machine, see {@link DockerInstanceRuntimeInfo}.
+     */
+    @Override
+    public Instance recoverService(Machine machine, long stoppedAt, LineConsumer machineLogger) throws NotFoundException,
+                                                                                                       ServerException {
+        final String container = machine.getRuntime() == null ? null : machine.getRuntime().getProperties().get("id");
+        if (container == null) {
+            throw new ServerException(format("Container of machine '%s' is unknown", machine.getId()));
+        }
+        try {
+            final ContainerInfo info = docker.inspectContainer(container);
+            if (info.getState() == null || !info.getState().isRunning()) {
+                throw new NotFoundException(format("Container '%s' of machine '%s' is not running", container, machine.getId()));
+            }
+
+            // logs written before stop of the master are already in the machine log,
+            // docker counts time in seconds, so lines of the stop second may be repeated rather than lost
+            final long logsSince = stoppedAt > 0 ? stoppedAt : System.currentTimeMillis();
+            readContainerLogsInSeparateThread(container,
+                                              machine.getWorkspaceId(),
+                                              machine.getId(),
+                                              logsSince / 1000L,
+                                              machineLogger);
+
+            DockerNode node = dockerMachineFactory.createNode(machine.getWorkspaceId(), container);
+
+            dockerInstanceStopDetector.startDetection(container,
+                                                      machine.getId(),
+                                                      machine.getWorkspaceId());
+
+            return dockerMachineFactory.createInstance(MachineImpl.builder()
+                                                                  .fromMachine(machine)
+                                                                  .setStatus(MachineStatus.RUNNING)
+                                                                  .setRuntime(null)
+                                                                  .build(),
+                                                       container,
+                                                       info.getConfig().getImage(),
+                                                       node,
+                                                       machineLogger);
+        } catch (ContainerNotFoundException e) {
+            throw new NotFoundException(format("Container '%s' of machine '%s' is not found", container, machine.getId()));
+        } catch (IOException e) {
+            throw new ServerException(e.getLocalizedMessage(), e);
+        }
+    }
+
     @Override
     public void createNetwork(String networkName) throws ServerException {
         try {
@@ -382,7 +436,7 @@ public class MachineProviderImpl implements MachineInstanceProvider {
 
         File workDir = null;
         try {
-            BuildImageParams buildImageParams;
+            final BuildImageParams buildImageParams;
             if (service.getBuild() != null &&
                 service.getBuild().getDockerfileContent() != null) {
 
@@ -405,7 +459,10 @@ public class MachineProviderImpl implements MachineInstanceProvider {
                             .withMemorySwapLimit(-1)
                             .withBuildArgs(service.getBuild().getArgs());
 
-            docker.buildImage(buildImageParams, progressMonitor);
+            buildCache.build(ImageBuildCache.getKey(service.getBuild()),
+                             machineImageName,
+                             doForcePullOnBuild,
+                             () -> docker.buildImage(buildImageParams, progressMonitor));
         } catch (IOException e) {
             throw new MachineException(e.getLocalizedMessage(), e);
         } finally {
@@ -563,9 +620,10 @@ public class MachineProviderImpl implements MachineInstanceProvider {
     private void readContainerLogsInSeparateThread(String container,
                                                    String workspaceId,
                                                    String machineId,
+                                                   long since,
                                                    LineConsumer outputConsumer) {
         executor.execute(() -> {
-            long lastProcessedLogDate = 0;
+            long lastProcessedLogDate = since;
             boolean isContainerRunning = true;
             int errorsCounter = 0;
             long lastErrorTime = 0;
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import com.google.common.collect.ImmutableMap;
+
+import org.eclipse.che.api.environment.server.model.CheServiceBuildContextImpl;
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.exception.ImageNotFoundException;
+import org.eclipse.che.plugin.docker.client.json.Image;
+import org.eclipse.che.plugin.docker.client.params.RemoveImageParams;
+import org.eclipse.che.plugin.docker.client.params.TagParams;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.eclipse.che.plugin.docker.machine.ImageBuildCache.CACHE_REPOSITORY;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Tests for {@link ImageBuildCache}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class ImageBuildCacheTest {
+    private static final String KEY = "0123456789abcdef";
+
+    @Mock
+    private DockerConnector docker;
+
+    private ImageBuildCache cache;
+    private AtomicInteger   builds;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        when(docker.listImages()).thenReturn(emptyList());
+        cache = new ImageBuildCache(docker, 1, 60, 2);
+        builds = new AtomicInteger();
+    }
+
+    @Test
+    public void shouldBuildImageWithTheSameKeyOnce() throws Exception {
+        cache.build(KEY, "eclipse-che/container1", false, builds::incrementAndGet);
+        cache.build(KEY, "eclipse-che/container2", false, builds::incrementAndGet);
+
+        assertEquals(builds.get(), 1);
+        verify(docker).tag(TagParams.create("eclipse-che/container1", CACHE_REPOSITORY).withTag(KEY).withForce(true));
+        verify(docker).tag(TagParams.create(CACHE_REPOSITORY + ':' + KEY, "eclipse-che/container2"));
+    }
+
+    @Test
+    public void shouldReuseImageCachedBeforeRestart() throws Exception {
+        when(docker.listImages()).thenReturn(asList(createImage(KEY, 10, 100)));
+
+        cache.build(KEY, "eclipse-che/container1", false, builds::incrementAndGet);
+
+        assertEquals(builds.get(), 0);
+        verify(docker).tag(TagParams.create(CACHE_REPOSITORY + ':' + KEY, "eclipse-che/container1"));
+    }
+
+    @Test
+    public void shouldBuildImageAgainIfCachedImageIsRemoved() throws Exception {
+        cache.build(KEY, "eclipse-che/container1", false, builds::incrementAndGet);
+        doThrow(new ImageNotFoundException("not found")).when(docker)
+                                                         .tag(TagParams.create(CACHE_REPOSITORY + ':' + KEY,
+                                                                               "eclipse-che/container2"));
+
+        cache.build(KEY, "eclipse-che/container2", false, builds::incrementAndGet);
+
+        assertEquals(builds.get(), 2);
+        verify(docker).tag(TagParams.create("eclipse-che/container2", CACHE_REPOSITORY).withTag(KEY).withForce(true));
+    }
+
+    @Test
+    public void shouldReuseCachedImageNotOlderThanMaxAgeWhenBaseImagesArePulled() throws Exception {
+        cache.build(KEY, "eclipse-che/container1", true, builds::incrementAndGet);
+        cache.build(KEY, "eclipse-che/container2", true, builds::incrementAndGet);
+
+        assertEquals(builds.get(), 1);
+        verify(docker).tag(TagParams.create(CACHE_REPOSITORY + ':' + KEY, "eclipse-che/container2"));
+    }
+
+    @Test
+    public void shouldBuildImageAgainIfCachedImageIsOlderThanMaxAgeAndBaseImagesArePulled() throws Exception {
+        when(docker.listImages()).thenReturn(asList(createImage(KEY, 10, 100)));
+
+        cache.build(KEY, "eclipse-che/container1", true, builds::incrementAndGet);
+
+        assertEquals(builds.get(), 1);
+        verify(docker, never()).tag(TagParams.create(CACHE_REPOSITORY + ':' + KEY, "eclipse-che/container1"));
+        verify(docker).tag(TagParams.create("eclipse-che/container1", CACHE_REPOSITORY).withTag(KEY).withForce(true));
+    }
+
+    @Test
+    public void shouldNotCacheImageWithoutKey() throws Exception {
+        cache.build(null, "eclipse-che/container1", false, builds::incrementAndGet);
+        cache.build(null, "eclipse-che/container2", false, builds::incrementAndGet);
+
+        assertEquals(builds.get(), 2);
+        verify(docker, never()).tag(any(TagParams.class));
+    }
+
+    @Test
+    public void shouldRemoveLeastRecentlyUsedImagesWhenCacheExceedsBudget() throws Exception {
+        when(docker.listImages()).thenReturn(asList(createImage("old", 600 * 1024, 100),
+                                                    createImage("new", 600 * 1024, 200)));
+
+        cache.build("new", "eclipse-che/container1", false, builds::incrementAndGet);
+
+        verify(docker).removeImage(RemoveImageParams.create(CACHE_REPOSITORY + ":old").withForce(false));
+        verify(docker, never()).removeImage(RemoveImageParams.create(CACHE_REPOSITORY + ":new").withForce(false));
+    }
+
+    @Test
+    public void shouldComputeKeyRegardlessOfBuildArgumentsOrder() throws Exception {
+        String key1 = ImageBuildCache.getKey(new CheServiceBuildContextImpl(null,
+                                                                            null,
+                                                                            "FROM codenvy/ubuntu_jdk8",
+                                                                            ImmutableMap.of("a", "1", "b", "2")));
+        String key2 = ImageBuildCache.getKey(new CheServiceBuildContextImpl(null,
+                                                                            null,
+                                                                            "FROM codenvy/ubuntu_jdk8",
+                                                                            ImmutableMap.of("b", "2", "a", "1")));
+        String key3 = ImageBuildCache.getKey(new CheServiceBuildContextImpl(null,
+                                                                            null,
+                                                                            "FROM codenvy/ubuntu_jdk8",
+                                                                            ImmutableMap.of("a", "2", "b", "1")));
+
+        assertEquals(key1, key2);
+        assertNotEquals(key1, key3);
+        assertNull(ImageBuildCache.getKey(new CheServiceBuildContextImpl("http://host/context", null, null, null)));
+    }
+
+    private static Image createImage(String key, long size, long created) {
+        Image image = new Image();
+        image.setRepoTags(new String[] {CACHE_REPOSITORY + ':' + key});
+        image.setSize(size);
+        image.setCreated(created);
+        return image;
+    }
+}
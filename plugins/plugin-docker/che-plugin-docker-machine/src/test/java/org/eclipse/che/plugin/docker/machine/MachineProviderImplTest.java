@@ -1229,7 +1229,8 @@ public class MachineProviderImplTest {
                                            memorySwapMultiplier,
                                            additionalNetworks,
                                            null,
-                                           pathEscaper);
+                                           pathEscaper,
+                                           new ImageBuildCache(dockerConnector, 0, 0, -1));
         }
     }
 }
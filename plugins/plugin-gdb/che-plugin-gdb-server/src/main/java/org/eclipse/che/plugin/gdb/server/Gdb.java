@@ -29,6 +29,7 @@ import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
 import org.eclipse.che.plugin.gdb.server.parser.GdbPType;
 import org.eclipse.che.plugin.gdb.server.parser.GdbPrint;
 import org.eclipse.che.plugin.gdb.server.parser.GdbRun;
+import org.eclipse.che.plugin.gdb.server.parser.GdbStackListVariables;
 import org.eclipse.che.plugin.gdb.server.parser.GdbTargetRemote;
 import org.eclipse.che.plugin.gdb.server.parser.GdbVersion;
 import org.slf4j.Logger;
@@ -38,6 +39,7 @@ import javax.validation.constraints.NotNull;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * GDB.
@@ -49,6 +51,8 @@ public class Gdb extends GdbProcess {
     private static final String PROCESS_NAME     = "gdb";
     private static final String OUTPUT_SEPARATOR = "(gdb) ";
 
+    private final AtomicLong miToken = new AtomicLong();
+
     private GdbVersion gdbVersion;
 
     Gdb() throws IOException {
@@ -270,6 +274,35 @@ public class Gdb extends GdbProcess {
         return GdbInfoProgram.parse(gdbOutput);
     }
 
+    /**
+     * `-stack-list-variables` GDB/MI command. Lists arguments and locals of the current frame with single command.
+     *
+     * @param simpleValues
+     *         if {@code true} types of all variables and values of simple variables only are listed,
+     *         otherwise values of all variables are listed
+     */
+    public GdbStackListVariables stackListVariables(boolean simpleValues) throws IOException,
+                                                                                 InterruptedException,
+                                                                                 DebuggerException {
+        String token = nextMiToken();
+        GdbOutput gdbOutput = sendMiCommand(token, "-stack-list-variables " + (simpleValues ? "--simple-values" : "--all-values"));
+        return GdbStackListVariables.parse(gdbOutput, token);
+    }
+
+    private String nextMiToken() {
+        return String.valueOf(miToken.incrementAndGet());
+    }
+
+    /**
+     * Executes GDB/MI command from the CLI. Result record of the command is prefixed with the token,
+     * so it can be distinguished from the rest of output.
+     */
+    private GdbOutput sendMiCommand(String token, String command) throws IOException,
+                                                                         GdbTerminatedException,
+                                                                         InterruptedException {
+        return sendCommand("interpreter-exec mi \"" + token + command + "\"");
+    }
+
     private GdbOutput sendCommand(String command) throws IOException,
                                                          GdbTerminatedException,
                                                          InterruptedException {
@@ -42,6 +42,7 @@ import org.eclipse.che.plugin.gdb.server.parser.GdbInfoProgram;
 import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
 import org.eclipse.che.plugin.gdb.server.parser.GdbPrint;
 import org.eclipse.che.plugin.gdb.server.parser.GdbRun;
+import org.eclipse.che.plugin.gdb.server.parser.GdbStackListVariables;
 import org.eclipse.che.plugin.gdb.server.parser.GdbVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -427,20 +428,20 @@ public class GdbDebugger implements Debugger {
     @Override
     public StackFrameDump dumpStackFrame() throws DebuggerException {
         try {
-            Map<String, String> locals = gdb.infoLocals().getVariables();
-            locals.putAll(gdb.infoArgs().getVariables());
+            // Types of all variables and values of simple ones are fetched with single command,
+            // values of arrays, structures and unions are fetched with another one only if there are any.
+            GdbStackListVariables simpleVariables = gdb.stackListVariables(true);
+            Map<String, String> values = simpleVariables.getValues();
+            Map<String, String> types = simpleVariables.getTypes();
+            if (values.size() < types.size()) {
+                values = gdb.stackListVariables(false).getValues();
+            }
 
-            List<Variable> variables = new ArrayList<>(locals.size());
-            for (Map.Entry<String, String> e : locals.entrySet()) {
+            List<Variable> variables = new ArrayList<>(values.size());
+            for (Map.Entry<String, String> e : values.entrySet()) {
                 String varName = e.getKey();
                 String varValue = e.getValue();
-                String varType;
-                try {
-                    varType = gdb.ptype(varName).getType();
-                } catch (GdbParseException pe) {
-                    LOG.warn(pe.getMessage(), pe);
-                    varType = "";
-                }
+                String varType = types.getOrDefault(varName, "");
 
                 VariablePath variablePath = new VariablePathImpl(singletonList(varName));
                 VariableImpl variable = new VariableImpl(varType, varName, varValue, true, variablePath, Collections.emptyList(), true);
@@ -451,7 +452,7 @@ public class GdbDebugger implements Debugger {
         } catch (GdbTerminatedException e) {
             disconnect();
             throw e;
-        } catch (IOException | GdbParseException | InterruptedException e) {
+        } catch (IOException | GdbException | InterruptedException e) {
             throw new DebuggerException("Can't dump stack frame. " + e.getMessage(), e);
         }
     }
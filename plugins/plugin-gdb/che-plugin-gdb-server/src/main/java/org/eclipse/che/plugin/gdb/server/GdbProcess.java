@@ -10,18 +10,19 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.gdb.server;
 
-import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.plugin.gdb.server.parser.GdbMiRecord;
 import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-
-import static java.lang.Math.min;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * @author Anatoliy Bazko
@@ -29,7 +30,10 @@ import static java.lang.Math.min;
 public abstract class GdbProcess {
     private static final Logger LOG          = LoggerFactory.getLogger(GdbProcess.class);
     private static final int    MAX_CAPACITY = 1000;
-    private static final int    MAX_OUTPUT   = 4096;
+    private static final int    MAX_OUTPUT   = 64 * 1024;
+    private static final int    READ_BUFFER  = 4096;
+
+    private static final Pattern MI_RESULT_RECORD = Pattern.compile("^(\\d*)\\^");
 
     protected final Process                  process;
     protected final String                   outputSeparator;
@@ -41,6 +45,8 @@ public abstract class GdbProcess {
         this.outputs = new ArrayBlockingQueue<>(MAX_CAPACITY);
 
         ProcessBuilder processBuilder = new ProcessBuilder(commands);
+        // errors are read in the same order they are printed together with the rest of output
+        processBuilder.redirectErrorStream(true);
         process = processBuilder.start();
 
         outputReader = new OutputReader(commands[0] + " output reader");
@@ -59,6 +65,7 @@ public abstract class GdbProcess {
 
     /**
      * Continuously reads process output and store in the {@code #outputs}.
+     * Reading blocks until process prints something, so output is available as soon as it is printed.
      */
     private class OutputReader extends Thread {
 
@@ -69,46 +76,38 @@ public abstract class GdbProcess {
         @Override
         public void run() {
             StringBuilder buf = new StringBuilder();
-
-            while (!isInterrupted()) {
-                if (!process.isAlive()) {
-                    outputs.add(GdbOutput.of(buf.toString(), true));
-                    break;
-                }
-
-                try {
-                    InputStream in = getInput();
-                    if (in != null) {
-                        String data = read(in);
-                        if (!data.isEmpty()) {
-                            buf.append(data);
-                            if (buf.length() > MAX_OUTPUT) {
-                                buf.delete(0, buf.length() - MAX_OUTPUT);
-                            }
+            char[] chars = new char[READ_BUFFER];
+            // the rest of the record which has been replaced as too large is skipped up to its end
+            boolean skipRecord = false;
+
+            try (Reader in = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)) {
+                int read;
+                while (!isInterrupted() && (read = in.read(chars)) != -1) {
+                    int from = 0;
+                    if (skipRecord) {
+                        while (from < read && chars[from] != '\n') {
+                            from++;
                         }
+                        skipRecord = from == read;
                     }
-                } catch (IOException e) {
-                    LOG.error(e.getMessage(), e);
-                }
-
-                if (buf.length() > 0) {
+                    buf.append(chars, from, read - from);
                     extractOutput(buf);
+                    if (trimOutput(buf, MAX_OUTPUT)) {
+                        skipRecord = true;
+                    }
                 }
-
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    break;
+            } catch (IOException e) {
+                if (!isInterrupted()) {
+                    LOG.error(e.getMessage(), e);
                 }
             }
 
-            LOG.debug(getName() + " has been stopped");
-        }
+            if (!isInterrupted()) {
+                // end of stream, process has been terminated
+                outputs.offer(GdbOutput.of(buf.toString(), true));
+            }
 
-        private InputStream getInput() throws IOException {
-            return hasError() ? process.getErrorStream()
-                              : (hasInput() ? (hasError() ? process.getErrorStream() : process.getInputStream())
-                                            : null);
+            LOG.debug(getName() + " has been stopped");
         }
 
         private void extractOutput(StringBuilder buf) {
@@ -122,23 +121,48 @@ public abstract class GdbProcess {
                 buf.delete(0, indexOf + outputSeparator.length());
             }
         }
+    }
 
-        private boolean hasError() throws IOException {
-            return process.getErrorStream().available() != 0;
+    /**
+     * Limits size of output which isn't terminated by separator yet.
+     * Output consists of records separated by new line, e.g. MI result record {@code 5^done,...}
+     * is preceded by async and stream records. Whole records are dropped starting from the oldest one,
+     * so the most recent records are kept untouched.
+     * <p/>
+     * If the last record alone exceeds the limit and it is MI result record, it is replaced
+     * with error record of the same token, as a cut result can't be parsed, see {@link GdbMiRecord#tooLargeResult(String)}.
+     * The caller must skip the rest of such record. Middle of any other record is cut,
+     * keeping its head, which identifies the record, and its tail, which may contain the beginning of separator.
+     *
+     * @return {@code true} if the last record has been replaced and the rest of it must be skipped
+     */
+    static boolean trimOutput(StringBuilder buf, int maxOutput) {
+        if (buf.length() <= maxOutput) {
+            return false;
         }
 
-        private boolean hasInput() throws IOException {
-            return process.getInputStream().available() != 0;
+        int lastRecord = buf.lastIndexOf("\n") + 1;
+        int dropTo = 0;
+        while (dropTo < lastRecord && buf.length() - dropTo > maxOutput) {
+            dropTo = buf.indexOf("\n", dropTo) + 1;
         }
+        buf.delete(0, dropTo);
 
-        @Nullable
-        private String read(InputStream in) throws IOException {
-            int available = min(in.available(), MAX_OUTPUT);
-            byte[] buf = new byte[available];
-            int read = in.read(buf, 0, available);
+        if (buf.length() <= maxOutput) {
+            return false;
+        }
 
-            return new String(buf, 0, read, StandardCharsets.UTF_8);
+        lastRecord = buf.lastIndexOf("\n") + 1;
+        Matcher matcher = MI_RESULT_RECORD.matcher(buf.substring(lastRecord, Math.min(buf.length(), lastRecord + 32)));
+        if (matcher.find()) {
+            buf.replace(lastRecord, buf.length(), GdbMiRecord.tooLargeResult(matcher.group(1)));
+            return true;
         }
+
+        int head = maxOutput / 2;
+        int tail = maxOutput / 4;
+        buf.delete(head, buf.length() - tail);
+        return false;
     }
 
 }
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GDB/MI result record parser, e.g. {@code 12^done,variables=[{name="i",value="0"}]}.
+ * <p/>
+ * Record is correlated with command by token, so async records and output of the program being debugged,
+ * which may be printed together with the result, are skipped.
+ * Values of results are represented as {@link String} for constants, {@link Map} for tuples
+ * and {@link List} for lists. Names of results in lists are omitted.
+ */
+public class GdbMiRecord {
+
+    /** Message of the error record which replaces result record exceeding the output limit. */
+    public static final String TOO_LARGE_RESULT_MSG = "Result is too large";
+
+    private final String              token;
+    private final String              resultClass;
+    private final Map<String, Object> results;
+
+    public GdbMiRecord(String token, String resultClass, Map<String, Object> results) {
+        this.token = token;
+        this.resultClass = resultClass;
+        this.results = results;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns result class, one of 'done', 'running', 'connected', 'error' or 'exit'.
+     */
+    public String getResultClass() {
+        return resultClass;
+    }
+
+    public boolean isError() {
+        return "error".equals(resultClass);
+    }
+
+    /**
+     * Returns {@code true} if the result has been dropped as it exceeds the output limit.
+     */
+    public boolean isTooLarge() {
+        return isError() && TOO_LARGE_RESULT_MSG.equals(results.get("msg"));
+    }
+
+    /**
+     * Returns error record which replaces result record of the command with the given token
+     * when the result exceeds the output limit.
+     */
+    public static String tooLargeResult(String token) {
+        return token + "^error,msg=\"" + TOO_LARGE_RESULT_MSG + '"';
+    }
+
+    public Map<String, Object> getResults() {
+        return results;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param token
+     *         token of the command the result record is looked up for
+     */
+    public static GdbMiRecord parse(GdbOutput gdbOutput, String token) throws GdbParseException {
+        String output = gdbOutput.getOutput();
+        String prefix = token + '^';
+
+        for (String line : output.split("\n")) {
+            line = line.trim();
+            if (line.startsWith(prefix)) {
+                Parser parser = new Parser(line, prefix.length());
+                String resultClass = parser.readName();
+                Map<String, Object> results = new LinkedHashMap<>();
+                while (parser.skip(',')) {
+                    parser.readResult(results);
+                }
+                if (!parser.isEnd()) {
+                    throw new GdbParseException(GdbMiRecord.class, output);
+                }
+                return new GdbMiRecord(token, resultClass, results);
+            }
+        }
+
+        throw new GdbParseException(GdbMiRecord.class, output);
+    }
+
+    /**
+     * Recursive descent parser of GDB/MI output syntax.
+     */
+    private static class Parser {
+        private final String line;
+        private       int    pos;
+
+        private Parser(String line, int pos) {
+            this.line = line;
+            this.pos = pos;
+        }
+
+        private boolean isEnd() {
+            return pos >= line.length();
+        }
+
+        private boolean skip(char c) {
+            if (!isEnd() && line.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) throws GdbParseException {
+            if (!skip(c)) {
+                throw new GdbParseException(GdbMiRecord.class, line);
+            }
+        }
+
+        private String readName() {
+            int start = pos;
+            while (!isEnd() && line.charAt(pos) != '=' && line.charAt(pos) != ',') {
+                pos++;
+            }
+            return line.substring(start, pos);
+        }
+
+        private void readResult(Map<String, Object> results) throws GdbParseException {
+            String name = readName();
+            expect('=');
+            results.put(name, readValue());
+        }
+
+        private Object readValue() throws GdbParseException {
+            if (skip('"')) {
+                return readString();
+            }
+            if (skip('{')) {
+                Map<String, Object> tuple = new LinkedHashMap<>();
+                if (!skip('}')) {
+                    do {
+                        readResult(tuple);
+                    } while (skip(','));
+                    expect('}');
+                }
+                return tuple;
+            }
+            if (skip('[')) {
+                List<Object> list = new ArrayList<>();
+                if (!skip(']')) {
+                    do {
+                        list.add(readListItem());
+                    } while (skip(','));
+                    expect(']');
+                }
+                return list;
+            }
+            throw new GdbParseException(GdbMiRecord.class, line);
+        }
+
+        private Object readListItem() throws GdbParseException {
+            char c = isEnd() ? 0 : line.charAt(pos);
+            if (c == '"' || c == '{' || c == '[') {
+                return readValue();
+            }
+            // list of results, e.g. bkpt={...},bkpt={...}
+            Map<String, Object> result = new LinkedHashMap<>();
+            readResult(result);
+            return result.values().iterator().next();
+        }
+
+        private String readString() throws GdbParseException {
+            StringBuilder value = new StringBuilder();
+            while (!isEnd()) {
+                char c = line.charAt(pos++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c == '\\' && !isEnd()) {
+                    char escaped = line.charAt(pos++);
+                    switch (escaped) {
+                        case 'n':
+                            value.append('\n');
+                            break;
+                        case 't':
+                            value.append('\t');
+                            break;
+                        case 'r':
+                            value.append('\r');
+                            break;
+                        default:
+                            if (escaped >= '0' && escaped <= '7') {
+                                // octal escape of non printable character, e.g. \000
+                                int end = pos;
+                                while (end < line.length() && end < pos + 2 && line.charAt(end) >= '0' && line.charAt(end) <= '7') {
+                                    end++;
+                                }
+                                value.append((char)Integer.parseInt(line.substring(pos - 1, end), 8));
+                                pos = end;
+                            } else {
+                                value.append(escaped);
+                            }
+                    }
+                } else {
+                    value.append(c);
+                }
+            }
+            throw new GdbParseException(GdbMiRecord.class, line);
+        }
+    }
+}
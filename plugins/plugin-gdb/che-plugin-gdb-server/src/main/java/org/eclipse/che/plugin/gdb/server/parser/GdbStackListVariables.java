@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * '-stack-list-variables' GDB/MI command parser. Lists arguments and locals of the current frame.
+ */
+public class GdbStackListVariables {
+
+    private final Map<String, String> values;
+    private final Map<String, String> types;
+
+    public GdbStackListVariables(Map<String, String> values, Map<String, String> types) {
+        this.values = values;
+        this.types = types;
+    }
+
+    /**
+     * Returns values of variables, with '--simple-values' option values of arrays, structures and unions are omitted.
+     */
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    /**
+     * Returns types of variables, types are present only with '--simple-values' option.
+     */
+    public Map<String, String> getTypes() {
+        return types;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @throws GdbException
+     *         if variables of the frame exceed the output limit
+     */
+    @SuppressWarnings("unchecked")
+    public static GdbStackListVariables parse(GdbOutput gdbOutput, String token) throws GdbException {
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput, token);
+        if (record.isTooLarge()) {
+            throw new GdbException("Frame is too large, its variables exceed the output limit");
+        }
+        Object variables = record.getResults().get("variables");
+        if (record.isError() || !(variables instanceof List)) {
+            throw new GdbParseException(GdbStackListVariables.class, gdbOutput.getOutput());
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> types = new LinkedHashMap<>();
+        for (Object item : (List<Object>)variables) {
+            if (!(item instanceof Map)) {
+                throw new GdbParseException(GdbStackListVariables.class, gdbOutput.getOutput());
+            }
+
+            Map<String, Object> variable = (Map<String, Object>)item;
+            String name = (String)variable.get("name");
+            if (name == null) {
+                throw new GdbParseException(GdbStackListVariables.class, gdbOutput.getOutput());
+            }
+            if (variable.get("value") instanceof String) {
+                values.put(name, (String)variable.get("value"));
+            }
+            if (variable.get("type") instanceof String) {
+                types.put(name, (String)variable.get("type"));
+            }
+        }
+
+        return new GdbStackListVariables(values, types);
+    }
+}
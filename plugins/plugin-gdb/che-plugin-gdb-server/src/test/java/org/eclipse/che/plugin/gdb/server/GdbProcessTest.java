@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server;
+
+import org.eclipse.che.plugin.gdb.server.parser.GdbMiRecord;
+import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for output trimming of {@link GdbProcess}
+ */
+public class GdbProcessTest {
+
+    @Test
+    public void shouldNotTrimShortOutput() throws Exception {
+        StringBuilder buf = new StringBuilder("~\"text\"\n5^done\n");
+
+        GdbProcess.trimOutput(buf, 100);
+
+        assertEquals(buf.toString(), "~\"text\"\n5^done\n");
+    }
+
+    @Test
+    public void shouldDropOldestWholeRecords() throws Exception {
+        StringBuilder buf = new StringBuilder("~\"first record\"\n~\"second record\"\n5^done,value=\"1\"\n");
+
+        GdbProcess.trimOutput(buf, 40);
+
+        assertEquals(buf.toString(), "~\"second record\"\n5^done,value=\"1\"\n");
+    }
+
+    @Test
+    public void shouldReplaceTooLargeResultRecordWithError() throws Exception {
+        StringBuilder buf = new StringBuilder("~\"stream\"\n5^done,variables=[");
+        for (int i = 0; i < 100; i++) {
+            buf.append("{name=\"v").append(i).append("\"},");
+        }
+
+        boolean skipRecord = GdbProcess.trimOutput(buf, 200);
+
+        assertTrue(skipRecord);
+        assertEquals(buf.toString(), GdbMiRecord.tooLargeResult("5"));
+        assertTrue(GdbMiRecord.parse(GdbOutput.of(buf.toString()), "5").isTooLarge());
+    }
+
+    @Test
+    public void shouldKeepHeadAndTailOfLongStreamRecord() throws Exception {
+        StringBuilder buf = new StringBuilder("~\"");
+        for (int i = 0; i < 100; i++) {
+            buf.append("line ").append(i).append(' ');
+        }
+        buf.append("last\"");
+
+        boolean skipRecord = GdbProcess.trimOutput(buf, 200);
+
+        assertFalse(skipRecord);
+        assertTrue(buf.length() <= 200);
+        assertTrue(buf.toString().startsWith("~\"line 0 "), buf.toString());
+        assertTrue(buf.toString().endsWith("last\""), buf.toString());
+    }
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class GdbMiRecordTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testParse() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("=thread-group-added,id=\"i1\"\n" +
+                                           "3^done,bkpt={number=\"1\",file=\"h.cpp\",line=\"7\"},list=[\"a\",\"b\"],empty=[]\n");
+
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput, "3");
+
+        assertEquals(record.getResultClass(), "done");
+        Map<String, Object> bkpt = (Map<String, Object>)record.getResults().get("bkpt");
+        assertEquals(bkpt.get("number"), "1");
+        assertEquals(bkpt.get("file"), "h.cpp");
+        assertEquals(bkpt.get("line"), "7");
+        assertEquals(record.getResults().get("list"), asList("a", "b"));
+        assertTrue(((List<Object>)record.getResults().get("empty")).isEmpty());
+    }
+
+    @Test
+    public void testParseEscapedString() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("5^done,value=\"0x400 \\\"hello\\\\n\\\"\"");
+
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput, "5");
+
+        assertEquals(record.getResults().get("value"), "0x400 \"hello\\n\"");
+    }
+
+    @Test
+    public void testParseError() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("7^error,msg=\"No frame selected.\"");
+
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput, "7");
+
+        assertTrue(record.isError());
+        assertEquals(record.getResults().get("msg"), "No frame selected.");
+    }
+
+    @Test(expectedExceptions = GdbParseException.class)
+    public void testParseFailIfTokenNotMatched() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("1^done,value=\"1\"");
+
+        GdbMiRecord.parse(gdbOutput, "2");
+    }
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+public class GdbStackListVariablesTest {
+
+    @Test
+    public void testParse() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("1^done,variables=[{name=\"argc\",arg=\"1\",type=\"int\",value=\"1\"}," +
+                                           "{name=\"i\",type=\"int\",value=\"0\"}," +
+                                           "{name=\"arr\",type=\"int [3]\"}]");
+
+        GdbStackListVariables gdbStackListVariables = GdbStackListVariables.parse(gdbOutput, "1");
+
+        assertEquals(gdbStackListVariables.getValues().get("argc"), "1");
+        assertEquals(gdbStackListVariables.getValues().get("i"), "0");
+        assertFalse(gdbStackListVariables.getValues().containsKey("arr"));
+        assertEquals(gdbStackListVariables.getTypes().get("i"), "int");
+        assertEquals(gdbStackListVariables.getTypes().get("arr"), "int [3]");
+    }
+
+    @Test(expectedExceptions = GdbParseException.class)
+    public void testParseFail() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("1^error,msg=\"No frame selected.\"");
+
+        GdbStackListVariables.parse(gdbOutput, "1");
+    }
+
+    @Test(expectedExceptions = GdbException.class, expectedExceptionsMessageRegExp = "Frame is too large.*")
+    public void testParseTooLargeFrame() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("~\"stream\"\n" + GdbMiRecord.tooLargeResult("1"));
+
+        GdbStackListVariables.parse(gdbOutput, "1");
+    }
+}
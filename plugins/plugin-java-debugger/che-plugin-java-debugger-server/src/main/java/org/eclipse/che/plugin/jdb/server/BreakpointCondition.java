@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import org.eclipse.che.plugin.jdb.server.expression.EvaluationCache;
+import org.eclipse.che.plugin.jdb.server.expression.ExpressionParser;
+
+/**
+ * Condition of breakpoint which is checked by debugger when breakpoint is hit, without suspending the target
+ * until condition is satisfied. Expression of the condition is parsed once and names resolved
+ * while it is evaluated are kept for the next hits of the same breakpoint.
+ */
+public class BreakpointCondition {
+    private final ExpressionParser parser;
+    private final EvaluationCache  evaluationCache;
+    private final int              hitCount;
+    private       int              hits;
+
+    /**
+     * @param expression
+     *         boolean expression, may be <code>null</code> if breakpoint has hit count only
+     * @param hitCount
+     *         number of hits which satisfy the expression after which breakpoint suspends the target,
+     *         <code>0</code> if breakpoint suspends the target each time when the expression is satisfied
+     */
+    public BreakpointCondition(String expression, int hitCount) {
+        this.parser = expression == null || expression.isEmpty() ? null : ExpressionParser.newInstance(expression);
+        this.evaluationCache = new EvaluationCache();
+        this.hitCount = hitCount;
+    }
+
+    /** Returns parsed expression or <code>null</code> if condition has no expression. */
+    public ExpressionParser getParser() {
+        return parser;
+    }
+
+    public EvaluationCache getEvaluationCache() {
+        return evaluationCache;
+    }
+
+    public String getExpression() {
+        return parser == null ? null : parser.getExpression();
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Counts hit of breakpoint which satisfies the expression.
+     *
+     * @return <code>true</code> if the target should be suspended
+     */
+    public synchronized boolean hit() {
+        if (hitCount <= 0) {
+            return true;
+        }
+        // Like JDI count filter, breakpoint suspends the target only once.
+        return ++hits == hitCount;
+    }
+
+    /** Marks breakpoint with hit count as expired when hits are counted by the target VM. */
+    public synchronized void expire() {
+        hits = hitCount;
+    }
+
+    /** Returns <code>true</code> if breakpoint with hit count already suspended the target and never does it again. */
+    public synchronized boolean isExpired() {
+        return hitCount > 0 && hits >= hitCount;
+    }
+}
@@ -57,6 +57,7 @@ import org.eclipse.che.api.debug.shared.model.impl.event.SuspendEventImpl;
 import org.eclipse.che.api.debugger.server.Debugger;
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 import org.eclipse.che.plugin.jdb.server.exceptions.DebuggerAbsentInformationException;
+import org.eclipse.che.plugin.jdb.server.expression.EvaluationCache;
 import org.eclipse.che.plugin.jdb.server.expression.Evaluator;
 import org.eclipse.che.plugin.jdb.server.expression.ExpressionException;
 import org.eclipse.che.plugin.jdb.server.expression.ExpressionParser;
@@ -93,6 +94,9 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private static final Logger            LOG          = LoggerFactory.getLogger(JavaDebugger.class);
     private static final JavaDebuggerUtils debuggerUtil = new JavaDebuggerUtils();
 
+    /** Property of breakpoint request which keeps {@link BreakpointCondition} of breakpoint. */
+    private static final String CONDITION_PROPERTY = "org.eclipse.che.ide.java.debug.condition";
+
     private final String           host;
     private final int              port;
     private final DebuggerCallback debuggerCallback;
@@ -112,7 +116,10 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
     /** Current thread. Not <code>null</code> is thread suspended, e.g breakpoint reached. */
     private ThreadReference thread;
-    /** Current stack frame. Not <code>null</code> is thread suspended, e.g breakpoint reached. */
+    /**
+     * Current stack frame. Not <code>null</code> is thread suspended, e.g breakpoint reached.
+     * Frame keeps values fetched from target VM, so it is reset each time when thread is resumed.
+     */
     private JdiStackFrame   stackFrame;
     /** Lock for synchronization debug processes. */
     private Lock lock = new ReentrantLock();
@@ -250,9 +257,14 @@ public class JavaDebugger implements EventsHandler, Debugger {
             EventRequest breakPointRequest = requestManager.createBreakpointRequest(location);
             breakPointRequest.setSuspendPolicy(EventRequest.SUSPEND_ALL);
             String expression = breakpoint.getCondition();
+            int hitCount = breakpoint.getHitCount();
             if (!(expression == null || expression.isEmpty())) {
-                ExpressionParser parser = ExpressionParser.newInstance(expression);
-                breakPointRequest.putProperty("org.eclipse.che.ide.java.debug.condition.expression.parser", parser);
+                // Condition is evaluated on each hit, so hits are counted by debugger.
+                breakPointRequest.putProperty(CONDITION_PROPERTY, new BreakpointCondition(expression, hitCount));
+            } else if (hitCount > 0) {
+                // Hits are counted by the target VM, it doesn't send events to debugger until hit count is reached.
+                breakPointRequest.addCountFilter(hitCount);
+                breakPointRequest.putProperty(CONDITION_PROPERTY, new BreakpointCondition(null, hitCount));
             }
             breakPointRequest.setEnabled(true);
         } catch (NativeMethodException | IllegalThreadStateException | InvalidRequestStateException e) {
@@ -309,8 +321,13 @@ public class JavaDebugger implements EventsHandler, Debugger {
         List<Breakpoint> breakPoints = new ArrayList<>(breakpointRequests.size());
         for (BreakpointRequest breakpointRequest : breakpointRequests) {
             com.sun.jdi.Location location = breakpointRequest.location();
-            // Breakpoint always enabled at the moment. Managing states of breakpoint is not supported for now.
-            breakPoints.add(newDto(BreakpointDto.class).withEnabled(true)
+            BreakpointCondition condition = (BreakpointCondition)breakpointRequest.getProperty(CONDITION_PROPERTY);
+            // Breakpoint with hit count is disabled once it suspended the target.
+            // Managing states of other breakpoints is not supported for now.
+            boolean enabled = breakpointRequest.isEnabled() && (condition == null || !condition.isExpired());
+            breakPoints.add(newDto(BreakpointDto.class).withEnabled(enabled)
+                                                       .withCondition(condition == null ? null : condition.getExpression())
+                                                       .withHitCount(condition == null ? 0 : condition.getHitCount())
                                                        .withLocation(newDto(LocationDto.class).withTarget(location.declaringType().name())
                                                                                               .withLineNumber(location.lineNumber())));
         }
@@ -555,15 +572,21 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
     private boolean processBreakPointEvent(com.sun.jdi.event.BreakpointEvent event) throws DebuggerException {
         setCurrentThread(event.thread());
-        boolean hitBreakpoint;
-        ExpressionParser parser =
-                (ExpressionParser)event.request().getProperty("org.eclipse.che.ide.java.debug.condition.expression.parser");
-        if (parser != null) {
-            com.sun.jdi.Value result = evaluate(parser);
-            hitBreakpoint = result instanceof com.sun.jdi.BooleanValue && ((com.sun.jdi.BooleanValue)result).value();
-        } else {
-            // If there is no expression.
-            hitBreakpoint = true;
+        boolean hitBreakpoint = true;
+        BreakpointCondition condition = (BreakpointCondition)event.request().getProperty(CONDITION_PROPERTY);
+        // If there is no expression hits are counted by the target VM, see addBreakpoint.
+        if (condition != null && condition.getParser() != null) {
+            com.sun.jdi.Value result = evaluate(condition.getParser(), condition.getEvaluationCache());
+            hitBreakpoint = result instanceof com.sun.jdi.BooleanValue
+                            && ((com.sun.jdi.BooleanValue)result).value()
+                            && condition.hit();
+            if (condition.isExpired()) {
+                // Stop evaluating condition in the same way as the target VM expires request with count filter.
+                event.request().disable();
+            }
+        } else if (condition != null) {
+            // The target VM sends event only when hit count is reached and never sends it again.
+            condition.expire();
         }
 
         if (hitBreakpoint) {
@@ -657,14 +680,14 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
     @Override
     public String evaluate(String expression) throws DebuggerException {
-        com.sun.jdi.Value result = evaluate(ExpressionParser.newInstance(expression));
+        com.sun.jdi.Value result = evaluate(ExpressionParser.newInstance(expression), new EvaluationCache());
         return result == null ? "null" : result.toString();
     }
 
-    private com.sun.jdi.Value evaluate(ExpressionParser parser) throws DebuggerException {
+    private com.sun.jdi.Value evaluate(ExpressionParser parser, EvaluationCache cache) throws DebuggerException {
         final long startTime = System.currentTimeMillis();
         try {
-            return parser.evaluate(new Evaluator(vm, getCurrentThread()));
+            return parser.evaluate(new Evaluator(vm, getCurrentThread(), cache));
         } catch (ExpressionException e) {
             throw new DebuggerException(e.getMessage());
         } finally {
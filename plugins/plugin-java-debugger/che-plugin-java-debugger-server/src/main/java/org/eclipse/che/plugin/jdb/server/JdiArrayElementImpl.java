@@ -19,6 +19,7 @@ public class JdiArrayElementImpl implements JdiArrayElement {
     private final int    index;
     private final Value  value;
     private final String name;
+    private       JdiValue jdiValue;
 
     public JdiArrayElementImpl(int index, Value value) {
         this.index = index;
@@ -48,10 +49,10 @@ public class JdiArrayElementImpl implements JdiArrayElement {
 
     @Override
     public JdiValue getValue() {
-        if (value == null) {
-            return new JdiNullValue();
+        if (jdiValue == null) {
+            jdiValue = JdiValueImpl.of(value);
         }
-        return new JdiValueImpl(value);
+        return jdiValue;
     }
 
     @Override
@@ -20,12 +20,22 @@ import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 public class JdiLocalVariableImpl implements JdiLocalVariable {
     private final LocalVariable variable;
     private final StackFrame    stackFrame;
+    private       JdiValue      value;
 
     public JdiLocalVariableImpl(StackFrame stackFrame, LocalVariable variable) {
         this.stackFrame = stackFrame;
         this.variable = variable;
     }
 
+    /**
+     * Creates local variable with value which is already fetched from target VM,
+     * e.g. with {@link StackFrame#getValues(java.util.List)} together with values of other variables.
+     */
+    public JdiLocalVariableImpl(StackFrame stackFrame, LocalVariable variable, Value value) {
+        this(stackFrame, variable);
+        this.value = JdiValueImpl.of(value);
+    }
+
     @Override
     public String getName() {
         return variable.name();
@@ -43,11 +53,10 @@ public class JdiLocalVariableImpl implements JdiLocalVariable {
 
     @Override
     public JdiValue getValue() {
-        Value value = stackFrame.getValue(variable);
         if (value == null) {
-            return new JdiNullValue();
+            value = JdiValueImpl.of(stackFrame.getValue(variable));
         }
-        return new JdiValueImpl(value);
+        return value;
     }
 
     @Override
@@ -21,11 +21,13 @@ import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /** @author andrew00x */
 public class JdiValueImpl implements JdiValue {
     private final Value         value;
     private       JdiVariable[] variables;
+    private       String        asString;
 
     public JdiValueImpl(Value value) {
         if (value == null) {
@@ -34,9 +36,21 @@ public class JdiValueImpl implements JdiValue {
         this.value = value;
     }
 
+    /** Wraps value fetched from target VM, <code>null</code> value is wrapped with {@link JdiNullValue}. */
+    static JdiValue of(Value value) {
+        if (value == null) {
+            return new JdiNullValue();
+        }
+        return new JdiValueImpl(value);
+    }
+
     @Override
     public String getAsString() {
-        return value.toString();
+        // Rendering of some values, e.g. strings, requires request to target VM.
+        if (asString == null) {
+            asString = value.toString();
+        }
+        return asString;
     }
 
     @Override
@@ -47,19 +61,22 @@ public class JdiValueImpl implements JdiValue {
             } else {
                 if (isArray()) {
                     ArrayReference array = (ArrayReference)value;
-                    int length = array.length();
-                    variables = new JdiVariable[length];
-                    for (int i = 0; i < length; i++) {
-                        variables[i] = new JdiArrayElementImpl(i, array.getValue(i));
+                    // Fetch all elements with single request.
+                    List<Value> values = array.getValues();
+                    variables = new JdiVariable[values.size()];
+                    for (int i = 0; i < variables.length; i++) {
+                        variables[i] = new JdiArrayElementImpl(i, values.get(i));
                     }
                 } else {
                     ObjectReference object = (ObjectReference)value;
                     ReferenceType type = object.referenceType();
                     List<Field> fields = type.allFields();
+                    // Fetch values of all fields with single request.
+                    Map<Field, Value> values = object.getValues(fields);
                     variables = new JdiVariable[fields.size()];
                     int i = 0;
                     for (Field f : fields) {
-                        variables[i++] = new JdiFieldImpl(f, object);
+                        variables[i++] = new JdiFieldImpl(f, object, values.get(f));
                     }
                     // See JdiFieldImpl#compareTo(JdiFieldImpl).
                     Arrays.sort(variables);
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.LocalVariable;
+import com.sun.jdi.Location;
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps names resolved by {@link Evaluator}, so expression which is evaluated many times,
+ * e.g. condition of breakpoint, resolves its variables, fields and methods only once.
+ * <p/>
+ * Local variables are cached per location, fields and methods per type, so the same cache
+ * may be safely used for evaluation of expression in different locations.
+ */
+public class EvaluationCache {
+    private final Map<Key<Location>, LocalVariable>     localVariables = new ConcurrentHashMap<>();
+    private final Map<Key<ReferenceType>, Field>        fields         = new ConcurrentHashMap<>();
+    private final Map<Key<ReferenceType>, List<Method>> methods        = new ConcurrentHashMap<>();
+
+    LocalVariable getLocalVariable(Location location, String name, Function<String, LocalVariable> resolver) {
+        return get(localVariables, new Key<>(location, name), resolver);
+    }
+
+    Field getField(ReferenceType type, String name, Function<String, Field> resolver) {
+        return get(fields, new Key<>(type, name), resolver);
+    }
+
+    List<Method> getMethods(ReferenceType type, String name, Function<String, List<Method>> resolver) {
+        return get(methods, new Key<>(type, name), resolver);
+    }
+
+    private static <K, V> V get(Map<Key<K>, V> cache, Key<K> key, Function<String, V> resolver) {
+        V value = cache.get(key);
+        if (value == null) {
+            // Names which can't be resolved aren't cached, evaluation of such expression fails anyway.
+            value = resolver.apply(key.name);
+            if (value != null) {
+                cache.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    private static final class Key<T> {
+        private final T      scope;
+        private final String name;
+
+        private Key(T scope, String name) {
+            this.scope = scope;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key<?> that = (Key<?>)o;
+            return Objects.equals(scope, that.scope) && Objects.equals(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, name);
+        }
+    }
+}
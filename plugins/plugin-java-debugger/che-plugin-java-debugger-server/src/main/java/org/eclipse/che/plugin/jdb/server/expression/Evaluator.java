@@ -69,10 +69,24 @@ public class Evaluator {
 
     private final VirtualMachine  vm;
     private final ThreadReference thread;
+    private final EvaluationCache cache;
+    /** Top frame of thread. Frame is fetched once and reset when thread is resumed to invoke method. */
+    private       StackFrame      frame;
 
     public Evaluator(VirtualMachine vm, ThreadReference thread) {
+        this(vm, thread, new EvaluationCache());
+    }
+
+    /**
+     * Creates evaluator which uses names resolved by previous evaluations.
+     *
+     * @param cache
+     *         resolved names, usually the cache is shared between all evaluations of the same expression
+     */
+    public Evaluator(VirtualMachine vm, ThreadReference thread, EvaluationCache cache) {
         this.vm = vm;
         this.thread = thread;
+        this.cache = cache;
     }
 
     private static boolean isPrimitive(Type type) {
@@ -83,6 +97,13 @@ public class Evaluator {
         return thread;
     }
 
+    private StackFrame getFrame() throws IncompatibleThreadStateException {
+        if (frame == null) {
+            frame = thread.frame(0);
+        }
+        return frame;
+    }
+
     public ExpressionValue booleanValue(String text) {
         return value(Boolean.parseBoolean(text));
     }
@@ -228,7 +249,7 @@ public class Evaluator {
 
     public ExpressionValue getThisObject() {
         try {
-            return new ReadOnlyValue(thread.frame(0).thisObject());
+            return new ReadOnlyValue(getFrame().thisObject());
         } catch (IncompatibleThreadStateException e) {
             throw new ExpressionException(e.getMessage(), e);
         }
@@ -241,7 +262,7 @@ public class Evaluator {
         ExpressionValue value = null;
         try {
             ObjectReference object = (ObjectReference)parent;
-            Field field = object.referenceType().fieldByName(name);
+            Field field = cache.getField(object.referenceType(), name, object.referenceType()::fieldByName);
             if (field != null) {
                 value = new InstanceValue(object, field);
             }
@@ -255,12 +276,18 @@ public class Evaluator {
     public ExpressionValue getLocalVariable(String text) {
         ExpressionValue value = null;
         try {
-            StackFrame frame = thread.frame(0);
-            LocalVariable var = frame.visibleVariableByName(text);
+            StackFrame frame = getFrame();
+            LocalVariable var = cache.getLocalVariable(frame.location(), text, name -> {
+                try {
+                    return frame.visibleVariableByName(name);
+                } catch (AbsentInformationException e) {
+                    throw new ExpressionException(e.getMessage(), e);
+                }
+            });
             if (var != null) {
-                value = new LocalValue(thread, var);
+                value = new LocalValue(thread, frame, var);
             }
-        } catch (IncompatibleThreadStateException | AbsentInformationException | InvalidStackFrameException | NativeMethodException e) {
+        } catch (IncompatibleThreadStateException | InvalidStackFrameException | NativeMethodException e) {
             throw new ExpressionException(e.getMessage(), e);
         }
         LOG.debug("GET local variable {} {} ", text, value);
@@ -391,7 +418,7 @@ public class Evaluator {
         }
         ObjectReference object = (ObjectReference)value;
         ReferenceType type = object.referenceType();
-        List<Method> methods = type.methodsByName(name);
+        List<Method> methods = cache.getMethods(type, name, type::methodsByName);
         Method method = findMethod(methods, arguments);
         if (method == null) {
             throw new ExpressionException("No method with name " + name + " matched to specified arguments for " + type.name());
@@ -400,6 +427,9 @@ public class Evaluator {
             return new ReadOnlyValue(object.invokeMethod(thread, method, arguments, 0));
         } catch (InvalidTypeException | ClassNotLoadedException | IncompatibleThreadStateException | InvocationException e) {
             throw new ExpressionException(e.getMessage(), e);
+        } finally {
+            // Thread is resumed while method is invoked, so frame isn't valid any more.
+            frame = null;
         }
     }
 
@@ -15,6 +15,7 @@ import com.sun.jdi.IncompatibleThreadStateException;
 import com.sun.jdi.InvalidStackFrameException;
 import com.sun.jdi.InvalidTypeException;
 import com.sun.jdi.LocalVariable;
+import com.sun.jdi.StackFrame;
 import com.sun.jdi.ThreadReference;
 import com.sun.jdi.Value;
 
@@ -22,10 +23,21 @@ import com.sun.jdi.Value;
 public class LocalValue implements ExpressionValue {
     private final ThreadReference thread;
     private final LocalVariable   variable;
+    private       StackFrame      frame;
     private       Value           value;
 
     public LocalValue(ThreadReference thread, LocalVariable variable) {
+        this(thread, null, variable);
+    }
+
+    /**
+     * @param frame
+     *         frame which is already fetched from target VM, it is used while it is valid,
+     *         may be <code>null</code>
+     */
+    public LocalValue(ThreadReference thread, StackFrame frame, LocalVariable variable) {
         this.thread = thread;
+        this.frame = frame;
         this.variable = variable;
     }
 
@@ -33,8 +45,12 @@ public class LocalValue implements ExpressionValue {
     public Value getValue() {
         if (value == null) {
             try {
-                value = thread.frame(0).getValue(variable);
-            } catch (IncompatibleThreadStateException | IllegalArgumentException | InvalidStackFrameException e) {
+                value = getFrame().getValue(variable);
+            } catch (InvalidStackFrameException e) {
+                // Frame is invalidated when thread is resumed, e.g. to invoke method.
+                frame = null;
+                value = getFrame().getValue(variable);
+            } catch (IllegalArgumentException e) {
                 throw new ExpressionException(e.getMessage(), e);
             }
         }
@@ -44,10 +60,28 @@ public class LocalValue implements ExpressionValue {
     @Override
     public void setValue(Value value) {
         try {
-            thread.frame(0).setValue(variable, value);
-        } catch (IncompatibleThreadStateException | InvalidTypeException | ClassNotLoadedException e) {
+            getFrame().setValue(variable, value);
+        } catch (InvalidStackFrameException e) {
+            frame = null;
+            try {
+                getFrame().setValue(variable, value);
+            } catch (InvalidTypeException | ClassNotLoadedException ex) {
+                throw new ExpressionException(ex.getMessage(), ex);
+            }
+        } catch (InvalidTypeException | ClassNotLoadedException e) {
             throw new ExpressionException(e.getMessage(), e);
         }
         this.value = value;
     }
+
+    private StackFrame getFrame() {
+        if (frame == null) {
+            try {
+                frame = thread.frame(0);
+            } catch (IncompatibleThreadStateException e) {
+                throw new ExpressionException(e.getMessage(), e);
+            }
+        }
+        return frame;
+    }
 }
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for {@link BreakpointCondition}
+ */
+public class BreakpointConditionTest {
+
+    @Test
+    public void shouldSuspendOnEachHitWithoutHitCount() throws Exception {
+        BreakpointCondition condition = new BreakpointCondition("i > 1", 0);
+
+        assertTrue(condition.hit());
+        assertTrue(condition.hit());
+        assertFalse(condition.isExpired());
+    }
+
+    @Test
+    public void shouldSuspendOnlyOnceWhenHitCountIsReached() throws Exception {
+        BreakpointCondition condition = new BreakpointCondition("i > 1", 3);
+
+        assertFalse(condition.hit());
+        assertFalse(condition.hit());
+        assertFalse(condition.isExpired());
+        assertTrue(condition.hit());
+        assertTrue(condition.isExpired());
+        assertFalse(condition.hit());
+    }
+
+    @Test
+    public void shouldExpireBreakpointWhichHitsAreCountedByTarget() throws Exception {
+        BreakpointCondition condition = new BreakpointCondition(null, 5);
+
+        condition.expire();
+
+        assertTrue(condition.isExpired());
+    }
+
+    @Test
+    public void shouldNotExpireBreakpointWithoutHitCount() throws Exception {
+        BreakpointCondition condition = new BreakpointCondition("i > 1", 0);
+
+        condition.expire();
+
+        assertFalse(condition.isExpired());
+    }
+
+    @Test
+    public void shouldKeepExpressionOfCondition() throws Exception {
+        BreakpointCondition condition = new BreakpointCondition("i > 1", 0);
+
+        assertEquals(condition.getExpression(), "i > 1");
+        assertEquals(condition.getHitCount(), 0);
+    }
+
+    @Test
+    public void shouldHaveNoParserForEmptyExpression() throws Exception {
+        assertNull(new BreakpointCondition(null, 2).getParser());
+        assertNull(new BreakpointCondition("", 2).getParser());
+        assertNull(new BreakpointCondition("", 2).getExpression());
+    }
+}
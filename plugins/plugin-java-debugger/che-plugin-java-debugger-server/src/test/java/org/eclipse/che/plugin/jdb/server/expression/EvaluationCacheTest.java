@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.LocalVariable;
+import com.sun.jdi.Location;
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test for {@link EvaluationCache}
+ */
+@Listeners(MockitoTestNGListener.class)
+public class EvaluationCacheTest {
+
+    @Mock
+    private Location      location;
+    @Mock
+    private ReferenceType type;
+
+    private EvaluationCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        cache = new EvaluationCache();
+    }
+
+    @Test
+    public void shouldResolveLocalVariableOncePerLocation() throws Exception {
+        LocalVariable variable = mock(LocalVariable.class);
+        CountingResolver<LocalVariable> resolver = new CountingResolver<>(variable);
+
+        assertSame(cache.getLocalVariable(location, "i", resolver), variable);
+        assertSame(cache.getLocalVariable(location, "i", resolver), variable);
+        assertEquals(resolver.calls.get(), 1);
+
+        cache.getLocalVariable(mock(Location.class), "i", resolver);
+        cache.getLocalVariable(location, "j", resolver);
+        assertEquals(resolver.calls.get(), 3);
+    }
+
+    @Test
+    public void shouldResolveFieldsAndMethodsOncePerType() throws Exception {
+        Field field = mock(Field.class);
+        List<Method> methods = Collections.singletonList(mock(Method.class));
+        CountingResolver<Field> fieldResolver = new CountingResolver<>(field);
+        CountingResolver<List<Method>> methodResolver = new CountingResolver<>(methods);
+
+        assertSame(cache.getField(type, "size", fieldResolver), field);
+        assertSame(cache.getField(type, "size", fieldResolver), field);
+        assertSame(cache.getMethods(type, "size", methodResolver), methods);
+        assertSame(cache.getMethods(type, "size", methodResolver), methods);
+
+        assertEquals(fieldResolver.calls.get(), 1);
+        assertEquals(methodResolver.calls.get(), 1);
+    }
+
+    @Test
+    public void shouldNotCacheUnresolvedNames() throws Exception {
+        CountingResolver<Field> resolver = new CountingResolver<>(null);
+
+        assertNull(cache.getField(type, "unknown", resolver));
+        assertNull(cache.getField(type, "unknown", resolver));
+
+        assertEquals(resolver.calls.get(), 2);
+    }
+
+    private static class CountingResolver<T> implements Function<String, T> {
+        private final T             value;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingResolver(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public T apply(String name) {
+            calls.incrementAndGet();
+            return value;
+        }
+    }
+}
@@ -19,92 +19,339 @@ import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IProblemRequestor;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.ToolFactory;
 import org.eclipse.jdt.core.WorkingCopyOwner;
 import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.compiler.IScanner;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.core.ClassFileWorkingCopy;
+import org.eclipse.jdt.internal.core.util.Util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Reconciles java sources opened in the editor.
+ * <p/>
+ * Working copy of each reconciled file is kept between reconcile requests
+ * (up to {@link #MAX_WORKING_COPIES} least recently reconciled files), so only the file content is
+ * updated on each request. When the content differs from the previously reconciled one
+ * only in whitespaces or comments, the previous problems and highlighted positions are shifted
+ * instead of reconciling the file again. The shortcut isn't taken when anything the file may depend on
+ * has changed since its last reconcile: java model (other files, classpath), project options
+ * or other reconciled file.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class JavaReconciler {
     private static final Logger LOG = LoggerFactory.getLogger(JavaReconciler.class);
 
+    private static final int MAX_WORKING_COPIES = 20;
 
     private SemanticHighlightingReconciler semanticHighlighting;
 
+    /**
+     * Reconcile states by compilation unit path, in the order of access.
+     */
+    private final Map<String, ReconcileState> states;
+
+    /**
+     * Incremented on every change which may affect reconcile result of other files.
+     */
+    private final AtomicLong              dependencyStamp;
+    private final IElementChangedListener javaModelListener;
+
     @Inject
     public JavaReconciler(SemanticHighlightingReconciler semanticHighlighting) {
         this.semanticHighlighting = semanticHighlighting;
+        this.states = new LinkedHashMap<>(16, 0.75f, true);
+        this.dependencyStamp = new AtomicLong();
+        this.javaModelListener = event -> dependencyStamp.incrementAndGet();
+        JavaCore.addElementChangedListener(javaModelListener, ElementChangedEvent.POST_CHANGE);
+    }
+
+    @PreDestroy
+    void stop() {
+        JavaCore.removeElementChangedListener(javaModelListener);
     }
 
     public ReconcileResult reconcile(IJavaProject javaProject, String fqn) throws JavaModelException {
-        final ProblemRequestor requestor = new ProblemRequestor();
-        WorkingCopyOwner wcOwner = new WorkingCopyOwner() {
+        IType type = javaProject.findType(fqn);
+        if (type == null) {
+            return null;
+        }
+        if (type.isBinary()) {
+            throw new IllegalArgumentException("Can't reconcile binary type: " + fqn);
+        }
+
+        ICompilationUnit primary = type.getCompilationUnit();
+        String path = primary.getPath().toString();
+        while (true) {
+            ReconcileState state = getState(path);
+            synchronized (state) {
+                // the state could be evicted while waiting for it
+                if (!state.discarded) {
+                    return reconcile(javaProject, fqn, primary, path, state);
+                }
+            }
+        }
+    }
+
+    private ReconcileResult reconcile(IJavaProject javaProject,
+                                      String fqn,
+                                      ICompilationUnit primary,
+                                      String path,
+                                      ReconcileState state) throws JavaModelException {
+        long start = System.currentTimeMillis();
+        try {
+            char[] contents = Util.getResourceContentsAsCharArray((IFile)primary.getResource());
+            long stamp = dependencyStamp.get();
+            int optionsHash = javaProject.getOptions(true).hashCode();
+            boolean incremental = stamp == state.dependencyStamp
+                                  && optionsHash == state.optionsHash
+                                  && state.update(contents);
+            if (!incremental) {
+                boolean changed = state.contents != null && !Arrays.equals(state.contents, contents);
+                state.reconcile(primary, contents);
+                state.optionsHash = optionsHash;
+                if (changed) {
+                    // other files may depend on the changed one
+                    state.dependencyStamp = dependencyStamp.compareAndSet(stamp, stamp + 1) ? stamp + 1 : -1;
+                } else {
+                    state.dependencyStamp = stamp;
+                }
+            }
+            LOG.debug("Reconciled {} in {} ms{}", path, System.currentTimeMillis() - start,
+                      incremental ? " (only whitespaces or comments changed)" : "");
+        } catch (JavaModelException e) {
+            discardState(path, state);
+            LOG.error("Can't reconcile class: " + fqn + " in project:" + javaProject.getPath().toOSString(), e);
+            throw e;
+        }
+
+        ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
+        // the state is shifted in place by the next requests, so the result gets own copies
+        result.setProblems(copyOf(state.problems));
+        result.setHighlightedPositions(copyOf(state.positions));
+        return result;
+    }
+
+    private static <T> List<T> copyOf(List<T> dtos) {
+        List<T> copies = new ArrayList<>(dtos.size());
+        for (T dto : dtos) {
+            copies.add(DtoFactory.cloneDto(dto));
+        }
+        return copies;
+    }
+
+    private ReconcileState getState(String path) {
+        ReconcileState state;
+        ReconcileState evicted = null;
+        synchronized (states) {
+            state = states.get(path);
+            if (state == null) {
+                state = new ReconcileState();
+                states.put(path, state);
+                if (states.size() > MAX_WORKING_COPIES) {
+                    Iterator<ReconcileState> eldest = states.values().iterator();
+                    evicted = eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        if (evicted != null) {
+            // the evicted file may be reconciled by another thread right now
+            synchronized (evicted) {
+                evicted.discard();
+            }
+        }
+        return state;
+    }
+
+    /** Must be called under the lock of the state. */
+    private void discardState(String path, ReconcileState state) {
+        synchronized (states) {
+            states.remove(path, state);
+        }
+        state.discard();
+    }
+
+    /**
+     * Checks that both contents have the same tokens except whitespaces and non javadoc comments.
+     */
+    static boolean hasSameSignificantTokens(char[] oldContents, char[] newContents) {
+        IScanner oldScanner = ToolFactory.createScanner(true, false, false, false);
+        IScanner newScanner = ToolFactory.createScanner(true, false, false, false);
+        oldScanner.setSource(oldContents);
+        newScanner.setSource(newContents);
+        try {
+            while (true) {
+                int oldToken = nextSignificantToken(oldScanner);
+                int newToken = nextSignificantToken(newScanner);
+                if (oldToken != newToken
+                    || !Arrays.equals(oldScanner.getCurrentTokenSource(), newScanner.getCurrentTokenSource())) {
+                    return false;
+                }
+                if (oldToken == ITerminalSymbols.TokenNameEOF) {
+                    return true;
+                }
+            }
+        } catch (InvalidInputException e) {
+            return false;
+        }
+    }
+
+    private static int nextSignificantToken(IScanner scanner) throws InvalidInputException {
+        int token;
+        do {
+            token = scanner.getNextToken();
+        } while (token == ITerminalSymbols.TokenNameCOMMENT_LINE || token == ITerminalSymbols.TokenNameCOMMENT_BLOCK);
+        return token;
+    }
+
+    /**
+     * Working copy of a compilation unit together with the result of its last reconcile.
+     */
+    private class ReconcileState {
+        private final ProblemRequestor requestor = new ProblemRequestor();
+        private final WorkingCopyOwner wcOwner   = new WorkingCopyOwner() {
             public IProblemRequestor getProblemRequestor(ICompilationUnit unit) {
                 return requestor;
             }
 
             @Override
             public IBuffer createBuffer(ICompilationUnit workingCopy) {
-//                return BufferManager.createBuffer(workingCopy);
-//                ?????
                 return new org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter(workingCopy, (IFile)workingCopy.getResource());
             }
         };
-        List<HighlightedPosition> positions = null;
-        ICompilationUnit compilationUnit = null;
-        try {
-            IType type = javaProject.findType(fqn);
-            if (type == null) {
-                return null;
+
+        private ICompilationUnit          workingCopy;
+        private char[]                    contents;
+        private List<Problem>             problems;
+        private List<HighlightedPosition> positions;
+        private long                      dependencyStamp = -1;
+        private int                       optionsHash;
+        private boolean                   discarded;
+
+        /**
+         * Applies new contents to the result of the previous reconcile when they differ only in whitespaces or comments.
+         * Unchanged contents are reconciled again since the result may depend on other files.
+         *
+         * @return {@code true} if result is up to date, {@code false} if reconcile is required
+         */
+        boolean update(char[] newContents) throws JavaModelException {
+            if (contents == null
+                || workingCopy == null
+                || Arrays.equals(contents, newContents)
+                || !hasSameSignificantTokens(contents, newContents)) {
+                return false;
+            }
+
+            int prefix = 0;
+            int minLength = Math.min(contents.length, newContents.length);
+            while (prefix < minLength && contents[prefix] == newContents[prefix]) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < minLength - prefix
+                   && contents[contents.length - suffix - 1] == newContents[newContents.length - suffix - 1]) {
+                suffix++;
+            }
+            int oldEnd = contents.length - suffix;
+            int newEnd = newContents.length - suffix;
+            int lineDelta = countLines(newContents, prefix, newEnd) - countLines(contents, prefix, oldEnd);
+
+            for (Problem problem : problems) {
+                if (problem.getSourceStart() >= oldEnd) {
+                    problem.setSourceLineNumber(problem.getSourceLineNumber() + lineDelta);
+                }
+                problem.setSourceStart(shift(problem.getSourceStart(), prefix, oldEnd, newEnd));
+                problem.setSourceEnd(shift(problem.getSourceEnd(), prefix, oldEnd, newEnd));
+            }
+            for (HighlightedPosition position : positions) {
+                int end = shift(position.getOffset() + position.getLength(), prefix, oldEnd, newEnd);
+                position.setOffset(shift(position.getOffset(), prefix, oldEnd, newEnd));
+                position.setLength(end - position.getOffset());
             }
-            if (type.isBinary()) {
-                throw new IllegalArgumentException("Can't reconcile binary type: " + fqn);
-            } else {
-                compilationUnit = type.getCompilationUnit().getWorkingCopy(wcOwner, null);
+
+            workingCopy.getBuffer().setContents(newContents);
+            contents = newContents;
+            return true;
+        }
+
+        void reconcile(ICompilationUnit primary, char[] newContents) throws JavaModelException {
+            if (workingCopy == null) {
+                workingCopy = primary.getWorkingCopy(wcOwner, null);
+            }
+            if (contents == null || !Arrays.equals(contents, newContents)) {
+                workingCopy.getBuffer().setContents(newContents);
             }
+
             requestor.reset();
-            CompilationUnit unit = compilationUnit.reconcile(AST.JLS8, true, wcOwner, null);
+            CompilationUnit unit = workingCopy.reconcile(AST.JLS8, true, wcOwner, null);
             positions = semanticHighlighting.reconcileSemanticHighlight(unit);
-            if (compilationUnit instanceof ClassFileWorkingCopy) {
+            if (workingCopy instanceof ClassFileWorkingCopy) {
                 //we don't wont to show any errors from ".class" files
                 requestor.reset();
             }
+            problems = convertProblems(requestor.problems);
+            contents = newContents;
+        }
 
-        } catch (JavaModelException e) {
-            LOG.error("Can't reconcile class: " + fqn + " in project:" + javaProject.getPath().toOSString(), e);
-            throw e;
-        } finally {
-            if(compilationUnit!= null && compilationUnit.isWorkingCopy()){
+        void discard() {
+            if (workingCopy != null && workingCopy.isWorkingCopy()) {
                 try {
-                    //todo close buffer
-                    compilationUnit.getBuffer().close();
-                    compilationUnit.discardWorkingCopy();
+                    workingCopy.getBuffer().close();
+                    workingCopy.discardWorkingCopy();
                 } catch (JavaModelException e) {
                     //ignore
                 }
             }
+            workingCopy = null;
+            contents = null;
+            discarded = true;
         }
+    }
 
-        ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
-        result.setProblems(convertProblems(requestor.problems));
-        result.setHighlightedPositions(positions);
-        return result;
+    private static int shift(int offset, int editStart, int oldEditEnd, int newEditEnd) {
+        if (offset < editStart) {
+            return offset;
+        }
+        if (offset >= oldEditEnd) {
+            return offset + newEditEnd - oldEditEnd;
+        }
+        return Math.min(offset, newEditEnd);
+    }
+
+    private static int countLines(char[] contents, int start, int end) {
+        int lines = 0;
+        for (int i = start; i < end; i++) {
+            if (contents[i] == '\n') {
+                lines++;
+            }
+        }
+        return lines;
     }
 
     private List<Problem> convertProblems(List<IProblem> problems) {
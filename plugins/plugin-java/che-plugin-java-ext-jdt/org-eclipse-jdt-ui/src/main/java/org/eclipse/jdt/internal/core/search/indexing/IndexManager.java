@@ -67,6 +67,9 @@ public class IndexManager extends JobManager implements IIndexConstants {
     // should JDT manage (update, delete as needed) pre-built indexes?
     public static final  String            MANAGE_PRODUCT_INDEXES_PROPERTY      = "jdt.core.manageProductIndexes"; //$NON-NLS-1$
     private static final boolean           IS_MANAGING_PRODUCT_INDEXES_PROPERTY = Boolean.getBoolean(MANAGE_PRODUCT_INDEXES_PROPERTY);
+    // directory with library indexes shared between workspaces, see SharedIndexCache
+    public static final  String            SHARED_INDEX_LOCATION_PROPERTY       = "jdt.core.sharedIndexLocation"; //$NON-NLS-1$
+    private static final String            SHARED_INDEX_LOCATION                = System.getProperty(SHARED_INDEX_LOCATION_PROPERTY);
     // Debug
     public static        boolean           DEBUG                                = false;
     // key = containerPath, value = indexLocation path
@@ -91,9 +94,13 @@ public class IndexManager extends JobManager implements IIndexConstants {
     private SimpleLookupTable participantsContainers = null;
     private boolean           participantUpdated     = false;
     private String indexLocation;
+    private final SharedIndexCache sharedIndexCache;
 
     public IndexManager(String indexLocation) {
         this.indexLocation = indexLocation;
+        this.sharedIndexCache = SHARED_INDEX_LOCATION == null ? null : new SharedIndexCache(new File(SHARED_INDEX_LOCATION),
+                                                                                            new File(getSavedIndexesDirectory(),
+                                                                                                     "sharedIndexChecksums.txt"));
         indexNamesMapFile = new File(getSavedIndexesDirectory(), "indexNamesMap.txt");
         savedIndexNamesFile = new File(getSavedIndexesDirectory(), "savedIndexNames.txt");
         participantIndexNamesFile = new File(getSavedIndexesDirectory(), "participantsIndexNames.txt");
@@ -601,6 +608,10 @@ public class IndexManager extends JobManager implements IIndexConstants {
      */
     public void indexLibrary(IPath path, IProject requestingProject, URL indexURL, final boolean updateIndex) {
         // requestingProject is no longer used to cancel jobs but leave it here just in case
+        if (indexURL == null && this.sharedIndexCache != null) {
+            // reuse the index built for the same library content by another workspace
+            indexURL = this.sharedIndexCache.findIndex(path);
+        }
         IndexLocation indexFile = null;
         if (indexURL != null) {
             if (IS_MANAGING_PRODUCT_INDEXES_PROPERTY) {
@@ -935,6 +946,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
             if (JobManager.VERBOSE)
                 Util.verbose("-> saving index " + index.getIndexLocation()); //$NON-NLS-1$
             index.save();
+            publishToSharedCache(index);
         }
         synchronized (this) {
             IPath containerPath = new Path(index.containerPath);
@@ -950,6 +962,14 @@ public class IndexManager extends JobManager implements IIndexConstants {
         }
     }
 
+    private void publishToSharedCache(Index index) {
+        if (this.sharedIndexCache == null || !SharedIndexCache.isArchive(index.containerPath)) return;
+        IndexLocation location = index.getIndexLocation();
+        // pre-built indexes are already shared
+        if (location.isParticipantIndex() || location.getIndexFile() == null) return;
+        this.sharedIndexCache.publish(new Path(index.containerPath), location.getIndexFile());
+    }
+
     /**
      * Commit all index memory changes to disk
      */
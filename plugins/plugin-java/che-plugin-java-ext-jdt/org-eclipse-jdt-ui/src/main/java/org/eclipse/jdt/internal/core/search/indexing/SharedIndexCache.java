@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.index.JavaIndexer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content addressed storage of pre-built library indexes.
+ * <p/>
+ * Index of a library is stored in a file named after the SHA-1 checksum of the library content,
+ * so the same jar (e.g. {@code rt.jar} or a Maven dependency) is indexed once and its index is reused
+ * by every workspace agent which points to the same cache directory.
+ * The directory may be mounted read-only, in this case indexes are only looked up in it.
+ * <p/>
+ * The cache can be populated for a stack before any workspace is started,
+ * see {@link #main(String[])}.
+ * <p/>
+ * Checksums of libraries are remembered in a local file by library path, length and modification time,
+ * so the content of unchanged library is read once and not on every start of the agent.
+ * <p/>
+ * Agents never remove indexes from the cache, as other agents keep their locations
+ * and reopen index files on each search. The least recently used indexes are removed
+ * by the populate tool when it is given a size limit, it must be run while no agent uses the cache.
+ */
+public class SharedIndexCache {
+    private static final Logger LOG = LoggerFactory.getLogger(SharedIndexCache.class);
+
+    private static final String INDEX_SUFFIX = ".index";
+
+    private final File                cacheDir;
+    private final File                checksumsFile;
+    // key = library path with its length and modification time, value = checksum of the library content
+    private final Map<String, String> checksums;
+
+    /**
+     * @param cacheDir
+     *         directory with shared indexes
+     * @param checksumsFile
+     *         local file where checksums of libraries are remembered, {@code null} to keep them in memory only
+     */
+    public SharedIndexCache(File cacheDir, File checksumsFile) {
+        this.cacheDir = cacheDir;
+        this.checksumsFile = checksumsFile;
+        this.checksums = new ConcurrentHashMap<>();
+        loadChecksums();
+    }
+
+    /**
+     * Returns location of the pre-built index for the given library
+     * or {@code null} when library isn't an archive or cache doesn't contain its index.
+     */
+    public URL findIndex(IPath libraryPath) {
+        File indexFile = getIndexFile(libraryPath.toFile());
+        if (indexFile == null || !indexFile.isFile()) {
+            return null;
+        }
+        if (cacheDir.canWrite()) {
+            // keeps the index from being evicted as the least recently used one
+            indexFile.setLastModified(System.currentTimeMillis());
+        }
+        try {
+            return indexFile.toURI().toURL();
+        } catch (MalformedURLException e) {
+            LOG.warn("Can't use shared index {}. {}", indexFile, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Copies the index built for the given library into the cache.
+     * Does nothing when cache is read-only or already contains index for the library.
+     */
+    public void publish(IPath libraryPath, File indexFile) {
+        if (!cacheDir.canWrite()) {
+            return;
+        }
+        File target = getIndexFile(libraryPath.toFile());
+        if (target == null || target.exists()) {
+            return;
+        }
+        try {
+            store(target, tmp -> Files.copy(indexFile.toPath(), tmp.toPath(), StandardCopyOption.REPLACE_EXISTING));
+        } catch (IOException e) {
+            LOG.warn("Can't publish index of {} to shared index cache. {}", libraryPath, e.getMessage());
+        }
+    }
+
+    /**
+     * Builds index for the given library and stores it into the cache.
+     *
+     * @return {@code true} if index was built, {@code false} if cache already contains it
+     * @throws IOException
+     *         if library can't be read or cache isn't writable
+     */
+    public boolean populate(File library) throws IOException {
+        File target = getIndexFile(library);
+        if (target == null) {
+            throw new IOException("Can't compute checksum of " + library);
+        }
+        if (target.exists()) {
+            return false;
+        }
+        store(target, tmp -> JavaIndexer.generateIndexForJar(library.getAbsolutePath(), tmp.getAbsolutePath()));
+        return true;
+    }
+
+    /**
+     * Removes the least recently used indexes until their total size fits the limit.
+     * Agents which found removed indexes fail to search in them, so it is done only by the populate tool.
+     *
+     * @param maxSize
+     *         maximum total size of indexes in bytes
+     */
+    void evict(long maxSize) {
+        File[] indexes = cacheDir.listFiles((dir, name) -> name.endsWith(INDEX_SUFFIX));
+        if (indexes == null) {
+            return;
+        }
+        long totalSize = 0;
+        for (File index : indexes) {
+            totalSize += index.length();
+        }
+        if (totalSize <= maxSize) {
+            return;
+        }
+        Arrays.sort(indexes, Comparator.comparingLong(File::lastModified));
+        for (File index : indexes) {
+            if (totalSize <= maxSize) {
+                break;
+            }
+            long length = index.length();
+            if (index.delete()) {
+                totalSize -= length;
+            }
+        }
+    }
+
+    private void store(File target, IndexWriter writer) throws IOException {
+        File tmp = File.createTempFile(target.getName(), ".tmp", cacheDir);
+        try {
+            writer.write(tmp);
+            // other agents may populate the cache concurrently, index is the same for the same content anyway
+            Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp.toPath());
+        }
+    }
+
+    private File getIndexFile(File library) {
+        if (!isArchive(library.getName()) || !library.isFile()) {
+            return null;
+        }
+        String checksum = checksum(library);
+        return checksum == null ? null : new File(cacheDir, checksum + INDEX_SUFFIX);
+    }
+
+    private String checksum(File library) {
+        String key = library.length() + ":" + library.lastModified() + ':' + library.getAbsolutePath();
+        String checksum = checksums.get(key);
+        if (checksum == null) {
+            checksum = computeChecksum(library);
+            if (checksum != null && checksums.put(key, checksum) == null) {
+                saveChecksum(key, checksum);
+            }
+        }
+        return checksum;
+    }
+
+    private void loadChecksums() {
+        if (checksumsFile == null || !checksumsFile.isFile()) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(checksumsFile.toPath(), StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(' ');
+                if (separator > 0) {
+                    checksums.put(line.substring(separator + 1), line.substring(0, separator));
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't read checksums of libraries from {}. {}", checksumsFile, e.getMessage());
+        }
+    }
+
+    private synchronized void saveChecksum(String key, String checksum) {
+        if (checksumsFile == null) {
+            return;
+        }
+        try {
+            Files.write(checksumsFile.toPath(),
+                        Collections.singletonList(checksum + ' ' + key),
+                        StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.warn("Can't save checksum of library to {}. {}", checksumsFile, e.getMessage());
+        }
+    }
+
+    private static String computeChecksum(File library) {
+        try (InputStream in = new FileInputStream(library)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOG.warn("Can't compute checksum of {}. {}", library, e.getMessage());
+            return null;
+        }
+    }
+
+    static boolean isArchive(String fileName) {
+        String name = fileName.toLowerCase();
+        return name.endsWith(".jar") || name.endsWith(".zip");
+    }
+
+    private static void collectArchives(File file, List<File> archives) {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children != null) {
+                for (File child : children) {
+                    collectArchives(child, archives);
+                }
+            }
+        } else if (isArchive(file.getName())) {
+            archives.add(file);
+        }
+    }
+
+    /**
+     * Pre-populates the cache with indexes of all archives found in the given files or folders,
+     * e.g. JDK {@code jre/lib} folder and local Maven repository of a stack.
+     * When size limit is given the least recently used indexes over it are removed afterwards,
+     * so the tool must not be run with the limit while workspace agents use the cache.
+     * <p/>
+     * Usage: {@code SharedIndexCache <cache dir> [--max-size-mb <size>] <jar or folder>...}
+     */
+    public static void main(String[] args) {
+        int firstPath = 1;
+        long maxSize = 0;
+        if (args.length > 2 && "--max-size-mb".equals(args[1])) {
+            try {
+                maxSize = Long.parseLong(args[2]) * 1024 * 1024;
+            } catch (NumberFormatException e) {
+                maxSize = -1;
+            }
+            firstPath = 3;
+        }
+        if (args.length <= firstPath || maxSize < 0) {
+            System.err.println("Usage: SharedIndexCache <cache dir> [--max-size-mb <size>] <jar or folder>...");
+            System.exit(1);
+        }
+
+        File cacheDir = new File(args[0]);
+        if (!cacheDir.isDirectory() && !cacheDir.mkdirs()) {
+            System.err.println("Can't create cache directory " + cacheDir);
+            System.exit(1);
+        }
+
+        List<File> archives = new ArrayList<>();
+        for (int i = firstPath; i < args.length; i++) {
+            collectArchives(new File(args[i]), archives);
+        }
+
+        SharedIndexCache cache = new SharedIndexCache(cacheDir, null);
+        int built = 0;
+        for (File archive : archives) {
+            try {
+                if (cache.populate(archive)) {
+                    built++;
+                }
+            } catch (IOException e) {
+                System.err.println("Can't index " + archive + ". " + e.getMessage());
+            }
+        }
+        System.out.println("Indexed " + built + " of " + archives.size() + " archives into " + cacheDir);
+        if (maxSize > 0) {
+            cache.evict(maxSize);
+        }
+    }
+
+    private interface IndexWriter {
+        void write(File indexFile) throws IOException;
+    }
+}
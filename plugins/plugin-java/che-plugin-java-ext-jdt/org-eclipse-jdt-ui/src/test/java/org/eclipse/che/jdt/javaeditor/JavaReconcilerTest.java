@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt.javaeditor;
+
+import org.junit.Test;
+
+import static org.eclipse.che.jdt.javaeditor.JavaReconciler.hasSameSignificantTokens;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link JavaReconciler#hasSameSignificantTokens(char[], char[])}.
+ */
+public class JavaReconcilerTest {
+
+    private static final String SOURCE = "package p;\n" +
+                                         "public class X {\n" +
+                                         "    int i = 0;\n" +
+                                         "}\n";
+
+    @Test
+    public void shouldIgnoreWhitespaces() throws Exception {
+        assertTrue(hasSameSignificantTokens(SOURCE.toCharArray(),
+                                            ("package p;\n\n" +
+                                             "public   class X {\n" +
+                                             "\tint i=0;\n" +
+                                             "}").toCharArray()));
+    }
+
+    @Test
+    public void shouldIgnoreComments() throws Exception {
+        assertTrue(hasSameSignificantTokens(SOURCE.toCharArray(),
+                                            ("package p;\n" +
+                                             "// line comment\n" +
+                                             "public class X {\n" +
+                                             "    int i = /* block comment */ 0;\n" +
+                                             "}\n").toCharArray()));
+    }
+
+    @Test
+    public void shouldNotIgnoreJavadoc() throws Exception {
+        assertFalse(hasSameSignificantTokens(SOURCE.toCharArray(),
+                                             ("package p;\n" +
+                                              "/** @deprecated */\n" +
+                                              "public class X {\n" +
+                                              "    int i = 0;\n" +
+                                              "}\n").toCharArray()));
+    }
+
+    @Test
+    public void shouldDetectChangedIdentifier() throws Exception {
+        assertFalse(hasSameSignificantTokens(SOURCE.toCharArray(), SOURCE.replace("int i", "int j").toCharArray()));
+    }
+
+    @Test
+    public void shouldDetectChangedLiteral() throws Exception {
+        assertFalse(hasSameSignificantTokens(SOURCE.toCharArray(), SOURCE.replace("= 0", "= 1").toCharArray()));
+    }
+
+    @Test
+    public void shouldDetectRemovedToken() throws Exception {
+        assertFalse(hasSameSignificantTokens(SOURCE.toCharArray(), SOURCE.replace("= 0;", "= 0").toCharArray()));
+    }
+
+    @Test
+    public void shouldDetectChangeInsideStringLiteral() throws Exception {
+        assertFalse(hasSameSignificantTokens("String s = \"a b\";".toCharArray(), "String s = \"a  b\";".toCharArray()));
+    }
+}
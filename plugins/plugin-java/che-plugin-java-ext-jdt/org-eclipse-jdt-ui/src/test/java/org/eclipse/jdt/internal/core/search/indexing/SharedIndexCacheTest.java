@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.core.runtime.Path;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link SharedIndexCache}.
+ */
+public class SharedIndexCacheTest {
+    private File root;
+    private File cacheDir;
+    private File checksumsFile;
+
+    @Before
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("shared-index").toFile();
+        cacheDir = new File(root, "cache");
+        assertTrue(cacheDir.mkdir());
+        checksumsFile = new File(root, "checksums.txt");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try (Stream<java.nio.file.Path> paths = Files.walk(root.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(java.nio.file.Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void shouldFindIndexPublishedForLibraryWithTheSameContent() throws Exception {
+        File library1 = createFile("workspace1/lib.jar", "library content");
+        File library2 = createFile("workspace2/lib.jar", "library content");
+        SharedIndexCache cache = new SharedIndexCache(cacheDir, checksumsFile);
+
+        cache.publish(new Path(library1.getAbsolutePath()), createFile("lib.jar.index", "index"));
+        URL index = cache.findIndex(new Path(library2.getAbsolutePath()));
+
+        assertNotNull(index);
+        assertEquals("index", new String(Files.readAllBytes(new File(index.toURI()).toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldNotFindIndexOfLibraryWithDifferentContent() throws Exception {
+        File library1 = createFile("workspace1/lib.jar", "library content");
+        File library2 = createFile("workspace2/lib.jar", "other content");
+        SharedIndexCache cache = new SharedIndexCache(cacheDir, checksumsFile);
+
+        cache.publish(new Path(library1.getAbsolutePath()), createFile("lib.jar.index", "index"));
+
+        assertNull(cache.findIndex(new Path(library2.getAbsolutePath())));
+    }
+
+    @Test
+    public void shouldReuseChecksumOfUnchangedLibraryAfterRestart() throws Exception {
+        File library = createFile("workspace/lib.jar", "library content");
+        long lastModified = library.lastModified();
+        new SharedIndexCache(cacheDir, checksumsFile).publish(new Path(library.getAbsolutePath()),
+                                                                 createFile("lib.jar.index", "index"));
+
+        // the same length and modification time, so content isn't read again
+        Files.write(library.toPath(), "LIBRARY CONTENT".getBytes(StandardCharsets.UTF_8));
+        assertTrue(library.setLastModified(lastModified));
+
+        assertNotNull(new SharedIndexCache(cacheDir, checksumsFile).findIndex(new Path(library.getAbsolutePath())));
+    }
+
+    @Test
+    public void shouldRemoveLeastRecentlyUsedIndexesOverLimit() throws Exception {
+        SharedIndexCache cache = new SharedIndexCache(cacheDir, checksumsFile);
+        File old = createFile("cache/old.index", "0123456");
+        File recent = createFile("cache/recent.index", "0123456");
+        assertTrue(old.setLastModified(System.currentTimeMillis() - 60_000));
+
+        cache.evict(10);
+
+        assertFalse(old.exists());
+        assertTrue(recent.exists());
+    }
+
+    @Test
+    public void shouldNotRemoveIndexesOfOtherAgentsOnPublish() throws Exception {
+        File library = createFile("workspace/lib.jar", "library content");
+        File other = createFile("cache/other.index", "0123456789");
+        assertTrue(other.setLastModified(System.currentTimeMillis() - 60_000));
+
+        new SharedIndexCache(cacheDir, checksumsFile).publish(new Path(library.getAbsolutePath()),
+                                                              createFile("lib.jar.index", "index"));
+
+        assertTrue(other.exists());
+        assertEquals(2, cacheDir.list().length);
+    }
+
+    @Test
+    public void shouldIgnoreNonArchives() throws Exception {
+        File library = createFile("workspace/classes.txt", "content");
+        SharedIndexCache cache = new SharedIndexCache(cacheDir, checksumsFile);
+
+        cache.publish(new Path(library.getAbsolutePath()), createFile("classes.index", "index"));
+
+        assertNull(cache.findIndex(new Path(library.getAbsolutePath())));
+        assertEquals(0, cacheDir.list().length);
+    }
+
+    private File createFile(String path, String content) throws IOException {
+        File file = new File(root, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -146,7 +146,10 @@ public class CommandOutputConsolePresenter implements CommandOutputConsole, Outp
         outputHandler = new SubscriptionHandler<String>(new CommandOutputMessageUnmarshaller(machine.getConfig().getName())) {
             @Override
             protected void onMessageReceived(String result) {
-                view.print(result, result.endsWith("\r"));
+                // message may contain several lines of output
+                for (String line : result.split("\n", -1)) {
+                    view.print(line, line.endsWith("\r"));
+                }
 
                 for (ActionDelegate actionDelegate : actionDelegates) {
                     actionDelegate.onConsoleOutput(CommandOutputConsolePresenter.this);
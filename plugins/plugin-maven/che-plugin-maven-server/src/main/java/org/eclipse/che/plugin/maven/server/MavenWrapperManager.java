@@ -10,59 +10,124 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.maven.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  *
- * Manages and cache MavenServerWrapper instances
+ * Manages and cache MavenServerWrapper instances.
+ * Released servers are kept for reuse, so concurrent users of the same server type
+ * get their own servers which are started only once.
+ * Servers which stay idle longer than {@code che.maven.server.idle_timeout_min} are disposed,
+ * so their JVMs don't hold memory after the projects are resolved.
  *
  * @author Evgen Vidolob
  */
 @Singleton
 public class MavenWrapperManager {
+    private static final int DEFAULT_IDLE_TIMEOUT_MIN = 10;
 
+    private final MavenServerManager                  serverManager;
+    private final long                                idleTimeoutMs;
+    private final Map<ServerType, Deque<IdleServer>>  cache       = new HashMap<>();
+    private final Map<MavenServerWrapper, ServerType> usedServers = new HashMap<>();
+    private final ScheduledExecutorService            cleaner;
 
-    private final MavenServerManager    serverManager;
-    private final Map<ServerType, MavenServerWrapper> cache = new HashMap<>();
-    private final Set<MavenServerWrapper> usedServers = new HashSet<>();
-
+    public MavenWrapperManager(MavenServerManager serverManager) {
+        this(serverManager, DEFAULT_IDLE_TIMEOUT_MIN);
+    }
 
     @Inject
-    public MavenWrapperManager(MavenServerManager serverManager) {
+    public MavenWrapperManager(MavenServerManager serverManager, @Named("che.maven.server.idle_timeout_min") int idleTimeoutMin) {
         this.serverManager = serverManager;
+        this.idleTimeoutMs = TimeUnit.MINUTES.toMillis(idleTimeoutMin);
+        if (idleTimeoutMin > 0) {
+            cleaner = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("MavenServerCleaner")
+                                                                                          .setDaemon(true)
+                                                                                          .build());
+            cleaner.scheduleWithFixedDelay(this::disposeIdleServers, idleTimeoutMin, 1, TimeUnit.MINUTES);
+        } else {
+            cleaner = null;
+        }
     }
 
     public synchronized MavenServerWrapper getMavenServer(ServerType type) {
-        MavenServerWrapper wrapper = cache.get(type);
-        if (wrapper == null) {
-            wrapper = serverManager.createMavenServer();
-            cache.put(type, wrapper);
-        }
-
-        if (usedServers.contains(wrapper)) {
-            //need to warn here
-            return serverManager.createMavenServer();
-        }
+        IdleServer idle = getIdleServers(type).poll();
+        MavenServerWrapper wrapper = idle != null ? idle.wrapper : serverManager.createMavenServer();
 
-        usedServers.add(wrapper);
+        usedServers.put(wrapper, type);
         return wrapper;
     }
 
     public synchronized void release(MavenServerWrapper wrapper) {
-        if (usedServers.contains(wrapper)) {
+        ServerType type = usedServers.remove(wrapper);
+        if (type != null) {
             wrapper.reset();
-            usedServers.remove(wrapper);
+            getIdleServers(type).push(new IdleServer(wrapper, System.currentTimeMillis()));
         } else {
             wrapper.dispose();
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        if (cleaner != null) {
+            cleaner.shutdownNow();
+        }
+        disposeServersIdleSince(Long.MAX_VALUE);
+    }
+
+    private void disposeIdleServers() {
+        disposeServersIdleSince(System.currentTimeMillis() - idleTimeoutMs);
+    }
+
+    /** Disposes servers released before the given time, servers in use are left untouched. */
+    void disposeServersIdleSince(long time) {
+        List<MavenServerWrapper> expired = new ArrayList<>();
+        synchronized (this) {
+            for (Deque<IdleServer> idleServers : cache.values()) {
+                // the most recently released servers are at the head of the deque
+                for (Iterator<IdleServer> it = idleServers.descendingIterator(); it.hasNext(); ) {
+                    IdleServer idle = it.next();
+                    if (idle.releasedAt >= time) {
+                        break;
+                    }
+                    it.remove();
+                    expired.add(idle.wrapper);
+                }
+            }
+        }
+        expired.forEach(MavenServerWrapper::dispose);
+    }
+
+    private Deque<IdleServer> getIdleServers(ServerType type) {
+        return cache.computeIfAbsent(type, key -> new ArrayDeque<>());
+    }
+
+    private static class IdleServer {
+        private final MavenServerWrapper wrapper;
+        private final long               releasedAt;
+
+        private IdleServer(MavenServerWrapper wrapper, long releasedAt) {
+            this.wrapper = wrapper;
+            this.releasedAt = releasedAt;
+        }
+    }
+
     public enum ServerType {
         RESOLVE, DOWNLOAD
     }
@@ -11,7 +11,9 @@
 package org.eclipse.che.plugin.maven.server.core;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
 import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
@@ -24,6 +26,9 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
+ * Runs maven tasks one by one, and provides a separate pool for resolving
+ * independent maven projects of the current task in parallel.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
@@ -31,21 +36,47 @@ public class MavenExecutorService {
 
     private static final Logger LOG = LoggerFactory.getLogger(MavenExecutorService.class);
 
+    private static final int DEFAULT_RESOLVE_THREADS = 2;
+
     private final ExecutorService service;
+    private final ExecutorService resolveService;
 
     public MavenExecutorService() {
+        this(DEFAULT_RESOLVE_THREADS);
+    }
+
+    /**
+     * @param resolveThreads
+     *         number of maven projects which are resolved simultaneously,
+     *         each of them uses its own maven server
+     */
+    @Inject
+    public MavenExecutorService(@Named("che.maven.server.resolve_threads") int resolveThreads) {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Executor - %d")
                                                                 .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
                                                                 .build();
         service = Executors.newFixedThreadPool(1, threadFactory);
+        ThreadFactory resolveThreadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Resolver - %d")
+                                                                       .setUncaughtExceptionHandler(
+                                                                               LoggingUncaughtExceptionHandler.getInstance())
+                                                                       .build();
+        resolveService = Executors.newFixedThreadPool(Math.max(1, resolveThreads), resolveThreadFactory);
     }
 
     public void submit(Runnable task) {
         service.execute(task);
     }
 
+    /**
+     * Returns executor for resolving maven projects in parallel.
+     */
+    public ExecutorService getResolveService() {
+        return resolveService;
+    }
+
     @PreDestroy
     public void shutdown() throws InterruptedException {
+        resolveService.shutdownNow();
         // Tell threads to finish off.
         service.shutdown(); // Disable new tasks from being submitted
         try {
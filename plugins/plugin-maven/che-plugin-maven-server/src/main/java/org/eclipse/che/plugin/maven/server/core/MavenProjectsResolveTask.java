@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves a set of maven projects in the reactor dependency order.
+ * <p/>
+ * Project is resolved after all projects of the set it depends on (including its parent),
+ * independent projects are resolved in parallel. When all projects are resolved,
+ * {@code afterTask} is called once with all of them.
+ */
+public class MavenProjectsResolveTask implements MavenProjectTask {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenProjectsResolveTask.class);
+
+    private final Collection<MavenProject>     mavenProjects;
+    private final MavenProjectManager          projectManager;
+    private final ExecutorService              executor;
+    private final MavenProgressNotifier        notifier;
+    private final Consumer<List<MavenProject>> afterTask;
+
+    public MavenProjectsResolveTask(Collection<MavenProject> mavenProjects,
+                                    MavenProjectManager projectManager,
+                                    ExecutorService executor,
+                                    MavenProgressNotifier notifier,
+                                    Consumer<List<MavenProject>> afterTask) {
+        this.mavenProjects = mavenProjects;
+        this.projectManager = projectManager;
+        this.executor = executor;
+        this.notifier = notifier;
+        this.afterTask = afterTask;
+    }
+
+    @Override
+    public void perform() {
+        Map<MavenProject, Set<MavenProject>> dependencies = findDependencies(mavenProjects);
+        Set<MavenProject> pending = new HashSet<>(mavenProjects);
+        Set<MavenProject> running = new HashSet<>();
+        List<MavenProject> resolved = new ArrayList<>(mavenProjects.size());
+        CompletionService<MavenProject> completionService = new ExecutorCompletionService<>(executor);
+
+        try {
+            while (!pending.isEmpty() || !running.isEmpty()) {
+                List<MavenProject> ready = pending.stream()
+                                                  .filter(project -> dependencies.get(project)
+                                                                                 .stream()
+                                                                                 .noneMatch(dependency -> pending.contains(dependency)
+                                                                                                          || running.contains(dependency)))
+                                                  .collect(Collectors.toList());
+                if (ready.isEmpty() && running.isEmpty()) {
+                    // cyclic dependencies, nothing to wait for
+                    ready = new ArrayList<>(pending);
+                }
+
+                for (MavenProject project : ready) {
+                    pending.remove(project);
+                    running.add(project);
+                    completionService.submit(() -> resolve(project));
+                }
+
+                MavenProject project = completionService.take().get();
+                running.remove(project);
+                resolved.add(project);
+                notifier.setPercent((double)resolved.size() / (double)mavenProjects.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            LOG.error(e.getMessage(), e);
+            return;
+        }
+
+        if (afterTask != null) {
+            afterTask.accept(resolved.stream().filter(project -> project.getProject().exists()).collect(Collectors.toList()));
+        }
+    }
+
+    private MavenProject resolve(MavenProject mavenProject) {
+        try {
+            new MavenProjectResolveTask(mavenProject, projectManager, null).perform();
+        } catch (Throwable throwable) {
+            LOG.error(throwable.getMessage(), throwable);
+            //TODO need to notify user some how
+        }
+        return mavenProject;
+    }
+
+    private static Map<MavenProject, Set<MavenProject>> findDependencies(Collection<MavenProject> mavenProjects) {
+        Map<MavenKey, MavenProject> keyToProject = new HashMap<>();
+        for (MavenProject project : mavenProjects) {
+            keyToProject.put(project.getMavenKey(), project);
+        }
+
+        Map<MavenProject, Set<MavenProject>> result = new HashMap<>();
+        for (MavenProject project : mavenProjects) {
+            Set<MavenProject> dependencies = new HashSet<>();
+            addDependency(dependencies, keyToProject.get(project.getParentKey()), project);
+            for (MavenArtifact artifact : project.getDependencies()) {
+                MavenKey key = new MavenKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion());
+                addDependency(dependencies, keyToProject.get(key), project);
+            }
+            result.put(project, dependencies);
+        }
+        return result;
+    }
+
+    private static void addDependency(Set<MavenProject> dependencies, MavenProject dependency, MavenProject project) {
+        if (dependency != null && dependency != project) {
+            dependencies.add(dependency);
+        }
+    }
+}
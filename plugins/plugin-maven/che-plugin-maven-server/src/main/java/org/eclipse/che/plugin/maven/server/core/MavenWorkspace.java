@@ -65,6 +65,9 @@ public class MavenWorkspace {
     private final MavenCommunication        communication;
     private final ClasspathManager          classpathManager;
 
+    private final MavenProgressNotifier     notifier;
+    private final MavenExecutorService      executorService;
+
     private MavenTaskExecutor resolveExecutor;
     private MavenTaskExecutor classPathExecutor;
 
@@ -84,6 +87,8 @@ public class MavenWorkspace {
         this.communication = communication;
         this.classpathManager = classpathManager;
         this.manager = manager;
+        this.notifier = notifier;
+        this.executorService = executorService;
         resolveExecutor = new MavenTaskExecutor(executorService, notifier);
         eventService.subscribe(new EventSubscriber<ProjectDeletedEvent>() {
             @Override
@@ -153,15 +158,18 @@ public class MavenWorkspace {
         //TODO synchronise on projectsToResolve change
         Set<MavenProject> needResolve = new HashSet<>(projectsToResolve);
         projectsToResolve.clear();
-
-        for (MavenProject mavenProject : needResolve) {
-
-            resolveExecutor.submitTask(new MavenProjectResolveTask(mavenProject, manager, () -> {
-                addSourcesFromBuildHelperPlugin(mavenProject);
-                classpathManager.updateClasspath(mavenProject);
-            }));
+        if (needResolve.isEmpty()) {
+            return;
         }
 
+        resolveExecutor.submitTask(new MavenProjectsResolveTask(needResolve,
+                                                                manager,
+                                                                executorService.getResolveService(),
+                                                                notifier,
+                                                                resolved -> {
+                                                                    resolved.forEach(this::addSourcesFromBuildHelperPlugin);
+                                                                    classpathManager.updateClasspath(resolved);
+                                                                }));
     }
 
     private void updateJavaProject(MavenProject project) {
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.maven.server.core.project;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -18,7 +21,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
 import org.eclipse.che.api.project.shared.dto.event.PomModifiedEventDto;
-import org.eclipse.che.commons.schedule.executor.ThreadPullLauncher;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.ide.maven.tools.Model;
 import org.eclipse.che.plugin.maven.server.core.EclipseWorkspaceProvider;
 import org.eclipse.che.plugin.maven.server.core.MavenWorkspace;
@@ -27,36 +30,63 @@ import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
+ * Updates maven projects when their pom.xml files are changed.
+ * <p/>
+ * Changes are collected until no pom is changed for {@link #QUIET_PERIOD_MS}
+ * (but not longer than {@link #MAX_DELAY_MS} since the first change),
+ * then all projects changed in that burst are updated at once.
+ * Poms whose content hasn't changed since the previous update are skipped.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class PomChangeListener {
 
+    static final long QUIET_PERIOD_MS = 300;
+    static final long MAX_DELAY_MS    = 3000;
+
     private final MavenWorkspace           mavenWorkspace;
     private final EclipseWorkspaceProvider eclipseWorkspaceProvider;
     private final String                   workspacePath;
-    private CopyOnWriteArraySet<String> projectToUpdate = new CopyOnWriteArraySet<>();
+    private final ScheduledExecutorService executor;
+    // key = pom path, value = hash of the pom content the project was last updated with
+    private final Map<String, HashCode>    pomHashes;
+    private final Set<String>              pomsToUpdate;
+
+    private UpdateTask scheduledUpdate;
+    private long       burstStart;
 
     @Inject
     public PomChangeListener(EventService eventService,
                              MavenWorkspace mavenWorkspace,
                              EclipseWorkspaceProvider eclipseWorkspaceProvider,
-                             ThreadPullLauncher launcher,
                              @Named("che.user.workspaces.storage") String workspacePath) {
         this.mavenWorkspace = mavenWorkspace;
         this.eclipseWorkspaceProvider = eclipseWorkspaceProvider;
         this.workspacePath = workspacePath;
-
-        launcher.scheduleWithFixedDelay(this::updateProms, 20, 3, TimeUnit.SECONDS);
+        this.pomHashes = new ConcurrentHashMap<>();
+        this.pomsToUpdate = new HashSet<>();
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("PomChangeListener-%d")
+                                          .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                                          .setDaemon(true)
+                                          .build());
 
         eventService.subscribe(new EventSubscriber<ProjectItemModifiedEvent>() {
             @Override
@@ -64,11 +94,7 @@ public class PomChangeListener {
                 String eventPath = event.getPath();
                 if (!event.isFolder() && eventPath.endsWith("pom.xml")) {
                     //TODO update only pom file that in root of project
-//                    if(event.getProject().equals(eventPath.substring(0, eventPath.lastIndexOf("pom.xml") - 1))) {
-                    if (pomIsValid(eventPath)) {
-                        projectToUpdate.add(new Path(eventPath).removeLastSegments(1).toOSString());
-                    }
-//                    }
+                    pomChanged(eventPath);
                 }
             }
         });
@@ -76,14 +102,26 @@ public class PomChangeListener {
         eventService.subscribe(new EventSubscriber<PomModifiedEventDto>() {
             @Override
             public void onEvent(PomModifiedEventDto event) {
-                String eventPath = event.getPath();
-                if (pomIsValid(eventPath)) {
-                    projectToUpdate.add(new Path(eventPath).removeLastSegments(1).toOSString());
-                }
+                pomChanged(event.getPath());
             }
         });
     }
 
+    private synchronized void pomChanged(String pomPath) {
+        pomsToUpdate.add(pomPath);
+
+        long now = System.currentTimeMillis();
+        if (scheduledUpdate == null) {
+            burstStart = now;
+        } else {
+            scheduledUpdate.future.cancel(false);
+        }
+        long delay = Math.min(QUIET_PERIOD_MS, Math.max(0, burstStart + MAX_DELAY_MS - now));
+        UpdateTask task = new UpdateTask();
+        task.future = executor.schedule(task, delay, TimeUnit.MILLISECONDS);
+        scheduledUpdate = task;
+    }
+
     private boolean pomIsValid(String path) {
         try {
             Model.readFrom(new File(workspacePath, path));
@@ -94,14 +132,42 @@ public class PomChangeListener {
         return true;
     }
 
-    //    @ScheduleDelay(initialDelay = 30, delay = 3)
-    protected void updateProms() {
+    private boolean pomContentChanged(String path) {
+        File pom = new File(workspacePath, path);
+        if (!pom.isFile()) {
+            pomHashes.remove(path);
+            return false;
+        }
         try {
-            if (projectToUpdate.size() == 0) {
+            HashCode hash = Hashing.sha1().hashBytes(Files.readAllBytes(pom.toPath()));
+            return !hash.equals(pomHashes.put(path, hash));
+        } catch (IOException e) {
+            JavaPlugin.log(e);
+            return false;
+        }
+    }
+
+    private void updatePoms(UpdateTask task) {
+        Set<String> poms;
+        synchronized (this) {
+            // the task may already be running when a newer change reschedules the update,
+            // the newer task takes the collected poms and ends the burst
+            if (scheduledUpdate != task) {
+                return;
+            }
+            scheduledUpdate = null;
+            poms = new HashSet<>(pomsToUpdate);
+            pomsToUpdate.clear();
+        }
+        try {
+            Set<String> projects = poms.stream()
+                                       .filter(this::pomContentChanged)
+                                       .filter(this::pomIsValid)
+                                       .map(pom -> new Path(pom).removeLastSegments(1).toOSString())
+                                       .collect(Collectors.toSet());
+            if (projects.isEmpty()) {
                 return;
             }
-            Set<String> projects = new HashSet<>(projectToUpdate);
-            projectToUpdate.clear();
             IWorkspace workspace = eclipseWorkspaceProvider.get();
             List<IProject> projectsList =
                     projects.stream().map(project -> workspace.getRoot().getProject(project)).collect(Collectors.toList());
@@ -110,4 +176,18 @@ public class PomChangeListener {
             JavaPlugin.log(t);
         }
     }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private class UpdateTask implements Runnable {
+        private ScheduledFuture<?> future;
+
+        @Override
+        public void run() {
+            updatePoms(this);
+        }
+    }
 }
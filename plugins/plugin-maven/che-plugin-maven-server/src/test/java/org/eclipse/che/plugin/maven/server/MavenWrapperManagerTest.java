@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server;
+
+import org.eclipse.che.plugin.maven.server.MavenWrapperManager.ServerType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link MavenWrapperManager}
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MavenWrapperManagerTest {
+
+    @Mock
+    private MavenServerManager serverManager;
+
+    private MavenWrapperManager wrapperManager;
+
+    @Before
+    public void setUp() throws Exception {
+        when(serverManager.createMavenServer()).thenAnswer(invocation -> mock(MavenServerWrapper.class));
+        wrapperManager = new MavenWrapperManager(serverManager, 0);
+    }
+
+    @Test
+    public void shouldReuseReleasedServer() throws Exception {
+        MavenServerWrapper server = wrapperManager.getMavenServer(ServerType.RESOLVE);
+        wrapperManager.release(server);
+
+        assertSame(server, wrapperManager.getMavenServer(ServerType.RESOLVE));
+        verify(server).reset();
+        verify(server, never()).dispose();
+    }
+
+    @Test
+    public void shouldDisposeServersWhichAreIdleLongerThanTimeout() throws Exception {
+        MavenServerWrapper server = wrapperManager.getMavenServer(ServerType.RESOLVE);
+        wrapperManager.release(server);
+
+        wrapperManager.disposeServersIdleSince(System.currentTimeMillis() + 1);
+
+        verify(server).dispose();
+        assertNotSame(server, wrapperManager.getMavenServer(ServerType.RESOLVE));
+    }
+
+    @Test
+    public void shouldNotDisposeRecentlyReleasedOrUsedServers() throws Exception {
+        MavenServerWrapper used = wrapperManager.getMavenServer(ServerType.RESOLVE);
+        MavenServerWrapper released = wrapperManager.getMavenServer(ServerType.RESOLVE);
+        wrapperManager.release(released);
+
+        wrapperManager.disposeServersIdleSince(System.currentTimeMillis() - 60_000);
+
+        verify(used, never()).dispose();
+        verify(released, never()).dispose();
+        assertSame(released, wrapperManager.getMavenServer(ServerType.RESOLVE));
+    }
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.eclipse.core.resources.IProject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link MavenProjectsResolveTask}
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MavenProjectsResolveTaskTest {
+
+    @Mock
+    private MavenProjectManager   projectManager;
+    @Mock
+    private MavenProgressNotifier notifier;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldResolveDependencyBeforeDependentProject() throws Exception {
+        MavenProject parent = mockProject("parent", null);
+        MavenProject core = mockProject("core", "parent");
+        MavenProject web = mockProject("web", "parent", "core");
+        List<MavenProject> resolved = new ArrayList<>();
+
+        new MavenProjectsResolveTask(Arrays.asList(web, core, parent), projectManager, executor, notifier, resolved::addAll)
+                .perform();
+
+        InOrder inOrder = inOrder(projectManager);
+        inOrder.verify(projectManager).resolveMavenProject(parent.getProject(), parent);
+        inOrder.verify(projectManager).resolveMavenProject(core.getProject(), core);
+        inOrder.verify(projectManager).resolveMavenProject(web.getProject(), web);
+        assertEquals(Arrays.asList(parent, core, web), resolved);
+    }
+
+    @Test
+    public void shouldResolveProjectsWithCyclicDependencies() throws Exception {
+        MavenProject first = mockProject("first", null, "second");
+        MavenProject second = mockProject("second", null, "first");
+        List<MavenProject> resolved = new ArrayList<>();
+
+        new MavenProjectsResolveTask(Arrays.asList(first, second), projectManager, executor, notifier, resolved::addAll)
+                .perform();
+
+        assertEquals(2, resolved.size());
+        assertTrue(resolved.containsAll(Arrays.asList(first, second)));
+    }
+
+    @Test
+    public void shouldMatchSnapshotDependencyByBaseVersion() throws Exception {
+        MavenProject core = mockVersionedProject("core", "1.0-SNAPSHOT", "1.0-SNAPSHOT");
+        MavenProject web = mockVersionedProject("web", "1.0-20170101.010101-1", "1.0-SNAPSHOT", "core");
+        List<MavenProject> resolved = new ArrayList<>();
+
+        new MavenProjectsResolveTask(Arrays.asList(web, core), projectManager, executor, notifier, resolved::addAll)
+                .perform();
+
+        assertEquals(Arrays.asList(core, web), resolved);
+    }
+
+    private MavenProject mockProject(String artifactId, String parentArtifactId, String... dependencies) {
+        MavenProject mavenProject = mockVersionedProject(artifactId, "1.0", "1.0", dependencies);
+        if (parentArtifactId != null) {
+            when(mavenProject.getParentKey()).thenReturn(new MavenKey("org.test", parentArtifactId, "1.0"));
+        }
+        return mavenProject;
+    }
+
+    /**
+     * Mocks project which version is {@code baseVersion} and which depends on artifacts
+     * resolved to {@code version}, e.g. timestamped snapshots.
+     */
+    private MavenProject mockVersionedProject(String artifactId, String version, String baseVersion, String... dependencies) {
+        MavenProject mavenProject = mock(MavenProject.class);
+        IProject project = mock(IProject.class);
+        when(project.exists()).thenReturn(true);
+        when(mavenProject.getProject()).thenReturn(project);
+        when(mavenProject.getMavenKey()).thenReturn(new MavenKey("org.test", artifactId, baseVersion));
+        List<MavenArtifact> artifacts = new ArrayList<>();
+        for (String dependency : dependencies) {
+            artifacts.add(new MavenArtifact("org.test", dependency, version, baseVersion, "jar", null, "compile", false, "jar", null,
+                                            null, true, false));
+        }
+        when(mavenProject.getDependencies()).thenReturn(artifacts);
+        return mavenProject;
+    }
+}
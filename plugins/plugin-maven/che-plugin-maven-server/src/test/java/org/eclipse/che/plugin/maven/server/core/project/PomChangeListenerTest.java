@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core.project;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.plugin.maven.server.core.EclipseWorkspaceProvider;
+import org.eclipse.che.plugin.maven.server.core.MavenWorkspace;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspace;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.UPDATED;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link PomChangeListener}
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PomChangeListenerTest {
+
+    private static final String POM_PATH = "/project/pom.xml";
+
+    @Rule
+    public TemporaryFolder workspaceFolder = new TemporaryFolder();
+
+    @Mock
+    private MavenWorkspace           mavenWorkspace;
+    @Mock
+    private EclipseWorkspaceProvider workspaceProvider;
+
+    private EventService      eventService;
+    private PomChangeListener listener;
+    private IProject          project;
+
+    @Before
+    public void setUp() throws Exception {
+        IWorkspace workspace = mock(IWorkspace.class, RETURNS_DEEP_STUBS);
+        project = mock(IProject.class);
+        when(workspace.getRoot().getProject("/project")).thenReturn(project);
+        when(workspaceProvider.get()).thenReturn(workspace);
+
+        eventService = new EventService();
+        listener = new PomChangeListener(eventService, mavenWorkspace, workspaceProvider, workspaceFolder.getRoot().getPath());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        listener.shutdown();
+    }
+
+    @Test
+    public void shouldUpdateProjectOnceForBurstOfChanges() throws Exception {
+        writePom("1.0");
+
+        for (int i = 0; i < 5; i++) {
+            eventService.publish(pomModified());
+        }
+
+        ArgumentCaptor<List> projects = ArgumentCaptor.forClass(List.class);
+        verify(mavenWorkspace, timeout(PomChangeListener.MAX_DELAY_MS)).update(projects.capture());
+        assertEquals(Collections.singletonList(project), projects.getValue());
+        Thread.sleep(PomChangeListener.QUIET_PERIOD_MS * 2);
+        verify(mavenWorkspace, times(1)).update(anyListOf(IProject.class));
+    }
+
+    @Test
+    public void shouldUpdateProjectWithinMaxDelayWhenChangesKeepComing() throws Exception {
+        writePom("1.0");
+        long deadline = System.currentTimeMillis() + PomChangeListener.MAX_DELAY_MS + 1000;
+
+        while (System.currentTimeMillis() < deadline) {
+            eventService.publish(pomModified());
+            Thread.sleep(PomChangeListener.QUIET_PERIOD_MS / 3);
+        }
+
+        // changes were still coming, so the update was triggered by max delay rather than by the quiet period
+        verify(mavenWorkspace, atLeastOnce()).update(anyListOf(IProject.class));
+    }
+
+    @Test
+    public void shouldNotUpdateProjectWhenPomContentIsNotChanged() throws Exception {
+        writePom("1.0");
+        eventService.publish(pomModified());
+        verify(mavenWorkspace, timeout(PomChangeListener.MAX_DELAY_MS)).update(anyListOf(IProject.class));
+
+        eventService.publish(pomModified());
+        Thread.sleep(PomChangeListener.QUIET_PERIOD_MS * 2);
+        verify(mavenWorkspace, times(1)).update(anyListOf(IProject.class));
+
+        writePom("2.0");
+        eventService.publish(pomModified());
+        verify(mavenWorkspace, timeout(PomChangeListener.MAX_DELAY_MS).times(2)).update(anyListOf(IProject.class));
+    }
+
+    private ProjectItemModifiedEvent pomModified() {
+        return new ProjectItemModifiedEvent(UPDATED, "workspace", "project", POM_PATH, false);
+    }
+
+    private void writePom(String version) throws Exception {
+        File pom = new File(workspaceFolder.getRoot(), POM_PATH);
+        pom.getParentFile().mkdirs();
+        String content = "<project>\n" +
+                         "    <modelVersion>4.0.0</modelVersion>\n" +
+                         "    <groupId>org.test</groupId>\n" +
+                         "    <artifactId>project</artifactId>\n" +
+                         "    <version>" + version + "</version>\n" +
+                         "</project>\n";
+        Files.write(pom.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -110,7 +110,10 @@ public class NodeJsDebugCommandsLibrary {
             }
 
             Location newLocation = new LocationImpl(newTarget, location.getLineNumber());
-            Breakpoint newBreakpoint = new BreakpointImpl(newLocation, breakpoint.isEnabled(), breakpoint.getCondition());
+            Breakpoint newBreakpoint = new BreakpointImpl(newLocation,
+                                                          breakpoint.isEnabled(),
+                                                          breakpoint.getCondition(),
+                                                          breakpoint.getHitCount());
             breakpoints.set(i, newBreakpoint);
         }
 
@@ -12,6 +12,7 @@ package org.eclipse.che.plugin.machine.ssh;
 
 import org.eclipse.che.api.agent.server.launcher.AbstractAgentLauncher;
 import org.eclipse.che.api.agent.server.launcher.ProcessIsLaunchedChecker;
+import org.eclipse.che.api.agent.server.launcher.ReadinessProbe;
 import org.eclipse.che.api.agent.server.terminal.WebsocketTerminalFilesPathProvider;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.core.ConflictException;
@@ -55,8 +56,9 @@ public class SshMachineImplTerminalLauncher extends AbstractAgentLauncher {
     public SshMachineImplTerminalLauncher(@Named("che.agent.dev.max_start_time_ms") long agentMaxStartTimeMs,
                                           @Named("che.agent.dev.ping_delay_ms") long agentPingDelayMs,
                                           @Named("machine.ssh.server.terminal.location") String terminalLocation,
-                                          WebsocketTerminalFilesPathProvider terminalPathProvider) {
-        super(agentMaxStartTimeMs, agentPingDelayMs, new ProcessIsLaunchedChecker("che-websocket-terminal"));
+                                          WebsocketTerminalFilesPathProvider terminalPathProvider,
+                                          ReadinessProbe readinessProbe) {
+        super(agentMaxStartTimeMs, agentPingDelayMs, new ProcessIsLaunchedChecker("che-websocket-terminal"), readinessProbe);
         this.archivePathProvider = terminalPathProvider;
         this.terminalLocation = terminalLocation;
     }
@@ -72,12 +74,12 @@ public class SshMachineImplTerminalLauncher extends AbstractAgentLauncher {
     }
 
     @Override
-    public void launch(Instance machine, Agent agent) throws ServerException {
+    protected InstanceProcess start(Instance machine, Agent agent) throws ServerException {
         try {
             String architecture = detectArchitecture(machine);
             machine.copy(archivePathProvider.getPath(architecture), terminalLocation);
 
-            super.launch(machine, agent);
+            return super.start(machine, agent);
         } catch (ConflictException e) {
             // should never happen
             throw new ServerException("Internal server error occurs on terminal launching.");
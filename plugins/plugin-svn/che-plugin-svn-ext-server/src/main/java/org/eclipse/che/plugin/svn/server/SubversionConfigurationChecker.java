@@ -16,6 +16,7 @@ import com.google.common.base.Predicate;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 
+import org.eclipse.che.inject.lifecycle.DeferredInit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +43,7 @@ import java.util.Set;
  * @author Vladyslav Zhukovskyi
  */
 @Singleton
+@DeferredInit
 public class SubversionConfigurationChecker {
 
     private static final Set<String> SUBVERSION_IGNORE_PATTERNS = new LinkedHashSet<>();
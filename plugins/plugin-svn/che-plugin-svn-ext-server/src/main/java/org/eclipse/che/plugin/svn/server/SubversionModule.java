@@ -38,6 +38,6 @@ public class SubversionModule extends AbstractModule {
         bind(SubversionService.class);
         bind(RepositoryUrlProvider.class).to(RepositoryUrlProviderImpl.class);
 
-        bind(SubversionConfigurationChecker.class).asEagerSingleton();
+        bind(SubversionConfigurationChecker.class);
     }
 }
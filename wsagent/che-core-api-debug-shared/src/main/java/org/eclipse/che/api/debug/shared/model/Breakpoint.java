@@ -28,4 +28,10 @@ public interface Breakpoint {
      * The condition.
      */
     String getCondition();
+
+    /**
+     * The number of hits after which breakpoint suspends the target, {@code 0} if breakpoint suspends the target on each hit.
+     * When breakpoint has condition only hits which satisfy the condition are counted.
+     */
+    int getHitCount();
 }
@@ -20,11 +20,17 @@ public class BreakpointImpl implements Breakpoint {
     private final Location location;
     private final boolean  enabled;
     private final String   condition;
+    private final int      hitCount;
 
-    public BreakpointImpl(Location location, boolean enabled, String condition) {
+    public BreakpointImpl(Location location, boolean enabled, String condition, int hitCount) {
         this.location = location;
         this.enabled = enabled;
         this.condition = condition;
+        this.hitCount = hitCount;
+    }
+
+    public BreakpointImpl(Location location, boolean enabled, String condition) {
+        this(location, enabled, condition, 0);
     }
 
     public BreakpointImpl(Location location) {
@@ -46,6 +52,11 @@ public class BreakpointImpl implements Breakpoint {
         return condition;
     }
 
+    @Override
+    public int getHitCount() {
+        return hitCount;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -54,6 +65,7 @@ public class BreakpointImpl implements Breakpoint {
         BreakpointImpl that = (BreakpointImpl)o;
 
         if (enabled != that.enabled) return false;
+        if (hitCount != that.hitCount) return false;
         if (location != null ? !location.equals(that.location) : that.location != null) return false;
         return !(condition != null ? !condition.equals(that.condition) : that.condition != null);
     }
@@ -63,6 +75,7 @@ public class BreakpointImpl implements Breakpoint {
         int result = location != null ? location.hashCode() : 0;
         result = 31 * result + (enabled ? 1 : 0);
         result = 31 * result + (condition != null ? condition.hashCode() : 0);
+        result = 31 * result + hitCount;
         return result;
     }
 }
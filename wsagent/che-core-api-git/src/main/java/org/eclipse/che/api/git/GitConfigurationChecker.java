@@ -11,6 +11,8 @@
 package org.eclipse.che.api.git;
 
 import org.eclipse.che.api.project.shared.Constants;
+import org.eclipse.che.inject.lifecycle.DeferredInit;
+
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
@@ -40,6 +42,7 @@ import org.slf4j.LoggerFactory;
  * @author Artem Zatsarynnyi
  */
 @Singleton
+@DeferredInit
 public class GitConfigurationChecker {
     private static final Logger      LOG                           = LoggerFactory.getLogger(GitConfigurationChecker.class);
     /** Special comment for global .gitignore file. Define begin of Codenvy-specific patterns. */
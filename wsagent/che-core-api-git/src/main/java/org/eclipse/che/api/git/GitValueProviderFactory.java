@@ -11,6 +11,7 @@
 package org.eclipse.che.api.git;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 
 import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.git.shared.Remote;
@@ -30,13 +31,16 @@ import static org.eclipse.che.api.git.GitProjectType.GIT_REPOSITORY_REMOTES;
 import static org.eclipse.che.api.git.GitProjectType.VCS_PROVIDER_NAME;
 
 /**
+ * Project type definitions are created on the agent startup, so connection factory
+ * is taken lazily to not initialize it together with them.
+ *
  * @author Roman Nikitenko
  */
 @Singleton
 public class GitValueProviderFactory implements ValueProviderFactory {
 
     @Inject
-    private GitConnectionFactory gitConnectionFactory;
+    private Provider<GitConnectionFactory> gitConnectionFactory;
 
     @Override
     public ValueProvider newInstance(final FolderEntry folder) {
@@ -46,7 +50,7 @@ public class GitValueProviderFactory implements ValueProviderFactory {
                 if (folder == null) {
                     return Collections.emptyList();
                 }
-                try (GitConnection gitConnection = gitConnectionFactory.getConnection(resolveLocalPath(folder))) {
+                try (GitConnection gitConnection = gitConnectionFactory.get().getConnection(resolveLocalPath(folder))) {
                     //check whether the folder belongs to git repository
                     if (!gitConnection.isInsideWorkTree()) {
                         return Collections.emptyList();
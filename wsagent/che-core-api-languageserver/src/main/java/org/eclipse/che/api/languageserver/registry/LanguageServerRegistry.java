@@ -14,6 +14,8 @@ import io.typefox.lsapi.services.LanguageServer;
 
 import org.eclipse.che.api.languageserver.exception.LanguageServerException;
 import org.eclipse.che.api.languageserver.shared.ProjectExtensionKey;
+import org.eclipse.che.api.languageserver.shared.lsapi.DidChangeTextDocumentParamsDTO;
+import org.eclipse.che.api.languageserver.shared.lsapi.DidOpenTextDocumentParamsDTO;
 import org.eclipse.che.api.languageserver.shared.model.LanguageDescription;
 import org.eclipse.che.commons.annotation.Nullable;
 
@@ -36,4 +38,19 @@ public interface LanguageServerRegistry {
     List<LanguageDescription> getSupportedLanguages();
 
     Map<ProjectExtensionKey, LanguageServerDescription> getInitializedLanguages();
+
+    /**
+     * Remembers document opened in editor, it is opened again when its server is restarted.
+     */
+    void onDocumentOpened(DidOpenTextDocumentParamsDTO params) throws LanguageServerException;
+
+    /**
+     * Updates version and content of the opened document.
+     */
+    void onDocumentChanged(DidChangeTextDocumentParamsDTO params);
+
+    /**
+     * Forgets document closed in editor.
+     */
+    void onDocumentClosed(String uri);
 }
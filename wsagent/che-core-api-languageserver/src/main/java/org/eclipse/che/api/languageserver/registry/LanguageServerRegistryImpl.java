@@ -13,34 +13,56 @@ package org.eclipse.che.api.languageserver.registry;
 import io.typefox.lsapi.ServerCapabilities;
 import io.typefox.lsapi.services.LanguageServer;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.languageserver.exception.LanguageServerException;
 import org.eclipse.che.api.languageserver.launcher.LanguageServerLauncher;
 import org.eclipse.che.api.languageserver.shared.ProjectExtensionKey;
+import org.eclipse.che.api.languageserver.shared.lsapi.DidChangeTextDocumentParamsDTO;
+import org.eclipse.che.api.languageserver.shared.lsapi.DidOpenTextDocumentParamsDTO;
+import org.eclipse.che.api.languageserver.shared.lsapi.TextDocumentContentChangeEventDTO;
+import org.eclipse.che.api.languageserver.shared.lsapi.TextDocumentItemDTO;
 import org.eclipse.che.api.languageserver.shared.model.LanguageDescription;
+import org.eclipse.che.api.project.server.FileEntry;
 import org.eclipse.che.api.project.server.FolderEntry;
 import org.eclipse.che.api.project.server.ProjectManager;
 import org.eclipse.che.api.project.server.VirtualFileEntry;
 import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.schedule.ScheduleRate;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.google.common.io.Files.getFileExtension;
 import static org.eclipse.che.api.languageserver.shared.ProjectExtensionKey.createProjectKey;
 
+/**
+ * Keeps started language servers and shuts down those which aren't used for a while.
+ * Amount of simultaneously running servers is limited, when the limit is reached
+ * the least recently used server is shut down before starting a new one.
+ * Shut down servers are started again on the next request
+ * and documents opened in editor are sent to them again.
+ */
 @Singleton
 public class LanguageServerRegistryImpl implements LanguageServerRegistry, ServerInitializerObserver {
+    private static final Logger LOG = LoggerFactory.getLogger(LanguageServerRegistryImpl.class);
+
     public final static String PROJECT_FOLDER_PATH = "/projects";
 
     /**
@@ -53,17 +75,50 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry, Serve
      */
     private final ConcurrentHashMap<ProjectExtensionKey, LanguageServer> projectToServer;
 
+    /**
+     * Time of the last request to the started {@link LanguageServer}.
+     */
+    private final ConcurrentHashMap<LanguageServer, Long> serverToLastUsage;
+
+    /**
+     * Documents opened in editor by their uri, they are sent again to the restarted {@link LanguageServer}.
+     */
+    private final ConcurrentHashMap<String, OpenedDocument> openedDocuments;
+
+    /**
+     * Guards registration of started servers and their shutdown.
+     */
+    private final Object lock;
+
+    /** Number of servers which are being launched, guarded by {@link #lock}. */
+    private int launching;
+
     private final Provider<ProjectManager> projectManagerProvider;
     private final ServerInitializer        initializer;
+    private final long                     idleTimeoutMs;
+    private final int                      maxServers;
 
+    /**
+     * @param idleTimeoutMin
+     *         time in minutes after which not used server is shut down, non-positive value disables idle shutdown
+     * @param maxServers
+     *         maximum number of simultaneously running servers, non-positive value means no limit
+     */
     @Inject
     public LanguageServerRegistryImpl(Set<LanguageServerLauncher> languageServerLaunchers,
                                       Provider<ProjectManager> projectManagerProvider,
-                                      ServerInitializer initializer) {
+                                      ServerInitializer initializer,
+                                      @Named("che.languageserver.idle_timeout_min") long idleTimeoutMin,
+                                      @Named("che.languageserver.max_servers") int maxServers) {
         this.projectManagerProvider = projectManagerProvider;
         this.initializer = initializer;
+        this.idleTimeoutMs = TimeUnit.MINUTES.toMillis(idleTimeoutMin);
+        this.maxServers = maxServers;
         this.extensionToLauncher = new ConcurrentHashMap<>();
         this.projectToServer = new ConcurrentHashMap<>();
+        this.serverToLastUsage = new ConcurrentHashMap<>();
+        this.openedDocuments = new ConcurrentHashMap<>();
+        this.lock = new Object();
         this.initializer.addObserver(this);
 
         for (LanguageServerLauncher launcher : languageServerLaunchers) {
@@ -89,20 +144,197 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry, Serve
         ProjectExtensionKey projectKey = createProjectKey(projectPath, extension);
 
         for (LanguageServerLauncher launcher : extensionToLauncher.get(extension)) {
-            if (!projectToServer.containsKey(projectKey)) {
+            LanguageServer server = touch(projectKey);
+            if (server == null) {
                 synchronized (launcher) {
-                    if (!projectToServer.containsKey(projectKey)) {
-                        LanguageServer server = initializer.initialize(launcher, projectPath);
-                        projectToServer.put(projectKey, server);
+                    server = touch(projectKey);
+                    if (server == null) {
+                        server = launch(launcher, projectKey, projectPath);
                     }
                 }
             }
-            return projectToServer.get(projectKey);
+            return server;
         }
 
         return null;
     }
 
+    /**
+     * Returns server registered for the given key and updates time of its last usage
+     * or returns {@code null} if there is no running server for the key.
+     */
+    private LanguageServer touch(ProjectExtensionKey projectKey) {
+        synchronized (lock) {
+            LanguageServer server = projectToServer.get(projectKey);
+            if (server != null && serverToLastUsage.containsKey(server)) {
+                serverToLastUsage.put(server, System.currentTimeMillis());
+                return server;
+            }
+            return null;
+        }
+    }
+
+    private LanguageServer launch(LanguageServerLauncher launcher,
+                                  ProjectExtensionKey projectKey,
+                                  String projectPath) throws LanguageServerException {
+        List<LanguageServer> excessServers;
+        synchronized (lock) {
+            excessServers = reserveLaunch();
+        }
+        excessServers.forEach(this::shutdown);
+
+        LanguageServer server;
+        try {
+            server = initializer.initialize(launcher, projectPath);
+        } finally {
+            synchronized (lock) {
+                launching--;
+            }
+        }
+        synchronized (lock) {
+            projectToServer.put(projectKey, server);
+            serverToLastUsage.put(server, System.currentTimeMillis());
+        }
+        reopenDocuments(server, projectKey);
+        return server;
+    }
+
+    /**
+     * Unregisters the least recently used servers to have room for a new one and
+     * reserves the room, must be called under {@link #lock}.
+     *
+     * @return unregistered servers which have to be shut down
+     */
+    private List<LanguageServer> reserveLaunch() {
+        List<LanguageServer> excessServers = new ArrayList<>();
+        if (maxServers > 0) {
+            while (!serverToLastUsage.isEmpty() && serverToLastUsage.size() + launching >= maxServers) {
+                LanguageServer leastRecentlyUsed = serverToLastUsage.entrySet()
+                                                                    .stream()
+                                                                    .min(Map.Entry.comparingByValue())
+                                                                    .get()
+                                                                    .getKey();
+                unregister(leastRecentlyUsed);
+                excessServers.add(leastRecentlyUsed);
+            }
+        }
+        launching++;
+        return excessServers;
+    }
+
+    /**
+     * Shuts down servers which haven't been requested longer than idle timeout.
+     */
+    @ScheduleRate(initialDelay = 1, period = 1, unit = TimeUnit.MINUTES)
+    public void shutdownIdleServers() {
+        if (idleTimeoutMs <= 0) {
+            return;
+        }
+
+        long idleSince = System.currentTimeMillis() - idleTimeoutMs;
+        List<LanguageServer> idleServers;
+        synchronized (lock) {
+            idleServers = serverToLastUsage.entrySet()
+                                           .stream()
+                                           .filter(e -> e.getValue() < idleSince)
+                                           .map(Map.Entry::getKey)
+                                           .collect(Collectors.toList());
+            idleServers.forEach(this::unregister);
+        }
+        idleServers.forEach(this::shutdown);
+    }
+
+    /** Shuts down the given server unless it is already shut down. */
+    @VisibleForTesting
+    void shutdownServer(LanguageServer server) {
+        synchronized (lock) {
+            if (!unregister(server)) {
+                return;
+            }
+        }
+        shutdown(server);
+    }
+
+    /** Must be called under {@link #lock}. */
+    private boolean unregister(LanguageServer server) {
+        if (serverToLastUsage.remove(server) == null) {
+            return false;
+        }
+        projectToServer.values().removeIf(server::equals);
+        return true;
+    }
+
+    private void shutdown(LanguageServer server) {
+        try {
+            initializer.shutdown(server);
+        } catch (Exception e) {
+            LOG.error("Failed to shut down language server. " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void onDocumentOpened(DidOpenTextDocumentParamsDTO params) throws LanguageServerException {
+        String uri = params.getTextDocument().getUri();
+        String path = URI.create(uri).getPath();
+        ProjectExtensionKey projectKey = createProjectKey(extractProjectPath(path), getFileExtension(path));
+        openedDocuments.put(uri, new OpenedDocument(projectKey, DtoFactory.cloneDto(params)));
+    }
+
+    @Override
+    public void onDocumentChanged(DidChangeTextDocumentParamsDTO params) {
+        OpenedDocument document = openedDocuments.get(params.getTextDocument().getUri());
+        if (document == null) {
+            return;
+        }
+        synchronized (document) {
+            TextDocumentItemDTO item = document.params.getTextDocument();
+            item.setVersion(params.getTextDocument().getVersion());
+            for (TextDocumentContentChangeEventDTO change : params.getContentChanges()) {
+                // incremental changes aren't applied, saved content is sent when document is reopened
+                item.setText(change.getRange() == null ? change.getText() : null);
+            }
+        }
+    }
+
+    @Override
+    public void onDocumentClosed(String uri) {
+        openedDocuments.remove(uri);
+    }
+
+    /**
+     * Sends documents which were opened in the previously shut down server
+     * with the same key to the just started server.
+     */
+    private void reopenDocuments(LanguageServer server, ProjectExtensionKey projectKey) {
+        for (OpenedDocument document : openedDocuments.values()) {
+            if (!document.projectKey.equals(projectKey)) {
+                continue;
+            }
+            DidOpenTextDocumentParamsDTO params;
+            synchronized (document) {
+                params = DtoFactory.cloneDto(document.params);
+            }
+            try {
+                if (params.getTextDocument().getText() == null) {
+                    params.getTextDocument().setText(readContent(params.getTextDocument().getUri()));
+                }
+                server.getTextDocumentService().didOpen(params);
+            } catch (Exception e) {
+                LOG.warn("Can't reopen document {} in language server. {}", params.getTextDocument().getUri(), e.getMessage());
+            }
+        }
+    }
+
+    private String readContent(String uri) throws ServerException, LanguageServerException {
+        String path = URI.create(uri).getPath();
+        VirtualFileEntry entry = projectManagerProvider.get()
+                                                       .getProjectsRoot()
+                                                       .getChild(path.substring(PROJECT_FOLDER_PATH.length() + 1));
+        if (!(entry instanceof FileEntry)) {
+            throw new LanguageServerException("File not found " + path);
+        }
+        return new String(((FileEntry)entry).contentAsBytes(), StandardCharsets.UTF_8);
+    }
 
     @Override
     public List<LanguageDescription> getSupportedLanguages() {
@@ -122,6 +354,16 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry, Serve
                               .collect(Collectors.toMap(Map.Entry::getKey, e -> initializedServers.get(e.getValue())));
     }
 
+    private static class OpenedDocument {
+        final ProjectExtensionKey          projectKey;
+        final DidOpenTextDocumentParamsDTO params;
+
+        OpenedDocument(ProjectExtensionKey projectKey, DidOpenTextDocumentParamsDTO params) {
+            this.projectKey = projectKey;
+            this.params = params;
+        }
+    }
+
     protected String extractProjectPath(String filePath) throws LanguageServerException {
         FolderEntry root;
         try {
@@ -153,8 +395,11 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry, Serve
                                     ServerCapabilities capabilities,
                                     LanguageDescription languageDescription,
                                     String projectPath) {
-        for (String ext : languageDescription.getFileExtensions()) {
-            projectToServer.put(createProjectKey(projectPath, ext), server);
+        synchronized (lock) {
+            for (String ext : languageDescription.getFileExtensions()) {
+                projectToServer.put(createProjectKey(projectPath, ext), server);
+            }
+            serverToLastUsage.putIfAbsent(server, System.currentTimeMillis());
         }
     }
 }
@@ -28,6 +28,12 @@ public interface ServerInitializer extends ServerInitializerObservable {
      */
     LanguageServer initialize(LanguageServerLauncher launcher, String projectPath) throws LanguageServerException;
 
+    /**
+     * Shuts down the given {@link LanguageServer} and forgets about it.
+     * Does nothing if server isn't initialized by this initializer.
+     */
+    void shutdown(LanguageServer server);
+
     /**
      * Returns initialized servers.
      */
@@ -112,6 +112,24 @@ public class ServerInitializerImpl implements ServerInitializer {
         return Collections.unmodifiableMap(serversToInitResult);
     }
 
+    @Override
+    public void shutdown(LanguageServer server) {
+        LanguageServerDescription description = serversToInitResult.remove(server);
+        if (description == null) {
+            return;
+        }
+
+        languageIdToServers.values().remove(server);
+        if (server instanceof ServerInitializerObserver) {
+            removeObserver((ServerInitializerObserver)server);
+        }
+
+        server.shutdown();
+        server.exit();
+
+        LOG.info("Language Server {} has been shut down", description.getLanguageDescription().getLanguageId());
+    }
+
     protected LanguageServer doInitialize(LanguageServerLauncher launcher, String projectPath) throws LanguageServerException {
         String languageId = launcher.getLanguageDescription().getLanguageId();
         InitializeParamsImpl initializeParams = prepareInitializeParams(projectPath);
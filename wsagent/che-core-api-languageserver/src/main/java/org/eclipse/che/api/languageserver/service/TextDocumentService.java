@@ -256,6 +256,7 @@ public class TextDocumentService {
         LanguageServer server = getServer(change.getTextDocument().getUri());
         if (server != null) {
             server.getTextDocumentService().didChange(change);
+            languageServerRegistry.onDocumentChanged(change);
         }
     }
 
@@ -268,6 +269,7 @@ public class TextDocumentService {
         LanguageServer server = getServer(openEvent.getTextDocument().getUri());
         if (server != null) {
             server.getTextDocumentService().didOpen(openEvent);
+            languageServerRegistry.onDocumentOpened(openEvent);
         }
     }
 
@@ -280,6 +282,7 @@ public class TextDocumentService {
         if (server != null) {
             server.getTextDocumentService().didClose(closeEvent);
         }
+        languageServerRegistry.onDocumentClosed(closeEvent.getTextDocument().getUri());
     }
 
     @POST
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.languageserver.registry;
 
+import io.typefox.lsapi.DidOpenTextDocumentParams;
 import io.typefox.lsapi.InitializeParams;
 import io.typefox.lsapi.InitializeResult;
 import io.typefox.lsapi.ServerCapabilities;
@@ -18,7 +19,13 @@ import io.typefox.lsapi.services.TextDocumentService;
 import io.typefox.lsapi.services.WindowService;
 
 import org.eclipse.che.api.languageserver.launcher.LanguageServerLauncher;
+import org.eclipse.che.api.languageserver.shared.lsapi.DidChangeTextDocumentParamsDTO;
+import org.eclipse.che.api.languageserver.shared.lsapi.DidOpenTextDocumentParamsDTO;
+import org.eclipse.che.api.languageserver.shared.lsapi.TextDocumentContentChangeEventDTO;
+import org.eclipse.che.api.languageserver.shared.lsapi.TextDocumentItemDTO;
+import org.eclipse.che.api.languageserver.shared.lsapi.VersionedTextDocumentIdentifierDTO;
 import org.eclipse.che.api.languageserver.shared.model.LanguageDescription;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -28,16 +35,21 @@ import org.testng.annotations.Test;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * @author Anatoliy Bazko
@@ -63,6 +75,8 @@ public class LanguageServerRegistryImplTest {
     private ServerCapabilities                  serverCapabilities;
     @Mock
     private CompletableFuture<InitializeResult> completableFuture;
+    @Mock
+    private TextDocumentService                 textDocumentService;
 
     private LanguageServerRegistryImpl registry;
 
@@ -77,13 +91,15 @@ public class LanguageServerRegistryImplTest {
         when(languageDescription.getFileExtensions()).thenReturn(Collections.singletonList("txt"));
         when(languageDescription.getMimeTypes()).thenReturn(Collections.singletonList("plain/text"));
 
-        when(languageServer.getTextDocumentService()).thenReturn(mock(TextDocumentService.class));
+        when(languageServer.getTextDocumentService()).thenReturn(textDocumentService);
         when(languageServer.getWindowService()).thenReturn(mock(WindowService.class));
         when(languageServer.initialize(any(InitializeParams.class))).thenReturn(completableFuture);
 
         registry = spy(new LanguageServerRegistryImpl(Collections.singleton(languageServerLauncher),
                                                       null,
-                                                      initializer));
+                                                      initializer,
+                                                      0,
+                                                      1));
 
         when(initializer.initialize(any(LanguageServerLauncher.class), anyString())).thenAnswer(invocation -> {
             Object[] arguments = invocation.getArguments();
@@ -103,4 +119,87 @@ public class LanguageServerRegistryImplTest {
         verify(initializer).initialize(eq(languageServerLauncher), eq(PROJECT_PATH));
         verify(registry).onServerInitialized(eq(languageServer), eq(serverCapabilities), eq(languageDescription), eq(PROJECT_PATH));
     }
+
+    @Test
+    public void shouldNotStartServerTwiceForTheSameProject() throws Exception {
+        registry.findServer(PREFIX + FILE_PATH);
+        registry.findServer(PREFIX + FILE_PATH);
+
+        verify(initializer, times(1)).initialize(eq(languageServerLauncher), eq(PROJECT_PATH));
+        verify(initializer, never()).shutdown(languageServer);
+    }
+
+    @Test
+    public void shouldShutdownLeastRecentlyUsedServerWhenLimitIsReached() throws Exception {
+        doReturn("/2").when(registry).extractProjectPath("/projects/2/test.txt");
+        registry.findServer(PREFIX + FILE_PATH);
+
+        registry.findServer(PREFIX + "/projects/2/test.txt");
+
+        verify(initializer).shutdown(languageServer);
+        verify(initializer).initialize(eq(languageServerLauncher), eq("/2"));
+    }
+
+    @Test
+    public void shouldStartServerAgainAfterShutdown() throws Exception {
+        registry.findServer(PREFIX + FILE_PATH);
+        registry.shutdownServer(languageServer);
+
+        assertTrue(registry.getInitializedLanguages().isEmpty());
+
+        registry.findServer(PREFIX + FILE_PATH);
+
+        verify(initializer, times(2)).initialize(eq(languageServerLauncher), eq(PROJECT_PATH));
+    }
+
+    @Test
+    public void shouldReopenDocumentsWhenServerIsStartedAgain() throws Exception {
+        registry.findServer(PREFIX + FILE_PATH);
+        registry.onDocumentOpened(createOpenParams("text"));
+        registry.onDocumentChanged(createChangeParams("changed text"));
+        registry.shutdownServer(languageServer);
+
+        registry.findServer(PREFIX + FILE_PATH);
+
+        ArgumentCaptor<DidOpenTextDocumentParams> captor = ArgumentCaptor.forClass(DidOpenTextDocumentParams.class);
+        verify(textDocumentService).didOpen(captor.capture());
+        assertEquals(captor.getValue().getTextDocument().getUri(), PREFIX + FILE_PATH);
+        assertEquals(captor.getValue().getTextDocument().getVersion(), 2);
+        assertEquals(captor.getValue().getTextDocument().getText(), "changed text");
+    }
+
+    @Test
+    public void shouldNotReopenClosedDocuments() throws Exception {
+        registry.findServer(PREFIX + FILE_PATH);
+        registry.onDocumentOpened(createOpenParams("text"));
+        registry.onDocumentClosed(PREFIX + FILE_PATH);
+        registry.shutdownServer(languageServer);
+
+        registry.findServer(PREFIX + FILE_PATH);
+
+        verify(textDocumentService, never()).didOpen(any(DidOpenTextDocumentParams.class));
+    }
+
+    private static DidOpenTextDocumentParamsDTO createOpenParams(String text) {
+        TextDocumentItemDTO item = newDto(TextDocumentItemDTO.class);
+        item.setUri(PREFIX + FILE_PATH);
+        item.setLanguageId("id");
+        item.setVersion(1);
+        item.setText(text);
+        DidOpenTextDocumentParamsDTO params = newDto(DidOpenTextDocumentParamsDTO.class);
+        params.setTextDocument(item);
+        return params;
+    }
+
+    private static DidChangeTextDocumentParamsDTO createChangeParams(String text) {
+        VersionedTextDocumentIdentifierDTO identifier = newDto(VersionedTextDocumentIdentifierDTO.class);
+        identifier.setUri(PREFIX + FILE_PATH);
+        identifier.setVersion(2);
+        TextDocumentContentChangeEventDTO change = newDto(TextDocumentContentChangeEventDTO.class);
+        change.setText(text);
+        DidChangeTextDocumentParamsDTO params = newDto(DidChangeTextDocumentParamsDTO.class);
+        params.setTextDocument(identifier);
+        params.setContentChanges(singletonList(change));
+        return params;
+    }
 }
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+/**
+ * Single byte range of HTTP {@code Range} header, see RFC 7233.
+ * Only one range in {@code bytes} unit is supported, any other header is ignored and whole content is served.
+ */
+final class ByteRange {
+    private static final String BYTES_UNIT = "bytes=";
+
+    private final long first;
+    private final long last;
+
+    private ByteRange(long first, long last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Parses value of {@code Range} header.
+     *
+     * @param header
+     *         value of header, e.g. {@code bytes=0-499}, {@code bytes=500-} or {@code bytes=-500}
+     * @param contentLength
+     *         length of content
+     * @return range or {@code null} if header is absent, malformed or contains more than one range
+     * @throws IllegalArgumentException
+     *         if range is not satisfiable for content of the given length
+     */
+    static ByteRange parse(String header, long contentLength) {
+        if (header == null || !header.startsWith(BYTES_UNIT)) {
+            return null;
+        }
+        final String spec = header.substring(BYTES_UNIT.length()).trim();
+        final int dash = spec.indexOf('-');
+        if (dash < 0 || spec.indexOf(',') >= 0) {
+            return null;
+        }
+        final long first;
+        final long last;
+        try {
+            if (dash == 0) {
+                final long suffixLength = Long.parseLong(spec.substring(1));
+                if (suffixLength <= 0) {
+                    throw new IllegalArgumentException("Unsatisfiable range " + header);
+                }
+                first = Math.max(0, contentLength - suffixLength);
+                last = contentLength - 1;
+            } else {
+                first = Long.parseLong(spec.substring(0, dash));
+                final long requestedLast = dash == spec.length() - 1 ? Long.MAX_VALUE : Long.parseLong(spec.substring(dash + 1));
+                if (requestedLast < first) {
+                    return null;
+                }
+                last = Math.min(requestedLast, contentLength - 1);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (first < 0 || first >= contentLength) {
+            throw new IllegalArgumentException("Unsatisfiable range " + header);
+        }
+        return new ByteRange(first, last);
+    }
+
+    long getFirst() {
+        return first;
+    }
+
+    long getLast() {
+        return last;
+    }
+
+    long getLength() {
+        return last - first + 1;
+    }
+
+    /** Returns value of {@code Content-Range} header for this range. */
+    String toContentRange(long contentLength) {
+        return "bytes " + first + '-' + last + '/' + contentLength;
+    }
+
+    /** Returns value of {@code Content-Range} header for unsatisfiable range. */
+    static String unsatisfiedContentRange(long contentLength) {
+        return "bytes */" + contentLength;
+    }
+}
@@ -59,6 +59,7 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
@@ -66,15 +67,20 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -84,10 +90,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 import static javax.ws.rs.HttpMethod.DELETE;
 import static javax.ws.rs.HttpMethod.GET;
 import static javax.ws.rs.HttpMethod.PUT;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.Response.Status.PARTIAL_CONTENT;
+import static javax.ws.rs.core.Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE;
 import static org.eclipse.che.api.core.util.LinksHelper.createLink;
 import static org.eclipse.che.api.project.server.DtoConverter.asDto;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_CHILDREN;
@@ -114,6 +123,9 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
 @Path("/project")
 @Singleton
 public class ProjectService extends Service {
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+
     private static final Logger LOG  = LoggerFactory.getLogger(ProjectService.class);
     private static final Tika   TIKA = new Tika();
 
@@ -483,20 +495,117 @@ public class ProjectService extends Service {
     }
 
     @ApiOperation(value = "Get file content",
-                  notes = "Get file content by its name")
+                  notes = "Get file content by its name. Single byte range may be requested with 'Range' header")
     @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 206, message = "Requested range of content"),
+                   @ApiResponse(code = 304, message = "Content is not modified"),
                    @ApiResponse(code = 403, message = "User not authorized to call this operation"),
                    @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 416, message = "Requested range is not satisfiable"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
     @GET
     @Path("/file/{path:.*}")
     public Response getFile(@ApiParam(value = "Path to a file", required = true)
-                            @PathParam("path") String path) throws IOException, NotFoundException, ForbiddenException, ServerException {
+                            @PathParam("path") String path,
+                            @HeaderParam("Range") String range,
+                            @HeaderParam("If-Range") String ifRange,
+                            @Context Request request) throws IOException, NotFoundException, ForbiddenException, ServerException {
+        final FileEntry file = projectManager.asFile(path);
+        if (file == null) {
+            throw new NotFoundException("File not found for " + path);
+        }
+        final VirtualFile virtualFile = file.getVirtualFile();
+        final long length = virtualFile.getLength();
+        final long lastModified = virtualFile.getLastModificationDate();
+        final EntityTag entityTag = new EntityTag(Long.toHexString(length) + '-' + Long.toHexString(lastModified), true);
+
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.tag(entityTag).build();
+        }
+
+        ByteRange byteRange = null;
+        if (ifRangeMatches(ifRange, lastModified)) {
+            try {
+                byteRange = ByteRange.parse(range, length);
+            } catch (IllegalArgumentException e) {
+                return Response.status(REQUESTED_RANGE_NOT_SATISFIABLE)
+                               .header(CONTENT_RANGE, ByteRange.unsatisfiedContentRange(length))
+                               .build();
+            }
+        }
+
+        final long offset = byteRange == null ? 0 : byteRange.getFirst();
+        final long count = byteRange == null ? length : byteRange.getLength();
+        final StreamingOutput content = output -> {
+            try {
+                virtualFile.transferContent(output, offset, count);
+            } catch (ForbiddenException | ServerException e) {
+                throw new IOException(e.getLocalizedMessage(), e);
+            }
+        };
+        final Response.ResponseBuilder response = byteRange == null
+                                                  ? Response.ok()
+                                                  : Response.status(PARTIAL_CONTENT)
+                                                            .header(CONTENT_RANGE, byteRange.toContentRange(length));
+        return response.entity(content)
+                       .type(TIKA.detect(file.getName()))
+                       .tag(entityTag)
+                       .lastModified(new Date(lastModified))
+                       .header(ACCEPT_RANGES, "bytes")
+                       .header(HttpHeaders.CONTENT_LENGTH, count)
+                       .build();
+    }
+
+    /**
+     * Range of the content may be sent only if validator from If-Range strongly matches the file.
+     * Entity tag of the file is weak, as it's built from length and modification date, and weak validators
+     * never match, so only modification date is accepted. It's strong if the file was not modified within
+     * the second before the response, as the date has one second precision.
+     */
+    private static boolean ifRangeMatches(String ifRange, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        final long ifRangeDate;
+        try {
+            ifRangeDate = ZonedDateTime.parse(ifRange.trim(), RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            // entity tag
+            return false;
+        }
+        return ifRangeDate / 1000 == lastModified / 1000 && System.currentTimeMillis() - lastModified >= 1000;
+    }
+
+    @ApiOperation(value = "Get lines of file",
+                  notes = "Get window of file content as list of lines, it allows to page large files",
+                  response = String.class,
+                  responseContainer = "List")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 400, message = "Negative index or count of lines"),
+                   @ApiResponse(code = 403, message = "User not authorized to call this operation"),
+                   @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    @GET
+    @Path("/file-lines/{path:.*}")
+    @Produces({MediaType.APPLICATION_JSON})
+    public List<String> getFileLines(@ApiParam(value = "Path to a file", required = true)
+                                     @PathParam("path") String path,
+                                     @ApiParam(value = "Zero based index of the first line")
+                                     @DefaultValue("0") @QueryParam("start") int start,
+                                     @ApiParam(value = "Maximum number of lines")
+                                     @DefaultValue("1000") @QueryParam("count") int count) throws NotFoundException,
+                                                                                                  ForbiddenException,
+                                                                                                  ServerException,
+                                                                                                  BadRequestException {
+        if (start < 0 || count < 0) {
+            throw new BadRequestException("Index of the first line and count of lines must not be negative");
+        }
         final FileEntry file = projectManager.asFile(path);
         if (file == null) {
             throw new NotFoundException("File not found for " + path);
         }
-        return Response.ok().entity(file.getInputStream()).type(TIKA.detect(file.getName())).build();
+        return file.getVirtualFile().getContentLines(start, count);
     }
 
     @PUT
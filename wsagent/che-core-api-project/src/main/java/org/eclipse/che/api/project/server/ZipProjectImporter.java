@@ -14,6 +14,7 @@ import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.project.SourceStorage;
+import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
 import org.eclipse.che.api.project.server.importer.ProjectImporter;
 
@@ -80,12 +81,13 @@ public class ZipProjectImporter implements ProjectImporter {
         }
 
         Map<String, String> parameters = storage.getParameters();
-        try (InputStream zip = url.openStream()) {
+        try (InputStream zip = url.openStream();
+             LineConsumer output = importOutputConsumerFactory.newLineConsumer()) {
             int stripNumber = 0;
             if (parameters != null && parameters.containsKey("skipFirstLevel")) {
                 stripNumber = Boolean.parseBoolean(parameters.get("skipFirstLevel")) ? 1 : 0;
             }
-            baseFolder.getVirtualFile().unzip(zip, true, stripNumber);
+            baseFolder.getVirtualFile().unzip(zip, true, stripNumber, output);
         }
     }
 
@@ -13,6 +13,7 @@ package org.eclipse.che.api.vfs;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.util.LineConsumer;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -56,4 +57,22 @@ public abstract class Archiver {
      */
     public abstract void extract(InputStream compressedInput, boolean overwrite, int stripNumber)
             throws IOException, ForbiddenException, ConflictException, ServerException;
+
+    /**
+     * Extract compressed content to {@code folder} reporting progress of extraction.
+     * By default progress isn't reported.
+     *
+     * @param compressedInput
+     *         compressed content that needed to be extracted
+     * @param overwrite
+     *         overwrite existing files
+     * @param stripNumber
+     *         strip number leading components from file names on extraction.
+     * @param progress
+     *         consumer of the extraction progress messages
+     */
+    public void extract(InputStream compressedInput, boolean overwrite, int stripNumber, LineConsumer progress)
+            throws IOException, ForbiddenException, ConflictException, ServerException {
+        extract(compressedInput, overwrite, stripNumber);
+    }
 }
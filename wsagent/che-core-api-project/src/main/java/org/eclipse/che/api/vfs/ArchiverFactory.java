@@ -11,12 +11,26 @@
 package org.eclipse.che.api.vfs;
 
 public class ArchiverFactory {
+    private final int extractThreads;
+
+    public ArchiverFactory() {
+        this(1);
+    }
+
+    /**
+     * @param extractThreads
+     *         the number of threads used for extraction of archives which support parallel extraction
+     */
+    public ArchiverFactory(int extractThreads) {
+        this.extractThreads = extractThreads;
+    }
+
     public Archiver createArchiver(VirtualFile folder, String archiveType) {
         if (archiveType == null) {
             throw new IllegalArgumentException("Archive type might not be null");
         }
         if ("zip".equals(archiveType.toLowerCase())) {
-            return new ZipArchiver(folder);
+            return new ZipArchiver(folder, extractThreads);
         } else if ("tar".equals(archiveType.toLowerCase())) {
             return new TarArchiver(folder);
         }
@@ -11,16 +11,29 @@
 package org.eclipse.che.api.vfs;
 
 import com.google.common.annotations.Beta;
+import com.google.common.io.ByteStreams;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.commons.lang.Pair;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.IOUtils.closeQuietly;
+
 /**
  * Item of Virtual Filesystem.
  *
@@ -140,6 +153,97 @@ public interface VirtualFile extends Comparable<VirtualFile> {
      */
     String getContentAsString() throws ForbiddenException, ServerException;
 
+    /**
+     * Gets window of the file content. Window may be shorter than requested if file ends earlier.
+     *
+     * @param offset
+     *         position of the first byte of window
+     * @param length
+     *         the maximum number of bytes in window
+     * @return content of the window
+     * @throws ForbiddenException
+     *         if this item is not a file
+     * @throws ServerException
+     *         if other error occurs
+     * @see #isFile()
+     */
+    default InputStream getContent(long offset, long length) throws ForbiddenException, ServerException {
+        checkArgument(offset >= 0 && length >= 0, "Offset and length of content window must not be negative");
+        final InputStream content = getContent();
+        try {
+            ByteStreams.skipFully(content, offset);
+        } catch (EOFException e) {
+            closeQuietly(content);
+            return new ByteArrayInputStream(new byte[0]);
+        } catch (IOException e) {
+            closeQuietly(content);
+            throw new ServerException(e.getMessage(), e);
+        }
+        return ByteStreams.limit(content, length);
+    }
+
+    /**
+     * Writes window of the file content to the given output.
+     *
+     * @param output
+     *         output to write content to, it is not closed
+     * @param offset
+     *         position of the first byte of window
+     * @param length
+     *         the maximum number of bytes to write
+     * @throws ForbiddenException
+     *         if this item is not a file
+     * @throws ServerException
+     *         if content can't be read or written
+     * @see #getContent(long, long)
+     */
+    default void transferContent(OutputStream output, long offset, long length) throws ForbiddenException, ServerException {
+        try (InputStream content = getContent(offset, length)) {
+            ByteStreams.copy(content, output);
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets window of the file content as lines decoding bytes using the platform's default charset.
+     * Window may contain fewer lines than requested if file ends earlier.
+     *
+     * @param firstLine
+     *         zero based index of the first line of window
+     * @param count
+     *         the maximum number of lines in window
+     * @return lines of the window without line terminators
+     * @throws ForbiddenException
+     *         if this item is not a file
+     * @throws ServerException
+     *         if other error occurs
+     * @see #isFile()
+     */
+    default List<String> getContentLines(int firstLine, int count) throws ForbiddenException, ServerException {
+        checkArgument(firstLine >= 0 && count >= 0, "First line and count of lines must not be negative");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(getContent(), UTF_8))) {
+            return readLines(reader, firstLine, count);
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+    }
+
+    /** Reads {@code count} lines starting from {@code firstLine} without reading the rest of content. */
+    static List<String> readLines(BufferedReader reader, int firstLine, int count) throws IOException {
+        for (int i = 0; i < firstLine; i++) {
+            if (reader.readLine() == null) {
+                return new ArrayList<>();
+            }
+        }
+        final List<String> lines = new ArrayList<>(Math.min(count, 1024));
+        String line;
+        while (lines.size() < count && (line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
     /**
      * Updates content of the file.
      *
@@ -526,6 +630,25 @@ public interface VirtualFile extends Comparable<VirtualFile> {
      */
     void unzip(InputStream zipped, boolean overwrite, int stripNumber) throws ForbiddenException, ConflictException, ServerException;
 
+    /**
+     * Extracts zip archive to the folder denoted by this VirtualFile reporting progress of extraction.
+     * By default progress isn't reported.
+     *
+     * @param zipped
+     *         ZIP archive
+     * @param overwrite
+     *         overwrite existing files
+     * @param stripNumber
+     *         strip number leading components from file names on extraction.
+     * @param progress
+     *         consumer of the extraction progress messages
+     * @see #unzip(InputStream, boolean, int)
+     */
+    default void unzip(InputStream zipped, boolean overwrite, int stripNumber, LineConsumer progress)
+            throws ForbiddenException, ConflictException, ServerException {
+        unzip(zipped, overwrite, stripNumber);
+    }
+
     /**
      * Gets content of folder denoted by this VirtualFile as TAR archive.
      *
@@ -11,23 +11,61 @@
 package org.eclipse.che.api.vfs;
 
 import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.vfs.util.NotClosableInputStream;
-import org.eclipse.che.api.vfs.util.ZipContent;
+import org.eclipse.che.api.core.util.FileCleaner;
+import org.eclipse.che.api.core.util.LineConsumer;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 
+import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 
+import static java.util.Comparator.comparing;
+
 public class ZipArchiver extends Archiver {
+    /** The threshold after that checking of ZIP ratio started. */
+    private static final long ZIP_THRESHOLD = 1000000;
+    /**
+     * Max compression ratio. If the number of bytes uncompressed data is exceed the number
+     * of bytes of compressed stream more than this ratio (and number of uncompressed data
+     * is more than threshold) then IOException is thrown.
+     */
+    private static final int  ZIP_RATIO     = 100;
+
+    private final int extractThreads;
+
     public ZipArchiver(VirtualFile folder) {
+        this(folder, 1);
+    }
+
+    public ZipArchiver(VirtualFile folder, int extractThreads) {
         super(folder);
+        this.extractThreads = extractThreads;
     }
 
     @Override
@@ -87,49 +125,216 @@ public class ZipArchiver extends Archiver {
     @Override
     public void extract(InputStream zipInput, boolean overwrite, int stripNumber)
             throws IOException, ForbiddenException, ConflictException, ServerException {
-        try (ZipInputStream zip = new ZipInputStream(ZipContent.of(zipInput).getContent())) {
-            InputStream notClosableInputStream = new NotClosableInputStream(zip);
-            ZipEntry zipEntry;
-            while ((zipEntry = zip.getNextEntry()) != null) {
-                VirtualFile extractFolder = folder;
+        extract(zipInput, overwrite, stripNumber, LineConsumer.DEV_NULL);
+    }
 
-                Path relativePath = Path.of(zipEntry.getName());
+    /**
+     * Extracts zip archive to the {@code folder}.
+     * <p/>
+     * Archive is spooled to a temporary file once, then all the folders are created
+     * and files are extracted by {@code extractThreads} threads in parallel.
+     * Zip bomb is detected while files are extracted, extraction is stopped as soon as
+     * the number of extracted bytes exceeds {@link #ZIP_RATIO} times size of the archive.
+     */
+    @Override
+    public void extract(InputStream zipInput, boolean overwrite, int stripNumber, LineConsumer progress)
+            throws IOException, ForbiddenException, ConflictException, ServerException {
+        final File spool = File.createTempFile("import", ".zip");
+        try {
+            Files.copy(zipInput, spool.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            try (ZipFile zip = new ZipFile(spool)) {
+                extract(zip, spool.length(), overwrite, stripNumber, progress);
+            } catch (ZipException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        } finally {
+            if (!spool.delete()) {
+                FileCleaner.addFile(spool);
+            }
+        }
+    }
 
-                if (stripNumber > 0) {
-                    if (relativePath.length() <= stripNumber) {
-                        continue;
-                    }
-                    relativePath = relativePath.subPath(stripNumber);
+    private void extract(ZipFile zip, long compressedBytes, boolean overwrite, int stripNumber, LineConsumer progress)
+            throws IOException, ForbiddenException, ConflictException, ServerException {
+        final ZipBombGuard guard = new ZipBombGuard(compressedBytes);
+        final SortedSet<Path> folders = new TreeSet<>(comparing(Path::toString));
+        final Map<Path, ZipEntry> files = new LinkedHashMap<>();
+        final Enumeration<? extends ZipEntry> entries = zip.entries();
+        while (entries.hasMoreElements()) {
+            final ZipEntry zipEntry = entries.nextElement();
+            Path relativePath = Path.of(zipEntry.getName());
+            if (stripNumber > 0) {
+                if (relativePath.length() <= stripNumber) {
+                    continue;
                 }
+                relativePath = relativePath.subPath(stripNumber);
+            }
+            if (zipEntry.isDirectory()) {
+                folders.add(relativePath);
+            } else {
+                if (relativePath.length() > 1) {
+                    folders.add(relativePath.getParent());
+                }
+                guard.declared(zipEntry.getSize());
+                files.put(relativePath, zipEntry);
+            }
+        }
+
+        // folders are sorted so parent is always created before its children
+        for (Path folderPath : folders) {
+            if (!folder.hasChild(folderPath)) {
+                folder.createFolder(folderPath.toString());
+            }
+        }
 
-                if (zipEntry.isDirectory()) {
-                    if (!extractFolder.hasChild(relativePath)) {
-                        extractFolder.createFolder(relativePath.toString());
+        final Progress extracted = new Progress(files.size(), progress);
+        if (extractThreads <= 1 || files.size() <= 1) {
+            for (Map.Entry<Path, ZipEntry> file : files.entrySet()) {
+                extractFile(zip, file.getValue(), file.getKey(), overwrite, guard);
+                extracted.fileExtracted();
+            }
+            return;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(extractThreads, files.size()),
+                new ThreadFactoryBuilder().setNameFormat("ZipArchiver-%d")
+                                          .setDaemon(true)
+                                          .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                                          .build());
+        try {
+            final List<Future<Void>> futures = new ArrayList<>(files.size());
+            for (Map.Entry<Path, ZipEntry> file : files.entrySet()) {
+                futures.add(executor.submit(() -> {
+                    extractFile(zip, file.getValue(), file.getKey(), overwrite, guard);
+                    extracted.fileExtracted();
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Extraction of zip archive was interrupted");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            } else if (cause instanceof ForbiddenException) {
+                throw (ForbiddenException)cause;
+            } else if (cause instanceof ConflictException) {
+                throw (ConflictException)cause;
+            } else if (cause instanceof ServerException) {
+                throw (ServerException)cause;
+            }
+            throw new ServerException(cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void extractFile(ZipFile zip, ZipEntry zipEntry, Path relativePath, boolean overwrite, ZipBombGuard guard)
+            throws IOException, ForbiddenException, ConflictException, ServerException {
+        guard.check();
+        final VirtualFile parent = relativePath.length() > 1 ? folder.getChild(relativePath.getParent()) : folder;
+        final String fileName = relativePath.getName();
+        try (InputStream content = guard.watch(zip.getInputStream(zipEntry))) {
+            final VirtualFile file = parent.getChild(Path.of(fileName));
+            if (file == null) {
+                parent.createFile(fileName, content);
+            } else if (overwrite) {
+                file.updateContent(content);
+            } else {
+                throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
+            }
+        } catch (ServerException e) {
+            // virtual file system hides the cause of content writing failure
+            guard.check();
+            throw e;
+        }
+    }
+
+    /** Detects zip bomb by comparing number of extracted bytes with size of the archive. */
+    private static class ZipBombGuard {
+        private final long       compressedBytes;
+        private final AtomicLong declaredBytes;
+        private final AtomicLong uncompressedBytes;
+
+        ZipBombGuard(long compressedBytes) {
+            this.compressedBytes = compressedBytes;
+            this.declaredBytes = new AtomicLong();
+            this.uncompressedBytes = new AtomicLong();
+        }
+
+        void declared(long size) throws IOException {
+            if (size > 0 && isBomb(declaredBytes.addAndGet(size))) {
+                throw new IOException("Zip bomb detected");
+            }
+        }
+
+        void check() throws IOException {
+            if (isBomb(uncompressedBytes.get())) {
+                throw new IOException("Zip bomb detected");
+            }
+        }
+
+        InputStream watch(InputStream content) {
+            return new FilterInputStream(content) {
+                @Override
+                public int read() throws IOException {
+                    final int b = super.read();
+                    if (b != -1) {
+                        count(1);
                     }
-                    continue;
+                    return b;
                 }
 
-                if (relativePath.length() > 1) {
-                    Path neededParentPath = relativePath.getParent();
-                    VirtualFile neededParent = extractFolder.getChild(neededParentPath);
-                    if (neededParent == null) {
-                        neededParent = extractFolder.createFolder(neededParentPath.toString());
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    final int read = super.read(b, off, len);
+                    if (read > 0) {
+                        count(read);
                     }
-                    extractFolder = neededParent;
+                    return read;
                 }
+            };
+        }
 
-                String fileName = relativePath.getName();
-                VirtualFile file = extractFolder.getChild(Path.of(fileName));
-                if (file == null) {
-                    extractFolder.createFile(fileName, notClosableInputStream);
-                } else {
-                    if (overwrite) {
-                        file.updateContent(notClosableInputStream);
-                    } else {
-                        throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
-                    }
+        private void count(long bytes) throws IOException {
+            if (isBomb(uncompressedBytes.addAndGet(bytes))) {
+                throw new IOException("Zip bomb detected");
+            }
+        }
+
+        private boolean isBomb(long bytes) {
+            return bytes > ZIP_THRESHOLD && bytes > ZIP_RATIO * compressedBytes;
+        }
+    }
+
+    /** Reports progress of extraction every time the next percent of files is extracted. */
+    private static class Progress {
+        private final int           total;
+        private final LineConsumer  output;
+        private final AtomicInteger extracted;
+        private final AtomicInteger reportedPercent;
+
+        Progress(int total, LineConsumer output) {
+            this.total = total;
+            this.output = output;
+            this.extracted = new AtomicInteger();
+            this.reportedPercent = new AtomicInteger();
+        }
+
+        void fileExtracted() {
+            final int done = extracted.incrementAndGet();
+            final int percent = done * 100 / total;
+            if (reportedPercent.getAndAccumulate(percent, Math::max) < percent) {
+                try {
+                    output.writeLine(String.format("Extracted %d of %d files", done, total));
+                } catch (IOException ignored) {
+                    // progress is informational only
                 }
-                zip.closeEntry();
             }
         }
     }
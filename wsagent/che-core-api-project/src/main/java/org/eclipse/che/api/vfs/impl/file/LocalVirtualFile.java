@@ -15,6 +15,7 @@ import com.google.common.io.ByteStreams;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileFilter;
@@ -25,10 +26,12 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static org.eclipse.che.api.vfs.impl.file.LocalVirtualFileSystem.MAX_BUFFER_SIZE;
 
 /**
@@ -107,6 +110,24 @@ public class LocalVirtualFile implements VirtualFile {
         return fileSystem.getContent(this);
     }
 
+    @Override
+    public InputStream getContent(long offset, long length) throws ForbiddenException, ServerException {
+        checkArgument(offset >= 0 && length >= 0, "Offset and length of content window must not be negative");
+        return fileSystem.getContent(this, offset, length);
+    }
+
+    @Override
+    public void transferContent(OutputStream output, long offset, long length) throws ForbiddenException, ServerException {
+        checkArgument(offset >= 0 && length >= 0, "Offset and length of content window must not be negative");
+        fileSystem.transferContent(this, output, offset, length);
+    }
+
+    @Override
+    public List<String> getContentLines(int firstLine, int count) throws ForbiddenException, ServerException {
+        checkArgument(firstLine >= 0 && count >= 0, "First line and count of lines must not be negative");
+        return fileSystem.getContentLines(this, firstLine, count);
+    }
+
     @Override
     public byte[] getContentAsBytes() throws ForbiddenException, ServerException {
         if (getLength() > MAX_BUFFER_SIZE) {
@@ -249,7 +270,13 @@ public class LocalVirtualFile implements VirtualFile {
     @Override
     public void unzip(InputStream zipped, boolean overwrite, int stripNumber)
             throws ForbiddenException, ConflictException, ServerException {
-        fileSystem.unzip(this, zipped, overwrite, stripNumber);
+        fileSystem.unzip(this, zipped, overwrite, stripNumber, LineConsumer.DEV_NULL);
+    }
+
+    @Override
+    public void unzip(InputStream zipped, boolean overwrite, int stripNumber, LineConsumer progress)
+            throws ForbiddenException, ConflictException, ServerException {
+        fileSystem.unzip(this, zipped, overwrite, stripNumber, progress);
     }
 
     @Override
@@ -22,6 +22,7 @@ import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.util.FileCleaner;
+import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.vfs.AbstractVirtualFileSystemProvider;
 import org.eclipse.che.api.vfs.Archiver;
 import org.eclipse.che.api.vfs.ArchiverFactory;
@@ -42,6 +43,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
@@ -52,16 +54,26 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Lists.newArrayListWithCapacity;
 import static com.google.common.collect.Maps.newLinkedHashMap;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
@@ -136,11 +148,28 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private final FileMetadataSerializer                  metadataSerializer;
     private final LoadingCache<Path, Map<String, String>> metadataCache;
 
-    @SuppressWarnings("unchecked")
+    /** Folders archives are being extracted to, items under them are indexed once extraction is done. */
+    private final Set<Path> extractionRoots;
+
+    private final TreeCopier treeCopier;
+
     public LocalVirtualFileSystem(File ioRoot,
                                   ArchiverFactory archiverFactory,
                                   SearcherProvider searcherProvider,
                                   AbstractVirtualFileSystemProvider.CloseCallback closeCallback) {
+        this(ioRoot, archiverFactory, searcherProvider, closeCallback, 1);
+    }
+
+    /**
+     * @param copyThreads
+     *         number of threads which copy files of large trees in parallel
+     */
+    @SuppressWarnings("unchecked")
+    public LocalVirtualFileSystem(File ioRoot,
+                                  ArchiverFactory archiverFactory,
+                                  SearcherProvider searcherProvider,
+                                  AbstractVirtualFileSystemProvider.CloseCallback closeCallback,
+                                  int copyThreads) {
         this.ioRoot = ioRoot;
         this.archiverFactory = archiverFactory;
         this.searcherProvider = searcherProvider;
@@ -162,6 +191,9 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
                                     .maximumSize(256)
                                     .expireAfterAccess(10, MINUTES)
                                     .build(new FilePropertiesCacheLoader());
+
+        extractionRoots = ConcurrentHashMap.newKeySet();
+        treeCopier = new TreeCopier(copyThreads);
     }
 
     @Override
@@ -210,6 +242,13 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         metadataCache.invalidateAll();
     }
 
+    /** Invalidates cached locks and metadata of item with given path and all its descendants. */
+    private void invalidateCaches(Path path) {
+        final Predicate<Path> inSubtree = cached -> cached.equals(path) || cached.isChild(path);
+        lockTokensCache.asMap().keySet().removeIf(inSubtree);
+        metadataCache.asMap().keySet().removeIf(inSubtree);
+    }
+
     /** Used in tests. Need this to check state of PathLockFactory. All locks MUST be released at the end of request lifecycle. */
     PathLockFactory getPathLockFactory() {
         return pathLockFactory;
@@ -359,6 +398,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             }
 
             doCopy(source, destination);
+            invalidateCaches(destination.getPath());
 
             addInSearcher(destination);
 
@@ -381,7 +421,10 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
                 IoUtil.copy(fromMetadataFile, toMetadataFile, null);
             }
 
-            IoUtil.copy(from.toIoFile(), to.toIoFile(), VFS_LOCK_FILTER);
+            final TreeCopier.Result result = treeCopier.copy(from.toIoFile(), to.toIoFile(), VFS_LOCK_FILTER);
+            LOG.debug("Copied {} files ({} bytes) from '{}' to '{}' in {} ms, {} MB/s",
+                      result.files, result.bytes, from.getPath(), to.getPath(), result.time,
+                      String.format("%.2f", result.getThroughput()));
         } catch (IOException e) {
             String errorMessage = String.format("Unable copy '%s' to '%s'", from, to);
             LOG.error(errorMessage + "\n" + e.getMessage(), e);
@@ -390,6 +433,47 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
 
+    /**
+     * Moves item with its metadata. Lock of file isn't moved, moved file is unlocked.
+     * Callers must check locks of source before.
+     */
+    private void doMove(LocalVirtualFile from, LocalVirtualFile to) throws ServerException {
+        final long start = System.currentTimeMillis();
+        final File fromMetadataFile = getMetadataIoFile(from.getPath());
+        final File toMetadataFile = getMetadataIoFile(to.getPath());
+        final boolean hasMetadata = fromMetadataFile.exists();
+        try {
+            // Move metadata first and put it back if tree can't be moved, same as copying it is done in doCopy.
+            if (hasMetadata) {
+                treeCopier.move(fromMetadataFile, toMetadataFile);
+            }
+            final boolean renamed;
+            try {
+                renamed = treeCopier.move(from.toIoFile(), to.toIoFile());
+            } catch (IOException e) {
+                if (hasMetadata) {
+                    treeCopier.move(toMetadataFile, fromMetadataFile);
+                }
+                throw e;
+            }
+            LOG.debug("Moved '{}' to '{}' in {} ms{}", from.getPath(), to.getPath(), System.currentTimeMillis() - start,
+                      renamed ? "" : " by copying");
+        } catch (IOException e) {
+            String errorMessage = String.format("Unable move '%s' to '%s'", from, to);
+            LOG.error(errorMessage + "\n" + e.getMessage(), e);
+            throw new ServerException(errorMessage);
+        } finally {
+            invalidateCaches(from.getPath());
+            invalidateCaches(to.getPath());
+        }
+
+        final File fileLockIoFile = getFileLockIoFile(from.getPath());
+        if (fileLockIoFile.exists() && !fileLockIoFile.delete()) {
+            LOG.warn("Unable delete lock file {}", fileLockIoFile);
+        }
+    }
+
+
     LocalVirtualFile rename(LocalVirtualFile virtualFile, String newName, String lockToken)
             throws ForbiddenException, ConflictException, ServerException {
         checkName(newName);
@@ -420,12 +504,10 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
                 throw new ConflictException(String.format("Item '%s' already exists", newVirtualFile.getName()));
             }
 
-            doCopy(virtualFile, newVirtualFile);
-            addInSearcher(newVirtualFile);
-
             final Path path = virtualFile.getPath();
             final boolean isFile = virtualFile.isFile();
-            doDelete(virtualFile, lockToken);
+            doMove(virtualFile, newVirtualFile);
+            addInSearcher(newVirtualFile);
             deleteInSearcher(path, isFile);
 
             return newVirtualFile;
@@ -476,12 +558,10 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             }
         }
 
-        doCopy(virtualFile, newVirtualFile);
-        addInSearcher(newVirtualFile);
-
         final Path path = virtualFile.getPath();
         final boolean isFile = virtualFile.isFile();
-        doDelete(virtualFile, lockToken);
+        doMove(virtualFile, newVirtualFile);
+        addInSearcher(newVirtualFile);
         deleteInSearcher(path, isFile);
 
         return newVirtualFile;
@@ -518,6 +598,112 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
 
+    InputStream getContent(LocalVirtualFile virtualFile, long offset, long length) throws ForbiddenException, ServerException {
+        if (virtualFile.isFile()) {
+            final PathLockFactory.PathLock lock = pathLockFactory.getLock(virtualFile.getPath(), false).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
+            File spoolFile = null;
+            try (FileChannel channel = new FileInputStream(virtualFile.toIoFile()).getChannel()) {
+                final long windowLength = Math.max(0, Math.min(length, channel.size() - offset));
+                if (windowLength <= MAX_BUFFER_SIZE) {
+                    final ByteBuffer window = ByteBuffer.allocate((int)windowLength);
+                    int read = 0;
+                    while (window.hasRemaining() && read != -1) {
+                        read = channel.read(window, offset + window.position());
+                    }
+                    return new ByteArrayInputStream(window.array(), 0, window.position());
+                }
+                // Copy only requested window, the file lock is released before leave this method.
+                spoolFile = File.createTempFile("spool_file", null);
+                try (FileChannel spool = new FileOutputStream(spoolFile).getChannel()) {
+                    transfer(channel, offset, windowLength, spool);
+                }
+                return new DeleteOnCloseFileInputStream(spoolFile);
+            } catch (IOException e) {
+                if (spoolFile != null) {
+                    FileCleaner.addFile(spoolFile);
+                }
+                String errorMessage = String.format("Unable get content of '%s'", virtualFile.getPath());
+                LOG.error(errorMessage + "\n" + e.getMessage(), e);
+                throw new ServerException(errorMessage);
+            } finally {
+                lock.release();
+            }
+        } else {
+            throw new ForbiddenException(String.format("Unable get content. Item '%s' is not a file", virtualFile.getPath()));
+        }
+    }
+
+
+    void transferContent(LocalVirtualFile virtualFile, OutputStream output, long offset, long length)
+            throws ForbiddenException, ServerException {
+        if (!virtualFile.isFile()) {
+            throw new ForbiddenException(String.format("Unable get content. Item '%s' is not a file", virtualFile.getPath()));
+        }
+        // File is opened while the lock is held, but the lock isn't held while the window is sent from the open channel,
+        // which is as slow as the client is. Content isn't snapshotted, so file updated during the transfer
+        // may be sent partly updated, and transfer of file truncated in the meantime fails.
+        final FileChannel channel;
+        final long windowLength;
+        final PathLockFactory.PathLock lock = pathLockFactory.getLock(virtualFile.getPath(), false).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
+        try {
+            channel = new FileInputStream(virtualFile.toIoFile()).getChannel();
+            try {
+                windowLength = Math.max(0, Math.min(length, channel.size() - offset));
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new ServerException(String.format("Unable transfer content of '%s'. %s", virtualFile.getPath(), e.getMessage()), e);
+        } finally {
+            lock.release();
+        }
+        try (FileChannel source = channel) {
+            if (transfer(source, offset, windowLength, Channels.newChannel(output)) < windowLength) {
+                throw new IOException("File has been truncated while being transferred");
+            }
+        } catch (IOException e) {
+            throw new ServerException(String.format("Unable transfer content of '%s'. %s", virtualFile.getPath(), e.getMessage()), e);
+        }
+    }
+
+
+    List<String> getContentLines(LocalVirtualFile virtualFile, int firstLine, int count) throws ForbiddenException, ServerException {
+        if (virtualFile.isFile()) {
+            final PathLockFactory.PathLock lock = pathLockFactory.getLock(virtualFile.getPath(), false).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(virtualFile.toIoFile()), UTF_8))) {
+                return VirtualFile.readLines(reader, firstLine, count);
+            } catch (IOException e) {
+                String errorMessage = String.format("Unable get content of '%s'", virtualFile.getPath());
+                LOG.error(errorMessage + "\n" + e.getMessage(), e);
+                throw new ServerException(errorMessage);
+            } finally {
+                lock.release();
+            }
+        } else {
+            throw new ForbiddenException(String.format("Unable get content. Item '%s' is not a file", virtualFile.getPath()));
+        }
+    }
+
+
+    /**
+     * Lets OS copy bytes between channels without moving them through java heap where it is supported.
+     *
+     * @return number of transferred bytes, less than {@code length} if the end of source is reached
+     */
+    private static long transfer(FileChannel source, long offset, long length, WritableByteChannel target) throws IOException {
+        long transferred = 0;
+        while (transferred < length) {
+            final long count = source.transferTo(offset + transferred, length - transferred, target);
+            if (count <= 0) {
+                break;
+            }
+            transferred += count;
+        }
+        return transferred;
+    }
+
+
     void updateContent(LocalVirtualFile virtualFile, InputStream content, String lockToken)
             throws ForbiddenException, ServerException {
         if (virtualFile.isFile()) {
@@ -571,7 +757,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             throw new ForbiddenException(String.format("Unable delete file '%s'. File is locked", virtualFile.getPath()));
         }
 
-        cleanUpCaches();
+        invalidateCaches(virtualFile.getPath());
 
         final File fileLockIoFile = getFileLockIoFile(virtualFile.getPath());
         if (fileLockIoFile.delete()) {
@@ -608,13 +794,13 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
 
-    void unzip(LocalVirtualFile parent, InputStream zipped, boolean overwrite, int stripNumber)
+    void unzip(LocalVirtualFile parent, InputStream zipped, boolean overwrite, int stripNumber, LineConsumer progress)
             throws ForbiddenException, ConflictException, ServerException {
         if(archiverFactory == null)
             throw new ServerException("VFS: Could not create zip archiver. Archiver Factory is not properly configured (is null)");
 
         if (parent.isFolder()) {
-            extract(archiverFactory.createArchiver(parent, "zip"), zipped, overwrite, stripNumber);
+            extract(archiverFactory.createArchiver(parent, "zip"), zipped, overwrite, stripNumber, progress, parent.getPath());
             addInSearcher(parent);
         } else {
             throw new ForbiddenException(String.format("Unable import zip content. Item '%s' is not a folder", parent.getPath()));
@@ -639,7 +825,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             throw new ServerException("VFS: Could not create tar archiver. Archiver Factory is not properly configured (is null)");
 
         if (parent.isFolder()) {
-            extract(archiverFactory.createArchiver(parent, "tar"), tarArchive, overwrite, stripNumber);
+            extract(archiverFactory.createArchiver(parent, "tar"), tarArchive, overwrite, stripNumber, LineConsumer.DEV_NULL,
+                    parent.getPath());
             addInSearcher(parent);
         } else {
             throw new ForbiddenException(String.format("Unable import tar archive. Item '%s' is not a folder", parent.getPath()));
@@ -662,12 +849,25 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         }
     }
 
-    private void extract(Archiver archiver, InputStream compressed, boolean overwrite, int stripNumber)
-            throws ConflictException, ServerException, ForbiddenException {
+    /**
+     * Extracts archive suspending indexing of the extracted items,
+     * caller indexes the whole {@code root} folder in one batch after extraction.
+     */
+    private void extract(Archiver archiver,
+                         InputStream compressed,
+                         boolean overwrite,
+                         int stripNumber,
+                         LineConsumer progress,
+                         Path root) throws ConflictException, ServerException, ForbiddenException {
+        final boolean added = extractionRoots.add(root);
         try {
-            archiver.extract(compressed, overwrite, stripNumber);
+            archiver.extract(compressed, overwrite, stripNumber, progress);
         } catch (IOException e) {
             throw new ServerException(e.getMessage(), e);
+        } finally {
+            if (added) {
+                extractionRoots.remove(root);
+            }
         }
     }
 
@@ -930,8 +1130,19 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
 
+    private boolean isExtracting(Path path) {
+        if (!extractionRoots.isEmpty()) {
+            for (Path root : extractionRoots) {
+                if (path.isChild(root)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private void addInSearcher(LocalVirtualFile newVirtualFile) {
-        if (searcherProvider != null) {
+        if (searcherProvider != null && !isExtracting(newVirtualFile.getPath())) {
             try {
                 searcherProvider.getSearcher(this).add(newVirtualFile);
             } catch (ServerException e) {
@@ -941,7 +1152,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
     private void updateInSearcher(LocalVirtualFile virtualFile) {
-        if (searcherProvider != null) {
+        if (searcherProvider != null && !isExtracting(virtualFile.getPath())) {
             try {
                 searcherProvider.getSearcher(this).update(virtualFile);
             } catch (ServerException e) {
@@ -25,6 +25,8 @@ import java.nio.file.Files;
 
 @Singleton
 public class LocalVirtualFileSystemProvider extends AbstractVirtualFileSystemProvider {
+    private static final int IO_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
     private final File             rootDirectory;
     private final SearcherProvider searcherProvider;
 
@@ -38,6 +40,6 @@ public class LocalVirtualFileSystemProvider extends AbstractVirtualFileSystemPro
 
     @Override
     protected VirtualFileSystem createVirtualFileSystem(CloseCallback closeCallback) throws ServerException {
-        return new LocalVirtualFileSystem(rootDirectory, new ArchiverFactory(), searcherProvider, closeCallback);
+        return new LocalVirtualFileSystem(rootDirectory, new ArchiverFactory(IO_THREADS), searcherProvider, closeCallback, IO_THREADS);
     }
 }
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
+
+/**
+ * Copies and moves trees of local files.
+ * <p/>
+ * Files are copied with {@link Files#copy(Path, Path, java.nio.file.CopyOption...)} which lets JDK use
+ * native copy of the platform instead of streaming bytes through java heap. Files of large trees are copied
+ * by {@code copyThreads} threads in parallel. Trees are moved with rename when source and target are on the same
+ * file system, so moving doesn't depend on size of tree at all.
+ */
+class TreeCopier {
+    /** Trees with fewer files are copied in the calling thread. */
+    static final int PARALLEL_COPY_THRESHOLD = 64;
+
+    private final int copyThreads;
+
+    TreeCopier(int copyThreads) {
+        this.copyThreads = copyThreads;
+    }
+
+    /**
+     * Copies file or folder with all its content.
+     *
+     * @param source
+     *         file or folder to copy
+     * @param target
+     *         copy destination, existing files are overwritten
+     * @param filter
+     *         filter of items to copy, items which aren't accepted are skipped together with their content
+     * @return number of copied files and bytes
+     * @throws IOException
+     *         if any i/o error occurs
+     */
+    Result copy(File source, File target, FilenameFilter filter) throws IOException {
+        final long start = System.currentTimeMillis();
+        final Path sourceRoot = source.toPath();
+        final Path targetRoot = target.toPath();
+        final List<Path> files = new ArrayList<>();
+        // Folders are created while tree is walked so files may be copied in any order then.
+        Files.walkFileTree(sourceRoot, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(sourceRoot) && !accept(filter, dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                Files.createDirectories(targetRoot.resolve(sourceRoot.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (file.equals(sourceRoot) || accept(filter, file)) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        final AtomicLong bytes = new AtomicLong();
+        if (copyThreads <= 1 || files.size() < PARALLEL_COPY_THRESHOLD) {
+            for (Path file : files) {
+                bytes.addAndGet(copyFile(file, targetRoot.resolve(sourceRoot.relativize(file))));
+            }
+        } else {
+            copyInParallel(files, sourceRoot, targetRoot, bytes);
+        }
+        return new Result(files.size(), bytes.get(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Moves file or folder with all its content. Rename is used when it is possible,
+     * otherwise tree is copied to target and then deleted.
+     *
+     * @param source
+     *         file or folder to move
+     * @param target
+     *         move destination, must not exist
+     * @return {@code true} if tree was renamed and {@code false} if it was copied
+     * @throws IOException
+     *         if any i/o error occurs
+     */
+    boolean move(File source, File target) throws IOException {
+        Files.createDirectories(target.toPath().getParent());
+        try {
+            Files.move(source.toPath(), target.toPath(), ATOMIC_MOVE);
+            return true;
+        } catch (AtomicMoveNotSupportedException e) {
+            copy(source, target, null);
+            if (!deleteRecursive(source)) {
+                throw new IOException(String.format("Unable delete '%s' after it is copied to '%s'", source, target));
+            }
+            return false;
+        }
+    }
+
+    private void copyInParallel(List<Path> files, Path sourceRoot, Path targetRoot, AtomicLong bytes) throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                copyThreads,
+                new ThreadFactoryBuilder().setNameFormat("TreeCopier-%d")
+                                          .setDaemon(true)
+                                          .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                                          .build());
+        try {
+            final List<Future<Void>> futures = new ArrayList<>(files.size());
+            for (Path file : files) {
+                futures.add(executor.submit(() -> {
+                    bytes.addAndGet(copyFile(file, targetRoot.resolve(sourceRoot.relativize(file))));
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Copying was interrupted");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long copyFile(Path source, Path target) throws IOException {
+        Files.copy(source, target, REPLACE_EXISTING);
+        return Files.size(target);
+    }
+
+    private static boolean accept(FilenameFilter filter, Path path) {
+        return filter == null || filter.accept(path.getParent().toFile(), path.getFileName().toString());
+    }
+
+    /** Statistics of copying. */
+    static class Result {
+        final int  files;
+        final long bytes;
+        final long time;
+
+        Result(int files, long bytes, long time) {
+            this.files = files;
+            this.bytes = bytes;
+            this.time = time;
+        }
+
+        /** Returns throughput of copying in megabytes per second. */
+        double getThroughput() {
+            return bytes / 1024.0 / 1024.0 / Math.max(time, 1) * 1000;
+        }
+    }
+}
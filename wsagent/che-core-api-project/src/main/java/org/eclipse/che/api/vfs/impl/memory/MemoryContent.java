@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.memory;
+
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable content of in-memory file.
+ * <p/>
+ * Content is stored in chunks of {@link #CHUNK_SIZE} bytes. Content which doesn't fit in one chunk is kept outside
+ * java heap, so large files don't make garbage collector copy them around. Content is never changed after it is created,
+ * so it is shared by copies of file and by all readers without copying, updating of file replaces its content.
+ */
+final class MemoryContent {
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    static final MemoryContent EMPTY = new MemoryContent(new ByteBuffer[0], 0);
+
+    /** Creates content with copy of given bytes. */
+    static MemoryContent of(byte[] bytes) {
+        if (bytes.length == 0) {
+            return EMPTY;
+        }
+        if (bytes.length <= CHUNK_SIZE) {
+            return new MemoryContent(new ByteBuffer[]{ByteBuffer.wrap(bytes.clone())}, bytes.length);
+        }
+        final ByteBuffer[] chunks = new ByteBuffer[(bytes.length + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        for (int i = 0; i < chunks.length; i++) {
+            final int offset = i * CHUNK_SIZE;
+            final int length = Math.min(CHUNK_SIZE, bytes.length - offset);
+            chunks[i] = (ByteBuffer)ByteBuffer.allocateDirect(length).put(bytes, offset, length).flip();
+        }
+        return new MemoryContent(chunks, bytes.length);
+    }
+
+    /** Reads content from given stream chunk by chunk, stream is not closed. */
+    static MemoryContent read(InputStream in) throws IOException {
+        final byte[] buffer = new byte[CHUNK_SIZE];
+        int read = ByteStreams.read(in, buffer, 0, CHUNK_SIZE);
+        if (read == 0) {
+            return EMPTY;
+        }
+        if (read < CHUNK_SIZE) {
+            return new MemoryContent(new ByteBuffer[]{ByteBuffer.wrap(Arrays.copyOf(buffer, read))}, read);
+        }
+        final List<ByteBuffer> chunks = new ArrayList<>();
+        long length = 0;
+        while (read > 0) {
+            chunks.add((ByteBuffer)ByteBuffer.allocateDirect(read).put(buffer, 0, read).flip());
+            length += read;
+            read = ByteStreams.read(in, buffer, 0, CHUNK_SIZE);
+        }
+        return new MemoryContent(chunks.toArray(new ByteBuffer[chunks.size()]), length);
+    }
+
+    private final ByteBuffer[] chunks;
+    private final long         length;
+
+    private MemoryContent(ByteBuffer[] chunks, long length) {
+        this.chunks = chunks;
+        this.length = length;
+    }
+
+    long length() {
+        return length;
+    }
+
+    /** Opens stream which reads content directly from its chunks. */
+    InputStream openStream() {
+        return new ChunksInputStream();
+    }
+
+    /**
+     * Returns copy of content.
+     *
+     * @throws IllegalStateException
+     *         if content is too big to be put in byte array
+     */
+    byte[] toByteArray() {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Content is too big to be retrieved as bytes");
+        }
+        final byte[] bytes = new byte[(int)length];
+        int offset = 0;
+        for (ByteBuffer chunk : chunks) {
+            final ByteBuffer view = chunk.duplicate();
+            final int chunkLength = view.remaining();
+            view.get(bytes, offset, chunkLength);
+            offset += chunkLength;
+        }
+        return bytes;
+    }
+
+    private class ChunksInputStream extends InputStream {
+        private int        next;
+        private ByteBuffer current;
+
+        @Override
+        public int read() throws IOException {
+            final ByteBuffer chunk = currentChunk();
+            return chunk == null ? -1 : chunk.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final ByteBuffer chunk = currentChunk();
+            if (chunk == null) {
+                return -1;
+            }
+            final int count = Math.min(len, chunk.remaining());
+            chunk.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = 0;
+            ByteBuffer chunk;
+            while (skipped < n && (chunk = currentChunk()) != null) {
+                final int count = (int)Math.min(n - skipped, chunk.remaining());
+                chunk.position(chunk.position() + count);
+                skipped += count;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return current == null ? 0 : current.remaining();
+        }
+
+        private ByteBuffer currentChunk() {
+            while (current == null || !current.hasRemaining()) {
+                if (next == chunks.length) {
+                    return null;
+                }
+                // Each stream reads own view of chunk, so streams don't share position.
+                current = chunks[next++].duplicate();
+            }
+            return current;
+        }
+    }
+}
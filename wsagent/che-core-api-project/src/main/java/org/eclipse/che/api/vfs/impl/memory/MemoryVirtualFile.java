@@ -11,7 +11,6 @@
 package org.eclipse.che.api.vfs.impl.memory;
 
 import com.google.common.hash.Hashing;
-import com.google.common.io.ByteStreams;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
@@ -34,12 +33,12 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.google.common.collect.Lists.newArrayList;
@@ -49,6 +48,7 @@ import static java.util.Collections.singletonMap;
 /**
  * In-memory implementation of VirtualFile.
  * <p/>
+ * Content of file is immutable and shared between copies of file, children of folder may be read while they are modified.
  * NOTE: This implementation is not thread safe.
  *
  * @author andrew00x
@@ -59,11 +59,11 @@ public class MemoryVirtualFile implements VirtualFile {
     private static final boolean FOLDER = true;
 
     static MemoryVirtualFile newFile(MemoryVirtualFile parent, String name, InputStream content) throws IOException {
-        return new MemoryVirtualFile(parent, name, content == null ? new byte[0] : ByteStreams.toByteArray(content));
+        return new MemoryVirtualFile(parent, name, content == null ? MemoryContent.EMPTY : MemoryContent.read(content));
     }
 
     static MemoryVirtualFile newFile(MemoryVirtualFile parent, String name, byte[] content) {
-        return new MemoryVirtualFile(parent, name, content == null ? new byte[0] : Arrays.copyOf(content, content.length));
+        return new MemoryVirtualFile(parent, name, content == null ? MemoryContent.EMPTY : MemoryContent.of(content));
     }
 
     static MemoryVirtualFile newFolder(MemoryVirtualFile parent, String name) {
@@ -79,14 +79,14 @@ public class MemoryVirtualFile implements VirtualFile {
 
     private String            name;
     private MemoryVirtualFile parent;
-    private byte[]            content;
+    private MemoryContent     content;
     private long              lastModificationDate;
     private LockHolder        lock;
 
     private boolean exists = true;
 
     // --- File ---
-    private MemoryVirtualFile(MemoryVirtualFile parent, String name, byte[] content) {
+    private MemoryVirtualFile(MemoryVirtualFile parent, String name, MemoryContent content) {
         this.fileSystem = (MemoryVirtualFileSystem)parent.getFileSystem();
         this.parent = parent;
         this.type = FILE;
@@ -103,7 +103,7 @@ public class MemoryVirtualFile implements VirtualFile {
         this.type = FOLDER;
         this.name = name;
         this.properties = newHashMap();
-        children = newHashMap();
+        children = new ConcurrentHashMap<>();
     }
 
     // --- Root folder ---
@@ -112,7 +112,7 @@ public class MemoryVirtualFile implements VirtualFile {
         this.type = FOLDER;
         this.name = "";
         this.properties = newHashMap();
-        children = newHashMap();
+        children = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -277,26 +277,24 @@ public class MemoryVirtualFile implements VirtualFile {
     boolean addChild(MemoryVirtualFile child) {
         checkExistence();
         final String childName = child.getName();
-        if (children.get(childName) == null) {
-            children.put(childName, child);
-            return true;
-        }
-        return false;
+        return children.putIfAbsent(childName, child) == null;
     }
 
     @Override
     public InputStream getContent() throws ForbiddenException {
-        return new ByteArrayInputStream(getContentAsBytes());
+        checkExistence();
+        if (isFile()) {
+            return content.openStream();
+        }
+
+        throw new ForbiddenException(String.format("We were unable to retrieve the content. Item '%s' is not a file", getPath()));
     }
 
     @Override
     public byte[] getContentAsBytes() throws ForbiddenException {
         checkExistence();
         if (isFile()) {
-            if (content == null) {
-                content = new byte[0];
-            }
-            return Arrays.copyOf(content, content.length);
+            return content.toByteArray();
         }
 
         throw new ForbiddenException(String.format("We were unable to retrieve the content. Item '%s' is not a file", getPath()));
@@ -309,19 +307,19 @@ public class MemoryVirtualFile implements VirtualFile {
 
     @Override
     public VirtualFile updateContent(InputStream content, String lockToken) throws ForbiddenException, ServerException {
-        byte[] bytes;
+        MemoryContent newContent;
         try {
-            bytes = ByteStreams.toByteArray(content);
+            newContent = MemoryContent.read(content);
         } catch (IOException e) {
             throw new ServerException(String.format("We were unable to set the content of '%s'. Error: %s", getPath(), e.getMessage()));
         }
-        doUpdateContent(bytes, lockToken);
+        doUpdateContent(newContent, lockToken);
         return this;
     }
 
     @Override
     public VirtualFile updateContent(byte[] content, String lockToken) throws ForbiddenException, ServerException {
-        doUpdateContent(content, lockToken);
+        doUpdateContent(MemoryContent.of(content), lockToken);
         return this;
     }
 
@@ -345,7 +343,7 @@ public class MemoryVirtualFile implements VirtualFile {
         return updateContent(content, null);
     }
 
-    private void doUpdateContent(byte[] content, String lockToken) throws ForbiddenException, ServerException {
+    private void doUpdateContent(MemoryContent content, String lockToken) throws ForbiddenException, ServerException {
         checkExistence();
 
         if (isFile()) {
@@ -354,7 +352,7 @@ public class MemoryVirtualFile implements VirtualFile {
                         String.format("We were unable to update the content of file '%s'. The file is locked", getPath()));
             }
 
-            this.content = Arrays.copyOf(content, content.length);
+            this.content = content;
             lastModificationDate = System.currentTimeMillis();
 
             updateInSearcher();
@@ -367,7 +365,7 @@ public class MemoryVirtualFile implements VirtualFile {
     public long getLength() {
         checkExistence();
         if (isFile()) {
-            return content.length;
+            return content.length();
         }
         return 0;
     }
@@ -409,7 +407,8 @@ public class MemoryVirtualFile implements VirtualFile {
 
         MemoryVirtualFile virtualFile;
         if (isFile()) {
-            virtualFile = newFile(parent, newName, Arrays.copyOf(content, content.length));
+            // Content is immutable so copy shares it until one of files is updated.
+            virtualFile = new MemoryVirtualFile(parent, newName, content);
         } else {
             virtualFile = newFolder(parent, newName);
             for (VirtualFile child : getChildren()) {
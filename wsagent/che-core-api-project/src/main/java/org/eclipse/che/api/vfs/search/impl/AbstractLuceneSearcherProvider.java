@@ -49,7 +49,8 @@ public abstract class AbstractLuceneSearcherProvider implements SearcherProvider
                                                              .build());
     }
 
-    private VirtualFileFilter mergeFileIndexFilters(Set<VirtualFileFilter> fileIndexFilters) {
+    /** Combines given filters with filter of binary files which content is never indexed. */
+    static VirtualFileFilter mergeFileIndexFilters(Set<VirtualFileFilter> fileIndexFilters) {
         final VirtualFileFilter filter;
         if (fileIndexFilters.isEmpty()) {
             filter = new MediaTypeFilter();
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search.impl;
+
+import com.google.common.io.CharStreams;
+
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.api.vfs.VirtualFileSystem;
+import org.eclipse.che.api.vfs.search.QueryExpression;
+import org.eclipse.che.api.vfs.search.SearchResult;
+import org.eclipse.che.api.vfs.search.SearchResultEntry;
+import org.eclipse.che.api.vfs.search.Searcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Searcher which doesn't keep any index and walks tree of virtual filesystem on each query.
+ * <p/>
+ * It suits in-memory virtual filesystem, e.g. in tests and ephemeral workspaces, where reading of files is cheap
+ * and keeping of Lucene index doubles memory usage. Unlike {@link LuceneSearcher} text is matched as case insensitive
+ * substring and query syntax isn't supported. Name is matched with wildcards {@code *} and {@code ?}
+ * and path is matched as prefix, same as in {@link LuceneSearcher}.
+ */
+public class ScanningSearcher implements Searcher {
+    private static final int RESULT_LIMIT = 1000;
+
+    private final VirtualFileSystem                             virtualFileSystem;
+    private final List<VirtualFileFilter>                       excludeFileIndexFilters;
+    private final AbstractLuceneSearcherProvider.CloseCallback closeCallback;
+
+    private volatile boolean closed;
+
+    public ScanningSearcher(VirtualFileSystem virtualFileSystem,
+                            VirtualFileFilter excludeFileIndexFilter,
+                            AbstractLuceneSearcherProvider.CloseCallback closeCallback) {
+        this.virtualFileSystem = virtualFileSystem;
+        this.closeCallback = closeCallback;
+        excludeFileIndexFilters = new CopyOnWriteArrayList<>();
+        excludeFileIndexFilters.add(excludeFileIndexFilter);
+    }
+
+    @Override
+    public SearchResult search(QueryExpression query) throws ServerException {
+        final long startTime = System.currentTimeMillis();
+        final Pattern namePattern = query.getName() == null ? null : wildcardToPattern(query.getName());
+        final String text = query.getText() == null ? null : query.getText().toLowerCase(Locale.ROOT);
+
+        final List<VirtualFile> matched = new ArrayList<>();
+        collectMatched(virtualFileSystem.getRoot(), query.getPath(), namePattern, text, matched);
+        matched.sort(comparing(file -> file.getPath().toString()));
+
+        final int skipCount = Math.max(0, query.getSkipCount());
+        final int maxItems = query.getMaxItems() > 0 ? Math.min(query.getMaxItems(), RESULT_LIMIT) : RESULT_LIMIT;
+        final List<SearchResultEntry> results = matched.stream()
+                                                       .skip(skipCount)
+                                                       .limit(maxItems)
+                                                       .map(file -> new SearchResultEntry(file.getPath().toString()))
+                                                       .collect(toList());
+
+        QueryExpression nextPageQueryExpression = null;
+        if (skipCount + results.size() < matched.size()) {
+            nextPageQueryExpression = new QueryExpression().setText(query.getText())
+                                                           .setName(query.getName())
+                                                           .setPath(query.getPath())
+                                                           .setSkipCount(skipCount + results.size())
+                                                           .setMaxItems(query.getMaxItems());
+        }
+
+        return SearchResult.aSearchResult()
+                           .withResults(results)
+                           .withTotalHits(matched.size())
+                           .withNextPageQueryExpression(nextPageQueryExpression)
+                           .withElapsedTimeMillis(System.currentTimeMillis() - startTime)
+                           .build();
+    }
+
+    private void collectMatched(VirtualFile folder, String pathPrefix, Pattern namePattern, String text, List<VirtualFile> matched)
+            throws ServerException {
+        for (VirtualFile child : folder.getChildren()) {
+            final String path = child.getPath().toString();
+            if (child.isFolder()) {
+                // Don't walk into folders which may not contain items with requested path.
+                if (pathPrefix == null || path.startsWith(pathPrefix) || pathPrefix.startsWith(path + '/')) {
+                    collectMatched(child, pathPrefix, namePattern, text, matched);
+                }
+            } else if ((pathPrefix == null || path.startsWith(pathPrefix))
+                       && (namePattern == null || namePattern.matcher(child.getName()).matches())
+                       && (text == null || containsText(child, text))) {
+                matched.add(child);
+            }
+        }
+    }
+
+    private boolean containsText(VirtualFile file, String text) throws ServerException {
+        for (VirtualFileFilter indexFilter : excludeFileIndexFilters) {
+            if (indexFilter.accept(file)) {
+                return false;
+            }
+        }
+        try (InputStream content = file.getContent()) {
+            return CharStreams.toString(new InputStreamReader(content)).toLowerCase(Locale.ROOT).contains(text);
+        } catch (ForbiddenException | IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+    }
+
+    private static Pattern wildcardToPattern(String wildcard) {
+        final StringBuilder regex = new StringBuilder();
+        for (String literal : wildcard.split("((?<=[*?])|(?=[*?]))")) {
+            if ("*".equals(literal)) {
+                regex.append(".*");
+            } else if ("?".equals(literal)) {
+                regex.append('.');
+            } else if (!literal.isEmpty()) {
+                regex.append(Pattern.quote(literal));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /** Does nothing, items are found when tree is walked. */
+    @Override
+    public void add(VirtualFile virtualFile) throws ServerException {
+    }
+
+    /** Does nothing, items are found when tree is walked. */
+    @Override
+    public void delete(String path, boolean isFile) throws ServerException {
+    }
+
+    /** Does nothing, items are found when tree is walked. */
+    @Override
+    public void update(VirtualFile virtualFile) throws ServerException {
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            closeCallback.onClose();
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public boolean addIndexFilter(VirtualFileFilter indexFilter) {
+        return excludeFileIndexFilters.add(indexFilter);
+    }
+
+    @Override
+    public boolean removeIndexFilter(VirtualFileFilter indexFilter) {
+        return excludeFileIndexFilters.remove(indexFilter);
+    }
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search.impl;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.api.vfs.VirtualFileSystem;
+import org.eclipse.che.api.vfs.search.Searcher;
+import org.eclipse.che.api.vfs.search.SearcherProvider;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Provides {@link ScanningSearcher}, which needs neither Lucene nor initial indexing of virtual filesystem.
+ */
+@Singleton
+public class ScanningSearcherProvider implements SearcherProvider {
+    private final VirtualFileFilter         excludeFileIndexFilters;
+    private final AtomicReference<Searcher> searcherReference = new AtomicReference<>();
+
+    /**
+     * @param excludeFileIndexFilters
+     *         set filter for files which content should not be searched
+     */
+    @Inject
+    public ScanningSearcherProvider(@Named("vfs.index_filter") Set<VirtualFileFilter> excludeFileIndexFilters) {
+        this.excludeFileIndexFilters = AbstractLuceneSearcherProvider.mergeFileIndexFilters(excludeFileIndexFilters);
+    }
+
+    @Override
+    public Searcher getSearcher(VirtualFileSystem virtualFileSystem, boolean create) throws ServerException {
+        Searcher cachedSearcher = searcherReference.get();
+        if (cachedSearcher == null && create) {
+            searcherReference.compareAndSet(null, new ScanningSearcher(virtualFileSystem,
+                                                                       excludeFileIndexFilters,
+                                                                       () -> searcherReference.set(null)));
+            cachedSearcher = searcherReference.get();
+        }
+        return cachedSearcher;
+    }
+
+    @Override
+    public Searcher getSearcher(VirtualFileSystem virtualFileSystem) throws ServerException {
+        return getSearcher(virtualFileSystem, true);
+    }
+
+    @Override
+    public void close() throws ServerException {
+        Searcher searcher = searcherReference.get();
+        if (searcher != null) {
+            searcher.close();
+        }
+        searcherReference.set(null);
+    }
+}
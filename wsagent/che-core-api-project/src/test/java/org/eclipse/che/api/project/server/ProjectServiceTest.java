@@ -87,7 +87,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.PathMatcher;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -110,6 +112,8 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import static java.lang.String.format;
+import static java.time.ZoneOffset.UTC;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 import static java.util.Collections.singletonList;
 import static javax.ws.rs.HttpMethod.DELETE;
 import static javax.ws.rs.HttpMethod.GET;
@@ -885,6 +889,136 @@ public class ProjectServiceTest {
         assertEquals(new String(writer.getBody()), myContent);
     }
 
+    @Test
+    public void testGetFileContentRange() throws Exception {
+        String myContent = "to be or not to be";
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", myContent.getBytes(Charset.defaultCharset()));
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Range", singletonList("bytes=6-11"));
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file/my_project/test.txt",
+                                                      "http://localhost:8080/api", headers, null, writer, null);
+        assertEquals(response.getStatus(), 206, "Error: " + response.getEntity());
+        assertEquals(response.getHttpHeaders().getFirst("Content-Range").toString(), "bytes 6-11/18");
+        assertEquals(new String(writer.getBody()), "or not");
+    }
+
+    @Test
+    public void testGetFileContentSuffixRange() throws Exception {
+        String myContent = "to be or not to be";
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", myContent.getBytes(Charset.defaultCharset()));
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Range", singletonList("bytes=-5"));
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file/my_project/test.txt",
+                                                      "http://localhost:8080/api", headers, null, writer, null);
+        assertEquals(response.getStatus(), 206, "Error: " + response.getEntity());
+        assertEquals(response.getHttpHeaders().getFirst("Content-Range").toString(), "bytes 13-17/18");
+        assertEquals(new String(writer.getBody()), "to be");
+    }
+
+    @Test
+    public void testGetFileContentUnsatisfiableRange() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", "to be or not to be".getBytes(Charset.defaultCharset()));
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Range", singletonList("bytes=100-"));
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file/my_project/test.txt",
+                                                      "http://localhost:8080/api", headers, null, null);
+        assertEquals(response.getStatus(), 416);
+        assertEquals(response.getHttpHeaders().getFirst("Content-Range").toString(), "bytes */18");
+    }
+
+    @Test
+    public void testGetFileContentRangeIfRangeModificationDateMatches() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", "to be or not to be".getBytes(Charset.defaultCharset()));
+        long lastModified = (System.currentTimeMillis() - 60_000) / 1000 * 1000;
+        assertTrue(new File(FS_PATH, "my_project/test.txt").setLastModified(lastModified));
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Range", singletonList("bytes=6-11"));
+        headers.put("If-Range", singletonList(RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(lastModified).atZone(UTC))));
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file/my_project/test.txt",
+                                                      "http://localhost:8080/api", headers, null, writer, null);
+        assertEquals(response.getStatus(), 206, "Error: " + response.getEntity());
+        assertEquals(new String(writer.getBody()), "or not");
+    }
+
+    @Test
+    public void testGetFullFileContentIfRangeModificationDateDoesNotMatch() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", "to be or not to be".getBytes(Charset.defaultCharset()));
+        long lastModified = (System.currentTimeMillis() - 60_000) / 1000 * 1000;
+        assertTrue(new File(FS_PATH, "my_project/test.txt").setLastModified(lastModified));
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Range", singletonList("bytes=6-11"));
+        headers.put("If-Range", singletonList(RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(lastModified - 5000).atZone(UTC))));
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file/my_project/test.txt",
+                                                      "http://localhost:8080/api", headers, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        assertEquals(new String(writer.getBody()), "to be or not to be");
+    }
+
+    @Test
+    public void testGetFullFileContentIfRangeIsWeakEntityTag() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", "to be or not to be".getBytes(Charset.defaultCharset()));
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file/my_project/test.txt",
+                                                      "http://localhost:8080/api", null, null, new ByteArrayContainerResponseWriter(), null);
+        String entityTag = response.getHttpHeaders().getFirst("ETag").toString();
+
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Range", singletonList("bytes=6-11"));
+        headers.put("If-Range", singletonList(entityTag));
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        response = launcher.service(GET,
+                                    "http://localhost:8080/api/project/file/my_project/test.txt",
+                                    "http://localhost:8080/api", headers, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        assertEquals(new String(writer.getBody()), "to be or not to be");
+    }
+
+    @Test
+    public void testGetFileLinesDecodedAsUtf8() throws Exception {
+        String myContent = "\u043f\u0435\u0440\u0448\u0438\u0439\n\u0434\u0440\u0443\u0433\u0438\u0439\n";
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", myContent.getBytes(StandardCharsets.UTF_8));
+        VirtualFile file = pm.getProject("my_project").getBaseFolder().getChild("test.txt").getVirtualFile();
+
+        assertEquals(file.getContentLines(1, 1), singletonList("\u0434\u0440\u0443\u0433\u0438\u0439"));
+    }
+
+    @Test
+    public void testGetNotModifiedFileContent() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", "to be or not to be".getBytes(Charset.defaultCharset()));
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file/my_project/test.txt",
+                                                      "http://localhost:8080/api", null, null, new ByteArrayContainerResponseWriter(), null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        String entityTag = response.getHttpHeaders().getFirst("ETag").toString();
+
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("If-None-Match", singletonList(entityTag));
+        response = launcher.service(GET,
+                                    "http://localhost:8080/api/project/file/my_project/test.txt",
+                                    "http://localhost:8080/api", headers, null, null);
+        assertEquals(response.getStatus(), 304);
+    }
+
+    @Test
+    public void testGetFileLines() throws Exception {
+        String myContent = "line 0\nline 1\nline 2\nline 3\n";
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", myContent.getBytes(Charset.defaultCharset()));
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file-lines/my_project/test.txt?start=1&count=2",
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        assertEquals(response.getEntity(), Arrays.asList("line 1", "line 2"));
+    }
+
     @Test
     public void testUpdateFileContent() throws Exception {
         String myContent = "<test>hello</test>";
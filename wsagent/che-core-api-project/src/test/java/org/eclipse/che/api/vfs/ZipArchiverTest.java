@@ -16,6 +16,7 @@ import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.util.FileCleaner;
+import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.vfs.impl.file.LocalVirtualFileSystem;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
@@ -45,6 +46,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ZipArchiverTest {
@@ -185,6 +187,45 @@ public class ZipArchiverTest {
         }
     }
 
+    @Test
+    public void extractsArchiveToFolderInParallel() throws Exception {
+        byte[] archive = createTestZipArchive();
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        new ZipArchiver(folder, 4).extract(new ByteArrayInputStream(archive), false, 0);
+
+        Map<String, String> entries = getFileTreeAsList(folder).stream()
+                                                               .collect(toMap(f -> getZipEntryName(folder, f),
+                                                                              this::readContentUnchecked));
+
+        assertEquals(readArchiveEntries(new ByteArrayInputStream(archive)), entries);
+    }
+
+    @Test
+    public void reportsExtractionProgress() throws Exception {
+        byte[] archive = createTestZipArchive();
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        LineConsumer progress = mock(LineConsumer.class);
+
+        new ZipArchiver(folder, 4).extract(new ByteArrayInputStream(archive), false, 0, progress);
+
+        verify(progress).writeLine("Extracted 3 of 3 files");
+    }
+
+    @Test
+    public void failsExtractZipBomb() throws Exception {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(byteOut)) {
+            zipOut.putNextEntry(new ZipEntry("bomb.txt"));
+            zipOut.write(new byte[10 * 1024 * 1024]);
+        }
+        VirtualFile folder = vfsRoot.createFolder("folder");
+
+        thrown.expect(IOException.class);
+        thrown.expectMessage("Zip bomb detected");
+
+        new ZipArchiver(folder).extract(new ByteArrayInputStream(byteOut.toByteArray()), false, 0);
+    }
+
     private Map<String, String> readArchiveEntries(InputStream archive) throws Exception {
         Map<String, String> entries = newHashMap();
         try (ZipInputStream zip = new ZipInputStream(archive)) {
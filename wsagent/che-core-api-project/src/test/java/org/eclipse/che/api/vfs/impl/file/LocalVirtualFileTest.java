@@ -45,15 +45,18 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
 import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
@@ -421,6 +424,99 @@ public class LocalVirtualFileTest {
         assertEquals(DEFAULT_CONTENT, content);
     }
 
+    @Test
+    public void getsWindowOfContent() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile file = root.createFile(generateFileName(), "to be or not to be");
+
+        byte[] bytes;
+        try (InputStream content = file.getContent(6, 6)) {
+            bytes = ByteStreams.toByteArray(content);
+        }
+
+        assertEquals("or not", new String(bytes));
+    }
+
+    @Test
+    public void getsTruncatedWindowOfContentWhenWindowExceedsEndOfFile() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile file = root.createFile(generateFileName(), "to be or not to be");
+
+        byte[] tail;
+        byte[] beyondEnd;
+        try (InputStream content = file.getContent(13, 100)) {
+            tail = ByteStreams.toByteArray(content);
+        }
+        try (InputStream content = file.getContent(100, 10)) {
+            beyondEnd = ByteStreams.toByteArray(content);
+        }
+
+        assertEquals("to be", new String(tail));
+        assertEquals(0, beyondEnd.length);
+    }
+
+    @Test
+    public void getsWindowOfLargeContent() throws Exception {
+        VirtualFile root = getRoot();
+        byte[] largeContent = new byte[LocalVirtualFileSystem.MAX_BUFFER_SIZE * 3];
+        new Random().nextBytes(largeContent);
+        VirtualFile file = root.createFile(generateFileName(), new ByteArrayInputStream(largeContent));
+        int offset = LocalVirtualFileSystem.MAX_BUFFER_SIZE / 2;
+        int length = LocalVirtualFileSystem.MAX_BUFFER_SIZE * 2;
+
+        byte[] bytes;
+        try (InputStream content = file.getContent(offset, length)) {
+            bytes = ByteStreams.toByteArray(content);
+        }
+
+        assertArrayEquals(Arrays.copyOfRange(largeContent, offset, offset + length), bytes);
+    }
+
+    @Test
+    public void transfersWindowOfContent() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile file = root.createFile(generateFileName(), "to be or not to be");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        file.transferContent(output, 9, 3);
+
+        assertEquals("not", output.toString());
+    }
+
+    @Test
+    public void transfersWindowOfLargeContent() throws Exception {
+        VirtualFile root = getRoot();
+        byte[] largeContent = new byte[LocalVirtualFileSystem.MAX_BUFFER_SIZE * 3];
+        new Random().nextBytes(largeContent);
+        VirtualFile file = root.createFile(generateFileName(), new ByteArrayInputStream(largeContent));
+        int offset = LocalVirtualFileSystem.MAX_BUFFER_SIZE / 2;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        file.transferContent(output, offset, largeContent.length);
+
+        assertArrayEquals(Arrays.copyOfRange(largeContent, offset, largeContent.length), output.toByteArray());
+    }
+
+    @Test
+    public void getsWindowOfContentLines() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile file = root.createFile(generateFileName(), "line 0\nline 1\r\nline 2\nline 3");
+
+        assertEquals(newArrayList("line 1", "line 2"), file.getContentLines(1, 2));
+        assertEquals(newArrayList("line 3"), file.getContentLines(3, 10));
+        assertTrue(file.getContentLines(10, 10).isEmpty());
+    }
+
+    @Test
+    public void failsGetWindowOfContentOfFolder() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile folder = root.createFolder(generateFolderName());
+
+        thrown.expect(ForbiddenException.class);
+
+        folder.getContent(0, 10);
+    }
+
     @Test
     public void failsGetContentOfFolderAsStream() throws Exception {
         VirtualFile root = getRoot();
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TreeCopierTest {
+    private File testDirectory;
+    private Path source;
+
+    @Before
+    public void setUp() throws Exception {
+        testDirectory = Files.createTempDirectory("tree-copier-").toFile();
+        source = testDirectory.toPath().resolve("source");
+        for (int i = 0; i < TreeCopier.PARALLEL_COPY_THRESHOLD * 2; i++) {
+            Path folder = source.resolve("folder" + i % 5);
+            Files.createDirectories(folder);
+            Files.write(folder.resolve("file" + i), ("content" + i).getBytes());
+        }
+        Files.createDirectories(source.resolve("skipped"));
+        Files.write(source.resolve("skipped").resolve("file"), "skipped".getBytes());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        deleteRecursive(testDirectory);
+    }
+
+    @Test
+    public void copiesTreeInParallel() throws Exception {
+        Path target = testDirectory.toPath().resolve("target");
+
+        TreeCopier.Result result = new TreeCopier(4).copy(source.toFile(), target.toFile(), (dir, name) -> !"skipped".equals(name));
+
+        assertEquals(TreeCopier.PARALLEL_COPY_THRESHOLD * 2, result.files);
+        assertArrayEquals("content7".getBytes(), Files.readAllBytes(target.resolve("folder2").resolve("file7")));
+        assertFalse(Files.exists(target.resolve("skipped")));
+    }
+
+    @Test
+    public void copiesSingleFile() throws Exception {
+        Path target = testDirectory.toPath().resolve("file");
+
+        TreeCopier.Result result = new TreeCopier(1).copy(source.resolve("folder1").resolve("file1").toFile(), target.toFile(), null);
+
+        assertEquals(1, result.files);
+        assertEquals("content1".length(), result.bytes);
+        assertArrayEquals("content1".getBytes(), Files.readAllBytes(target));
+    }
+
+    @Test
+    public void movesTreeWithRename() throws Exception {
+        Path target = testDirectory.toPath().resolve("a").resolve("b").resolve("target");
+
+        assertTrue(new TreeCopier(1).move(source.toFile(), target.toFile()));
+
+        assertFalse(Files.exists(source));
+        assertArrayEquals("content7".getBytes(), Files.readAllBytes(target.resolve("folder2").resolve("file7")));
+    }
+}
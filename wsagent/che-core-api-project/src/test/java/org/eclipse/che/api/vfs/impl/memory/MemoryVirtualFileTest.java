@@ -40,11 +40,13 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
 import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -337,6 +339,23 @@ public class MemoryVirtualFileTest {
         assertEquals(DEFAULT_CONTENT, new String(bytes));
     }
 
+    @Test
+    public void getsLargeContentAsStream() throws Exception {
+        VirtualFile root = getRoot();
+        byte[] largeContent = new byte[MemoryContent.CHUNK_SIZE * 3 + 17];
+        new Random().nextBytes(largeContent);
+        VirtualFile file = root.createFile(generateFileName(), new ByteArrayInputStream(largeContent));
+
+        byte[] bytes;
+        try (InputStream content = file.getContent()) {
+            bytes = ByteStreams.toByteArray(content);
+        }
+
+        assertEquals(largeContent.length, file.getLength());
+        assertArrayEquals(largeContent, bytes);
+        assertArrayEquals(largeContent, file.getContentAsBytes());
+    }
+
     @Test
     public void getsContentAsBytes() throws Exception {
         VirtualFile root = getRoot();
@@ -561,6 +580,20 @@ public class MemoryVirtualFileTest {
         assertEquals(file.getProperties(), copy.getProperties());
     }
 
+    @Test
+    public void updatesContentOfCopyWithoutChangingOriginalFile() throws Exception {
+        VirtualFile root = getRoot();
+        byte[] largeContent = new byte[MemoryContent.CHUNK_SIZE * 2];
+        new Random().nextBytes(largeContent);
+        VirtualFile file = root.createFile(generateFileName(), largeContent);
+        VirtualFile copy = file.copyTo(root.createFolder(generateFolderName()));
+
+        copy.updateContent(DEFAULT_CONTENT);
+
+        assertArrayEquals(largeContent, file.getContentAsBytes());
+        assertEquals(DEFAULT_CONTENT, copy.getContentAsString());
+    }
+
     @Test
     public void copiesLockedFile() throws Exception {
         VirtualFile root = getRoot();
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search.impl;
+
+import org.eclipse.che.api.vfs.ArchiverFactory;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.api.vfs.VirtualFileSystem;
+import org.eclipse.che.api.vfs.impl.memory.MemoryVirtualFileSystem;
+import org.eclipse.che.api.vfs.search.QueryExpression;
+import org.eclipse.che.api.vfs.search.SearchResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ScanningSearcherTest {
+    private static final String[] TEST_CONTENT = {
+            "Apollo set several major human spaceflight milestones",
+            "Maybe you should think twice",
+            "To be or not to be"
+    };
+
+    private VirtualFileSystem                            virtualFileSystem;
+    private VirtualFileFilter                            filter;
+    private AbstractLuceneSearcherProvider.CloseCallback closeCallback;
+    private ScanningSearcher                             searcher;
+
+    @Before
+    public void setUp() throws Exception {
+        virtualFileSystem = new MemoryVirtualFileSystem(mock(ArchiverFactory.class), null);
+        filter = mock(VirtualFileFilter.class);
+        when(filter.accept(any(VirtualFile.class))).thenReturn(false);
+        closeCallback = mock(AbstractLuceneSearcherProvider.CloseCallback.class);
+        searcher = new ScanningSearcher(virtualFileSystem, filter, closeCallback);
+
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[2]);
+        folder.createFile("zzz.txt", TEST_CONTENT[1]);
+        virtualFileSystem.getRoot().createFolder("a").createFolder("b").createFile("yyy.java", TEST_CONTENT[0]);
+    }
+
+    @Test
+    public void searchesByTextIgnoringCase() throws Exception {
+        List<String> paths = searcher.search(new QueryExpression().setText("APOLLO")).getFilePaths();
+
+        assertEquals(newArrayList("/a/b/yyy.java"), paths);
+    }
+
+    @Test
+    public void findsChangesWithoutIndexing() throws Exception {
+        VirtualFile file = virtualFileSystem.getRoot().getChild(Path.of("folder/xxx.txt"));
+        file.updateContent(TEST_CONTENT[1]);
+
+        List<String> paths = searcher.search(new QueryExpression().setText("should")).getFilePaths();
+
+        assertEquals(newArrayList("/folder/xxx.txt", "/folder/zzz.txt"), paths);
+    }
+
+    @Test
+    public void searchesByNameWithWildcards() throws Exception {
+        assertEquals(newArrayList("/folder/xxx.txt", "/folder/zzz.txt"),
+                     searcher.search(new QueryExpression().setName("*.txt")).getFilePaths());
+        assertEquals(newArrayList("/folder/xxx.txt"),
+                     searcher.search(new QueryExpression().setName("x?x.txt")).getFilePaths());
+    }
+
+    @Test
+    public void searchesByPathAndText() throws Exception {
+        List<String> paths = searcher.search(new QueryExpression().setPath("/folder").setText("be")).getFilePaths();
+
+        assertEquals(newArrayList("/folder/xxx.txt"), paths);
+    }
+
+    @Test
+    public void doesNotSearchTextInFilteredFiles() throws Exception {
+        VirtualFileFilter excludeJava = file -> file.getName().endsWith(".java");
+        searcher.addIndexFilter(excludeJava);
+
+        assertTrue(searcher.search(new QueryExpression().setText("apollo")).getFilePaths().isEmpty());
+        assertEquals(newArrayList("/a/b/yyy.java"), searcher.search(new QueryExpression().setName("*.java")).getFilePaths());
+
+        searcher.removeIndexFilter(excludeJava);
+        assertEquals(newArrayList("/a/b/yyy.java"), searcher.search(new QueryExpression().setText("apollo")).getFilePaths());
+    }
+
+    @Test
+    public void retrievesSearchResultsByPages() throws Exception {
+        SearchResult firstPage = searcher.search(new QueryExpression().setName("*").setMaxItems(2));
+
+        assertEquals(3, firstPage.getTotalHits());
+        assertEquals(newArrayList("/a/b/yyy.java", "/folder/xxx.txt"), firstPage.getFilePaths());
+        assertTrue(firstPage.getNextPageQueryExpression().isPresent());
+
+        SearchResult secondPage = searcher.search(firstPage.getNextPageQueryExpression().get());
+
+        assertEquals(newArrayList("/folder/zzz.txt"), secondPage.getFilePaths());
+        assertFalse(secondPage.getNextPageQueryExpression().isPresent());
+    }
+
+    @Test
+    public void notifiesCallbackWhenClosed() throws Exception {
+        searcher.close();
+
+        assertTrue(searcher.isClosed());
+        verify(closeCallback).onClose();
+    }
+}
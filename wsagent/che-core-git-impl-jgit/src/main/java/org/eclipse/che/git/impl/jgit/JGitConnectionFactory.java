@@ -16,6 +16,7 @@ import org.eclipse.che.api.git.CredentialsLoader;
 import org.eclipse.che.api.git.GitConnectionFactory;
 import org.eclipse.che.api.git.exception.GitException;
 import org.eclipse.che.api.git.GitUserResolver;
+import org.eclipse.che.inject.lifecycle.DeferredInit;
 import org.eclipse.che.plugin.ssh.key.script.SshKeyProvider;
 import org.eclipse.jgit.internal.storage.file.FileRepository;
 import org.eclipse.jgit.lib.Constants;
@@ -23,6 +24,7 @@ import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.transport.UserAgent;
 
 import javax.inject.Inject;
+import javax.inject.Singleton;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
@@ -34,9 +36,14 @@ import java.security.NoSuchAlgorithmException;
 
 /**
  * JGit implementation for GitConnectionFactory
- * 
+ * <p/>
+ * Creation of the factory initializes SSL context, which seeds secure random generator,
+ * so the factory is created once and in background after the agent is started.
+ *
  * @author Tareq Sharafy (tareq.sha@gmail.com)
  */
+@Singleton
+@DeferredInit
 public class JGitConnectionFactory extends GitConnectionFactory {
 
     private static final String USER_AGENT = "git/2.1.0";
@@ -28,6 +28,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -36,7 +38,8 @@ import static java.lang.String.format;
 
 /**
  * Launch agent script asynchronously over target instance and wait when it run.
- * The policy of checking if agent is run might be different for agents.
+ * The policy of checking if agent is run might be different for agents,
+ * checks are performed by {@link ReadinessProbe} without holding a thread between them.
  *
  * @see Agent#getScript()
  * @see AgentLaunchingChecker
@@ -54,46 +57,58 @@ public abstract class AbstractAgentLauncher implements AgentLauncher {
                                                                     .build());
 
     private final AgentLaunchingChecker agentLaunchingChecker;
+    private final ReadinessProbe        readinessProbe;
     private final long                  agentPingDelayMs;
     private final long                  agentMaxStartTimeMs;
 
     public AbstractAgentLauncher(long agentMaxStartTimeMs,
                                  long agentPingDelayMs,
-                                 AgentLaunchingChecker agentLaunchingChecker) {
+                                 AgentLaunchingChecker agentLaunchingChecker,
+                                 ReadinessProbe readinessProbe) {
         this.agentPingDelayMs = agentPingDelayMs;
         this.agentMaxStartTimeMs = agentMaxStartTimeMs;
         this.agentLaunchingChecker = agentLaunchingChecker;
+        this.readinessProbe = readinessProbe;
     }
 
     @Override
     public void launch(Instance machine, Agent agent) throws ServerException {
+        ReadinessProbe.await(launchAsync(machine, agent));
+    }
+
+    @Override
+    public CompletableFuture<Void> launchAsync(Instance machine, Agent agent) {
         if (isNullOrEmpty(agent.getScript())) {
-            return;
+            return CompletableFuture.completedFuture(null);
         }
+        final InstanceProcess process;
         try {
-            final InstanceProcess process = start(machine, agent);
-            LOG.debug("Waiting for agent {} is launched. Workspace ID:{}", agent.getId(), machine.getWorkspaceId());
+            process = start(machine, agent);
+        } catch (ServerException e) {
+            final CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        LOG.debug("Waiting for agent {} is launched. Workspace ID:{}", agent.getId(), machine.getWorkspaceId());
 
-            final long pingStartTimestamp = System.currentTimeMillis();
-            while (System.currentTimeMillis() - pingStartTimestamp < agentMaxStartTimeMs) {
-                if (agentLaunchingChecker.isLaunched(agent, process, machine)) {
-                    return;
-                } else {
-                    Thread.sleep(agentPingDelayMs);
+        final CompletableFuture<Boolean> probe = readinessProbe.probe(() -> agentLaunchingChecker.isLaunched(agent, process, machine),
+                                                                      agentPingDelayMs,
+                                                                      agentMaxStartTimeMs);
+        final CompletableFuture<Void> launched = probe.thenAccept(ready -> {
+            if (!ready) {
+                try {
+                    process.kill();
+                } catch (MachineException e) {
+                    LOG.warn(e.getLocalizedMessage());
                 }
+                final String errMsg = format("Fail launching agent %s. Workspace ID:%s",
+                                             agent.getName(),
+                                             machine.getWorkspaceId());
+                LOG.error(errMsg);
+                throw new CompletionException(new ServerException(errMsg));
             }
-
-            process.kill();
-        } catch (MachineException e) {
-            throw new ServerException(e.getServiceError());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new ServerException(format("Launching agent %s is interrupted", agent.getName()));
-        }
-
-        final String errMsg = format("Fail launching agent %s. Workspace ID:%s", agent.getName(), machine.getWorkspaceId());
-        LOG.error(errMsg);
-        throw new ServerException(errMsg);
+        });
+        return ReadinessProbe.cancelSourceOnCancel(launched, probe);
     }
 
 
@@ -14,6 +14,8 @@ import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.machine.server.spi.Instance;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Launches {@link Agent#getScript()} on the {@link Instance}.
  *
@@ -48,4 +50,27 @@ public interface AgentLauncher {
      *      if script execution failed
      */
     void launch(Instance machine, Agent agent) throws ServerException;
+
+    /**
+     * Launches agent like {@link #launch(Instance, Agent)} does, but doesn't hold
+     * the calling thread while waiting for the agent to start.
+     * The default implementation launches agent synchronously in the calling thread.
+     *
+     * @param machine
+     *      the machine instance
+     * @param agent
+     *      the agent
+     * @return future which is completed when agent is launched, or completed exceptionally
+     * with {@link ServerException} if launching failed
+     */
+    default CompletableFuture<Void> launchAsync(Instance machine, Agent agent) {
+        final CompletableFuture<Void> launched = new CompletableFuture<>();
+        try {
+            launch(machine, agent);
+            launched.complete(null);
+        } catch (ServerException | RuntimeException e) {
+            launched.completeExceptionally(e);
+        }
+        return launched;
+    }
 }
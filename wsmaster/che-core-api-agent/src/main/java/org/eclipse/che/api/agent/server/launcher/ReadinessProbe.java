@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.agent.server.launcher;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Periodically checks readiness of something being started, e.g. agent, on a bounded pool of threads.
+ * <p/>
+ * Thread is used only while check is performed, so thousands of agents may be waited for concurrently
+ * instead of holding a sleeping thread per agent. Checks may block, e.g. while agent is pinged,
+ * so the size of the pool is configured with {@code che.agent.readiness_probe.threads}.
+ */
+@Singleton
+public class ReadinessProbe {
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    @Inject
+    public ReadinessProbe(@Named("che.agent.readiness_probe.threads") int threads) {
+        scheduler = new ScheduledThreadPoolExecutor(threads,
+                                                    new ThreadFactoryBuilder().setNameFormat("ReadinessProbe-%d")
+                                                                              .setUncaughtExceptionHandler(
+                                                                                      LoggingUncaughtExceptionHandler.getInstance())
+                                                                              .setDaemon(true)
+                                                                              .build());
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /** Check of readiness. */
+    @FunctionalInterface
+    public interface Check {
+        /** Returns {@code true} when checked thing is ready, exception stops probing. */
+        boolean isReady() throws Exception;
+    }
+
+    /**
+     * Starts checking readiness, first check is performed immediately.
+     * Thread local context of the calling thread is propagated to checks.
+     *
+     * @param check
+     *         check of readiness
+     * @param delayMs
+     *         delay between checks
+     * @param timeoutMs
+     *         time after which checking is stopped
+     * @return future which is completed with {@code true} when check passes, with {@code false} when
+     * timeout is reached or exceptionally when check fails with exception, cancelling of future cancels
+     * the scheduled check and interrupts the running one
+     */
+    public CompletableFuture<Boolean> probe(Check check, long delayMs, long timeoutMs) {
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        final AtomicReference<Future<?>> scheduled = new AtomicReference<>();
+        final long start = System.currentTimeMillis();
+        final Runnable[] attempt = new Runnable[1];
+        attempt[0] = ThreadLocalPropagateContext.wrap(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                if (check.isReady()) {
+                    result.complete(true);
+                } else if (System.currentTimeMillis() - start >= timeoutMs) {
+                    result.complete(false);
+                } else {
+                    scheduled.set(scheduler.schedule(attempt[0], delayMs, MILLISECONDS));
+                    if (result.isCancelled()) {
+                        // cancelled while the next check was being scheduled
+                        scheduled.get().cancel(false);
+                    }
+                }
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((ready, error) -> {
+            final Future<?> task = scheduled.get();
+            if (task != null && result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        try {
+            scheduled.set(scheduler.submit(attempt[0]));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new ServerException("Readiness probe is stopped"));
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Makes cancelling of the given derived stage cancel its source as well, as completion stages
+     * don't propagate cancellation to the stages they are derived from.
+     *
+     * @return the derived stage
+     */
+    public static <T> CompletableFuture<T> cancelSourceOnCancel(CompletableFuture<T> derived, Future<?> source) {
+        derived.whenComplete((result, error) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * Waits for the completion of the given future in the calling thread,
+     * used by synchronous methods which are built on top of asynchronous ones.
+     *
+     * @throws ServerException
+     *         when future is completed exceptionally, {@code ServerException} cause is rethrown as is
+     */
+    public static <T> T await(CompletableFuture<T> future) throws ServerException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException("Waiting is interrupted");
+        } catch (ExecutionException | CancellationException e) {
+            throw asServerException(e);
+        }
+    }
+
+    /** Unwraps cause of exception of completion stage as {@code ServerException}. */
+    public static ServerException asServerException(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof ServerException) {
+            return (ServerException)cause;
+        }
+        return new ServerException(cause.getMessage(), cause);
+    }
+}
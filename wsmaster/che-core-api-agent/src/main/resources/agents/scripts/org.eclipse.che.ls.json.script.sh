@@ -37,6 +37,16 @@ MACHINE_TYPE=$(uname -m)
 mkdir -p ${CHE_DIR}
 mkdir -p ${LS_DIR}
 
+# agents of a machine are launched concurrently, while package managers fail
+# when another install holds their lock, so packages are installed one agent at a time
+INSTALL_LOCK=/tmp/.che-agent-install.lock
+while ! mkdir ${INSTALL_LOCK} 2>/dev/null; do
+    # lock of a killed agent script expires
+    find ${INSTALL_LOCK} -maxdepth 0 -mmin +10 -exec rmdir {} + 2>/dev/null
+    sleep 1
+done
+trap 'rmdir ${INSTALL_LOCK} 2>/dev/null' EXIT
+
 ########################
 ### Install packages ###
 ########################
@@ -153,6 +163,9 @@ else
     exit 1
 fi
 
+rmdir ${INSTALL_LOCK}
+trap - EXIT
+
 
 #####################
 ### Install C# LS ###
@@ -25,6 +25,16 @@ if [ -f /etc/centos-release ]; then
     LINUX_VERSION=$(cat $FILE | grep ^VERSION_ID=)
 fi
 
+# agents of a machine are launched concurrently, while package managers fail
+# when another install holds their lock, so packages are installed one agent at a time
+INSTALL_LOCK=/tmp/.che-agent-install.lock
+while ! mkdir ${INSTALL_LOCK} 2>/dev/null; do
+    # lock of a killed agent script expires
+    find ${INSTALL_LOCK} -maxdepth 0 -mmin +10 -exec rmdir {} + 2>/dev/null
+    sleep 1
+done
+trap 'rmdir ${INSTALL_LOCK} 2>/dev/null' EXIT
+
 ###############################
 ### Install Needed packaged ###
 ###############################
@@ -119,6 +129,9 @@ else
     exit 1
 fi
 
+rmdir ${INSTALL_LOCK}
+trap - EXIT
+
 command -v pidof >/dev/null 2>&1 && {
     pidof sshd >/dev/null 2>&1 && exit
 } || {
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.agent.server.launcher;
+
+import org.eclipse.che.api.core.ServerException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link ReadinessProbe}.
+ */
+public class ReadinessProbeTest {
+
+    private ReadinessProbe readinessProbe;
+
+    @BeforeClass
+    public void setUp() {
+        readinessProbe = new ReadinessProbe(2);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        readinessProbe.shutdown();
+    }
+
+    @Test
+    public void shouldCompleteWithTrueWhenCheckPasses() throws Exception {
+        final AtomicInteger checks = new AtomicInteger();
+
+        final boolean ready = ReadinessProbe.await(readinessProbe.probe(() -> checks.incrementAndGet() == 3, 1, 10_000));
+
+        assertTrue(ready);
+        assertEquals(checks.get(), 3);
+    }
+
+    @Test
+    public void shouldCompleteWithFalseWhenTimeoutIsReached() throws Exception {
+        final boolean ready = ReadinessProbe.await(readinessProbe.probe(() -> false, 1, 50));
+
+        assertFalse(ready);
+    }
+
+    @Test(expectedExceptions = ServerException.class, expectedExceptionsMessageRegExp = "Check failed")
+    public void shouldStopProbingWhenCheckThrowsException() throws Exception {
+        ReadinessProbe.await(readinessProbe.probe(() -> {
+            throw new ServerException("Check failed");
+        }, 1, 10_000));
+    }
+
+    @Test
+    public void shouldStopProbingWhenDerivedStageIsCancelled() throws Exception {
+        final AtomicInteger checks = new AtomicInteger();
+        final CompletableFuture<Boolean> probe = readinessProbe.probe(() -> {
+            checks.incrementAndGet();
+            return false;
+        }, 1, 60_000);
+        final CompletableFuture<Void> derived = ReadinessProbe.cancelSourceOnCancel(probe.thenAccept(ready -> {}), probe);
+
+        derived.cancel(true);
+
+        assertTrue(probe.isCancelled());
+        final int checksAfterCancel = checks.get();
+        Thread.sleep(50);
+        // the check which was running while future was cancelled may be finished
+        assertTrue(checks.get() <= checksAfterCancel + 1);
+    }
+
+    @Test
+    public void shouldInterruptRunningCheckWhenProbeIsCancelled() throws Exception {
+        final CountDownLatch checkStarted = new CountDownLatch(1);
+        final CountDownLatch checkInterrupted = new CountDownLatch(1);
+        final CompletableFuture<Boolean> probe = readinessProbe.probe(() -> {
+            checkStarted.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                checkInterrupted.countDown();
+                throw e;
+            }
+            return true;
+        }, 1, 60_000);
+        assertTrue(checkStarted.await(10, SECONDS));
+
+        probe.cancel(true);
+
+        assertTrue(checkInterrupted.await(10, SECONDS));
+    }
+
+    @Test(expectedExceptions = ServerException.class, expectedExceptionsMessageRegExp = "Stage failed")
+    public void shouldRethrowServerExceptionWrappedByCompletionStage() throws Exception {
+        final CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            throw new CompletionException(new ServerException("Stage failed"));
+        });
+
+        ReadinessProbe.await(future);
+    }
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.machine.server.util;
+
+import org.eclipse.che.api.core.util.MBeanRegistrar;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects statistics of caches which allow to avoid repeated
+ * downloading, parsing and validation of environment recipes.
+ *
+ * <p>Statistics are exposed as {@code org.eclipse.che:type=RecipeCache} MBean.
+ */
+@Singleton
+public class RecipeCacheStatistics implements RecipeCacheStatisticsMXBean {
+
+    private static final String MBEAN_NAME = "org.eclipse.che:type=RecipeCache";
+
+    private final LongAdder downloads;
+    private final LongAdder notModifiedDownloads;
+    private final LongAdder parses;
+    private final LongAdder cachedParses;
+    private final LongAdder validations;
+    private final LongAdder cachedValidations;
+
+    public RecipeCacheStatistics() {
+        downloads = new LongAdder();
+        notModifiedDownloads = new LongAdder();
+        parses = new LongAdder();
+        cachedParses = new LongAdder();
+        validations = new LongAdder();
+        cachedValidations = new LongAdder();
+    }
+
+    @Inject
+    void register(MBeanRegistrar registrar) {
+        registrar.register(this, MBEAN_NAME);
+    }
+
+    /** Records download of recipe, {@code notModified} is true when cached content was reused. */
+    public void recipeDownloaded(boolean notModified) {
+        downloads.increment();
+        if (notModified) {
+            notModifiedDownloads.increment();
+        }
+    }
+
+    /** Records parsing of environment, {@code cached} is true when parsed recipe was taken from cache. */
+    public void environmentParsed(boolean cached) {
+        parses.increment();
+        if (cached) {
+            cachedParses.increment();
+        }
+    }
+
+    /** Records validation of environment, {@code cached} is true when the same environment was already valid. */
+    public void environmentValidated(boolean cached) {
+        validations.increment();
+        if (cached) {
+            cachedValidations.increment();
+        }
+    }
+
+    @Override
+    public long getDownloads() {
+        return downloads.sum();
+    }
+
+    @Override
+    public double getDownloadHitRate() {
+        return rate(notModifiedDownloads.sum(), downloads.sum());
+    }
+
+    @Override
+    public long getParses() {
+        return parses.sum();
+    }
+
+    @Override
+    public double getParseHitRate() {
+        return rate(cachedParses.sum(), parses.sum());
+    }
+
+    @Override
+    public long getValidations() {
+        return validations.sum();
+    }
+
+    @Override
+    public double getValidationHitRate() {
+        return rate(cachedValidations.sum(), validations.sum());
+    }
+
+    @Override
+    public void reset() {
+        downloads.reset();
+        notModifiedDownloads.reset();
+        parses.reset();
+        cachedParses.reset();
+        validations.reset();
+        cachedValidations.reset();
+    }
+
+    private static double rate(long hits, long total) {
+        return total == 0 ? 0 : (double)hits / total;
+    }
+}
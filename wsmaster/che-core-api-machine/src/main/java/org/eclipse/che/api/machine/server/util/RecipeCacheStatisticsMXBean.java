@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.machine.server.util;
+
+/**
+ * Management interface of the recipe cache statistics.
+ *
+ * @see RecipeCacheStatistics
+ */
+public interface RecipeCacheStatisticsMXBean {
+
+    /** Returns the number of recipe downloads, including the ones answered with 'Not Modified'. */
+    long getDownloads();
+
+    /** Returns the share of downloads for which cached recipe content was reused. */
+    double getDownloadHitRate();
+
+    /** Returns the number of parsed environments. */
+    long getParses();
+
+    /** Returns the share of parsed environments whose recipe was taken from cache. */
+    double getParseHitRate();
+
+    /** Returns the number of validated environments. */
+    long getValidations();
+
+    /** Returns the share of validated environments which were already validated before. */
+    double getValidationHitRate();
+
+    /** Resets all the collected statistics. */
+    void reset();
+}
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.machine.server.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
 import org.eclipse.che.api.core.model.machine.MachineSource;
@@ -21,13 +24,17 @@ import org.slf4j.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriBuilderException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
+import java.util.Locale;
 
 import static java.lang.String.format;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -37,16 +44,29 @@ import static org.slf4j.LoggerFactory.getLogger;
  *
  * <p>Adds user token if target url points to current CHE server.
  *
+ * <p>Recipes downloaded over HTTP are cached together with their {@code ETag} and {@code Last-Modified}
+ * headers, so the next download of the same recipe is a conditional request and its content
+ * is reused when server responds with {@code 304 Not Modified}.
+ *
  * @author Alexander Garagatyi
  */
 public class RecipeDownloader {
     private static final Logger LOG = getLogger(RecipeDownloader.class);
 
-    private final URI apiEndpoint;
+    private static final int CACHE_SIZE = 100;
+
+    private final URI                         apiEndpoint;
+    // key = recipe location, the token is not a part of the key as the server checks it on each request
+    private final Cache<String, CachedRecipe> recipes;
+    private final RecipeCacheStatistics       statistics;
 
     @Inject
-    public RecipeDownloader(@Named("che.api") URI apiEndpoint) {
+    public RecipeDownloader(@Named("che.api") URI apiEndpoint, RecipeCacheStatistics statistics) {
         this.apiEndpoint = apiEndpoint;
+        this.recipes = CacheBuilder.newBuilder()
+                                   .maximumSize(CACHE_SIZE)
+                                   .build();
+        this.statistics = statistics;
     }
 
     /**
@@ -59,37 +79,15 @@ public class RecipeDownloader {
      *         if any error occurs
      */
     public RecipeImpl getRecipe(MachineConfig machineConfig) throws MachineException {
-        URL recipeUrl;
-        File file = null;
         final String location = machineConfig.getSource().getLocation();
         try {
-            UriBuilder targetUriBuilder = UriBuilder.fromUri(location);
-            // add user token to be able to download user's private recipe
-            final URI recipeUri = targetUriBuilder.build();
-            if (!recipeUri.isAbsolute() && recipeUri.getHost() == null) {
-                targetUriBuilder.scheme(apiEndpoint.getScheme())
-                                .host(apiEndpoint.getHost())
-                                .port(apiEndpoint.getPort())
-                                .replacePath(apiEndpoint.getPath() + location);
-                if (EnvironmentContext.getCurrent().getSubject() != null
-                    && EnvironmentContext.getCurrent().getSubject().getToken() != null) {
-                    targetUriBuilder.queryParam("token", EnvironmentContext.getCurrent().getSubject().getToken());
-                }
-            }
-            recipeUrl = targetUriBuilder.build().toURL();
-            file = IoUtil.downloadFileWithRedirect(null, "recipe", null, recipeUrl);
-
             return new RecipeImpl().withType(machineConfig.getSource().getType())
-                                   .withScript(IoUtil.readAndCloseQuietly(new FileInputStream(file)));
-        } catch (IOException | IllegalArgumentException e) {
+                                   .withScript(download(location));
+        } catch (IOException | IllegalArgumentException | UriBuilderException e) {
             throw new MachineException(format("Failed to download recipe for machine %s. Recipe url %s. Error: %s",
                                               machineConfig.getName(),
                                               location,
                                               e.getLocalizedMessage()));
-        } finally {
-            if (file != null && !file.delete()) {
-                LOG.error(String.format("Removal of recipe file %s failed.", file.getAbsolutePath()));
-            }
         }
     }
 
@@ -103,34 +101,100 @@ public class RecipeDownloader {
      *         if any error occurs
      */
     public String getRecipe(String location) throws ServerException {
-        URL recipeUrl;
-        File file = null;
         try {
-            UriBuilder targetUriBuilder = UriBuilder.fromUri(location);
-            // add user token to be able to download user's private recipe
-            final URI recipeUri = targetUriBuilder.build();
-            if (!recipeUri.isAbsolute() && recipeUri.getHost() == null) {
-                targetUriBuilder.scheme(apiEndpoint.getScheme())
-                                .host(apiEndpoint.getHost())
-                                .port(apiEndpoint.getPort())
-                                .replacePath(apiEndpoint.getPath() + location);
-                if (EnvironmentContext.getCurrent().getSubject() != null
-                    && EnvironmentContext.getCurrent().getSubject().getToken() != null) {
-                    targetUriBuilder.queryParam("token", EnvironmentContext.getCurrent().getSubject().getToken());
-                }
-            }
-            recipeUrl = targetUriBuilder.build().toURL();
-            file = IoUtil.downloadFileWithRedirect(null, "recipe", null, recipeUrl);
-
-            return IoUtil.readAndCloseQuietly(new FileInputStream(file));
+            return download(location);
         } catch (IOException | IllegalArgumentException | UriBuilderException e) {
             throw new MachineException(format("Failed to download recipe %s. Error: %s",
                                               location,
                                               e.getLocalizedMessage()));
+        }
+    }
+
+    private String download(String location) throws IOException {
+        final URL recipeUrl = toUrl(location);
+        final String protocol = recipeUrl.getProtocol().toLowerCase(Locale.ENGLISH);
+        if (!"http".equals(protocol) && !"https".equals(protocol)) {
+            return downloadFully(recipeUrl);
+        }
+
+        final CachedRecipe cached = recipes.getIfPresent(location);
+        final HttpURLConnection conn = (HttpURLConnection)recipeUrl.openConnection();
+        try {
+            conn.setRequestMethod(HttpMethod.GET);
+            if (cached != null) {
+                if (cached.eTag != null) {
+                    conn.setRequestProperty(HttpHeaders.IF_NONE_MATCH, cached.eTag);
+                }
+                if (cached.lastModified != null) {
+                    conn.setRequestProperty(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified);
+                }
+            }
+            final int status = conn.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+                statistics.recipeDownloaded(true);
+                return cached.content;
+            }
+            if (status == HttpURLConnection.HTTP_MOVED_TEMP || status == HttpURLConnection.HTTP_MOVED_PERM ||
+                status == HttpURLConnection.HTTP_SEE_OTHER) {
+                // redirects to another protocol are not followed by connection
+                recipes.invalidate(location);
+                statistics.recipeDownloaded(false);
+                return downloadFully(recipeUrl);
+            }
+
+            final String content = IoUtil.readAndCloseQuietly(conn.getInputStream());
+            final String eTag = conn.getHeaderField(HttpHeaders.ETAG);
+            final String lastModified = conn.getHeaderField(HttpHeaders.LAST_MODIFIED);
+            if (eTag != null || lastModified != null) {
+                recipes.put(location, new CachedRecipe(content, eTag, lastModified));
+            } else {
+                recipes.invalidate(location);
+            }
+            statistics.recipeDownloaded(false);
+            return content;
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    private String downloadFully(URL recipeUrl) throws IOException {
+        File file = null;
+        try {
+            file = IoUtil.downloadFileWithRedirect(null, "recipe", null, recipeUrl);
+            return IoUtil.readAndCloseQuietly(new FileInputStream(file));
         } finally {
             if (file != null && !file.delete()) {
                 LOG.error(String.format("Removal of recipe file %s failed.", file.getAbsolutePath()));
             }
         }
     }
+
+    private URL toUrl(String location) throws IOException {
+        UriBuilder targetUriBuilder = UriBuilder.fromUri(location);
+        // add user token to be able to download user's private recipe
+        final URI recipeUri = targetUriBuilder.build();
+        if (!recipeUri.isAbsolute() && recipeUri.getHost() == null) {
+            targetUriBuilder.scheme(apiEndpoint.getScheme())
+                            .host(apiEndpoint.getHost())
+                            .port(apiEndpoint.getPort())
+                            .replacePath(apiEndpoint.getPath() + location);
+            if (EnvironmentContext.getCurrent().getSubject() != null
+                && EnvironmentContext.getCurrent().getSubject().getToken() != null) {
+                targetUriBuilder.queryParam("token", EnvironmentContext.getCurrent().getSubject().getToken());
+            }
+        }
+        return targetUriBuilder.build().toURL();
+    }
+
+    private static class CachedRecipe {
+        final String content;
+        final String eTag;
+        final String lastModified;
+
+        CachedRecipe(String content, String eTag, String lastModified) {
+            this.content = content;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+        }
+    }
 }
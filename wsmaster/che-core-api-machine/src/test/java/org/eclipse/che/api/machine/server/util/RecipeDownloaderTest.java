@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.machine.server.util;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link RecipeDownloader}.
+ */
+public class RecipeDownloaderTest {
+    private static final String E_TAG = "\"v1\"";
+
+    private HttpServer       server;
+    private AtomicInteger    fullResponses;
+    private RecipeDownloader downloader;
+    private String           location;
+    private volatile String  recipe;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        fullResponses = new AtomicInteger();
+        recipe = "FROM codenvy/ubuntu_jdk8";
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/recipe", exchange -> {
+            final String eTag = recipe.equals("FROM codenvy/ubuntu_jdk8") ? E_TAG : "\"v2\"";
+            exchange.getResponseHeaders().add("ETag", eTag);
+            if (eTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                final byte[] body = recipe.getBytes(UTF_8);
+                fullResponses.incrementAndGet();
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        location = "http://localhost:" + server.getAddress().getPort() + "/recipe";
+        downloader = new RecipeDownloader(new URI("http://localhost:8080/api"), new RecipeCacheStatistics());
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldReuseCachedRecipeWhenItIsNotModified() throws Exception {
+        assertEquals(downloader.getRecipe(location), "FROM codenvy/ubuntu_jdk8");
+        assertEquals(downloader.getRecipe(location), "FROM codenvy/ubuntu_jdk8");
+
+        assertEquals(fullResponses.get(), 1);
+    }
+
+    @Test
+    public void shouldDownloadRecipeAgainWhenItIsModified() throws Exception {
+        downloader.getRecipe(location);
+        recipe = "FROM codenvy/ubuntu_jdk9";
+
+        assertEquals(downloader.getRecipe(location), "FROM codenvy/ubuntu_jdk9");
+        assertEquals(fullResponses.get(), 2);
+    }
+}
@@ -32,10 +32,11 @@ import org.eclipse.che.api.core.model.workspace.ServerConf2;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.core.util.AbstractLineConsumer;
+import org.eclipse.che.api.core.util.IndexedFileLineConsumer;
+import org.eclipse.che.api.core.util.IndexedLog;
 import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.core.util.MessageConsumer;
 import org.eclipse.che.api.core.util.lineconsumer.ConcurrentCompositeLineConsumer;
-import org.eclipse.che.api.core.util.lineconsumer.ConcurrentFileLineConsumer;
 import org.eclipse.che.api.environment.server.exception.EnvironmentException;
 import org.eclipse.che.api.environment.server.exception.EnvironmentNotRunningException;
 import org.eclipse.che.api.environment.server.model.CheServiceBuildContextImpl;
@@ -75,10 +76,13 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Pattern;
@@ -116,6 +120,7 @@ public class CheEnvironmentEngine {
     private final Pattern                        recipeApiPattern;
     private final ContainerNameGenerator         containerNameGenerator;
     private final AgentRegistry                  agentRegistry;
+    private final RuntimeJournal                 runtimeJournal;
 
     private volatile boolean isPreDestroyInvoked;
 
@@ -132,7 +137,8 @@ public class CheEnvironmentEngine {
                                 @Named("che.api") String apiEndpoint,
                                 RecipeDownloader recipeDownloader,
                                 ContainerNameGenerator containerNameGenerator,
-                                AgentRegistry agentRegistry) {
+                                AgentRegistry agentRegistry,
+                                RuntimeJournal runtimeJournal) {
         this.snapshotDao = snapshotDao;
         this.eventService = eventService;
         this.environmentParser = environmentParser;
@@ -141,6 +147,7 @@ public class CheEnvironmentEngine {
         this.infrastructureProvisioner = infrastructureProvisioner;
         this.recipeDownloader = recipeDownloader;
         this.agentRegistry = agentRegistry;
+        this.runtimeJournal = runtimeJournal;
         this.environments = new ConcurrentHashMap<>();
         this.machineInstanceProviders = machineInstanceProviders;
         this.machineLogsDir = new File(machineLogsDir);
@@ -261,6 +268,7 @@ public class CheEnvironmentEngine {
                 throw new ServerException("Environment start was interrupted by environment stopping");
             }
             environmentHolder.status = EnvStatus.RUNNING;
+            journal(workspaceId, environmentHolder);
             // prevent list modification
             return new ArrayList<>(environmentHolder.machines);
         }
@@ -300,6 +308,97 @@ public class CheEnvironmentEngine {
 
         try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
             environments.remove(workspaceId);
+            runtimeJournal.remove(workspaceId);
+        }
+    }
+
+    /**
+     * Tells whether running environments are journaled and can be recovered after restart of the master,
+     * in this case environments should be left running on master stop.
+     */
+    public boolean isRecoveryEnabled() {
+        return runtimeJournal.isEnabled();
+    }
+
+    /** Returns environments which were running before restart of the master. */
+    public List<RuntimeJournal.Entry> getJournaledEnvironments() {
+        return runtimeJournal.readAll();
+    }
+
+    /**
+     * Recovers environment which was running before restart of the master.
+     * <p/>
+     * Machines which are not running anymore are skipped unless it is dev machine,
+     * in this case recovered machines are destroyed and environment is removed from the journal.
+     *
+     * @param entry
+     *         journaled state of the environment
+     * @param messageConsumer
+     *         consumer of log messages from machines in the environment
+     * @return list of recovered machines of this environment
+     * @throws ConflictException
+     *         if environment of the workspace already exists
+     * @throws ServerException
+     *         if environment can't be recovered
+     */
+    public List<Instance> recover(RuntimeJournal.Entry entry,
+                                  MessageConsumer<MachineLogMessage> messageConsumer) throws ServerException,
+                                                                                             ConflictException {
+        final String workspaceId = entry.getWorkspaceId();
+        // services are needed only for start of environment, which is finished already
+        final CheServicesEnvironmentImpl internalEnv = new CheServicesEnvironmentImpl();
+        internalEnv.setWorkspaceId(workspaceId);
+        final EnvironmentHolder environmentHolder = new EnvironmentHolder(Collections.emptyList(),
+                                                                          internalEnv,
+                                                                          entry.getEnvironment(),
+                                                                          messageConsumer,
+                                                                          EnvStatus.STARTING,
+                                                                          entry.getEnvName(),
+                                                                          entry.getNetworkId());
+        try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
+            if (environments.putIfAbsent(workspaceId, environmentHolder) != null) {
+                throw new ConflictException(format("Environment of workspace '%s' already exists", workspaceId));
+            }
+        }
+
+        try {
+            for (MachineImpl machine : entry.getMachines()) {
+                final LineConsumer machineLogger = getMachineLogger(messageConsumer,
+                                                                    machine.getId(),
+                                                                    machine.getConfig().getName(),
+                                                                    true);
+                try {
+                    if (!"docker".equals(machine.getConfig().getType())) {
+                        throw new ServerException(format("Recovery of machines of type '%s' is not supported",
+                                                         machine.getConfig().getType()));
+                    }
+                    environmentHolder.machines.add(machineProvider.recoverService(machine, entry.getStoppedAt(), machineLogger));
+                } catch (NotFoundException e) {
+                    machineLogger.close();
+                    if (machine.getConfig().isDev()) {
+                        throw new ServerException(e.getLocalizedMessage(), e);
+                    }
+                    LOG.warn("Machine {} of workspace {} is not recovered. {}", machine.getId(), workspaceId, e.getMessage());
+                } catch (ServerException | RuntimeException e) {
+                    machineLogger.close();
+                    throw e;
+                }
+            }
+        } catch (IOException | ServerException | RuntimeException e) {
+            try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
+                environments.remove(workspaceId);
+                runtimeJournal.remove(workspaceId);
+            }
+            destroyEnvironment(entry.getNetworkId(), environmentHolder.machines);
+            throw new ServerException(format("Environment of workspace '%s' is not recovered. %s",
+                                             workspaceId,
+                                             e.getLocalizedMessage()), e);
+        }
+
+        try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
+            environmentHolder.status = EnvStatus.RUNNING;
+            journal(workspaceId, environmentHolder);
+            return new ArrayList<>(environmentHolder.machines);
         }
     }
 
@@ -440,6 +539,7 @@ public class CheEnvironmentEngine {
                 }
             }
             environmentHolder.machines.remove(targetMachine);
+            journal(workspaceId, environmentHolder);
         }
         if (targetMachine == null) {
             throw new NotFoundException(format("Machine with ID '%s' is not found in environment of workspace '%s'",
@@ -554,6 +654,7 @@ public class CheEnvironmentEngine {
 
         EnvironmentHolder environmentHolder = new EnvironmentHolder(servicesOrder,
                                                                     internalEnv,
+                                                                    envConfig,
                                                                     messageConsumer,
                                                                     EnvStatus.STARTING,
                                                                     envName,
@@ -846,6 +947,7 @@ public class CheEnvironmentEngine {
             EnvironmentHolder env;
             try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
                 env = environments.remove(workspaceId);
+                runtimeJournal.remove(workspaceId);
             }
 
             try {
@@ -1025,6 +1127,7 @@ public class CheEnvironmentEngine {
                 for (Instance machine : environmentHolder.machines) {
                     if (machine.getId().equals(machineId)) {
                         environmentHolder.machines.remove(machine);
+                        journal(workspaceId, environmentHolder);
                         return;
                     }
                 }
@@ -1040,6 +1143,7 @@ public class CheEnvironmentEngine {
                 for (int i = 0; i < environmentHolder.machines.size(); i++) {
                     if (environmentHolder.machines.get(i).getId().equals(machine.getId())) {
                         environmentHolder.machines.set(i, machine);
+                        journal(machine.getWorkspaceId(), environmentHolder);
                         return;
                     }
                 }
@@ -1084,6 +1188,20 @@ public class CheEnvironmentEngine {
         }
     }
 
+    /**
+     * Stores state of the running environment into the runtime journal,
+     * should be called under the write lock of the workspace to keep order of changes.
+     */
+    private void journal(String workspaceId, EnvironmentHolder environmentHolder) {
+        if (runtimeJournal.isEnabled() && environmentHolder.status == EnvStatus.RUNNING) {
+            runtimeJournal.write(new RuntimeJournal.Entry(workspaceId,
+                                                          environmentHolder.name,
+                                                          environmentHolder.networkId,
+                                                          environmentHolder.config,
+                                                          environmentHolder.machines));
+        }
+    }
+
     /**
      * Destroys provided machines and associated network.
      */
@@ -1141,10 +1259,17 @@ public class CheEnvironmentEngine {
     @SuppressWarnings("unused")
     void cleanup() {
         isPreDestroyInvoked = true;
+        // logs of the environments which are left running are needed after restart
+        final Set<String> runningMachines = new HashSet<>();
+        if (runtimeJournal.isEnabled()) {
+            for (RuntimeJournal.Entry entry : runtimeJournal.markStopped(System.currentTimeMillis())) {
+                entry.getMachines().forEach(machine -> runningMachines.add(machine.getId()));
+            }
+        }
         final java.io.File[] files = machineLogsDir.listFiles();
         if (files != null && files.length > 0) {
             for (java.io.File f : files) {
-                if (!IoUtil.deleteRecursive(f)) {
+                if (!runningMachines.contains(f.getName()) && !IoUtil.deleteRecursive(f)) {
                     LOG.warn("Failed delete {}", f);
                 }
             }
@@ -1154,6 +1279,13 @@ public class CheEnvironmentEngine {
     private LineConsumer getMachineLogger(MessageConsumer<MachineLogMessage> environmentLogger,
                                           String machineId,
                                           String machineName) throws ServerException {
+        return getMachineLogger(environmentLogger, machineId, machineName, false);
+    }
+
+    private LineConsumer getMachineLogger(MessageConsumer<MachineLogMessage> environmentLogger,
+                                          String machineId,
+                                          String machineName,
+                                          boolean append) throws ServerException {
         createMachineLogsDir(machineId);
 
         LineConsumer lineConsumer = new AbstractLineConsumer() {
@@ -1163,7 +1295,10 @@ public class CheEnvironmentEngine {
             }
         };
         try {
-            return new ConcurrentCompositeLineConsumer(new ConcurrentFileLineConsumer(getMachineLogsFile(machineId)),
+            return new ConcurrentCompositeLineConsumer(new IndexedFileLineConsumer(getMachineLogsFile(machineId),
+                                                                                   IndexedFileLineConsumer.DEFAULT_INDEX_INTERVAL,
+                                                                                   0,
+                                                                                   append),
                                                        lineConsumer);
         } catch (IOException e) {
             throw new MachineException(format("Unable create log file '%s' for machine '%s'.",
@@ -1172,6 +1307,22 @@ public class CheEnvironmentEngine {
         }
     }
 
+    /**
+     * Returns log of the machine with specified id.
+     *
+     * @param machineId
+     *         id of the machine
+     * @throws NotFoundException
+     *         if log of the machine is not available
+     */
+    public IndexedLog getMachineLog(String machineId) throws NotFoundException {
+        final IndexedLog log = new IndexedLog(getMachineLogsFile(machineId));
+        if (!log.exists()) {
+            throw new NotFoundException(format("Logs for machine '%s' are not available", machineId));
+        }
+        return log;
+    }
+
     private void createMachineLogsDir(String machineId) throws MachineException {
         File dir = new File(machineLogsDir, machineId);
         if (!dir.exists() && !dir.mkdirs()) {
@@ -1233,6 +1384,7 @@ public class CheEnvironmentEngine {
     private static class EnvironmentHolder {
         final Queue<String>                      startQueue;
         final CheServicesEnvironmentImpl         environment;
+        final Environment                        config;
         final MessageConsumer<MachineLogMessage> logger;
         final String                             name;
         final String                             networkId;
@@ -1242,6 +1394,7 @@ public class CheEnvironmentEngine {
 
         EnvironmentHolder(List<String> startQueue,
                           CheServicesEnvironmentImpl environment,
+                          Environment config,
                           MessageConsumer<MachineLogMessage> envLogger,
                           EnvStatus envStatus,
                           String name,
@@ -1252,6 +1405,7 @@ public class CheEnvironmentEngine {
             this.status = envStatus;
             this.name = name;
             this.environment = environment;
+            this.config = config;
             this.networkId = networkId;
         }
 
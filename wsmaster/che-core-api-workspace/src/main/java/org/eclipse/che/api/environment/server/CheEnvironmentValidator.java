@@ -11,6 +11,8 @@
 package org.eclipse.che.api.environment.server;
 
 import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
@@ -21,7 +23,10 @@ import org.eclipse.che.api.core.model.workspace.ServerConf2;
 import org.eclipse.che.api.environment.server.model.CheServiceImpl;
 import org.eclipse.che.api.environment.server.model.CheServicesEnvironmentImpl;
 import org.eclipse.che.api.machine.server.MachineInstanceProviders;
+import org.eclipse.che.api.machine.server.util.RecipeCacheStatistics;
+import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
 import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.lang.Pair;
 
 import javax.inject.Inject;
 import java.net.MalformedURLException;
@@ -40,6 +45,10 @@ import static java.util.stream.Collectors.toList;
 /**
  * Validates description of environment of workspace.
  *
+ * <p>Environments which passed validation are remembered, so validation of the same environment
+ * is skipped when workspace is updated or started again. Environments with recipe location
+ * are validated each time as content of their recipe may change.
+ *
  * @author Alexander Garagatyi
  */
 public class CheEnvironmentValidator {
@@ -74,17 +83,27 @@ public class CheEnvironmentValidator {
     private static final Pattern VOLUME_FROM_PATTERN =
             Pattern.compile("^(?<serviceName>" + MACHINE_NAME_REGEXP + ")(:(ro|rw))?$");
 
-    private final MachineInstanceProviders     machineInstanceProviders;
-    private final EnvironmentParser            environmentParser;
-    private final DefaultServicesStartStrategy startStrategy;
+    private static final int CACHE_SIZE = 500;
+
+    private final MachineInstanceProviders                      machineInstanceProviders;
+    private final EnvironmentParser                             environmentParser;
+    private final DefaultServicesStartStrategy                  startStrategy;
+    // key = environment name and copy of valid environment
+    private final Cache<Pair<String, EnvironmentImpl>, Boolean> validEnvironments;
+    private final RecipeCacheStatistics                         statistics;
 
     @Inject
     public CheEnvironmentValidator(MachineInstanceProviders machineInstanceProviders,
                                    EnvironmentParser environmentParser,
-                                   DefaultServicesStartStrategy startStrategy) {
+                                   DefaultServicesStartStrategy startStrategy,
+                                   RecipeCacheStatistics statistics) {
         this.machineInstanceProviders = machineInstanceProviders;
         this.environmentParser = environmentParser;
         this.startStrategy = startStrategy;
+        this.validEnvironments = CacheBuilder.newBuilder()
+                                             .maximumSize(CACHE_SIZE)
+                                             .build();
+        this.statistics = statistics;
     }
 
     // TODO fix error messages: fields mentioning, usage of service term
@@ -104,6 +123,18 @@ public class CheEnvironmentValidator {
                       "Recipe of environment '%s' contains mutually exclusive fields location and content",
                       envName);
 
+        Pair<String, EnvironmentImpl> key = null;
+        if (env.getRecipe().getLocation() == null) {
+            key = Pair.of(envName, new EnvironmentImpl(env));
+            boolean valid = validEnvironments.getIfPresent(key) != null;
+            statistics.environmentValidated(valid);
+            if (valid) {
+                return;
+            }
+        } else {
+            statistics.environmentValidated(false);
+        }
+
         CheServicesEnvironmentImpl cheServicesEnvironment;
         try {
             cheServicesEnvironment = environmentParser.parse(env);
@@ -164,6 +195,10 @@ public class CheEnvironmentValidator {
                     format("Start order of machine in environment '%s' is not resolvable. Error: %s",
                            envName, e.getLocalizedMessage()));
         }
+
+        if (key != null) {
+            validEnvironments.put(key, true);
+        }
     }
 
     protected void validateMachine(String machineName,
@@ -11,6 +11,10 @@
 package org.eclipse.che.api.environment.server;
 
 import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.Environment;
@@ -18,18 +22,25 @@ import org.eclipse.che.api.core.model.workspace.EnvironmentRecipe;
 import org.eclipse.che.api.core.model.workspace.ExtendedMachine;
 import org.eclipse.che.api.environment.server.model.CheServiceImpl;
 import org.eclipse.che.api.environment.server.model.CheServicesEnvironmentImpl;
+import org.eclipse.che.api.machine.server.util.RecipeCacheStatistics;
 
 import javax.inject.Inject;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.toList;
 
 /**
  * Parses {@link Environment} into {@link CheServicesEnvironmentImpl}.
  *
+ * <p>Results of parsing of recipes with content are cached by the hash of the recipe
+ * and names of the machines, so the same stack or workspace recipe isn't parsed on each start.
+ * Recipes with location are parsed each time as their content may change.
+ *
  * @author Alexander Garagatyi
  * @author Alexander Andrienko
  */
@@ -41,11 +52,22 @@ public class EnvironmentParser {
     protected static final String SERVER_CONF_LABEL_PROTOCOL_SUFFIX = ":protocol";
     protected static final String SERVER_CONF_LABEL_PATH_SUFFIX     = ":path";
 
+    private static final int CACHE_SIZE = 500;
+
     private final Map<String, TypeSpecificEnvironmentParser> environmentParsers;
+    // key = hash of recipe type, content type, content and sorted machine names,
+    // value = environment which is never handed out
+    private final Cache<String, CheServicesEnvironmentImpl>  parsedRecipes;
+    private final RecipeCacheStatistics                      statistics;
 
     @Inject
-    public EnvironmentParser(Map<String, TypeSpecificEnvironmentParser> environmentParsers) {
+    public EnvironmentParser(Map<String, TypeSpecificEnvironmentParser> environmentParsers,
+                             RecipeCacheStatistics statistics) {
         this.environmentParsers = environmentParsers;
+        this.parsedRecipes = CacheBuilder.newBuilder()
+                                         .maximumSize(CACHE_SIZE)
+                                         .build();
+        this.statistics = statistics;
     }
 
     /**
@@ -86,8 +108,7 @@ public class EnvironmentParser {
                                                       Joiner.on(", ").join(envTypes)));
         }
 
-        TypeSpecificEnvironmentParser parser = environmentParsers.get(envType);
-        CheServicesEnvironmentImpl cheServicesEnvironment = parser.parse(environment);
+        CheServicesEnvironmentImpl cheServicesEnvironment = parseRecipe(environment);
 
         cheServicesEnvironment.getServices().forEach((name, service) -> {
             ExtendedMachine extendedMachine = environment.getMachines().get(name);
@@ -99,6 +120,46 @@ public class EnvironmentParser {
         return cheServicesEnvironment;
     }
 
+    /**
+     * Returns environment parsed by type specific parser, the result may be modified by caller.
+     *
+     * <p>Type specific parsers may use machines of the environment, e.g. to name the service
+     * of single machine recipe or to reject environments with several machines. So machine names
+     * are a part of the cache key, and only successfully parsed environments are cached,
+     * which means that environment taken from cache passed the same checks before.
+     */
+    private CheServicesEnvironmentImpl parseRecipe(Environment environment) throws ServerException {
+        EnvironmentRecipe recipe = environment.getRecipe();
+        TypeSpecificEnvironmentParser parser = environmentParsers.get(recipe.getType());
+        if (recipe.getContent() == null) {
+            statistics.environmentParsed(false);
+            return parser.parse(environment);
+        }
+
+        Hasher hasher = Hashing.sha256()
+                               .newHasher()
+                               .putString(recipe.getType(), UTF_8)
+                               .putChar('\0')
+                               .putString(String.valueOf(recipe.getContentType()), UTF_8)
+                               .putChar('\0')
+                               .putString(recipe.getContent(), UTF_8);
+        if (environment.getMachines() != null) {
+            for (String machineName : new TreeSet<>(environment.getMachines().keySet())) {
+                hasher.putChar('\0')
+                      .putString(machineName, UTF_8);
+            }
+        }
+        String key = hasher.hash().toString();
+        CheServicesEnvironmentImpl parsed = parsedRecipes.getIfPresent(key);
+        statistics.environmentParsed(parsed != null);
+        if (parsed == null) {
+            parsed = parser.parse(environment);
+            parsedRecipes.put(key, new CheServicesEnvironmentImpl(parsed));
+            return parsed;
+        }
+        return new CheServicesEnvironmentImpl(parsed);
+    }
+
     private void normalizeMachine(String name, CheServiceImpl service, ExtendedMachine extendedMachine) {
         if (extendedMachine.getAttributes().containsKey("memoryLimitBytes")) {
 
@@ -10,7 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.environment.server;
 
+import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.environment.server.model.CheServiceImpl;
 import org.eclipse.che.api.machine.server.spi.Instance;
@@ -53,6 +55,28 @@ public interface MachineInstanceProvider {
                           CheServiceImpl service,
                           LineConsumer machineLogger) throws ServerException;
 
+    /**
+     * Re-creates instance of the machine which was started before restart of the master and is still running.
+     *
+     * @param machine
+     *         description of the machine as it was stored in {@link RuntimeJournal},
+     *         runtime properties contain implementation specific data of the machine
+     * @param stoppedAt
+     *         time in milliseconds when the master was stopped, logs of the machine produced after it
+     *         are not in the machine log yet, 0 if the time is unknown
+     * @param machineLogger
+     *         consumer of logs of service
+     * @return machine instance
+     * @throws NotFoundException
+     *         if machine is not running anymore
+     * @throws ServerException
+     *         if machine can't be recovered or recovery is not supported by the provider
+     */
+    default Instance recoverService(Machine machine, long stoppedAt, LineConsumer machineLogger) throws NotFoundException,
+                                                                                                        ServerException {
+        throw new ServerException("Recovery of running machines is not supported");
+    }
+
     /**
      * Creates network for compose services.
      *
@@ -19,11 +19,12 @@ import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.model.machine.Command;
 import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.util.BatchingWebsocketLineConsumer;
 import org.eclipse.che.api.core.util.CompositeLineConsumer;
-import org.eclipse.che.api.core.util.FileLineConsumer;
+import org.eclipse.che.api.core.util.IndexedFileLineConsumer;
+import org.eclipse.che.api.core.util.IndexedLog;
 import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
-import org.eclipse.che.api.core.util.WebsocketLineConsumer;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.spi.Instance;
 import org.eclipse.che.api.machine.server.spi.InstanceProcess;
@@ -40,18 +41,22 @@ import javax.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
-import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 /**
  * Facade for Machine process operations.
  *
+ * <p>Output of processes is written into log files which are flushed periodically,
+ * and sent to websocket channels in frames of lines with limited rate,
+ * see {@link BatchingWebsocketLineConsumer}.
+ *
  * @author gazarenkov
  * @author Alexander Garagatyi
  * @author Yevhenii Voevodin
@@ -63,17 +68,36 @@ public class MachineProcessManager {
     private final File                 machineLogsDir;
     private final CheEnvironmentEngine environmentEngine;
     private final EventService         eventService;
+    private final long                 logFlushIntervalMs;
+    private final int                  outputFrameLines;
+    private final long                 outputFrameDelayMs;
+    private final double               outputMaxLinesPerSecond;
 
     @VisibleForTesting
     final ExecutorService executor;
 
+    /** Creates manager which flushes process logs and sends process output after each line. */
+    public MachineProcessManager(String machineLogsDir,
+                                 EventService eventService,
+                                 CheEnvironmentEngine environmentEngine) {
+        this(machineLogsDir, eventService, environmentEngine, 0, 1, 0, 0);
+    }
+
     @Inject
     public MachineProcessManager(@Named("che.workspace.logs") String machineLogsDir,
                                  EventService eventService,
-                                 CheEnvironmentEngine environmentEngine) {
+                                 CheEnvironmentEngine environmentEngine,
+                                 @Named("che.workspace.process.log_flush_interval_ms") long logFlushIntervalMs,
+                                 @Named("che.workspace.process.output_frame_lines") int outputFrameLines,
+                                 @Named("che.workspace.process.output_frame_delay_ms") long outputFrameDelayMs,
+                                 @Named("che.workspace.process.output_max_lines_per_second") double outputMaxLinesPerSecond) {
         this.eventService = eventService;
         this.machineLogsDir = new File(machineLogsDir);
         this.environmentEngine = environmentEngine;
+        this.logFlushIntervalMs = logFlushIntervalMs;
+        this.outputFrameLines = outputFrameLines;
+        this.outputFrameDelayMs = outputFrameDelayMs;
+        this.outputMaxLinesPerSecond = outputMaxLinesPerSecond;
 
         executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("MachineProcessManager-%d")
                                                                            .setUncaughtExceptionHandler(
@@ -210,7 +234,7 @@ public class MachineProcessManager {
         final File processLogsFile = getProcessLogsFile(machineId, pid);
         if (processLogsFile.isFile()) {
             try {
-                return Files.newBufferedReader(processLogsFile.toPath(), Charset.defaultCharset());
+                return Files.newBufferedReader(processLogsFile.toPath(), UTF_8);
             } catch (IOException e) {
                 throw new MachineException(
                         String.format("Unable read log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
@@ -219,13 +243,46 @@ public class MachineProcessManager {
         throw new NotFoundException(String.format("Logs for process '%s' of machine '%s' are not available", pid, machineId));
     }
 
+    /**
+     * Gets log of the process, unlike {@link #getProcessLogReader(String, int)}
+     * it allows reading of any part of the log without reading it from the start.
+     *
+     * @param machineId
+     *         machine id whose process log will be returned
+     * @param pid
+     *         process id
+     * @throws NotFoundException
+     *         if log of the process is not available
+     */
+    public IndexedLog getProcessLog(String machineId, int pid) throws NotFoundException {
+        final IndexedLog log = new IndexedLog(getProcessLogsFile(machineId, pid));
+        if (!log.exists()) {
+            throw new NotFoundException(String.format("Logs for process '%s' of machine '%s' are not available", pid, machineId));
+        }
+        return log;
+    }
+
+    /**
+     * Gets log of the machine with specified id.
+     *
+     * @param machineId
+     *         machine id whose log will be returned
+     * @throws NotFoundException
+     *         if log of the machine is not available
+     */
+    public IndexedLog getMachineLog(String machineId) throws NotFoundException {
+        return environmentEngine.getMachineLog(machineId);
+    }
+
     private File getProcessLogsFile(String machineId, int pid) {
         return new File(new File(machineLogsDir, machineId), Integer.toString(pid));
     }
 
-    private FileLineConsumer getProcessFileLogger(String machineId, int pid) throws MachineException {
+    private IndexedFileLineConsumer getProcessFileLogger(String machineId, int pid) throws MachineException {
         try {
-            return new FileLineConsumer(getProcessLogsFile(machineId, pid));
+            return new IndexedFileLineConsumer(getProcessLogsFile(machineId, pid),
+                                               IndexedFileLineConsumer.DEFAULT_INDEX_INTERVAL,
+                                               logFlushIntervalMs);
         } catch (IOException e) {
             throw new MachineException(
                     String.format("Unable create log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
@@ -239,7 +296,10 @@ public class MachineProcessManager {
 
     private LineConsumer getLogger(LineConsumer fileLogger, String outputChannel) throws MachineException {
         if (outputChannel != null) {
-            return new CompositeLineConsumer(fileLogger, new WebsocketLineConsumer(outputChannel));
+            return new CompositeLineConsumer(fileLogger, new BatchingWebsocketLineConsumer(outputChannel,
+                                                                                            outputFrameLines,
+                                                                                            outputFrameDelayMs,
+                                                                                            outputMaxLinesPerSecond));
         }
         return fileLogger;
     }
@@ -25,6 +25,7 @@ import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.core.rest.Service;
+import org.eclipse.che.api.core.util.IndexedLog;
 import org.eclipse.che.api.machine.server.DtoConverter;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.shared.dto.CommandDto;
@@ -48,6 +49,8 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -61,6 +64,11 @@ import java.util.stream.Collectors;
 @Api(value = "/machine", description = "Machine REST API")
 @Path("/workspace/{workspaceId}/machine")
 public class MachineService extends Service {
+    /** Maximal number of log lines returned by one request for a part of the log. */
+    static final int    MAX_LOG_LINES          = 10_000;
+    static final String LOG_FIRST_LINE_HEADER  = "X-Log-First-Line";
+    static final String LOG_NEXT_OFFSET_HEADER = "X-Log-Next-Offset";
+
     private final MachineProcessManager       machineProcessManager;
     private final MachineServiceLinksInjector linksInjector;
     private final WorkspaceManager            workspaceManager;
@@ -287,14 +295,74 @@ public class MachineService extends Service {
                                @ApiParam(value = "Process ID")
                                @PathParam("pid")
                                int pid,
+                               @ApiParam(value = "Number of the first line to return, the first line of the log has number 0")
+                               @QueryParam("from")
+                               Long from,
+                               @ApiParam(value = "Number of the last lines of the log to return")
+                               @QueryParam("tail")
+                               Integer tail,
+                               @ApiParam(value = "Byte offset to continue reading from, " +
+                                                 "it is returned in the " + LOG_NEXT_OFFSET_HEADER + " header of the previous response")
+                               @QueryParam("offset")
+                               Long offset,
+                               @ApiParam(value = "Maximal number of lines to return")
+                               @QueryParam("count")
+                               Integer count,
                                @Context
                                HttpServletResponse httpServletResponse)
             throws NotFoundException,
                    ForbiddenException,
                    ServerException,
+                   BadRequestException,
                    IOException {
 
-        addProcessLogsToResponse(machineId, pid, httpServletResponse);
+        if (from == null && tail == null && offset == null && count == null) {
+            addProcessLogsToResponse(machineId, pid, httpServletResponse);
+        } else {
+            addLogPartToResponse(machineProcessManager.getProcessLog(machineId, pid), from, tail, offset, count, httpServletResponse);
+        }
+    }
+
+    @GET
+    @Path("/{machineId}/logs")
+    @Produces(MediaType.TEXT_PLAIN)
+    @ApiOperation(value = "Get logs of machine",
+                  notes = "Whole log is returned when none of the query parameters is set")
+    @ApiResponses({@ApiResponse(code = 200, message = "The response contains logs"),
+                   @ApiResponse(code = 400, message = "Query parameters are not valid"),
+                   @ApiResponse(code = 404, message = "Logs of machine with specified ID are not available"),
+                   @ApiResponse(code = 500, message = "Internal server error occurred")})
+    public void getMachineLogs(@ApiParam(value = "Workspace ID")
+                               @PathParam("workspaceId")
+                               String workspaceId,
+                               @ApiParam(value = "Machine ID")
+                               @PathParam("machineId")
+                               String machineId,
+                               @ApiParam(value = "Number of the first line to return, the first line of the log has number 0")
+                               @QueryParam("from")
+                               Long from,
+                               @ApiParam(value = "Number of the last lines of the log to return")
+                               @QueryParam("tail")
+                               Integer tail,
+                               @ApiParam(value = "Byte offset to continue reading from, " +
+                                                 "it is returned in the " + LOG_NEXT_OFFSET_HEADER + " header of the previous response")
+                               @QueryParam("offset")
+                               Long offset,
+                               @ApiParam(value = "Maximal number of lines to return")
+                               @QueryParam("count")
+                               Integer count,
+                               @Context
+                               HttpServletResponse httpServletResponse) throws NotFoundException,
+                                                                               BadRequestException,
+                                                                               IOException {
+        final IndexedLog log = machineProcessManager.getMachineLog(machineId);
+        if (from == null && tail == null && offset == null && count == null) {
+            httpServletResponse.setContentType("text/plain;charset=UTF-8");
+            Files.copy(log.getFile().toPath(), httpServletResponse.getOutputStream());
+            httpServletResponse.getOutputStream().flush();
+        } else {
+            addLogPartToResponse(log, from, tail, offset, count, httpServletResponse);
+        }
     }
 
     /**
@@ -323,12 +391,54 @@ public class MachineService extends Service {
                                                                                                                      MachineException {
         try (Reader logsReader = machineProcessManager.getProcessLogReader(machineId, pid)) {
             // Response is written directly to the servlet request stream
-            httpServletResponse.setContentType("text/plain");
+            httpServletResponse.setContentType("text/plain;charset=UTF-8");
             CharStreams.copy(logsReader, httpServletResponse.getWriter());
             httpServletResponse.getWriter().flush();
         }
     }
 
+    /**
+     * Writes part of the log to the response, the part is selected by one of {@code from}, {@code tail} or {@code offset},
+     * the first lines of the log are written if none of them is set.
+     * Number of the first written line (if known) and offset for the next request are sent in the response headers.
+     */
+    private void addLogPartToResponse(IndexedLog log,
+                                      Long from,
+                                      Integer tail,
+                                      Long offset,
+                                      Integer count,
+                                      HttpServletResponse httpServletResponse) throws BadRequestException, IOException {
+        if ((from != null ? 1 : 0) + (tail != null ? 1 : 0) + (offset != null ? 1 : 0) > 1) {
+            throw new BadRequestException("Only one of parameters 'from', 'tail' and 'offset' may be set");
+        }
+        if (from != null && from < 0 || tail != null && tail < 0 || offset != null && offset < 0 || count != null && count < 0) {
+            throw new BadRequestException("Parameters 'from', 'tail', 'offset' and 'count' must not be negative");
+        }
+        final int limit = count == null ? MAX_LOG_LINES : Math.min(count, MAX_LOG_LINES);
+
+        final IndexedLog.Chunk chunk;
+        if (offset != null) {
+            chunk = log.follow(offset, limit);
+        } else if (tail != null) {
+            chunk = log.tail(Math.min(tail, limit));
+        } else {
+            chunk = log.readLines(from == null ? 0 : from, limit);
+        }
+
+        // Response is written directly to the servlet request stream
+        httpServletResponse.setContentType("text/plain;charset=UTF-8");
+        if (chunk.getFirstLine() >= 0) {
+            httpServletResponse.setHeader(LOG_FIRST_LINE_HEADER, Long.toString(chunk.getFirstLine()));
+        }
+        httpServletResponse.setHeader(LOG_NEXT_OFFSET_HEADER, Long.toString(chunk.getNextOffset()));
+        final Writer writer = httpServletResponse.getWriter();
+        for (String line : chunk.getLines()) {
+            writer.write(line);
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
     /**
      * Checks object reference is not {@code null}
      *
@@ -90,6 +90,13 @@ public class MachineServiceLinksInjector {
                              getProcessesUri.toString(),
                              APPLICATION_JSON,
                              Constants.LINK_REL_GET_PROCESSES));
+        links.add(createLink(HttpMethod.GET,
+                             uriBuilder.clone()
+                                       .path(MachineService.class, "getMachineLogs")
+                                       .build(machine.getWorkspaceId(), machine.getId())
+                                       .toString(),
+                             TEXT_PLAIN,
+                             Constants.LINK_REL_GET_MACHINE_LOGS));
 
         injectTerminalLink(machine, serviceContext, links);
 
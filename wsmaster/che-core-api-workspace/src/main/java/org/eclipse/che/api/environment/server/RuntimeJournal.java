@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.environment.server;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.eclipse.che.api.core.model.machine.Machine;
+import org.eclipse.che.api.core.model.workspace.Environment;
+import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
+import org.eclipse.che.api.machine.shared.dto.MachineDto;
+import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
+import org.eclipse.che.api.workspace.shared.dto.EnvironmentDto;
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.slf4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Journal of running environments, it allows master to recover environments
+ * which are still running after its restart instead of destroying them.
+ * <p/>
+ * Each environment is stored in its own file named after the workspace id.
+ * The file is rewritten on each change of the environment and removed when environment is stopped.
+ * Journal is disabled when its directory is not configured.
+ */
+@Singleton
+public class RuntimeJournal {
+    private static final Logger LOG = getLogger(RuntimeJournal.class);
+
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private final File dir;
+
+    @Inject
+    public RuntimeJournal(@Nullable @Named("che.workspace.runtime_journal_dir") String dir) {
+        this.dir = isNullOrEmpty(dir) ? null : new File(dir);
+    }
+
+    public boolean isEnabled() {
+        return dir != null;
+    }
+
+    /** Stores the entry replacing the previous entry of the same workspace. */
+    public void write(Entry entry) {
+        if (!isEnabled()) {
+            return;
+        }
+        final File target = getEntryFile(entry.getWorkspaceId());
+        try {
+            Files.createDirectories(dir.toPath());
+            final File tmp = File.createTempFile(target.getName(), ".tmp", dir);
+            try {
+                try (Writer writer = Files.newBufferedWriter(tmp.toPath(), UTF_8)) {
+                    writer.write(entry.toJson().toString());
+                }
+                // entry is either old or new, even if master is killed in the middle of writing
+                Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp.toPath());
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't write runtime journal entry of workspace {}. {}", entry.getWorkspaceId(), e.getMessage());
+        }
+    }
+
+    /** Removes entry of the workspace, does nothing if there is no such entry. */
+    public void remove(String workspaceId) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(getEntryFile(workspaceId).toPath());
+        } catch (IOException e) {
+            LOG.warn("Can't remove runtime journal entry of workspace {}. {}", workspaceId, e.getMessage());
+        }
+    }
+
+    /**
+     * Records the time when the master is stopped in all the stored entries,
+     * so logs of machines produced after that time can be fetched when environments are recovered.
+     *
+     * @return the stored entries
+     */
+    public List<Entry> markStopped(long stoppedAt) {
+        final List<Entry> entries = readAll();
+        for (Entry entry : entries) {
+            write(entry.withStoppedAt(stoppedAt));
+        }
+        return entries;
+    }
+
+    /** Reads all the stored entries, entries which can't be read are removed. */
+    public List<Entry> readAll() {
+        final List<Entry> entries = new ArrayList<>();
+        final File[] files = isEnabled() ? dir.listFiles((parent, name) -> name.endsWith(ENTRY_SUFFIX)) : null;
+        if (files == null) {
+            return entries;
+        }
+        for (File file : files) {
+            try (Reader reader = Files.newBufferedReader(file.toPath(), UTF_8)) {
+                entries.add(Entry.fromJson(new JsonParser().parse(reader).getAsJsonObject()));
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Can't read runtime journal entry {}, it will be removed. {}", file, e.getMessage());
+                if (!file.delete()) {
+                    LOG.warn("Can't remove runtime journal entry {}", file);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private File getEntryFile(String workspaceId) {
+        return new File(dir, workspaceId + ENTRY_SUFFIX);
+    }
+
+    /** State of the running environment. */
+    public static class Entry {
+        private final String            workspaceId;
+        private final String            envName;
+        private final String            networkId;
+        private final EnvironmentImpl   environment;
+        private final List<MachineImpl> machines;
+        private final long              stoppedAt;
+
+        public Entry(String workspaceId,
+                     String envName,
+                     String networkId,
+                     Environment environment,
+                     Collection<? extends Machine> machines) {
+            this(workspaceId, envName, networkId, environment, machines, 0);
+        }
+
+        private Entry(String workspaceId,
+                      String envName,
+                      String networkId,
+                      Environment environment,
+                      Collection<? extends Machine> machines,
+                      long stoppedAt) {
+            this.workspaceId = workspaceId;
+            this.envName = envName;
+            this.networkId = networkId;
+            this.environment = new EnvironmentImpl(environment);
+            this.machines = machines.stream().map(MachineImpl::new).collect(toList());
+            this.stoppedAt = stoppedAt;
+        }
+
+        public String getWorkspaceId() {
+            return workspaceId;
+        }
+
+        public String getEnvName() {
+            return envName;
+        }
+
+        public String getNetworkId() {
+            return networkId;
+        }
+
+        public EnvironmentImpl getEnvironment() {
+            return environment;
+        }
+
+        public List<MachineImpl> getMachines() {
+            return machines;
+        }
+
+        /**
+         * Returns the time in milliseconds when the master was stopped while the environment was running,
+         * or 0 if it is unknown, e.g. when the master was killed.
+         */
+        public long getStoppedAt() {
+            return stoppedAt;
+        }
+
+        Entry withStoppedAt(long stoppedAt) {
+            return new Entry(workspaceId, envName, networkId, environment, machines, stoppedAt);
+        }
+
+        JsonObject toJson() {
+            final DtoFactory dtoFactory = DtoFactory.getInstance();
+            final JsonArray machinesJson = new JsonArray();
+            for (MachineImpl machine : machines) {
+                machinesJson.add(dtoFactory.toJsonElement(org.eclipse.che.api.machine.server.DtoConverter.asDto(machine)));
+            }
+            final JsonObject json = new JsonObject();
+            json.addProperty("workspaceId", workspaceId);
+            json.addProperty("envName", envName);
+            json.addProperty("networkId", networkId);
+            json.add("environment", dtoFactory.toJsonElement(org.eclipse.che.api.workspace.server.DtoConverter.asDto(environment)));
+            json.add("machines", machinesJson);
+            if (stoppedAt > 0) {
+                json.addProperty("stoppedAt", stoppedAt);
+            }
+            return json;
+        }
+
+        static Entry fromJson(JsonObject json) {
+            final DtoFactory dtoFactory = DtoFactory.getInstance();
+            final List<MachineDto> machines = new ArrayList<>();
+            for (JsonElement machine : json.getAsJsonArray("machines")) {
+                machines.add(dtoFactory.createDtoFromJson(machine, MachineDto.class));
+            }
+            final JsonElement stoppedAt = json.get("stoppedAt");
+            return new Entry(json.get("workspaceId").getAsString(),
+                             json.get("envName").getAsString(),
+                             getNullableString(json, "networkId"),
+                             dtoFactory.createDtoFromJson(json.get("environment"), EnvironmentDto.class),
+                             machines,
+                             stoppedAt == null || stoppedAt.isJsonNull() ? 0 : stoppedAt.getAsLong());
+        }
+
+        /** Returns value of the property, null values are stored as json nulls, e.g. network of environment without one. */
+        private static String getNullableString(JsonObject json, String name) {
+            final JsonElement value = json.get(name);
+            return value == null || value.isJsonNull() ? null : value.getAsString();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
 import org.eclipse.che.api.core.model.workspace.Workspace;
@@ -38,7 +39,7 @@ import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.RuntimeDescriptor;
 import org.eclipse.che.api.workspace.server.event.WorkspaceCreatedEvent;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 import org.eclipse.che.api.workspace.shared.Constants;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
@@ -58,9 +59,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
 import static com.google.common.base.Throwables.getCausalChain;
@@ -68,8 +70,13 @@ import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
 import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
 import static org.eclipse.che.api.workspace.shared.Constants.AUTO_CREATE_SNAPSHOT;
@@ -152,10 +159,10 @@ public class WorkspaceManager {
                                                                   NotFoundException {
         requireNonNull(config, "Required non-null config");
         requireNonNull(namespace, "Required non-null namespace");
-        return normalizeState(doCreateWorkspace(config,
-                                                accountManager.getByName(namespace),
-                                                emptyMap(),
-                                                false));
+        return normalizeStatus(doCreateWorkspace(config,
+                                                 accountManager.getByName(namespace),
+                                                 emptyMap(),
+                                                 false));
     }
 
     /**
@@ -186,10 +193,10 @@ public class WorkspaceManager {
         requireNonNull(config, "Required non-null config");
         requireNonNull(namespace, "Required non-null namespace");
         requireNonNull(attributes, "Required non-null attributes");
-        return normalizeState(doCreateWorkspace(config,
-                                                accountManager.getByName(namespace),
-                                                attributes,
-                                                false));
+        return normalizeStatus(doCreateWorkspace(config,
+                                                 accountManager.getByName(namespace),
+                                                 attributes,
+                                                 false));
     }
 
     /**
@@ -245,6 +252,7 @@ public class WorkspaceManager {
      *
      * <p>Returned workspaces have either {@link WorkspaceStatus#STOPPED} status
      * or status defined by their runtime instances(if those exist).
+     * Runtimes are not set, use {@link #getWorkspace(String)} to get the workspace with its runtime.
      *
      * @param user
      *         the id of the user
@@ -258,16 +266,120 @@ public class WorkspaceManager {
         requireNonNull(user, "Required non-null user id");
         final List<WorkspaceImpl> workspaces = workspaceDao.getWorkspaces(user);
         for (WorkspaceImpl workspace : workspaces) {
-            normalizeState(workspace);
+            normalizeStatus(workspace);
         }
         return workspaces;
     }
 
+    /**
+     * Gets page of summaries of workspaces which user can read.
+     * Summaries are fetched without workspace configurations, so it's cheap to list them
+     * regardless of the size of workspace configurations.
+     *
+     * <p>Returned summaries have either {@link WorkspaceStatus#STOPPED} status
+     * or status defined by their runtime instances(if those exist).
+     *
+     * @param user
+     *         the id of the user
+     * @param status
+     *         the status of workspaces to return, or null to return workspaces with any status
+     * @param name
+     *         the part of workspace name to match case-insensitively, or null to match any name
+     * @param maxItems
+     *         the maximum number of summaries to return
+     * @param skipCount
+     *         the number of summaries to skip
+     * @return page of summaries ordered by workspace name
+     * @throws NullPointerException
+     *         when {@code user} is null
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is not positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any server error occurs while getting summaries
+     */
+    public Page<WorkspaceSummaryImpl> getWorkspaceSummaries(String user,
+                                                           @Nullable WorkspaceStatus status,
+                                                           @Nullable String name,
+                                                           int maxItems,
+                                                           long skipCount) throws ServerException {
+        requireNonNull(user, "Required non-null user id");
+        // status isn't stored, workspace which doesn't have runtime is stopped
+        final Map<String, WorkspaceRuntimes.WorkspaceState> states = runtimes.getWorkspaces();
+        Set<String> ids = null;
+        Set<String> excludedIds = emptySet();
+        if (status == STOPPED) {
+            excludedIds = states.keySet();
+        } else if (status != null) {
+            ids = states.entrySet()
+                        .stream()
+                        .filter(entry -> entry.getValue().getStatus() == status)
+                        .map(Map.Entry::getKey)
+                        .collect(toSet());
+        }
+        final Page<WorkspaceSummaryImpl> page = workspaceDao.getSummaries(user, name, ids, excludedIds, maxItems, skipCount);
+        for (WorkspaceSummaryImpl summary : page.getItems()) {
+            final WorkspaceRuntimes.WorkspaceState state = states.get(summary.getId());
+            summary.setStatus(state != null ? state.getStatus() : STOPPED);
+        }
+        return page;
+    }
+
+    /**
+     * Gets page of workspaces which user can read.
+     * Only workspaces of the requested page are fetched with their configurations.
+     *
+     * <p>Returned workspaces have either {@link WorkspaceStatus#STOPPED} status
+     * or status defined by their runtime instances(if those exist).
+     * Runtimes are not set, use {@link #getWorkspace(String)} to get the workspace with its runtime.
+     *
+     * @param user
+     *         the id of the user
+     * @param status
+     *         the status of workspaces to return, or null to return workspaces with any status
+     * @param name
+     *         the part of workspace name to match case-insensitively, or null to match any name
+     * @param maxItems
+     *         the maximum number of workspaces to return
+     * @param skipCount
+     *         the number of workspaces to skip
+     * @return page of workspaces ordered by workspace name
+     * @throws NullPointerException
+     *         when {@code user} is null
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is not positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any server error occurs while getting workspaces
+     * @see #getWorkspaceSummaries(String, WorkspaceStatus, String, int, long)
+     */
+    public Page<WorkspaceImpl> getWorkspaces(String user,
+                                             @Nullable WorkspaceStatus status,
+                                             @Nullable String name,
+                                             int maxItems,
+                                             long skipCount) throws ServerException {
+        final Page<WorkspaceSummaryImpl> summaries = getWorkspaceSummaries(user, status, name, maxItems, skipCount);
+        final Map<String, WorkspaceImpl> workspaces = workspaceDao.getByIds(summaries.getItems()
+                                                                                     .stream()
+                                                                                     .map(WorkspaceSummaryImpl::getId)
+                                                                                     .collect(toList()))
+                                                                  .stream()
+                                                                  .collect(toMap(WorkspaceImpl::getId, identity()));
+        final List<WorkspaceImpl> result = new ArrayList<>(workspaces.size());
+        for (WorkspaceSummaryImpl summary : summaries.getItems()) {
+            final WorkspaceImpl workspace = workspaces.get(summary.getId());
+            // workspace may be removed in the meantime
+            if (workspace != null) {
+                result.add(normalizeStatus(workspace));
+            }
+        }
+        return new Page<>(result, skipCount, maxItems, summaries.getTotalItemsCount());
+    }
+
     /**
      * Gets list of workspaces which has given namespace
      *
      * <p>Returned workspaces have either {@link WorkspaceStatus#STOPPED} status
      * or status defined by their runtime instances(if those exist).
+     * Runtimes are not set, use {@link #getWorkspace(String)} to get the workspace with its runtime.
      *
      * @param namespace
      *         the namespace to find workspaces
@@ -281,7 +393,7 @@ public class WorkspaceManager {
         requireNonNull(namespace, "Required non-null namespace");
         final List<WorkspaceImpl> workspaces = workspaceDao.getByNamespace(namespace);
         for (WorkspaceImpl workspace : workspaces) {
-            normalizeState(workspace);
+            normalizeStatus(workspace);
         }
         return workspaces;
     }
@@ -592,7 +704,7 @@ public class WorkspaceManager {
                                                      ConflictException {
         requireNonNull(workspaceId, "Required non-null workspace id");
         requireNonNull(machineId, "Required non-null machine id");
-        final WorkspaceImpl workspace = normalizeState(workspaceDao.get(workspaceId));
+        final WorkspaceImpl workspace = normalizeStatus(workspaceDao.get(workspaceId));
         checkWorkspaceIsRunning(workspace, format("stop machine with ID '%s' of", machineId));
         runtimes.stopMachine(workspaceId, machineId);
     }
@@ -615,7 +727,8 @@ public class WorkspaceManager {
                                                                 ServerException {
         requireNonNull(workspaceId, "Required non-null workspace id");
         requireNonNull(machineId, "Required non-null machine id");
-        normalizeState(workspaceDao.get(workspaceId));
+        // fails when workspace doesn't exist
+        workspaceDao.get(workspaceId);
         return runtimes.getMachine(workspaceId, machineId);
     }
 
@@ -633,8 +746,9 @@ public class WorkspaceManager {
         workspace.getAttributes().put(UPDATED_ATTRIBUTE_NAME, Long.toString(currentTimeMillis()));
         workspaceDao.update(workspace);
         final String env = firstNonNull(envName, workspace.getConfig().getDefaultEnv());
-        final Future<RuntimeDescriptor> descriptor = runtimes.startAsync(workspace, env, recover);
-        executor.execute(ThreadLocalPropagateContext.wrap(() -> {
+        final CompletableFuture<RuntimeDescriptor> descriptor = runtimes.startAsync(workspace, env, recover);
+        // no thread waits for the start, result is handled once it is available
+        final Runnable startHandler = ThreadLocalPropagateContext.wrap(() -> {
             try {
                 descriptor.get();
                 LOG.info("Workspace '{}:{}' with id '{}' started by user '{}'",
@@ -659,7 +773,8 @@ public class WorkspaceManager {
                 }
                 LOG.error(ex.getLocalizedMessage(), ex);
             }
-        }));
+        });
+        descriptor.whenCompleteAsync((result, error) -> startHandler.run(), executor);
     }
 
     /**
@@ -837,6 +952,16 @@ public class WorkspaceManager {
         return nameIfNoUser;
     }
 
+    /**
+     * Sets the status of the workspace from the published state of its runtime,
+     * the runtime itself is not built, so it's cheap to call for each of the listed workspaces.
+     */
+    private WorkspaceImpl normalizeStatus(WorkspaceImpl workspace) {
+        workspace.setStatus(runtimes.getStatus(workspace.getId()));
+        return workspace;
+    }
+
+    /** Sets the status and the runtime of the workspace, use it only when the runtime is returned to the caller. */
     private WorkspaceImpl normalizeState(WorkspaceImpl workspace) throws ServerException {
         try {
             return normalizeState(workspace, runtimes.get(workspace.getId()));
@@ -859,7 +984,8 @@ public class WorkspaceManager {
     private WorkspaceImpl normalizeState(WorkspaceImpl workspace, RuntimeDescriptor descriptor) {
         if (descriptor != null) {
             workspace.setStatus(descriptor.getRuntimeStatus());
-            workspace.setRuntime(new WorkspaceRuntimeImpl(descriptor.getRuntime()));
+            // descriptor is built for each call, so its runtime is already a copy
+            workspace.setRuntime(descriptor.getRuntime());
         } else {
             workspace.setStatus(STOPPED);
         }
@@ -18,9 +18,10 @@ import org.eclipse.che.api.agent.server.exception.AgentException;
 import org.eclipse.che.api.agent.server.impl.AgentSorter;
 import org.eclipse.che.api.agent.server.launcher.AgentLauncher;
 import org.eclipse.che.api.agent.server.launcher.AgentLauncherFactory;
+import org.eclipse.che.api.agent.server.launcher.ReadinessProbe;
+import org.eclipse.che.api.agent.server.model.impl.AgentKeyImpl;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.agent.shared.model.AgentKey;
-import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
@@ -34,10 +35,12 @@ import org.eclipse.che.api.core.model.workspace.WorkspaceRuntime;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.util.AbstractMessageConsumer;
+import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.api.core.util.MessageConsumer;
 import org.eclipse.che.api.core.util.WebsocketMessageConsumer;
 import org.eclipse.che.api.environment.server.CheEnvironmentEngine;
+import org.eclipse.che.api.environment.server.RuntimeJournal;
 import org.eclipse.che.api.environment.server.exception.EnvironmentException;
 import org.eclipse.che.api.environment.server.exception.EnvironmentNotRunningException;
 import org.eclipse.che.api.machine.server.exception.MachineException;
@@ -54,19 +57,26 @@ import org.eclipse.che.commons.lang.concurrent.StripedLocks;
 import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
 import org.slf4j.Logger;
 
+import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -81,10 +91,18 @@ import static org.slf4j.LoggerFactory.getLogger;
  *
  * <p>This component implements {@link WorkspaceStatus} contract.
  *
- * <p>All the operations performed by this component are synchronous.
+ * <p>All the operations performed by this component are synchronous,
+ * except {@link #startAsync(Workspace, String, boolean)}. Workspace start is split into stages:
+ * machines are started on a start thread, then agents are launched and their readiness is
+ * checked by {@link ReadinessProbe} so no thread is held while agents are starting.
+ * Statistics of starts, including the time starts spend in queue,
+ * are collected by {@link WorkspaceStartStatistics}.
  *
- * <p>The implementation is thread-safe and guarded by
+ * <p>The implementation is thread-safe. Modifications are guarded by
  * eagerly initialized readwrite locks produced by {@link StripedLocks}.
+ * States of workspaces are immutable {@link WorkspaceState} snapshots which are
+ * replaced in a concurrent map on each status change, so status reads such as
+ * {@link #hasRuntime(String)}, {@link #getStatus(String)} and {@link #getWorkspaces()} don't take locks.
  * The component doesn't expose any api for client-side locking.
  * All the instances produced by this component are copies of the real data.
  *
@@ -102,14 +120,15 @@ public class WorkspaceRuntimes {
     private static final Logger LOG = getLogger(WorkspaceRuntimes.class);
 
     @VisibleForTesting
-    final         Map<String, WorkspaceState> workspaces;
-    private final EventService                eventService;
-    private final StripedLocks                stripedLocks;
-    private final CheEnvironmentEngine        environmentEngine;
-    private final AgentSorter                 agentSorter;
-    private final AgentLauncherFactory        launcherFactory;
-    private final AgentRegistry               agentRegistry;
-    private final ExecutorService             executor;
+    final         ConcurrentMap<String, WorkspaceState> workspaces;
+    private final EventService                          eventService;
+    private final StripedLocks                          stripedLocks;
+    private final CheEnvironmentEngine                  environmentEngine;
+    private final AgentSorter                           agentSorter;
+    private final AgentLauncherFactory                  launcherFactory;
+    private final AgentRegistry                         agentRegistry;
+    private final ExecutorService                       executor;
+    private final WorkspaceStartStatistics              startStatistics;
 
     private volatile boolean isPreDestroyInvoked;
 
@@ -118,13 +137,14 @@ public class WorkspaceRuntimes {
                              CheEnvironmentEngine environmentEngine,
                              AgentSorter agentSorter,
                              AgentLauncherFactory launcherFactory,
-                             AgentRegistry agentRegistry) {
+                             AgentRegistry agentRegistry,
+                             WorkspaceStartStatistics startStatistics) {
         this.eventService = eventService;
         this.environmentEngine = environmentEngine;
         this.agentSorter = agentSorter;
         this.launcherFactory = launcherFactory;
         this.agentRegistry = agentRegistry;
-        this.workspaces = new HashMap<>();
+        this.workspaces = new ConcurrentHashMap<>();
         // 16 - experimental value for stripes count, it comes from default hash map size
         this.stripedLocks = new StripedLocks(16);
         executor = Executors.newFixedThreadPool(2 * Runtime.getRuntime().availableProcessors(),
@@ -133,6 +153,7 @@ public class WorkspaceRuntimes {
                                                                                   LoggingUncaughtExceptionHandler.getInstance())
                                                                           .setDaemon(false)
                                                                           .build());
+        this.startStatistics = startStatistics;
     }
 
     /**
@@ -155,10 +176,7 @@ public class WorkspaceRuntimes {
      */
     public RuntimeDescriptor get(String workspaceId) throws NotFoundException,
                                                             ServerException {
-        WorkspaceState workspaceState;
-        try (CloseableLock lock = stripedLocks.acquireReadLock(workspaceId)) {
-            workspaceState = workspaces.get(workspaceId);
-        }
+        final WorkspaceState workspaceState = workspaces.get(workspaceId);
         if (workspaceState == null) {
             throw new NotFoundException("Workspace with id '" + workspaceId + "' is not running.");
         }
@@ -226,7 +244,7 @@ public class WorkspaceRuntimes {
         final EnvironmentImpl environment = copyEnv(workspace, envName);
         final String workspaceId = workspace.getId();
         initState(workspaceId, workspace.getConfig().getName(), envName);
-        doStart(environment, workspaceId, envName, recover);
+        ReadinessProbe.await(doStart(environment, workspaceId, envName, recover));
         return get(workspaceId);
     }
 
@@ -234,17 +252,24 @@ public class WorkspaceRuntimes {
      * Starts the workspace like {@link #start(Workspace, String, boolean)}
      * method does, but asynchronously. Nonetheless synchronously checks that workspace
      * doesn't have runtime and makes it {@link WorkspaceStatus#STARTING}.
+     *
+     * <p>Returned future is completed exceptionally with {@link ServerException}
+     * if start fails, callbacks of the future should not perform long operations
+     * as they may be executed by start threads.
      */
-    public Future<RuntimeDescriptor> startAsync(Workspace workspace,
-                                                String envName,
-                                                boolean recover) throws ConflictException, ServerException {
+    public CompletableFuture<RuntimeDescriptor> startAsync(Workspace workspace,
+                                                           String envName,
+                                                           boolean recover) throws ConflictException, ServerException {
         final EnvironmentImpl environment = copyEnv(workspace, envName);
         final String workspaceId = workspace.getId();
         initState(workspaceId, workspace.getConfig().getName(), envName);
-        return executor.submit(ThreadLocalPropagateContext.wrap(() -> {
-            doStart(environment, workspaceId, envName, recover);
-            return get(workspaceId);
-        }));
+        return doStart(environment, workspaceId, envName, recover).thenApply(ignored -> {
+            try {
+                return get(workspaceId);
+            } catch (NotFoundException | ServerException e) {
+                throw new CompletionException(e);
+            }
+        });
     }
 
     /**
@@ -283,7 +308,7 @@ public class WorkspaceRuntimes {
                                workspaceState.status));
             }
 
-            workspaceState.status = WorkspaceStatus.STOPPING;
+            workspaces.put(workspaceId, workspaceState.withStatus(WorkspaceStatus.STOPPING));
         }
 
         publishWorkspaceEvent(EventType.STOPPING, workspaceId, null);
@@ -331,9 +356,21 @@ public class WorkspaceRuntimes {
      * @return true if workspace is running, otherwise false
      */
     public boolean hasRuntime(String workspaceId) {
-        try (CloseableLock lock = stripedLocks.acquireReadLock(workspaceId)) {
-            return workspaces.containsKey(workspaceId);
-        }
+        return workspaces.containsKey(workspaceId);
+    }
+
+    /**
+     * Returns the status of the workspace runtime, unlike {@link #get(String)}
+     * neither takes locks nor copies the runtime and its machines, so it's cheap to poll.
+     *
+     * @param workspaceId
+     *         the id of the workspace to get its status
+     * @return the status of the workspace runtime or {@link WorkspaceStatus#STOPPED}
+     * when workspace doesn't have runtime
+     */
+    public WorkspaceStatus getStatus(String workspaceId) {
+        final WorkspaceState state = workspaces.get(workspaceId);
+        return state != null ? state.getStatus() : WorkspaceStatus.STOPPED;
     }
 
     /**
@@ -398,7 +435,7 @@ public class WorkspaceRuntimes {
      */
     public void beginSnapshotting(String workspaceId) throws NotFoundException, ConflictException {
         try (CloseableLock ignored = stripedLocks.acquireWriteLock(workspaceId)) {
-            getRunningState(workspaceId).status = SNAPSHOTTING;
+            workspaces.put(workspaceId, getRunningState(workspaceId).withStatus(SNAPSHOTTING));
         }
     }
 
@@ -415,7 +452,7 @@ public class WorkspaceRuntimes {
         try (CloseableLock ignored = stripedLocks.acquireWriteLock(workspaceId)) {
             final WorkspaceState state = workspaces.get(workspaceId);
             if (state != null && state.status == SNAPSHOTTING) {
-                state.status = RUNNING;
+                workspaces.put(workspaceId, state.withStatus(RUNNING));
             }
         }
     }
@@ -511,6 +548,8 @@ public class WorkspaceRuntimes {
 
     /**
      * Returns all workspaces with statuses of its active environment.
+     * The copy is made without locking, each of the states is consistent
+     * though the states of different workspaces may be captured at different moments.
      */
     public Map<String, WorkspaceState> getWorkspaces() {
         return new HashMap<>(workspaces);
@@ -527,17 +566,58 @@ public class WorkspaceRuntimes {
         };
     }
 
+    /**
+     * Recovers environments which were left running by the previous run of the master,
+     * environments are recovered in parallel, each one is {@link WorkspaceStatus#STARTING} until it is recovered.
+     * {@link EventType#RUNNING} event is published for each recovered environment,
+     * {@link EventType#ERROR} event is published when environment can't be recovered.
+     */
+    @PostConstruct
+    @VisibleForTesting
+    void recover() {
+        for (RuntimeJournal.Entry entry : environmentEngine.getJournaledEnvironments()) {
+            final String workspaceId = entry.getWorkspaceId();
+            try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
+                workspaces.put(workspaceId, new WorkspaceState(WorkspaceStatus.STARTING, entry.getEnvName()));
+            }
+            executor.execute(() -> {
+                try {
+                    environmentEngine.recover(entry, getEnvironmentLogger(workspaceId));
+                    try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
+                        final WorkspaceState state = workspaces.get(workspaceId);
+                        if (state != null) {
+                            workspaces.put(workspaceId, state.withStatus(RUNNING));
+                        }
+                    }
+                    publishWorkspaceEvent(EventType.RUNNING, workspaceId, null);
+                    LOG.info("Runtime of workspace '{}' is recovered", workspaceId);
+                } catch (Exception e) {
+                    try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
+                        workspaces.remove(workspaceId);
+                    }
+                    publishWorkspaceEvent(EventType.ERROR, workspaceId, e.getLocalizedMessage());
+                    LOG.warn(e.getLocalizedMessage(), e);
+                }
+            });
+        }
+    }
+
     /**
      * Removes all workspaces from the in-memory storage, while
      * {@link CheEnvironmentEngine} is responsible for environment destroying.
+     * Environments are left running when they can be recovered after restart, see {@link #recover()}.
      */
     @PreDestroy
     @VisibleForTesting
     void cleanup() {
         isPreDestroyInvoked = true;
 
+        final boolean keepRunning = environmentEngine.isRecoveryEnabled();
         try (CloseableLock lock = stripedLocks.acquireWriteAllLock()) {
             for (Map.Entry<String, WorkspaceState> workspace : workspaces.entrySet()) {
+                if (keepRunning && workspace.getValue().status.equals(RUNNING)) {
+                    continue;
+                }
                 if (workspace.getValue().status.equals(RUNNING) ||
                     workspace.getValue().status.equals(WorkspaceStatus.STARTING)) {
                     executor.execute(() -> {
@@ -595,17 +675,117 @@ public class WorkspaceRuntimes {
     }
 
     protected void launchAgents(Instance instance, List<String> agents) throws ServerException {
+        ReadinessProbe.await(launchAgentsAsync(instance, agents));
+    }
+
+    /**
+     * Launches agents respecting dependencies between them, see {@link Agent#getDependencies()}.
+     * Each agent is launched on a start thread as soon as all the agents it depends on are ready,
+     * so independent agents of the machine are launched and probed concurrently.
+     * Agent scripts serialize their package installs with a per-machine lock,
+     * as concurrent installs interfere with each other.
+     * When any agent fails or the returned future is cancelled, launches in progress
+     * and their readiness probes are cancelled.
+     */
+    protected CompletableFuture<Void> launchAgentsAsync(Instance instance, List<String> agents) {
+        final CompletableFuture<Void> launched = new CompletableFuture<>();
+        // nothing is launched until all the agents are resolved
+        final CompletableFuture<Void> resolved = new CompletableFuture<>();
+        final Map<String, CompletableFuture<Void>> agentLaunches = new HashMap<>();
+        final List<CompletableFuture<Void>> started = new CopyOnWriteArrayList<>();
         try {
+            // sorted list contains dependencies of agents and each agent goes after its dependencies
             for (AgentKey agentKey : agentSorter.sort(agents)) {
-                LOG.info("Launching '{}' agent at workspace {}", agentKey.getId(), instance.getWorkspaceId());
-
-                Agent agent = agentRegistry.getAgent(agentKey);
-                AgentLauncher launcher = launcherFactory.find(agentKey.getId(), instance.getConfig().getType());
-                launcher.launch(instance, agent);
+                final Agent agent = agentRegistry.getAgent(agentKey);
+                final AgentLauncher launcher = launcherFactory.find(agentKey.getId(), instance.getConfig().getType());
+
+                final List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+                dependencies.add(resolved);
+                for (String dependency : agent.getDependencies()) {
+                    final CompletableFuture<Void> dependencyLaunch = agentLaunches.get(AgentKeyImpl.parse(dependency).getId());
+                    if (dependencyLaunch != null) {
+                        dependencies.add(dependencyLaunch);
+                    }
+                }
+                final CompletableFuture<Void> agentLaunched = new CompletableFuture<>();
+                allOf(dependencies).whenCompleteAsync((ignored, error) -> {
+                    if (error != null) {
+                        agentLaunched.completeExceptionally(error);
+                    } else if (!launched.isDone()) {
+                        try {
+                            final CompletableFuture<Void> launch = launchAgent(instance, agentKey, agent, launcher);
+                            started.add(launch);
+                            if (launched.isDone()) {
+                                // cancelled or failed while the agent was being launched
+                                launch.cancel(true);
+                            }
+                            launch.whenComplete((result, launchError) -> {
+                                if (launchError != null) {
+                                    agentLaunched.completeExceptionally(launchError);
+                                } else {
+                                    agentLaunched.complete(null);
+                                }
+                            });
+                        } catch (RuntimeException x) {
+                            agentLaunched.completeExceptionally(x);
+                        }
+                    }
+                }, this::continueStart);
+                agentLaunches.put(agentKey.getId(), agentLaunched);
             }
         } catch (AgentException e) {
-            throw new MachineException(e.getMessage(), e);
+            launched.completeExceptionally(new MachineException(e.getMessage(), e));
+            return launched;
         }
+        allOf(new ArrayList<>(agentLaunches.values())).whenComplete((ignored, error) -> {
+            if (error != null) {
+                launched.completeExceptionally(error);
+            } else {
+                launched.complete(null);
+            }
+        });
+        launched.whenComplete((ignored, error) -> {
+            if (error != null) {
+                started.forEach(launch -> launch.cancel(true));
+            }
+        });
+        resolved.complete(null);
+        return launched;
+    }
+
+    /** Launches agent and reports its launch time to the machine log, which is a part of the environment log. */
+    private CompletableFuture<Void> launchAgent(Instance instance, AgentKey agentKey, Agent agent, AgentLauncher launcher) {
+        LOG.info("Launching '{}' agent at workspace {}", agentKey.getId(), instance.getWorkspaceId());
+        final long launchStart = System.currentTimeMillis();
+        final CompletableFuture<Void> launch = launcher.launchAsync(instance, agent);
+        return ReadinessProbe.cancelSourceOnCancel(launch.thenRun(() -> {
+            final long launchTime = System.currentTimeMillis() - launchStart;
+            LOG.info("Agent '{}' launched at workspace {} in {} ms", agentKey.getId(), instance.getWorkspaceId(), launchTime);
+            final LineConsumer machineLogger = instance.getLogger();
+            if (machineLogger != null) {
+                try {
+                    machineLogger.writeLine(format("[AGENT] '%s' is launched in %d ms", agentKey.getId(), launchTime));
+                } catch (IOException e) {
+                    LOG.warn("Can't write launch time of agent '{}' to machine log. {}", agentKey.getId(), e.getMessage());
+                }
+            }
+        }), launch);
+    }
+
+    /**
+     * Returns future which is completed when all the given futures are completed,
+     * or exceptionally as soon as any of them fails.
+     */
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<Void>> futures) {
+        final CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]));
+        for (CompletableFuture<Void> future : futures) {
+            future.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    all.completeExceptionally(error);
+                }
+            });
+        }
+        return all;
     }
 
     /**
@@ -625,58 +805,125 @@ public class WorkspaceRuntimes {
         }
     }
 
-    /** Starts the machine instances. */
-    private void doStart(EnvironmentImpl environment,
-                         String workspaceId,
-                         String envName,
-                         boolean recover) throws ServerException {
-        publishWorkspaceEvent(EventType.STARTING, workspaceId, null);
+    /**
+     * Starts the machine instances and launches their agents.
+     * Returned future is completed after workspace status is changed to
+     * {@link WorkspaceStatus#RUNNING} or when start failure is handled.
+     */
+    private CompletableFuture<Void> doStart(EnvironmentImpl environment,
+                                            String workspaceId,
+                                            String envName,
+                                            boolean recover) {
+        final long queuedAt = startStatistics.startQueued();
+        final CompletableFuture<List<Instance>> machinesStarted = new CompletableFuture<>();
+        final Runnable startMachines = ThreadLocalPropagateContext.wrap(() -> {
+            startStatistics.startBegan(queuedAt);
+            try {
+                publishWorkspaceEvent(EventType.STARTING, workspaceId, null);
+                machinesStarted.complete(environmentEngine.start(workspaceId,
+                                                                 envName,
+                                                                 environment,
+                                                                 recover,
+                                                                 getEnvironmentLogger(workspaceId)));
+            } catch (Throwable x) {
+                // any failure must complete the stage, otherwise start is never finished
+                machinesStarted.completeExceptionally(x);
+            }
+        });
+        try {
+            executor.execute(startMachines);
+        } catch (RejectedExecutionException e) {
+            startStatistics.startRejected();
+            final CompletableFuture<Void> rejected = new CompletableFuture<>();
+            try {
+                finishStart(workspaceId, envName, new ServerException("Could not start workspace because application server is stopping"));
+            } catch (ServerException x) {
+                rejected.completeExceptionally(x);
+            }
+            return rejected;
+        }
+
+        final CompletableFuture<Void> started = new CompletableFuture<>();
+        machinesStarted.thenCompose(machines -> launchAgents(environment, machines))
+                       .whenCompleteAsync((ignored, error) -> {
+                           try {
+                               finishStart(workspaceId, envName, error);
+                               startStatistics.startFinished(queuedAt, true);
+                               started.complete(null);
+                           } catch (Throwable x) {
+                               startStatistics.startFinished(queuedAt, false);
+                               started.completeExceptionally(x);
+                           }
+                       }, this::continueStart);
+        return started;
+    }
+
+    /**
+     * Executes the next stage of start on a start thread, as readiness checks are completed
+     * by the shared probe threads which must not be blocked by launching of agents or stopping of environment.
+     * When the pool is already shut down, the stage is executed by the calling thread so start is always finished.
+     */
+    private void continueStart(Runnable stage) {
         try {
-            List<Instance> machines = environmentEngine.start(workspaceId,
-                                                              envName,
-                                                              environment,
-                                                              recover,
-                                                              getEnvironmentLogger(workspaceId));
-            launchAgents(environment, machines);
+            executor.execute(stage);
+        } catch (RejectedExecutionException e) {
+            stage.run();
+        }
+    }
 
+    /** Makes workspace running if start succeeded, otherwise stops its environment and throws an exception. */
+    private void finishStart(String workspaceId, String envName, Throwable error) throws ServerException {
+        if (error == null) {
             try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
-                WorkspaceState workspaceState = workspaces.get(workspaceId);
-                workspaceState.status = WorkspaceStatus.RUNNING;
+                workspaces.put(workspaceId, workspaces.get(workspaceId).withStatus(WorkspaceStatus.RUNNING));
             }
             // Event publication should be performed outside of the lock
             // as it may take some time to notify subscribers
             publishWorkspaceEvent(EventType.RUNNING, workspaceId, null);
-        } catch (ApiException | EnvironmentException | RuntimeException e) {
-            try {
-                environmentEngine.stop(workspaceId);
-            } catch (EnvironmentNotRunningException ignore) {
-            } catch (Exception ex) {
-                LOG.error(ex.getLocalizedMessage(), ex);
-            }
-            String environmentStartError = "Start of environment " + envName +
-                                           " failed. Error: " + e.getLocalizedMessage();
-            try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
-                workspaces.remove(workspaceId);
-            }
-            publishWorkspaceEvent(EventType.ERROR,
-                                  workspaceId,
-                                  environmentStartError);
+            return;
+        }
 
-            throw new ServerException(environmentStartError, e);
+        final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        try {
+            environmentEngine.stop(workspaceId);
+        } catch (EnvironmentNotRunningException ignore) {
+        } catch (Exception ex) {
+            LOG.error(ex.getLocalizedMessage(), ex);
         }
+        String environmentStartError = "Start of environment " + envName +
+                                       " failed. Error: " + cause.getLocalizedMessage();
+        try (CloseableLock lock = stripedLocks.acquireWriteLock(workspaceId)) {
+            workspaces.remove(workspaceId);
+        }
+        publishWorkspaceEvent(EventType.ERROR,
+                              workspaceId,
+                              environmentStartError);
+
+        throw new ServerException(environmentStartError, cause);
     }
 
-    private void launchAgents(EnvironmentImpl environment, List<Instance> machines) throws ServerException {
+    /**
+     * Launches agents of all the machines concurrently. When launch of any machine agents fails,
+     * launches of the other machines are cancelled before the returned future is completed,
+     * so environment is not stopped while its agents are still being launched or probed.
+     */
+    private CompletableFuture<Void> launchAgents(EnvironmentImpl environment, List<Instance> machines) {
+        List<CompletableFuture<Void>> launches = new ArrayList<>(machines.size());
         for (Instance instance : machines) {
             Map<String, ExtendedMachineImpl> envMachines = environment.getMachines();
             if (envMachines != null) {
                 ExtendedMachine extendedMachine = envMachines.get(instance.getConfig().getName());
                 if (extendedMachine != null) {
                     List<String> agents = extendedMachine.getAgents();
-                    launchAgents(instance, agents);
+                    launches.add(launchAgentsAsync(instance, agents));
                 }
             }
         }
+        return allOf(launches).whenComplete((ignored, error) -> {
+            if (error != null) {
+                launches.forEach(launch -> launch.cancel(true));
+            }
+        });
     }
 
     private static EnvironmentImpl copyEnv(Workspace workspace, String envName) {
@@ -689,15 +936,24 @@ public class WorkspaceRuntimes {
         return new EnvironmentImpl(environment);
     }
 
+    /**
+     * Immutable snapshot of the workspace state.
+     * Each status change produces a new snapshot.
+     */
     public static class WorkspaceState {
-        private WorkspaceStatus status;
-        private String          activeEnv;
+        private final WorkspaceStatus status;
+        private final String          activeEnv;
 
         public WorkspaceState(WorkspaceStatus status, String activeEnv) {
             this.status = status;
             this.activeEnv = activeEnv;
         }
 
+        /** Returns the copy of this state with the given status. */
+        public WorkspaceState withStatus(WorkspaceStatus status) {
+            return new WorkspaceState(status, activeEnv);
+        }
+
         public String getActiveEnv() {
             return activeEnv;
         }
@@ -25,6 +25,7 @@ import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.rest.Service;
@@ -36,11 +37,13 @@ import org.eclipse.che.api.machine.shared.dto.SnapshotDto;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.shared.dto.EnvironmentDto;
 import org.eclipse.che.api.workspace.shared.dto.EnvironmentRecipeDto;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceSummaryDto;
 import org.eclipse.che.api.workspace.shared.dto.WsAgentHealthStateDto;
 import org.eclipse.che.commons.env.EnvironmentContext;
 
@@ -195,19 +198,63 @@ public class WorkspaceService extends Service {
                                             @DefaultValue("0")
                                             @QueryParam("skipCount")
                                             Integer skipCount,
-                                            @ApiParam("The limit of the items in the response, default is 30")
-                                            @DefaultValue("30")
+                                            @ApiParam("The limit of the items in the response, all the items are returned if not set")
                                             @QueryParam("maxItems")
                                             Integer maxItems,
                                             @ApiParam("Workspace status")
                                             @QueryParam("status")
-                                            String status) throws ServerException, BadRequestException {
-        //TODO add maxItems & skipCount to manager
-        return workspaceManager.getWorkspaces(EnvironmentContext.getCurrent().getSubject().getUserId())
-                               .stream()
-                               .filter(ws -> status == null || status.equalsIgnoreCase(ws.getStatus().toString()))
-                               .map(workspace -> linksInjector.injectLinks(asDto(workspace), getServiceContext()))
-                               .collect(toList());
+                                            String status,
+                                            @ApiParam("Part of the workspace name")
+                                            @QueryParam("name")
+                                            String name) throws ServerException, BadRequestException {
+        // clients which don't page workspaces expect to get all of them
+        final int limit = maxItems == null ? Integer.MAX_VALUE : maxItems;
+        checkPaging(skipCount, limit);
+        return workspaceManager.getWorkspaces(EnvironmentContext.getCurrent().getSubject().getUserId(),
+                                              parseStatus(status),
+                                              name,
+                                              limit,
+                                              skipCount)
+                               .getItems(workspace -> linksInjector.injectLinks(asDto(workspace), getServiceContext()));
+    }
+
+    @GET
+    @Path("/summary")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Get summaries of workspaces which user can read",
+                  notes = "Summary contains identifier, name, namespace, status and update time of the workspace, " +
+                          "but neither configuration nor runtime of the workspace. " +
+                          "Links to the other pages are sent in the 'Link' header",
+                  response = WorkspaceSummaryDto.class,
+                  responseContainer = "List")
+    @ApiResponses({@ApiResponse(code = 200, message = "The summaries successfully fetched"),
+                   @ApiResponse(code = 400, message = "Paging parameters or status are not valid"),
+                   @ApiResponse(code = 500, message = "Internal server error occurred during summaries fetching")})
+    public Response getWorkspaceSummaries(@ApiParam("The number of the items to skip")
+                                          @DefaultValue("0")
+                                          @QueryParam("skipCount")
+                                          Integer skipCount,
+                                          @ApiParam("The limit of the items in the response, default is 30")
+                                          @DefaultValue("30")
+                                          @QueryParam("maxItems")
+                                          Integer maxItems,
+                                          @ApiParam("Workspace status")
+                                          @QueryParam("status")
+                                          String status,
+                                          @ApiParam("Part of the workspace name")
+                                          @QueryParam("name")
+                                          String name) throws ServerException, BadRequestException {
+        checkPaging(skipCount, maxItems);
+        final Page<WorkspaceSummaryImpl> page =
+                workspaceManager.getWorkspaceSummaries(EnvironmentContext.getCurrent().getSubject().getUserId(),
+                                                       parseStatus(status),
+                                                       name,
+                                                       maxItems,
+                                                       skipCount);
+        return Response.ok()
+                       .entity(page.getItems(summary -> asDto(summary)))
+                       .header("Link", createLinkHeader(page))
+                       .build();
     }
 
     @GET
@@ -772,4 +819,24 @@ public class WorkspaceService extends Service {
             }
         }
     }
+
+    private static void checkPaging(Integer skipCount, Integer maxItems) throws BadRequestException {
+        if (skipCount == null || skipCount < 0) {
+            throw new BadRequestException("The number of items to skip must be non-negative");
+        }
+        if (maxItems == null || maxItems <= 0) {
+            throw new BadRequestException("The number of items to return must be positive");
+        }
+    }
+
+    private static WorkspaceStatus parseStatus(String status) throws BadRequestException {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return WorkspaceStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException x) {
+            throw new BadRequestException("Unknown workspace status '" + status + "'");
+        }
+    }
 }
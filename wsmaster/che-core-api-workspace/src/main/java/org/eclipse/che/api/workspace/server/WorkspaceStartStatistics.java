@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server;
+
+import org.eclipse.che.api.core.util.MBeanRegistrar;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects statistics of workspace starts performed by {@link WorkspaceRuntimes}.
+ *
+ * <p>The most interesting value is queue wait time, which grows when
+ * many workspaces are started at once and all the start threads are busy.
+ * Statistics are exposed as {@code org.eclipse.che:type=WorkspaceStart} MBean.
+ */
+@Singleton
+public class WorkspaceStartStatistics implements WorkspaceStartStatisticsMXBean {
+
+    private static final String MBEAN_NAME = "org.eclipse.che:type=WorkspaceStart";
+
+    private final AtomicInteger queuedStarts;
+    private final AtomicInteger activeStarts;
+    private final LongAdder     succeededStarts;
+    private final LongAdder     failedStarts;
+    private final LongAdder     rejectedStarts;
+    private final LongAdder     dequeuedStarts;
+    private final LongAdder     queueWaitNanos;
+    private final AtomicLong    maxQueueWaitNanos;
+    private final LongAdder     startNanos;
+
+    public WorkspaceStartStatistics() {
+        queuedStarts = new AtomicInteger();
+        activeStarts = new AtomicInteger();
+        succeededStarts = new LongAdder();
+        failedStarts = new LongAdder();
+        rejectedStarts = new LongAdder();
+        dequeuedStarts = new LongAdder();
+        queueWaitNanos = new LongAdder();
+        maxQueueWaitNanos = new AtomicLong();
+        startNanos = new LongAdder();
+    }
+
+    @Inject
+    void register(MBeanRegistrar registrar) {
+        registrar.register(this, MBEAN_NAME);
+    }
+
+    /** Records submitting of start, returns timestamp which should be passed to other methods. */
+    public long startQueued() {
+        queuedStarts.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /** Records beginning of start which was queued at given time. */
+    public void startBegan(long queuedAt) {
+        final long waitNanos = System.nanoTime() - queuedAt;
+        queuedStarts.decrementAndGet();
+        activeStarts.incrementAndGet();
+        dequeuedStarts.increment();
+        queueWaitNanos.add(waitNanos);
+        maxQueueWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /** Records rejection of start which was queued, e.g. when the application is stopping. */
+    public void startRejected() {
+        queuedStarts.decrementAndGet();
+        rejectedStarts.increment();
+    }
+
+    /** Records finishing of start which was queued at given time. */
+    public void startFinished(long queuedAt, boolean succeeded) {
+        activeStarts.decrementAndGet();
+        startNanos.add(System.nanoTime() - queuedAt);
+        if (succeeded) {
+            succeededStarts.increment();
+        } else {
+            failedStarts.increment();
+        }
+    }
+
+    @Override
+    public int getQueuedStarts() {
+        return queuedStarts.get();
+    }
+
+    @Override
+    public int getActiveStarts() {
+        return activeStarts.get();
+    }
+
+    @Override
+    public long getSucceededStarts() {
+        return succeededStarts.sum();
+    }
+
+    @Override
+    public long getFailedStarts() {
+        return failedStarts.sum();
+    }
+
+    @Override
+    public long getRejectedStarts() {
+        return rejectedStarts.sum();
+    }
+
+    @Override
+    public double getAverageQueueWaitMillis() {
+        final long dequeued = dequeuedStarts.sum();
+        return dequeued == 0 ? 0 : toMillis(queueWaitNanos.sum()) / dequeued;
+    }
+
+    @Override
+    public double getMaxQueueWaitMillis() {
+        return toMillis(maxQueueWaitNanos.get());
+    }
+
+    @Override
+    public double getAverageStartMillis() {
+        final long finished = succeededStarts.sum() + failedStarts.sum();
+        return finished == 0 ? 0 : toMillis(startNanos.sum()) / finished;
+    }
+
+    @Override
+    public void reset() {
+        succeededStarts.reset();
+        failedStarts.reset();
+        rejectedStarts.reset();
+        dequeuedStarts.reset();
+        queueWaitNanos.reset();
+        maxQueueWaitNanos.set(0);
+        startNanos.reset();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000D;
+    }
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server;
+
+/**
+ * Management interface of the workspace start statistics.
+ *
+ * @see WorkspaceStartStatistics
+ */
+public interface WorkspaceStartStatisticsMXBean {
+
+    /** Returns the number of starts which are submitted but not picked up by a start thread yet. */
+    int getQueuedStarts();
+
+    /** Returns the number of workspaces which are currently starting. */
+    int getActiveStarts();
+
+    /** Returns the number of successfully finished starts. */
+    long getSucceededStarts();
+
+    /** Returns the number of failed starts. */
+    long getFailedStarts();
+
+    /** Returns the number of starts which were rejected before beginning, e.g. while the application is stopping. */
+    long getRejectedStarts();
+
+    /** Returns the average time between submitting of start and its beginning in milliseconds. */
+    double getAverageQueueWaitMillis();
+
+    /** Returns the maximum time between submitting of start and its beginning in milliseconds. */
+    double getMaxQueueWaitMillis();
+
+    /** Returns the average duration of finished starts in milliseconds, including queue wait time. */
+    double getAverageStartMillis();
+
+    /** Resets all the collected statistics except the numbers of queued and active starts. */
+    void reset();
+}
@@ -15,6 +15,7 @@ import com.google.inject.persist.Transactional;
 import org.eclipse.che.account.event.BeforeAccountRemovedEvent;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.core.db.jpa.DuplicateKeyException;
 import org.eclipse.che.core.db.event.CascadeRemovalEventSubscriber;
@@ -24,6 +25,7 @@ import org.eclipse.che.api.workspace.server.event.BeforeWorkspaceRemovedEvent;
 import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.event.WorkspaceRemovedEvent;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 
 import javax.annotation.PostConstruct;
@@ -33,13 +35,21 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.che.api.workspace.server.WorkspaceManager.UPDATED_ATTRIBUTE_NAME;
 
 /**
  * JPA based implementation of {@link WorkspaceDao}.
@@ -161,6 +171,100 @@ public class JpaWorkspaceDao implements WorkspaceDao {
         }
     }
 
+    @Override
+    @Transactional
+    public Page<WorkspaceSummaryImpl> getSummaries(String userId,
+                                                   String name,
+                                                   Set<String> ids,
+                                                   Set<String> excludedIds,
+                                                   int maxItems,
+                                                   long skipCount) throws ServerException {
+        requireNonNull(userId, "Required non-null user id");
+        requireNonNull(excludedIds, "Required non-null excluded ids");
+        checkArgument(maxItems > 0, "The number of items to return must be positive.");
+        checkArgument(skipCount >= 0 && skipCount <= Integer.MAX_VALUE,
+                      "The number of items to skip can't be negative or greater than " + Integer.MAX_VALUE);
+        if (ids != null && ids.isEmpty()) {
+            return new Page<>(emptyList(), skipCount, maxItems, 0);
+        }
+        try {
+            final EntityManager manager = managerProvider.get();
+            final List<String> conditions = new ArrayList<>();
+            if (name != null) {
+                conditions.add("LOWER(w.name) LIKE :name ESCAPE '\\'");
+            }
+            if (ids != null) {
+                conditions.add("w.id IN :ids");
+            }
+            if (!excludedIds.isEmpty()) {
+                conditions.add("w.id NOT IN :excludedIds");
+            }
+            final String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+
+            final TypedQuery<WorkspaceSummaryImpl> query =
+                    manager.createQuery("SELECT NEW " + WorkspaceSummaryImpl.class.getName() +
+                                        "(w.id, w.name, w.account.name, w.isTemporary) " +
+                                        "FROM Workspace w" + where + " ORDER BY w.name, w.id",
+                                        WorkspaceSummaryImpl.class);
+            final TypedQuery<Long> countQuery = manager.createQuery("SELECT COUNT(w) FROM Workspace w" + where, Long.class);
+            if (name != null) {
+                final String pattern = '%' + name.toLowerCase().replace("\\", "\\\\")
+                                                               .replace("%", "\\%")
+                                                               .replace("_", "\\_") + '%';
+                query.setParameter("name", pattern);
+                countQuery.setParameter("name", pattern);
+            }
+            if (ids != null) {
+                query.setParameter("ids", ids);
+                countQuery.setParameter("ids", ids);
+            }
+            if (!excludedIds.isEmpty()) {
+                query.setParameter("excludedIds", excludedIds);
+                countQuery.setParameter("excludedIds", excludedIds);
+            }
+
+            final List<WorkspaceSummaryImpl> summaries = query.setFirstResult((int)skipCount)
+                                                              .setMaxResults(maxItems)
+                                                              .getResultList();
+            if (!summaries.isEmpty()) {
+                // update time is stored as attribute, it's fetched only for workspaces of the page
+                final Map<String, String> updated = new HashMap<>();
+                for (Object[] row : manager.createNamedQuery("Workspace.getAttribute", Object[].class)
+                                           .setParameter("attribute", UPDATED_ATTRIBUTE_NAME)
+                                           .setParameter("ids", summaries.stream()
+                                                                         .map(WorkspaceSummaryImpl::getId)
+                                                                         .collect(toList()))
+                                           .getResultList()) {
+                    updated.put((String)row[0], (String)row[1]);
+                }
+                summaries.forEach(summary -> summary.setUpdated(updated.get(summary.getId())));
+            }
+            return new Page<>(summaries, skipCount, maxItems, countQuery.getSingleResult());
+        } catch (RuntimeException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<WorkspaceImpl> getByIds(Collection<String> ids) throws ServerException {
+        requireNonNull(ids, "Required non-null ids");
+        if (ids.isEmpty()) {
+            return emptyList();
+        }
+        try {
+            return managerProvider.get()
+                                  .createNamedQuery("Workspace.getByIds", WorkspaceImpl.class)
+                                  .setParameter("ids", ids)
+                                  .getResultList()
+                                  .stream()
+                                  .map(WorkspaceImpl::new)
+                                  .collect(toList());
+        } catch (RuntimeException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+    }
+
     @Override
     @Transactional
     public List<WorkspaceImpl> getWorkspaces(boolean isTemporary, int skipCount, int maxItems) throws ServerException {
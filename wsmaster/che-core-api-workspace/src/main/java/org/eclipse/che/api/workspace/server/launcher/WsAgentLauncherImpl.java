@@ -12,6 +12,7 @@ package org.eclipse.che.api.workspace.server.launcher;
 
 import org.eclipse.che.api.agent.server.WsAgentPingRequestFactory;
 import org.eclipse.che.api.agent.server.launcher.AgentLauncher;
+import org.eclipse.che.api.agent.server.launcher.ReadinessProbe;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.BadRequestException;
@@ -33,12 +34,15 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
 import static org.eclipse.che.api.workspace.shared.Constants.WS_AGENT_PROCESS_NAME;
 
 /**
  * Starts ws agent in the machine and waits until ws agent sends notification about its start.
+ * Ws agent is pinged by {@link ReadinessProbe}, so no thread is held between pings.
  *
  * @author Alexander Garagatyi
  * @author Anatolii Bazko
@@ -52,6 +56,7 @@ public class WsAgentLauncherImpl implements AgentLauncher {
 
     private final Provider<MachineProcessManager> machineProcessManagerProvider;
     private final WsAgentPingRequestFactory       wsAgentPingRequestFactory;
+    private final ReadinessProbe                  readinessProbe;
     private final long                            wsAgentMaxStartTimeMs;
     private final long                            wsAgentPingDelayMs;
     private final String                          pingTimedOutErrorMessage;
@@ -63,9 +68,11 @@ public class WsAgentLauncherImpl implements AgentLauncher {
                                @Nullable @Named("machine.ws_agent.run_command") String wsAgentRunCommand,
                                @Named("che.workspace.agent.dev.max_start_time_ms") long wsAgentMaxStartTimeMs,
                                @Named("che.workspace.agent.dev.ping_delay_ms") long wsAgentPingDelayMs,
-                               @Named("che.workspace.agent.dev.ping_timeout_error_msg") String pingTimedOutErrorMessage) {
+                               @Named("che.workspace.agent.dev.ping_timeout_error_msg") String pingTimedOutErrorMessage,
+                               ReadinessProbe readinessProbe) {
         this.machineProcessManagerProvider = machineProcessManagerProvider;
         this.wsAgentPingRequestFactory = wsAgentPingRequestFactory;
+        this.readinessProbe = readinessProbe;
         this.wsAgentMaxStartTimeMs = wsAgentMaxStartTimeMs;
         this.wsAgentPingDelayMs = wsAgentPingDelayMs;
         this.pingTimedOutErrorMessage = pingTimedOutErrorMessage;
@@ -84,11 +91,18 @@ public class WsAgentLauncherImpl implements AgentLauncher {
 
     @Override
     public void launch(Instance machine, Agent agent) throws ServerException {
+        ReadinessProbe.await(launchAsync(machine, agent));
+    }
+
+    @Override
+    public CompletableFuture<Void> launchAsync(Instance machine, Agent agent) {
+        final CompletableFuture<Void> failed = new CompletableFuture<>();
         final HttpJsonRequest wsAgentPingRequest;
         try {
             wsAgentPingRequest = createPingRequest(machine);
         } catch (ServerException e) {
-            throw new MachineException(e.getServiceError());
+            failed.completeExceptionally(new MachineException(e.getServiceError()));
+            return failed;
         }
 
         String script = agent.getScript() + "\n" + firstNonNull(wsAgentRunCommand, DEFAULT_WS_AGENT_RUN_COMMAND);
@@ -104,28 +118,30 @@ public class WsAgentLauncherImpl implements AgentLauncher {
                                                      machine.getId(),
                                                      command,
                                                      getWsAgentProcessOutputChannel(machine.getWorkspaceId()));
-
-            final long pingStartTimestamp = System.currentTimeMillis();
-            LOG.debug("Starts pinging ws agent. Workspace ID:{}. Url:{}. Timestamp:{}",
-                      machine.getWorkspaceId(),
-                      wsAgentPingUrl,
-                      pingStartTimestamp);
-
-            while (System.currentTimeMillis() - pingStartTimestamp < wsAgentMaxStartTimeMs) {
-                if (pingWsAgent(wsAgentPingRequest)) {
-                    return;
-                } else {
-                    Thread.sleep(wsAgentPingDelayMs);
-                }
-            }
         } catch (BadRequestException | ServerException | NotFoundException e) {
-            throw new ServerException(e.getServiceError());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new ServerException("Ws agent pinging is interrupted");
+            failed.completeExceptionally(new ServerException(e.getServiceError()));
+            return failed;
         }
-        LOG.error("Fail pinging ws agent. Workspace ID:{}. Url:{}. Timestamp:{}", machine.getWorkspaceId(), wsAgentPingUrl);
-        throw new ServerException(pingTimedOutErrorMessage);
+
+        final long pingStartTimestamp = System.currentTimeMillis();
+        LOG.debug("Starts pinging ws agent. Workspace ID:{}. Url:{}. Timestamp:{}",
+                  machine.getWorkspaceId(),
+                  wsAgentPingUrl,
+                  pingStartTimestamp);
+
+        final CompletableFuture<Boolean> probe = readinessProbe.probe(() -> pingWsAgent(wsAgentPingRequest),
+                                                                      wsAgentPingDelayMs,
+                                                                      wsAgentMaxStartTimeMs);
+        final CompletableFuture<Void> launched = probe.thenAccept(started -> {
+            if (!started) {
+                LOG.error("Fail pinging ws agent. Workspace ID:{}. Url:{}. Timestamp:{}",
+                          machine.getWorkspaceId(),
+                          wsAgentPingUrl,
+                          pingStartTimestamp);
+                throw new CompletionException(new ServerException(pingTimedOutErrorMessage));
+            }
+        });
+        return ReadinessProbe.cancelSourceOnCancel(launched, probe);
     }
 
     public static String getWsAgentProcessOutputChannel(String workspaceId) {
@@ -62,7 +62,14 @@ import java.util.Objects;
                 @NamedQuery(name = "Workspace.getAll",
                             query = "SELECT w FROM Workspace w"),
                 @NamedQuery(name = "Workspace.getByTemporary",
-                            query = "SELECT w FROM Workspace w WHERE w.isTemporary = :temporary")
+                            query = "SELECT w FROM Workspace w WHERE w.isTemporary = :temporary"),
+                @NamedQuery(name = "Workspace.getByIds",
+                            query = "SELECT w FROM Workspace w WHERE w.id IN :ids"),
+                @NamedQuery(name = "Workspace.getAttribute",
+                            query = "SELECT w.id, VALUE(a) " +
+                                    "FROM Workspace w " +
+                                    "JOIN w.attributes a " +
+                                    "WHERE KEY(a) = :attribute AND w.id IN :ids")
 
         }
 )
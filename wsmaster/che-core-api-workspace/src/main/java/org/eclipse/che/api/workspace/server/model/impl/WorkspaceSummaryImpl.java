@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server.model.impl;
+
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+
+import java.util.Objects;
+
+import static org.eclipse.che.api.workspace.server.WorkspaceManager.UPDATED_ATTRIBUTE_NAME;
+
+/**
+ * Lightweight projection of {@link WorkspaceImpl} which is fetched without workspace configuration.
+ */
+public class WorkspaceSummaryImpl {
+
+    private final String          id;
+    private final String          name;
+    private final String          namespace;
+    private final boolean         isTemporary;
+    private       Long            updated;
+    private       WorkspaceStatus status;
+
+    public WorkspaceSummaryImpl(String id, String name, String namespace, boolean isTemporary) {
+        this.id = id;
+        this.name = name;
+        this.namespace = namespace;
+        this.isTemporary = isTemporary;
+    }
+
+    public WorkspaceSummaryImpl(WorkspaceImpl workspace) {
+        this(workspace.getId(), workspace.getConfig().getName(), workspace.getNamespace(), workspace.isTemporary());
+        setUpdated(workspace.getAttributes().get(UPDATED_ATTRIBUTE_NAME));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public boolean isTemporary() {
+        return isTemporary;
+    }
+
+    /**
+     * Returns time of the last workspace update in milliseconds
+     * or {@code null} if workspace has never been updated.
+     */
+    public Long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(Long updated) {
+        this.updated = updated;
+    }
+
+    /**
+     * Sets time of the last workspace update from the value of workspace attribute.
+     */
+    public void setUpdated(String updated) {
+        try {
+            this.updated = updated == null ? null : Long.valueOf(updated);
+        } catch (NumberFormatException ignored) {
+            this.updated = null;
+        }
+    }
+
+    public WorkspaceStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(WorkspaceStatus status) {
+        this.status = status;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof WorkspaceSummaryImpl)) {
+            return false;
+        }
+        final WorkspaceSummaryImpl that = (WorkspaceSummaryImpl)obj;
+        return isTemporary == that.isTemporary
+               && Objects.equals(id, that.id)
+               && Objects.equals(name, that.name)
+               && Objects.equals(namespace, that.namespace)
+               && Objects.equals(updated, that.updated)
+               && Objects.equals(status, that.status);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + Objects.hashCode(id);
+        hash = 31 * hash + Objects.hashCode(name);
+        hash = 31 * hash + Objects.hashCode(namespace);
+        hash = 31 * hash + Boolean.hashCode(isTemporary);
+        hash = 31 * hash + Objects.hashCode(updated);
+        hash = 31 * hash + Objects.hashCode(status);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkspaceSummaryImpl{" +
+               "id='" + id + '\'' +
+               ", name='" + name + '\'' +
+               ", namespace='" + namespace + '\'' +
+               ", isTemporary=" + isTemporary +
+               ", updated=" + updated +
+               ", status=" + status +
+               '}';
+    }
+}
@@ -12,10 +12,15 @@ package org.eclipse.che.api.workspace.server.spi;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
+import org.eclipse.che.commons.annotation.Nullable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Defines data access object contract for {@link WorkspaceImpl}.
@@ -143,6 +148,51 @@ public interface WorkspaceDao {
      */
     List<WorkspaceImpl> getWorkspaces(String userId) throws ServerException;
 
+    /**
+     * Gets summaries of workspaces which user can read, workspace configurations are not fetched.
+     * Summaries are ordered by workspace name.
+     *
+     * @param userId
+     *         id of user
+     * @param name
+     *         part of workspace name which is matched case-insensitively,
+     *         or {@code null} to match workspaces with any name
+     * @param ids
+     *         identifiers of workspaces to match, or {@code null} to match workspaces with any identifier
+     * @param excludedIds
+     *         identifiers of workspaces which must not be matched
+     * @param maxItems
+     *         the maximum number of summaries to return
+     * @param skipCount
+     *         the number of summaries to skip
+     * @return page of summaries, statuses of workspaces are not set
+     * @throws NullPointerException
+     *         when {@code userId} or {@code excludedIds} is null
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is not positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any other error occurs during summaries fetching
+     */
+    Page<WorkspaceSummaryImpl> getSummaries(String userId,
+                                            @Nullable String name,
+                                            @Nullable Set<String> ids,
+                                            Set<String> excludedIds,
+                                            int maxItems,
+                                            long skipCount) throws ServerException;
+
+    /**
+     * Gets workspaces by identifiers.
+     *
+     * @param ids
+     *         identifiers of workspaces
+     * @return list of found workspaces, identifiers of non-existing workspaces are ignored
+     * @throws NullPointerException
+     *         when {@code ids} is null
+     * @throws ServerException
+     *         when any other error occurs during workspaces fetching
+     */
+    List<WorkspaceImpl> getByIds(Collection<String> ids) throws ServerException;
+
 
     /**
      * Gets workspaces by temporary attribute.
@@ -46,6 +46,7 @@ import org.eclipse.che.api.workspace.server.model.impl.EnvironmentRecipeImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ExtendedMachineImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ServerConf2Impl;
 import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.commons.lang.Size;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.mockito.ArgumentCaptor;
@@ -57,6 +58,8 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -73,6 +76,7 @@ import static java.util.Collections.singletonMap;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
@@ -86,6 +90,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
@@ -139,7 +144,8 @@ public class CheEnvironmentEngineTest {
                                               API_ENDPOINT,
                                               recipeDownloader,
                                               containerNameGenerator,
-                                              agentRegistry));
+                                              agentRegistry,
+                                              new RuntimeJournal(null)));
 
         when(machineInstanceProviders.getProvider("docker")).thenReturn(instanceProvider);
         when(instanceProvider.getRecipeTypes()).thenReturn(Collections.singleton("dockerfile"));
@@ -153,6 +159,80 @@ public class CheEnvironmentEngineTest {
         EnvironmentContext.reset();
     }
 
+    @Test
+    public void shouldRemoveLogsOfStoppedMachinesAndKeepLogsOfJournaledMachinesOnCleanup() throws Exception {
+        // given
+        File logsDir = Files.createTempDirectory("logs").toFile();
+        File runningMachineLogs = new File(logsDir, "machine1");
+        File stoppedMachineLogs = new File(logsDir, "machine2");
+        assertTrue(runningMachineLogs.mkdir());
+        assertTrue(stoppedMachineLogs.mkdir());
+        MachineImpl runningMachine = mock(MachineImpl.class);
+        when(runningMachine.getId()).thenReturn("machine1");
+        RuntimeJournal.Entry entry = mock(RuntimeJournal.Entry.class);
+        when(entry.getMachines()).thenReturn(singletonList(runningMachine));
+        RuntimeJournal journal = mock(RuntimeJournal.class);
+        when(journal.isEnabled()).thenReturn(true);
+        when(journal.markStopped(anyLong())).thenReturn(singletonList(entry));
+        CheEnvironmentEngine journaledEngine = new CheEnvironmentEngine(snapshotDao,
+                                                                        machineInstanceProviders,
+                                                                        logsDir.getAbsolutePath(),
+                                                                        DEFAULT_MACHINE_MEM_LIMIT_MB,
+                                                                        eventService,
+                                                                        environmentParser,
+                                                                        new DefaultServicesStartStrategy(),
+                                                                        machineProvider,
+                                                                        infrastructureProvisioner,
+                                                                        API_ENDPOINT,
+                                                                        recipeDownloader,
+                                                                        containerNameGenerator,
+                                                                        agentRegistry,
+                                                                        journal);
+
+        try {
+            // when
+            journaledEngine.cleanup();
+
+            // then
+            verify(journal).markStopped(anyLong());
+            assertTrue(runningMachineLogs.exists());
+            assertFalse(stoppedMachineLogs.exists());
+        } finally {
+            IoUtil.deleteRecursive(logsDir);
+        }
+    }
+
+    @Test
+    public void shouldPassStopTimeOfMasterToProviderOnRecovery() throws Exception {
+        // given
+        MachineImpl machine = MachineImpl.builder()
+                                         .setId("machine1")
+                                         .setWorkspaceId("workspace123")
+                                         .setConfig(MachineConfigImpl.builder()
+                                                                     .setDev(true)
+                                                                     .setName("dev-machine")
+                                                                     .setType("docker")
+                                                                     .setSource(new MachineSourceImpl("docker").setLocation("location"))
+                                                                     .setLimits(new MachineLimitsImpl(1024))
+                                                                     .build())
+                                         .build();
+        RuntimeJournal.Entry entry = mock(RuntimeJournal.Entry.class);
+        when(entry.getWorkspaceId()).thenReturn("workspace123");
+        when(entry.getEnvName()).thenReturn("default");
+        when(entry.getEnvironment()).thenReturn(new EnvironmentImpl());
+        when(entry.getMachines()).thenReturn(singletonList(machine));
+        when(entry.getStoppedAt()).thenReturn(12345L);
+        Instance instance = mock(Instance.class);
+        when(machineProvider.recoverService(eq(machine), eq(12345L), any())).thenReturn(instance);
+
+        // when
+        List<Instance> recovered = engine.recover(entry, messageConsumer);
+
+        // then
+        assertEquals(recovered, singletonList(instance));
+        verify(machineProvider).recoverService(eq(machine), eq(12345L), any());
+    }
+
     @Test
     public void shouldBeAbleToGetMachinesOfEnv() throws Exception {
         // given
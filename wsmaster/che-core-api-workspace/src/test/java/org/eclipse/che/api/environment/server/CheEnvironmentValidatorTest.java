@@ -18,6 +18,7 @@ import org.eclipse.che.api.environment.server.model.CheServiceBuildContextImpl;
 import org.eclipse.che.api.environment.server.model.CheServiceImpl;
 import org.eclipse.che.api.environment.server.model.CheServicesEnvironmentImpl;
 import org.eclipse.che.api.machine.server.MachineInstanceProviders;
+import org.eclipse.che.api.machine.server.util.RecipeCacheStatistics;
 import org.eclipse.che.api.machine.shared.dto.MachineConfigDto;
 import org.eclipse.che.api.machine.shared.dto.MachineSourceDto;
 import org.eclipse.che.api.machine.shared.dto.ServerConfDto;
@@ -28,7 +29,6 @@ import org.eclipse.che.api.workspace.server.model.impl.ExtendedMachineImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ServerConf2Impl;
 import org.eclipse.che.api.workspace.shared.dto.EnvironmentDto;
 import org.eclipse.che.api.workspace.shared.dto.ExtendedMachineDto;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -51,6 +51,8 @@ import static java.util.Collections.singletonMap;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.fail;
@@ -67,7 +69,6 @@ public class CheEnvironmentValidatorTest {
     @Mock
     DefaultServicesStartStrategy startStrategy;
 
-    @InjectMocks
     CheEnvironmentValidator environmentValidator;
 
     EnvironmentDto             environment;
@@ -81,6 +82,11 @@ public class CheEnvironmentValidatorTest {
         when(machineInstanceProviders.getProviderTypes()).thenReturn(asList("docker", "ssh"));
         when(environmentParser.parse(any(Environment.class))).thenReturn(cheServicesEnv);
         when(environmentParser.getEnvironmentTypes()).thenReturn(singleton("compose"));
+        // validator remembers valid environments, so it must not be shared between tests
+        environmentValidator = new CheEnvironmentValidator(machineInstanceProviders,
+                                                           environmentParser,
+                                                           startStrategy,
+                                                           new RecipeCacheStatistics());
     }
 
     @Test
@@ -88,6 +94,24 @@ public class CheEnvironmentValidatorTest {
         environmentValidator.validate("env", environment);
     }
 
+    @Test
+    public void shouldNotValidateTheSameEnvironmentTwice() throws Exception {
+        environmentValidator.validate("env", environment);
+        environmentValidator.validate("env", DtoConverter.asDto(new EnvironmentImpl(environment)));
+
+        verify(environmentParser, times(1)).parse(any(Environment.class));
+    }
+
+    @Test
+    public void shouldValidateEnvironmentAgainWhenItIsChanged() throws Exception {
+        environmentValidator.validate("env", environment);
+        environment.getRecipe().setContent("changed content");
+
+        environmentValidator.validate("env", environment);
+
+        verify(environmentParser, times(2)).parse(any(Environment.class));
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class,
           expectedExceptionsMessageRegExp = "Environment name should not be neither null nor empty")
     public void shouldFailValidationIfEnvNameIsNull() throws Exception {
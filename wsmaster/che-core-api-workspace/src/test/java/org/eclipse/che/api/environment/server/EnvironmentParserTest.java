@@ -17,6 +17,7 @@ import org.eclipse.che.api.core.model.workspace.Environment;
 import org.eclipse.che.api.environment.server.model.CheServiceBuildContextImpl;
 import org.eclipse.che.api.environment.server.model.CheServiceImpl;
 import org.eclipse.che.api.environment.server.model.CheServicesEnvironmentImpl;
+import org.eclipse.che.api.machine.server.util.RecipeCacheStatistics;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentRecipeImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ExtendedMachineImpl;
@@ -38,6 +39,7 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.eclipse.che.api.environment.server.EnvironmentParser.SERVER_CONF_LABEL_PATH_SUFFIX;
@@ -45,11 +47,13 @@ import static org.eclipse.che.api.environment.server.EnvironmentParser.SERVER_CO
 import static org.eclipse.che.api.environment.server.EnvironmentParser.SERVER_CONF_LABEL_PROTOCOL_SUFFIX;
 import static org.eclipse.che.api.environment.server.EnvironmentParser.SERVER_CONF_LABEL_REF_SUFFIX;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertEqualsNoOrder;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 
 /**
  * @author Alexander Garagatyi
@@ -94,7 +98,8 @@ public class EnvironmentParserTest {
 
         parser = new EnvironmentParser(ImmutableMap.of("dockerfile", envParser,
                                                        "dockerimage", envParser,
-                                                       "compose", envParser));
+                                                       "compose", envParser),
+                                       new RecipeCacheStatistics());
     }
 
     @Test
@@ -190,6 +195,102 @@ public class EnvironmentParserTest {
         assertEquals(cheServicesEnvironment.getServices().get("machine2").getMemLimit(), null);
     }
 
+    @Test
+    public void shouldParseRecipeWithTheSameContentOnce() throws Exception {
+        // given
+        EnvironmentImpl environment1 = new EnvironmentImpl(new EnvironmentRecipeImpl("compose",
+                                                                                     "application/x-yaml",
+                                                                                     "content",
+                                                                                     null),
+                                                           singletonMap("machine1",
+                                                                        new ExtendedMachineImpl(emptyList(),
+                                                                                                emptyMap(),
+                                                                                                singletonMap("memoryLimitBytes",
+                                                                                                             "101010"))));
+        EnvironmentImpl environment2 = new EnvironmentImpl(environment1.getRecipe(),
+                                                           singletonMap("machine1",
+                                                                        new ExtendedMachineImpl(emptyList(),
+                                                                                                emptyMap(),
+                                                                                                emptyMap())));
+        CheServicesEnvironmentImpl cheEnv = new CheServicesEnvironmentImpl();
+        cheEnv.getServices().put("machine1", new CheServiceImpl());
+        when(envParser.parse(any(Environment.class))).thenReturn(cheEnv);
+
+        // when
+        CheServicesEnvironmentImpl parsed1 = parser.parse(environment1);
+        CheServicesEnvironmentImpl parsed2 = parser.parse(environment2);
+
+        // then
+        verify(envParser, times(1)).parse(any(Environment.class));
+        assertEquals(parsed1.getServices().get("machine1").getMemLimit().longValue(), 101010L);
+        // machines of the second environment are applied to a copy of the cached recipe
+        assertNull(parsed2.getServices().get("machine1").getMemLimit());
+    }
+
+    @Test
+    public void shouldParseRecipeSharedByEnvironmentsWithDifferentMachineNamesSeparately() throws Exception {
+        // given
+        EnvironmentRecipeImpl recipe = new EnvironmentRecipeImpl("dockerfile",
+                                                                 "text/x-dockerfile",
+                                                                 DEFAULT_DOCKERFILE,
+                                                                 null);
+        EnvironmentImpl environment1 = new EnvironmentImpl(recipe,
+                                                           singletonMap("machine1",
+                                                                        new ExtendedMachineImpl(emptyList(),
+                                                                                                emptyMap(),
+                                                                                                emptyMap())));
+        EnvironmentImpl environment2 = new EnvironmentImpl(recipe,
+                                                           singletonMap("machine2",
+                                                                        new ExtendedMachineImpl(emptyList(),
+                                                                                                emptyMap(),
+                                                                                                emptyMap())));
+        CheServicesEnvironmentImpl cheEnv1 = new CheServicesEnvironmentImpl();
+        cheEnv1.getServices().put("machine1", new CheServiceImpl());
+        CheServicesEnvironmentImpl cheEnv2 = new CheServicesEnvironmentImpl();
+        cheEnv2.getServices().put("machine2", new CheServiceImpl());
+        when(envParser.parse(environment1)).thenReturn(cheEnv1);
+        when(envParser.parse(environment2)).thenReturn(cheEnv2);
+
+        // when
+        CheServicesEnvironmentImpl parsed1 = parser.parse(environment1);
+        CheServicesEnvironmentImpl parsed2 = parser.parse(environment2);
+
+        // then
+        verify(envParser).parse(environment1);
+        verify(envParser).parse(environment2);
+        assertEquals(parsed1.getServices().keySet(), singleton("machine1"));
+        assertEquals(parsed2.getServices().keySet(), singleton("machine2"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class,
+          expectedExceptionsMessageRegExp = "Environment of type 'dockerfile' doesn't support multiple machines")
+    public void shouldNotTakeMultiMachineEnvironmentFromCacheOfSingleMachineEnvironmentWithTheSameRecipe()
+            throws Exception {
+        // given
+        EnvironmentRecipeImpl recipe = new EnvironmentRecipeImpl("dockerfile",
+                                                                 "text/x-dockerfile",
+                                                                 DEFAULT_DOCKERFILE,
+                                                                 null);
+        EnvironmentImpl singleMachineEnv = new EnvironmentImpl(recipe,
+                                                               singletonMap("machine1",
+                                                                            new ExtendedMachineImpl(emptyList(),
+                                                                                                    emptyMap(),
+                                                                                                    emptyMap())));
+        HashMap<String, ExtendedMachineImpl> machines = new HashMap<>();
+        machines.put("machine1", new ExtendedMachineImpl(emptyList(), emptyMap(), emptyMap()));
+        machines.put("machine2", new ExtendedMachineImpl(emptyList(), emptyMap(), emptyMap()));
+        EnvironmentImpl multiMachineEnv = new EnvironmentImpl(recipe, machines);
+        CheServicesEnvironmentImpl cheEnv = new CheServicesEnvironmentImpl();
+        cheEnv.getServices().put("machine1", new CheServiceImpl());
+        when(envParser.parse(singleMachineEnv)).thenReturn(cheEnv);
+        when(envParser.parse(multiMachineEnv))
+                .thenThrow(new IllegalArgumentException("Environment of type 'dockerfile' doesn't support multiple machines"));
+        parser.parse(singleMachineEnv);
+
+        // when
+        parser.parse(multiMachineEnv);
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class,
           expectedExceptionsMessageRegExp = "Value of attribute 'memoryLimitBytes' of machine 'machine1' is illegal")
     public void shouldThrowExceptionInCaseFailedParseMemoryLimit() throws ServerException {
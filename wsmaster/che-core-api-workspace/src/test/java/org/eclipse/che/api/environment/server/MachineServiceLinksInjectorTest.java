@@ -41,6 +41,7 @@ import static org.eclipse.che.api.machine.shared.Constants.LINK_REL_ENVIRONMENT_
 import static org.eclipse.che.api.machine.shared.Constants.LINK_REL_EXECUTE_COMMAND;
 import static org.eclipse.che.api.machine.shared.Constants.LINK_REL_GET_MACHINES;
 import static org.eclipse.che.api.machine.shared.Constants.LINK_REL_GET_PROCESSES;
+import static org.eclipse.che.api.machine.shared.Constants.LINK_REL_GET_MACHINE_LOGS;
 import static org.eclipse.che.api.machine.shared.Constants.LINK_REL_GET_PROCESS_LOGS;
 import static org.eclipse.che.api.machine.shared.Constants.LINK_REL_SELF;
 import static org.eclipse.che.api.machine.shared.Constants.LINK_REL_STOP_PROCESS;
@@ -98,6 +99,7 @@ public class MachineServiceLinksInjectorTest {
                                                                              Pair.of("POST", LINK_REL_EXECUTE_COMMAND),
                                                                              Pair.of("DELETE", LINK_REL_DESTROY_MACHINE),
                                                                              Pair.of("GET", LINK_REL_GET_PROCESSES),
+                                                                             Pair.of("GET", LINK_REL_GET_MACHINE_LOGS),
                                                                              Pair.of("GET", LINK_REL_ENVIRONMENT_OUTPUT_CHANNEL),
                                                                              Pair.of("GET", ENVIRONMENT_STATUS_CHANNEL_TEMPLATE)));
 
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.environment.server;
+
+import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
+import org.eclipse.che.api.workspace.server.model.impl.EnvironmentRecipeImpl;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link RuntimeJournal}.
+ */
+public class RuntimeJournalTest {
+    private File           dir;
+    private RuntimeJournal journal;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("journal").toFile();
+        journal = new RuntimeJournal(dir.getAbsolutePath());
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Files.delete(file.toPath());
+            }
+        }
+        Files.delete(dir.toPath());
+    }
+
+    @Test
+    public void shouldReadWrittenEntry() throws Exception {
+        journal.write(createEntry("workspace123", "network1"));
+
+        List<RuntimeJournal.Entry> entries = new RuntimeJournal(dir.getAbsolutePath()).readAll();
+
+        assertEquals(entries.size(), 1);
+        RuntimeJournal.Entry entry = entries.get(0);
+        assertEquals(entry.getWorkspaceId(), "workspace123");
+        assertEquals(entry.getEnvName(), "default");
+        assertEquals(entry.getNetworkId(), "network1");
+        assertEquals(entry.getEnvironment().getRecipe().getContent(), "FROM codenvy/ubuntu_jdk8");
+        assertEquals(entry.getMachines(), emptyList());
+    }
+
+    @Test
+    public void shouldReadEntryOfEnvironmentWithoutNetwork() throws Exception {
+        journal.write(createEntry("workspace123", null));
+
+        List<RuntimeJournal.Entry> entries = journal.readAll();
+
+        assertEquals(entries.size(), 1);
+        assertNull(entries.get(0).getNetworkId());
+        assertTrue(new File(dir, "workspace123.json").exists());
+    }
+
+    @Test
+    public void shouldRecordStopTimeInAllEntries() throws Exception {
+        journal.write(createEntry("workspace123", "network1"));
+        journal.write(createEntry("workspace456", "network2"));
+
+        List<RuntimeJournal.Entry> marked = journal.markStopped(12345L);
+
+        assertEquals(marked.size(), 2);
+        List<RuntimeJournal.Entry> entries = journal.readAll();
+        assertEquals(entries.size(), 2);
+        for (RuntimeJournal.Entry entry : entries) {
+            assertEquals(entry.getStoppedAt(), 12345L);
+        }
+    }
+
+    @Test
+    public void shouldResetStopTimeWhenEntryIsRewritten() throws Exception {
+        journal.write(createEntry("workspace123", "network1"));
+        journal.markStopped(12345L);
+
+        journal.write(createEntry("workspace123", "network1"));
+
+        assertEquals(journal.readAll().get(0).getStoppedAt(), 0L);
+    }
+
+    @Test
+    public void shouldReplacePreviousEntryOfWorkspace() throws Exception {
+        journal.write(createEntry("workspace123", "network1"));
+        journal.write(createEntry("workspace123", "network2"));
+
+        List<RuntimeJournal.Entry> entries = journal.readAll();
+
+        assertEquals(entries.size(), 1);
+        assertEquals(entries.get(0).getNetworkId(), "network2");
+    }
+
+    @Test
+    public void shouldRemoveEntry() throws Exception {
+        journal.write(createEntry("workspace123", "network1"));
+        journal.write(createEntry("workspace456", "network2"));
+
+        journal.remove("workspace123");
+
+        List<RuntimeJournal.Entry> entries = journal.readAll();
+        assertEquals(entries.size(), 1);
+        assertEquals(entries.get(0).getWorkspaceId(), "workspace456");
+    }
+
+    @Test
+    public void shouldRemoveEntryWhichCanNotBeRead() throws Exception {
+        File broken = new File(dir, "workspace123.json");
+        Files.write(broken.toPath(), singletonList("{\"workspaceId\":"), UTF_8);
+
+        assertEquals(journal.readAll(), emptyList());
+        assertFalse(broken.exists());
+    }
+
+    @Test
+    public void shouldNotWriteEntriesWhenJournalIsDisabled() throws Exception {
+        RuntimeJournal disabled = new RuntimeJournal(null);
+
+        disabled.write(createEntry("workspace123", "network1"));
+
+        assertFalse(disabled.isEnabled());
+        assertEquals(disabled.readAll(), emptyList());
+        assertTrue(journal.isEnabled());
+        assertEquals(journal.readAll(), emptyList());
+    }
+
+    private static RuntimeJournal.Entry createEntry(String workspaceId, String networkId) {
+        EnvironmentImpl environment = new EnvironmentImpl(new EnvironmentRecipeImpl("dockerfile",
+                                                                                    "text/x-dockerfile",
+                                                                                    "FROM codenvy/ubuntu_jdk8",
+                                                                                    null),
+                                                          emptyMap());
+        return new RuntimeJournal.Entry(workspaceId, "default", networkId, environment, emptyList());
+    }
+}
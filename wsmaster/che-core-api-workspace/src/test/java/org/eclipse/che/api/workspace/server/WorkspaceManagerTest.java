@@ -10,10 +10,14 @@
  *******************************************************************************/
 package org.eclipse.che.api.workspace.server;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
 import org.eclipse.che.account.api.AccountManager;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
@@ -29,12 +33,14 @@ import org.eclipse.che.api.machine.server.model.impl.MachineSourceImpl;
 import org.eclipse.che.api.machine.server.model.impl.SnapshotImpl;
 import org.eclipse.che.api.machine.server.spi.SnapshotDao;
 import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.RuntimeDescriptor;
+import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.WorkspaceState;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentRecipeImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ExtendedMachineImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 import org.eclipse.che.api.workspace.shared.Constants;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
@@ -56,13 +62,17 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
-import static com.google.common.util.concurrent.Futures.immediateFuture;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
@@ -75,6 +85,8 @@ import static org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEven
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -138,6 +150,8 @@ public class WorkspaceManagerTest {
         when(accountManager.getByName(NAMESPACE_2)).thenReturn(new AccountImpl("accountId2", NAMESPACE_2, "test"));
         when(workspaceDao.create(any(WorkspaceImpl.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
         when(workspaceDao.update(any(WorkspaceImpl.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(new CompletableFuture<>());
+        when(runtimes.getStatus(anyString())).thenReturn(STOPPED);
 
         EnvironmentContext.setCurrent(new EnvironmentContext() {
             @Override
@@ -234,8 +248,7 @@ public class WorkspaceManagerTest {
         final WorkspaceImpl workspace2 = workspaceManager.createWorkspace(config, NAMESPACE_2);
 
         when(workspaceDao.getWorkspaces(NAMESPACE)).thenReturn(asList(workspace1, workspace2));
-        final RuntimeDescriptor descriptor = createDescriptor(workspace2, RUNNING);
-        when(runtimes.get(workspace2.getId())).thenReturn(descriptor);
+        when(runtimes.getStatus(workspace2.getId())).thenReturn(RUNNING);
 
         // when
         final List<WorkspaceImpl> result = workspaceManager.getWorkspaces(NAMESPACE);
@@ -250,6 +263,51 @@ public class WorkspaceManagerTest {
         final WorkspaceImpl res2 = result.get(1);
         assertEquals(res2.getStatus(), RUNNING, "Workspace status wasn't changed to the runtime instance status");
         assertFalse(res2.isTemporary(), "Workspace must be permanent");
+        verify(runtimes, never()).get(any());
+    }
+
+    @Test
+    public void shouldSetStatusesOfWorkspaceSummaries() throws Exception {
+        final WorkspaceSummaryImpl summary1 = new WorkspaceSummaryImpl("ws1", "name1", NAMESPACE, false);
+        final WorkspaceSummaryImpl summary2 = new WorkspaceSummaryImpl("ws2", "name2", NAMESPACE, false);
+        when(runtimes.getWorkspaces()).thenReturn(singletonMap("ws2", new WorkspaceState(RUNNING, "env")));
+        when(workspaceDao.getSummaries(NAMESPACE, null, null, emptySet(), 30, 0))
+                .thenReturn(new Page<>(asList(summary1, summary2), 0, 30, 2));
+
+        final Page<WorkspaceSummaryImpl> page = workspaceManager.getWorkspaceSummaries(NAMESPACE, null, null, 30, 0);
+
+        assertEquals(page.getItems().get(0).getStatus(), STOPPED);
+        assertEquals(page.getItems().get(1).getStatus(), RUNNING);
+    }
+
+    @Test
+    public void shouldFilterWorkspaceSummariesByRuntimeStatus() throws Exception {
+        when(runtimes.getWorkspaces()).thenReturn(ImmutableMap.of("ws1", new WorkspaceState(RUNNING, "env"),
+                                                                  "ws2", new WorkspaceState(STARTING, "env")));
+        when(workspaceDao.getSummaries(any(), any(), any(), any(), anyInt(), anyLong()))
+                .thenReturn(new Page<>(emptyList(), 0, 30, 0));
+
+        workspaceManager.getWorkspaceSummaries(NAMESPACE, RUNNING, "name", 30, 0);
+        workspaceManager.getWorkspaceSummaries(NAMESPACE, STOPPED, "name", 30, 0);
+
+        verify(workspaceDao).getSummaries(NAMESPACE, "name", singleton("ws1"), emptySet(), 30, 0);
+        verify(workspaceDao).getSummaries(NAMESPACE, "name", null, ImmutableSet.of("ws1", "ws2"), 30, 0);
+    }
+
+    @Test
+    public void shouldGetPageOfWorkspacesInOrderOfSummaries() throws Exception {
+        final WorkspaceConfig config = createConfig();
+        final WorkspaceImpl workspace1 = workspaceManager.createWorkspace(config, NAMESPACE);
+        final WorkspaceImpl workspace2 = workspaceManager.createWorkspace(config, NAMESPACE_2);
+        when(runtimes.getWorkspaces()).thenReturn(emptyMap());
+        when(workspaceDao.getSummaries(NAMESPACE, null, null, emptySet(), 2, 0))
+                .thenReturn(new Page<>(asList(new WorkspaceSummaryImpl(workspace2), new WorkspaceSummaryImpl(workspace1)), 0, 2, 5));
+        when(workspaceDao.getByIds(asList(workspace2.getId(), workspace1.getId()))).thenReturn(asList(workspace1, workspace2));
+
+        final Page<WorkspaceImpl> page = workspaceManager.getWorkspaces(NAMESPACE, null, null, 2, 0);
+
+        assertEquals(page.getItems(), asList(workspace2, workspace1));
+        assertEquals(page.getTotalItemsCount(), 5);
     }
 
     @Test
@@ -260,8 +318,7 @@ public class WorkspaceManagerTest {
         final WorkspaceImpl workspace2 = workspaceManager.createWorkspace(config, NAMESPACE_2);
 
         when(workspaceDao.getByNamespace(NAMESPACE_2)).thenReturn(singletonList(workspace2));
-        final RuntimeDescriptor descriptor = createDescriptor(workspace2, RUNNING);
-        when(runtimes.get(workspace2.getId())).thenReturn(descriptor);
+        when(runtimes.getStatus(workspace2.getId())).thenReturn(RUNNING);
 
         // when
         final List<WorkspaceImpl> result = workspaceManager.getByNamespace(NAMESPACE_2);
@@ -272,6 +329,7 @@ public class WorkspaceManagerTest {
         final WorkspaceImpl res1 = result.get(0);
         assertEquals(res1.getStatus(), RUNNING, "Workspace status wasn't changed to the runtime instance status");
         assertFalse(res1.isTemporary(), "Workspace must be permanent");
+        verify(runtimes, never()).get(any());
     }
 
     @Test
@@ -457,7 +515,7 @@ public class WorkspaceManagerTest {
         when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
         when(runtimes.get(workspace.getId())).thenThrow(new NotFoundException(""));
         final RuntimeDescriptor descriptor = createDescriptor(workspace, STARTING);
-        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(immediateFuture(descriptor));
+        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(completedFuture(descriptor));
 
         workspaceManager.startWorkspace(workspace.getId(), null, null);
 
@@ -474,7 +532,7 @@ public class WorkspaceManagerTest {
         when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
         when(runtimes.get(workspace.getId())).thenThrow(new NotFoundException(""));
         final RuntimeDescriptor descriptor = createDescriptor(workspace, STARTING);
-        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(immediateFuture(descriptor));
+        when(runtimes.startAsync(any(), anyString(), anyBoolean())).thenReturn(completedFuture(descriptor));
         workspaceManager.startWorkspace(workspace.getId(), "non-default-env", false);
 
         // timeout is needed because this invocation will run in separate thread asynchronously
@@ -983,7 +1041,7 @@ public class WorkspaceManagerTest {
         final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), NAMESPACE);
         when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
         RuntimeDescriptor descriptor = createDescriptor(workspace, RUNNING);
-        when(runtimes.get(any())).thenReturn(descriptor);
+        when(runtimes.getStatus(workspace.getId())).thenReturn(RUNNING);
         MachineImpl machine = descriptor.getRuntime().getMachines().get(0);
 
         // when
@@ -999,8 +1057,7 @@ public class WorkspaceManagerTest {
         // given
         final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), NAMESPACE);
         when(workspaceDao.get(workspace.getId())).thenReturn(workspace);
-        RuntimeDescriptor descriptor = createDescriptor(workspace, STARTING);
-        when(runtimes.get(any())).thenReturn(descriptor);
+        when(runtimes.getStatus(workspace.getId())).thenReturn(STARTING);
 
         // when
         workspaceManager.stopMachine(workspace.getId(), "someId");
@@ -21,6 +21,7 @@ import org.eclipse.che.api.core.model.workspace.Environment;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.environment.server.CheEnvironmentEngine;
+import org.eclipse.che.api.environment.server.RuntimeJournal;
 import org.eclipse.che.api.environment.server.ContainerNameGenerator;
 import org.eclipse.che.api.environment.server.DefaultServicesStartStrategy;
 import org.eclipse.che.api.environment.server.EnvironmentParser;
@@ -114,13 +115,15 @@ public class WorkspaceRuntimeIntegrationTest {
                                                                           "http://localhost:8080/api",
                                                                           recipeDownloader,
                                                                           containerNameGenerator,
-                                                                          agentRegistry);
+                                                                          agentRegistry,
+                                                                          new RuntimeJournal(null));
 
         runtimes = new WorkspaceRuntimes(eventService,
                                          environmentEngine,
                                          agentSorter,
                                          launcherFactory,
-                                         agentRegistry);
+                                         agentRegistry,
+                                         new WorkspaceStartStatistics());
 
         executor = Executors.newFixedThreadPool(
                 1, new ThreadFactoryBuilder().setNameFormat(this.getClass().toString() + "-%d").build());
@@ -13,7 +13,11 @@ package org.eclipse.che.api.workspace.server;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.agent.server.AgentRegistry;
 import org.eclipse.che.api.agent.server.impl.AgentSorter;
+import org.eclipse.che.api.agent.server.launcher.AgentLauncher;
 import org.eclipse.che.api.agent.server.launcher.AgentLauncherFactory;
+import org.eclipse.che.api.agent.server.model.impl.AgentKeyImpl;
+import org.eclipse.che.api.agent.shared.model.Agent;
+import org.eclipse.che.api.agent.shared.model.AgentKey;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
@@ -22,8 +26,10 @@ import org.eclipse.che.api.core.model.machine.MachineConfig;
 import org.eclipse.che.api.core.model.workspace.Environment;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.environment.server.CheEnvironmentEngine;
 import org.eclipse.che.api.environment.server.NoOpMachineInstance;
+import org.eclipse.che.api.environment.server.RuntimeJournal;
 import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineLimitsImpl;
@@ -33,6 +39,7 @@ import org.eclipse.che.api.machine.server.model.impl.SnapshotImpl;
 import org.eclipse.che.api.machine.server.spi.Instance;
 import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.RuntimeDescriptor;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
+import org.eclipse.che.api.workspace.server.model.impl.ExtendedMachineImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
@@ -52,6 +59,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
@@ -63,15 +74,18 @@ import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 /**
@@ -95,15 +109,18 @@ public class WorkspaceRuntimesTest {
     @Mock
     private AgentRegistry        agentRegistry;
 
-    private WorkspaceRuntimes runtimes;
+    private WorkspaceStartStatistics startStatistics;
+    private WorkspaceRuntimes        runtimes;
 
     @BeforeMethod
     public void setUp(Method method) throws Exception {
+        startStatistics = new WorkspaceStartStatistics();
         runtimes = spy(new WorkspaceRuntimes(eventService,
                                              environmentEngine,
                                              agentSorter,
                                              launcherFactory,
-                                             agentRegistry));
+                                             agentRegistry,
+                                             startStatistics));
 
         List<Instance> machines = asList(createMachine(true), createMachine(false));
         when(environmentEngine.start(anyString(),
@@ -342,6 +359,82 @@ public class WorkspaceRuntimesTest {
         }
     }
 
+    @Test
+    public void shouldStopEnvironmentAndPublishErrorWhenAgentLaunchFailsAsynchronously() throws Exception {
+        // given
+        Instance machine = createMachine(true);
+        when(environmentEngine.start(anyString(),
+                                     anyString(),
+                                     any(Environment.class),
+                                     anyBoolean(),
+                                     any()))
+                .thenReturn(singletonList(machine));
+        List<String> agents = singletonList("org.eclipse.che.terminal");
+        WorkspaceImpl workspace = createWorkspace(new EnvironmentImpl(null,
+                                                                      singletonMap(machine.getConfig().getName(),
+                                                                                   new ExtendedMachineImpl(agents, null, null))));
+        CompletableFuture<Void> agentsLaunch = new CompletableFuture<>();
+        doReturn(agentsLaunch).when(runtimes).launchAgentsAsync(machine, agents);
+
+        // when
+        CompletableFuture<RuntimeDescriptor> started = runtimes.startAsync(workspace, ENV_NAME, false);
+        verify(runtimes, timeout(1000)).launchAgentsAsync(machine, agents);
+        assertFalse(started.isDone());
+        agentsLaunch.completeExceptionally(new ServerException("Agent is not launched"));
+
+        // then
+        String error = "Start of environment " + ENV_NAME + " failed. Error: Agent is not launched";
+        try {
+            started.get(1, TimeUnit.SECONDS);
+            fail("Start is expected to fail");
+        } catch (ExecutionException x) {
+            assertTrue(x.getCause() instanceof ServerException);
+            assertEquals(x.getCause().getMessage(), error);
+        }
+        verify(environmentEngine).stop(WORKSPACE_ID);
+        verify(runtimes).publishWorkspaceEvent(EventType.ERROR, WORKSPACE_ID, error);
+        assertFalse(runtimes.hasRuntime(WORKSPACE_ID));
+        assertEquals(startStatistics.getFailedStarts(), 1);
+        assertEquals(startStatistics.getActiveStarts(), 0);
+        assertEquals(startStatistics.getQueuedStarts(), 0);
+    }
+
+    @Test
+    public void shouldRecoverJournaledEnvironmentAndPublishRunningEvent() throws Exception {
+        // given
+        RuntimeJournal.Entry entry = mock(RuntimeJournal.Entry.class);
+        when(entry.getWorkspaceId()).thenReturn(WORKSPACE_ID);
+        when(entry.getEnvName()).thenReturn(ENV_NAME);
+        when(environmentEngine.getJournaledEnvironments()).thenReturn(singletonList(entry));
+
+        // when
+        runtimes.recover();
+
+        // then
+        verify(runtimes, timeout(1000)).publishWorkspaceEvent(EventType.RUNNING, WORKSPACE_ID, null);
+        verify(environmentEngine).recover(eq(entry), any());
+        assertEquals(runtimes.getWorkspaces().get(WORKSPACE_ID).getStatus(), RUNNING);
+        assertEquals(runtimes.getWorkspaces().get(WORKSPACE_ID).getActiveEnv(), ENV_NAME);
+    }
+
+    @Test
+    public void shouldRemoveWorkspaceAndPublishErrorEventWhenEnvironmentIsNotRecovered() throws Exception {
+        // given
+        RuntimeJournal.Entry entry = mock(RuntimeJournal.Entry.class);
+        when(entry.getWorkspaceId()).thenReturn(WORKSPACE_ID);
+        when(entry.getEnvName()).thenReturn(ENV_NAME);
+        when(environmentEngine.getJournaledEnvironments()).thenReturn(singletonList(entry));
+        when(environmentEngine.recover(eq(entry), any())).thenThrow(new ServerException("Dev machine is not running"));
+
+        // when
+        runtimes.recover();
+
+        // then
+        verify(runtimes, timeout(1000)).publishWorkspaceEvent(EventType.ERROR, WORKSPACE_ID, "Dev machine is not running");
+        assertFalse(runtimes.hasRuntime(WORKSPACE_ID));
+        verify(runtimes, never()).publishWorkspaceEvent(EventType.RUNNING, WORKSPACE_ID, null);
+    }
+
     @Test
     public void stoppingEventShouldBePublishedBeforeStop() throws Exception {
         // given
@@ -415,6 +508,116 @@ public class WorkspaceRuntimesTest {
         verify(environmentEngine).startMachine(eq(workspace.getId()), eq(config), any());
     }
 
+    @Test
+    public void shouldLaunchIndependentAgentsOfMachineConcurrentlyRespectingDependencies() throws Exception {
+        // given
+        Instance instance = mock(Instance.class);
+        MachineConfigImpl config = createConfig(false);
+        when(instance.getConfig()).thenReturn(config);
+        when(instance.getLogger()).thenReturn(mock(LineConsumer.class));
+        AgentKey terminal = AgentKeyImpl.parse("terminal");
+        AgentKey exec = AgentKeyImpl.parse("exec");
+        AgentKey ssh = AgentKeyImpl.parse("ssh");
+        when(agentSorter.sort(any())).thenReturn(asList(terminal, exec, ssh));
+        Agent terminalAgent = createAgent();
+        Agent execAgent = createAgent("terminal");
+        Agent sshAgent = createAgent();
+        when(agentRegistry.getAgent(terminal)).thenReturn(terminalAgent);
+        when(agentRegistry.getAgent(exec)).thenReturn(execAgent);
+        when(agentRegistry.getAgent(ssh)).thenReturn(sshAgent);
+        AgentLauncher launcher = mock(AgentLauncher.class);
+        when(launcherFactory.find(anyString(), anyString())).thenReturn(launcher);
+        CompletableFuture<Void> terminalLaunch = new CompletableFuture<>();
+        CompletableFuture<Void> sshLaunch = new CompletableFuture<>();
+        when(launcher.launchAsync(instance, terminalAgent)).thenReturn(terminalLaunch);
+        when(launcher.launchAsync(instance, execAgent)).thenReturn(CompletableFuture.completedFuture(null));
+        when(launcher.launchAsync(instance, sshAgent)).thenReturn(sshLaunch);
+
+        // when
+        CompletableFuture<Void> launched = runtimes.launchAgentsAsync(instance, asList("exec", "ssh"));
+
+        // then
+        verify(launcher, timeout(1000)).launchAsync(instance, terminalAgent);
+        verify(launcher, timeout(1000)).launchAsync(instance, sshAgent);
+        verify(launcher, never()).launchAsync(instance, execAgent);
+
+        sshLaunch.complete(null);
+        assertFalse(launched.isDone());
+
+        terminalLaunch.complete(null);
+        verify(launcher, timeout(1000)).launchAsync(instance, execAgent);
+        launched.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldCancelLaunchOfMachineAgentsWhenLaunchIsCancelled() throws Exception {
+        // given
+        Instance instance = mock(Instance.class);
+        MachineConfigImpl config = createConfig(false);
+        when(instance.getConfig()).thenReturn(config);
+        AgentKey terminal = AgentKeyImpl.parse("terminal");
+        AgentKey ssh = AgentKeyImpl.parse("ssh");
+        when(agentSorter.sort(any())).thenReturn(asList(terminal, ssh));
+        Agent terminalAgent = createAgent();
+        Agent sshAgent = createAgent("terminal");
+        when(agentRegistry.getAgent(terminal)).thenReturn(terminalAgent);
+        when(agentRegistry.getAgent(ssh)).thenReturn(sshAgent);
+        AgentLauncher launcher = mock(AgentLauncher.class);
+        when(launcherFactory.find(anyString(), anyString())).thenReturn(launcher);
+        CompletableFuture<Void> terminalLaunch = new CompletableFuture<>();
+        when(launcher.launchAsync(instance, terminalAgent)).thenReturn(terminalLaunch);
+        CompletableFuture<Void> launched = runtimes.launchAgentsAsync(instance, asList("terminal", "ssh"));
+        verify(launcher, timeout(1000)).launchAsync(instance, terminalAgent);
+
+        // when
+        launched.cancel(true);
+
+        // then
+        assertTrue(terminalLaunch.isCancelled());
+        verify(launcher, never()).launchAsync(instance, sshAgent);
+    }
+
+    @Test
+    public void shouldCancelAgentLaunchesOfOtherMachinesBeforeStoppingEnvironmentWhenAgentLaunchFails() throws Exception {
+        // given
+        Instance failing = createMachine(true);
+        Instance starting = createMachine(false);
+        when(environmentEngine.start(anyString(),
+                                     anyString(),
+                                     any(Environment.class),
+                                     anyBoolean(),
+                                     any()))
+                .thenReturn(asList(failing, starting));
+        List<String> agents = singletonList("org.eclipse.che.terminal");
+        Map<String, ExtendedMachineImpl> machines = new HashMap<>();
+        machines.put(failing.getConfig().getName(), new ExtendedMachineImpl(agents, null, null));
+        machines.put(starting.getConfig().getName(), new ExtendedMachineImpl(agents, null, null));
+        WorkspaceImpl workspace = createWorkspace(new EnvironmentImpl(null, machines));
+        CompletableFuture<Void> failingLaunch = new CompletableFuture<>();
+        CompletableFuture<Void> startingLaunch = new CompletableFuture<>();
+        doReturn(failingLaunch).when(runtimes).launchAgentsAsync(failing, agents);
+        doReturn(startingLaunch).when(runtimes).launchAgentsAsync(starting, agents);
+        AtomicBoolean cancelledBeforeStop = new AtomicBoolean();
+        doAnswer(invocation -> {
+            cancelledBeforeStop.set(startingLaunch.isCancelled());
+            return null;
+        }).when(environmentEngine).stop(WORKSPACE_ID);
+
+        // when
+        CompletableFuture<RuntimeDescriptor> started = runtimes.startAsync(workspace, ENV_NAME, false);
+        verify(runtimes, timeout(1000)).launchAgentsAsync(starting, agents);
+        failingLaunch.completeExceptionally(new ServerException("Agent is not launched"));
+
+        // then
+        try {
+            started.get(1, TimeUnit.SECONDS);
+            fail("Start is expected to fail");
+        } catch (ExecutionException ignored) {
+        }
+        verify(environmentEngine).stop(WORKSPACE_ID);
+        assertTrue(cancelledBeforeStop.get());
+    }
+
     @Test
     public void shouldAddTerminalAgentOnMachineStart() throws Exception {
         // when
@@ -595,6 +798,32 @@ public class WorkspaceRuntimesTest {
         assertEquals(runtimes.get(workspace.getId()).getRuntimeStatus(), WorkspaceStatus.RUNNING);
     }
 
+    @Test
+    public void publishesNewStateSnapshotOnEachStatusChange() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        runtimes.start(workspace, workspace.getConfig().getDefaultEnv(), false);
+        final WorkspaceRuntimes.WorkspaceState running = runtimes.getWorkspaces().get(workspace.getId());
+
+        runtimes.beginSnapshotting(workspace.getId());
+
+        final WorkspaceRuntimes.WorkspaceState snapshotting = runtimes.getWorkspaces().get(workspace.getId());
+        assertEquals(running.getStatus(), RUNNING);
+        assertEquals(snapshotting.getStatus(), WorkspaceStatus.SNAPSHOTTING);
+    }
+
+    @Test
+    public void getsStatusFromPublishedStateWithoutBuildingRuntime() throws Exception {
+        runtimes.workspaces.put(WORKSPACE_ID, new WorkspaceRuntimes.WorkspaceState(WorkspaceStatus.STARTING, ENV_NAME));
+
+        assertEquals(runtimes.getStatus(WORKSPACE_ID), WorkspaceStatus.STARTING);
+        verify(environmentEngine, never()).getMachines(anyString());
+    }
+
+    @Test
+    public void returnsStoppedStatusWhenWorkspaceDoesNotHaveRuntime() throws Exception {
+        assertEquals(runtimes.getStatus("fake"), WorkspaceStatus.STOPPED);
+    }
+
     @Test
     public void doesNothingWhenWorkspaceDoesNotHaveRuntimeAndFinishSnapshottingIsCalled() throws Exception {
         runtimes.finishSnapshotting("fake");
@@ -640,6 +869,12 @@ public class WorkspaceRuntimesTest {
         runtimes.start(workspace, workspace.getConfig().getDefaultEnv(), false);
     }
 
+    private static Agent createAgent(String... dependencies) {
+        Agent agent = mock(Agent.class);
+        when(agent.getDependencies()).thenReturn(asList(dependencies));
+        return agent;
+    }
+
     private static Instance createMachine(boolean isDev) {
         return createMachine(createConfig(isDev));
     }
@@ -664,8 +899,11 @@ public class WorkspaceRuntimesTest {
     }
 
     private static WorkspaceImpl createWorkspace() {
-        EnvironmentImpl environment = new EnvironmentImpl(null,
-                                                          null);
+        return createWorkspace(new EnvironmentImpl(null,
+                                                   null));
+    }
+
+    private static WorkspaceImpl createWorkspace(EnvironmentImpl environment) {
         WorkspaceConfigImpl wsConfig = WorkspaceConfigImpl.builder()
                                                           .setName("test workspace")
                                                           .setEnvironments(singletonMap(ENV_NAME, environment))
@@ -18,6 +18,7 @@ import com.jayway.restassured.response.Response;
 import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.agent.server.WsAgentHealthChecker;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
@@ -44,11 +45,13 @@ import org.eclipse.che.api.workspace.server.model.impl.ExtendedMachineImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.shared.dto.EnvironmentDto;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.SourceStorageDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceSummaryDto;
 import org.eclipse.che.api.workspace.shared.dto.WsAgentHealthStateDto;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.SubjectImpl;
@@ -307,7 +310,10 @@ public class WorkspaceServiceTest {
     public void shouldGetWorkspaces() throws Exception {
         final WorkspaceImpl workspace1 = createWorkspace(createConfigDto());
         final WorkspaceImpl workspace2 = createWorkspace(createConfigDto(), STARTING);
-        when(wsManager.getWorkspaces(USER_ID)).thenReturn(asList(workspace1, workspace2));
+        when(wsManager.getWorkspaces(USER_ID, null, null, Integer.MAX_VALUE, 0)).thenReturn(new Page<>(asList(workspace1, workspace2),
+                                                                                                     0,
+                                                                                                     Integer.MAX_VALUE,
+                                                                                                     2));
 
         final Response response = given().auth()
                                          .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
@@ -343,7 +349,10 @@ public class WorkspaceServiceTest {
     public void shouldGetWorkspacesByStatus() throws Exception {
         final WorkspaceImpl workspace1 = createWorkspace(createConfigDto());
         final WorkspaceImpl workspace2 = createWorkspace(createConfigDto(), STARTING);
-        when(wsManager.getWorkspaces(USER_ID)).thenReturn(asList(workspace1, workspace2));
+        when(wsManager.getWorkspaces(USER_ID, STARTING, null, Integer.MAX_VALUE, 0)).thenReturn(new Page<>(singletonList(workspace2),
+                                                                                                         0,
+                                                                                                         Integer.MAX_VALUE,
+                                                                                                         1));
 
         final Response response = given().auth()
                                          .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
@@ -357,6 +366,67 @@ public class WorkspaceServiceTest {
                      singletonList(workspace2));
     }
 
+    @Test
+    public void shouldGetPageOfWorkspaces() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace(createConfigDto());
+        when(wsManager.getWorkspaces(USER_ID, null, "ws", 1, 2)).thenReturn(new Page<>(singletonList(workspace), 2, 1, 5));
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace?name=ws&maxItems=1&skipCount=2");
+
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(unwrapDtoList(response, WorkspaceDto.class).stream()
+                                                                .map(ws -> new WorkspaceImpl(ws, TEST_ACCOUNT))
+                                                                .collect(toList()),
+                     singletonList(workspace));
+    }
+
+    @Test
+    public void shouldRespondBadRequestWhenGettingWorkspacesWithNonPositiveMaxItems() throws Exception {
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace?maxItems=0");
+
+        assertEquals(response.getStatusCode(), 400);
+    }
+
+    @Test
+    public void shouldRespondBadRequestWhenGettingWorkspacesWithUnknownStatus() throws Exception {
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace?status=unknown");
+
+        assertEquals(response.getStatusCode(), 400);
+        assertEquals(unwrapError(response), "Unknown workspace status 'unknown'");
+    }
+
+    @Test
+    public void shouldGetWorkspaceSummaries() throws Exception {
+        final WorkspaceSummaryImpl summary = new WorkspaceSummaryImpl("workspace123", "ws", NAMESPACE, false);
+        summary.setStatus(RUNNING);
+        summary.setUpdated(12345L);
+        when(wsManager.getWorkspaceSummaries(USER_ID, RUNNING, "w", 1, 1)).thenReturn(new Page<>(singletonList(summary), 1, 1, 3));
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace/summary?status=running&name=w&maxItems=1&skipCount=1");
+
+        assertEquals(response.getStatusCode(), 200);
+        final List<WorkspaceSummaryDto> summaries = unwrapDtoList(response, WorkspaceSummaryDto.class);
+        assertEquals(summaries.size(), 1);
+        assertEquals(summaries.get(0).getId(), "workspace123");
+        assertEquals(summaries.get(0).getName(), "ws");
+        assertEquals(summaries.get(0).getNamespace(), NAMESPACE);
+        assertEquals(summaries.get(0).getStatus(), RUNNING);
+        assertEquals(summaries.get(0).getUpdated(), Long.valueOf(12345L));
+        assertNotNull(response.getHeader("Link"));
+    }
+
     @Test
     public void shouldUpdateTheWorkspace() throws Exception {
         final WorkspaceImpl workspace = createWorkspace(createConfigDto());
@@ -11,6 +11,7 @@
 package org.eclipse.che.api.workspace.server.launcher;
 
 import org.eclipse.che.api.agent.server.WsAgentPingRequestFactory;
+import org.eclipse.che.api.agent.server.launcher.ReadinessProbe;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.NotFoundException;
@@ -32,6 +33,8 @@ import org.eclipse.che.commons.test.mockito.answer.SelfReturningAnswer;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
@@ -85,17 +88,28 @@ public class WsAgentLauncherImplTest {
     @Mock
     private Agent                     agent;
 
+    private ReadinessProbe      readinessProbe;
     private HttpJsonRequest     pingRequest;
     private WsAgentLauncherImpl wsAgentLauncher;
 
+    @BeforeClass
+    public void startProbe() {
+        readinessProbe = new ReadinessProbe(2);
+    }
+
+    @AfterClass
+    public void stopProbe() {
+        readinessProbe.shutdown();
+    }
+
     @BeforeMethod
     public void setUp() throws Exception {
         wsAgentLauncher = new WsAgentLauncherImpl(() -> machineProcessManager,
                                                   wsAgentPingRequestFactory, null,
                                                   WS_AGENT_MAX_START_TIME_MS,
                                                   WS_AGENT_PING_DELAY_MS,
-                                                  WS_AGENT_TIMED_OUT_MESSAGE
-        );
+                                                  WS_AGENT_TIMED_OUT_MESSAGE,
+                                                  readinessProbe);
         pingRequest = Mockito.mock(HttpJsonRequest.class, new SelfReturningAnswer());
         when(agent.getScript()).thenReturn("script");
         when(machine.getId()).thenReturn(MACHINE_ID);
@@ -12,10 +12,12 @@ package org.eclipse.che.api.workspace.server.spi.tck;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.machine.server.model.impl.CommandImpl;
 import org.eclipse.che.api.workspace.server.event.WorkspaceRemovedEvent;
@@ -27,6 +29,7 @@ import org.eclipse.che.api.workspace.server.model.impl.ServerConf2Impl;
 import org.eclipse.che.api.workspace.server.model.impl.SourceStorageImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 import org.eclipse.che.commons.test.tck.TckListener;
 import org.eclipse.che.commons.test.tck.repository.TckRepository;
@@ -47,6 +50,9 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 import static org.testng.Assert.assertEquals;
@@ -221,6 +227,61 @@ public class WorkspaceDaoTest {
         workspaceDao.getWorkspaces(true, -2, 0);
     }
 
+    @Test
+    public void shouldGetPageOfWorkspaceSummariesOrderedByName() throws Exception {
+        final Page<WorkspaceSummaryImpl> page = workspaceDao.getSummaries("user", null, null, emptySet(), 2, 1);
+
+        assertEquals(page.getTotalItemsCount(), COUNT_OF_WORKSPACES);
+        assertEquals(page.getItems(), asList(new WorkspaceSummaryImpl(workspaces[1]), new WorkspaceSummaryImpl(workspaces[2])));
+    }
+
+    @Test
+    public void shouldFilterWorkspaceSummaries() throws Exception {
+        final Page<WorkspaceSummaryImpl> page = workspaceDao.getSummaries("user",
+                                                                          "NAME-",
+                                                                          ImmutableSet.of(workspaces[0].getId(),
+                                                                                          workspaces[2].getId(),
+                                                                                          workspaces[3].getId()),
+                                                                          singleton(workspaces[2].getId()),
+                                                                          30,
+                                                                          0);
+
+        assertEquals(page.getTotalItemsCount(), 2);
+        assertEquals(page.getItems(), asList(new WorkspaceSummaryImpl(workspaces[0]), new WorkspaceSummaryImpl(workspaces[3])));
+    }
+
+    @Test
+    public void shouldReturnEmptyPageOfSummariesWhenNameDoesNotMatch() throws Exception {
+        final Page<WorkspaceSummaryImpl> page = workspaceDao.getSummaries("user", "name_%", null, emptySet(), 30, 0);
+
+        assertTrue(page.isEmpty());
+        assertEquals(page.getTotalItemsCount(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionWhenGettingSummariesWithNonPositiveMaxItems() throws Exception {
+        workspaceDao.getSummaries("user", null, null, emptySet(), 0, 0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowNpeWhenGettingSummariesOfNullUser() throws Exception {
+        workspaceDao.getSummaries(null, null, null, emptySet(), 30, 0);
+    }
+
+    @Test
+    public void shouldGetWorkspacesByIds() throws Exception {
+        final List<WorkspaceImpl> found = workspaceDao.getByIds(asList(workspaces[1].getId(),
+                                                                       workspaces[3].getId(),
+                                                                       "non-existing-id"));
+
+        assertEquals(new HashSet<>(found), new HashSet<>(asList(workspaces[1], workspaces[3])));
+    }
+
+    @Test
+    public void emptyListShouldBeReturnedWhenGettingWorkspacesByEmptyIds() throws Exception {
+        assertTrue(workspaceDao.getByIds(emptyList()).isEmpty());
+    }
+
     @Test
     public void shouldPublicRemoveWorkspaceEventAfterRemoveWorkspace() throws Exception {
         final boolean[] isNotified = new boolean[] {false};
@@ -16,6 +16,7 @@ import com.google.common.reflect.TypeToken;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.Recipe;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
@@ -26,6 +27,7 @@ import org.eclipse.che.api.machine.server.recipe.adapters.RecipeTypeAdapter;
 import org.eclipse.che.api.workspace.server.WorkspaceConfigJsonAdapter;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 
 import javax.annotation.PostConstruct;
@@ -33,13 +35,18 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
+import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
@@ -164,6 +171,45 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
         return new ArrayList<>(workspaces.values());
     }
 
+    @Override
+    public synchronized Page<WorkspaceSummaryImpl> getSummaries(String userId,
+                                                                String name,
+                                                                Set<String> ids,
+                                                                Set<String> excludedIds,
+                                                                int maxItems,
+                                                                long skipCount) throws ServerException {
+        requireNonNull(userId, "Required non-null user id");
+        requireNonNull(excludedIds, "Required non-null excluded ids");
+        checkArgument(maxItems > 0, "The number of items to return must be positive.");
+        checkArgument(skipCount >= 0, "The number of items to skip can't be negative.");
+        final List<WorkspaceSummaryImpl> matched = workspaces.values()
+                                                             .stream()
+                                                             .filter(ws -> name == null || ws.getConfig()
+                                                                                             .getName()
+                                                                                             .toLowerCase()
+                                                                                             .contains(name.toLowerCase()))
+                                                             .filter(ws -> ids == null || ids.contains(ws.getId()))
+                                                             .filter(ws -> !excludedIds.contains(ws.getId()))
+                                                             .map(WorkspaceSummaryImpl::new)
+                                                             .sorted(comparing(WorkspaceSummaryImpl::getName)
+                                                                             .thenComparing(WorkspaceSummaryImpl::getId))
+                                                             .collect(toList());
+        return new Page<>(matched.stream()
+                                 .skip(skipCount)
+                                 .limit(maxItems)
+                                 .collect(toList()), skipCount, maxItems, matched.size());
+    }
+
+    @Override
+    public synchronized List<WorkspaceImpl> getByIds(Collection<String> ids) throws ServerException {
+        requireNonNull(ids, "Required non-null ids");
+        return ids.stream()
+                  .map(workspaces::get)
+                  .filter(Objects::nonNull)
+                  .map(ws -> new WorkspaceImpl(ws, ws.getAccount()))
+                  .collect(toList());
+    }
+
     @Override
     public List<WorkspaceImpl> getWorkspaces(boolean isTemporary, int skipCount, int maxItems) throws ServerException {
         Stream<WorkspaceImpl> stream = workspaces.values().stream();